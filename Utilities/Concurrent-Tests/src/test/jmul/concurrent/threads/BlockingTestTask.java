@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2018  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.concurrent.threads;
+
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jmul.concurrent.threads.ObservableThreadBase;
+
+
+/**
+ * A task which waits until a gate opens and then increments a counter.
+ *
+ * @author Kristian Kutin
+ */
+public class BlockingTestTask extends ObservableThreadBase {
+
+    /**
+     * A gate which must be open before the task finishes.
+     */
+    private final CountDownLatch gate;
+
+    /**
+     * A counter which is incremented when the task finishes.
+     */
+    private final AtomicInteger counter;
+
+    /**
+     * Creates a new task according to the specified parameters.
+     *
+     * @param aGate
+     *        a gate
+     * @param aCounter
+     *        a counter
+     */
+    public BlockingTestTask(CountDownLatch aGate, AtomicInteger aCounter) {
+
+        super();
+
+        gate = aGate;
+        counter = aCounter;
+    }
+
+    /**
+     * Waits for the gate and increments the counter.
+     */
+    @Override
+    protected void performAction() {
+
+        try {
+
+            gate.await();
+
+        } catch (InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+        }
+
+        counter.incrementAndGet();
+    }
+
+}
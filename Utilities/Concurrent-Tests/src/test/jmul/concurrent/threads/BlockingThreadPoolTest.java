@@ -0,0 +1,287 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package test.jmul.concurrent.threads;
+
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jmul.concurrent.threads.BlockingThreadPoolImpl;
+import jmul.concurrent.threads.ThreadHelper;
+import jmul.concurrent.threads.ThreadPool;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+
+/**
+ * This class contains tests to check the blocking thread pool implementation.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class BlockingThreadPoolTest {
+
+    /**
+     * The maximum time to wait for a thread pool to terminate.
+     */
+    private static final long TIMEOUT = 10000L;
+
+    /**
+     * A sleep time.
+     */
+    private static final long SLEEP_TIME = 10L;
+
+    /**
+     * Waits until the specified thread pool has the specified number of active
+     * threads.
+     *
+     * @param aThreadPool
+     *        a thread pool
+     * @param anExpectedCount
+     *        the expected number of active threads
+     */
+    private static void waitForThreadCount(ThreadPool aThreadPool, int anExpectedCount) {
+
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+
+        while ((aThreadPool.threadCount() != anExpectedCount) && (System.currentTimeMillis() < deadline)) {
+
+            ThreadHelper.sleep(SLEEP_TIME);
+        }
+    }
+
+    /**
+     * Tests if all added tasks are executed before the thread pool terminates.
+     */
+    @Test
+    public void testExecuteAllTasks() {
+
+        ThreadPool threadPool = new BlockingThreadPoolImpl(4, 10);
+        CountDownLatch gate = new CountDownLatch(0);
+        AtomicInteger counter = new AtomicInteger();
+
+        for (int a = 0; a < 100; a++) {
+
+            threadPool.addThread(new BlockingTestTask(gate, counter));
+        }
+
+        threadPool.stop();
+
+        assertTrue(threadPool.awaitTermination(TIMEOUT));
+        assertEquals(100, counter.get());
+        assertEquals(0, threadPool.threadCount());
+    }
+
+    /**
+     * Tests the number of active threads.
+     */
+    @Test
+    public void testThreadCount() {
+
+        ThreadPool threadPool = new BlockingThreadPoolImpl(2, 10);
+        CountDownLatch gate = new CountDownLatch(1);
+        AtomicInteger counter = new AtomicInteger();
+
+        for (int a = 0; a < 3; a++) {
+
+            threadPool.addThread(new BlockingTestTask(gate, counter));
+        }
+
+        waitForThreadCount(threadPool, 2);
+        assertEquals(2, threadPool.threadCount());
+
+        gate.countDown();
+        threadPool.stop();
+
+        assertTrue(threadPool.awaitTermination(TIMEOUT));
+        assertEquals(3, counter.get());
+        assertEquals(0, threadPool.threadCount());
+    }
+
+    /**
+     * Tests if adding a task blocks while the queue is full.
+     */
+    @Test
+    public void testBackpressure() throws InterruptedException {
+
+        ThreadPool threadPool = new BlockingThreadPoolImpl(1, 1);
+        CountDownLatch gate = new CountDownLatch(1);
+        AtomicInteger counter = new AtomicInteger();
+
+        threadPool.addThread(new BlockingTestTask(gate, counter));
+        waitForThreadCount(threadPool, 1);
+        threadPool.addThread(new BlockingTestTask(gate, counter));
+
+        Thread producer = new Thread(new TaskProducer(threadPool, new BlockingTestTask(gate, counter)));
+        producer.start();
+        producer.join(200L);
+
+        assertTrue(producer.isAlive());
+
+        gate.countDown();
+        producer.join(TIMEOUT);
+
+        assertFalse(producer.isAlive());
+
+        threadPool.stop();
+
+        assertTrue(threadPool.awaitTermination(TIMEOUT));
+        assertEquals(3, counter.get());
+    }
+
+    /**
+     * Tests changing the maximum number of threads.
+     */
+    @Test
+    public void testChangeMaximumThreads() {
+
+        ThreadPool threadPool = new BlockingThreadPoolImpl(1, 10);
+        CountDownLatch gate = new CountDownLatch(1);
+        AtomicInteger counter = new AtomicInteger();
+
+        for (int a = 0; a < 3; a++) {
+
+            threadPool.addThread(new BlockingTestTask(gate, counter));
+        }
+
+        waitForThreadCount(threadPool, 1);
+        threadPool.setMaximumThreads(3);
+        waitForThreadCount(threadPool, 3);
+
+        assertEquals(3, threadPool.getMaximumThreads());
+        assertEquals(3, threadPool.threadCount());
+
+        gate.countDown();
+        threadPool.stop();
+
+        assertTrue(threadPool.awaitTermination(TIMEOUT));
+        assertEquals(3, counter.get());
+    }
+
+    /**
+     * Tests if the completion handle of a submitted task is completed.
+     */
+    @Test
+    public void testSubmitThread() {
+
+        ThreadPool threadPool = new BlockingThreadPoolImpl(2, 10);
+        AtomicInteger counter = new AtomicInteger();
+
+        CompletableFuture<Void> completion =
+            threadPool.submitThread(new BlockingTestTask(new CountDownLatch(0), counter));
+        completion.join();
+
+        assertEquals(1, counter.get());
+
+        threadPool.stop();
+
+        assertTrue(threadPool.awaitTermination(TIMEOUT));
+    }
+
+    /**
+     * Tests if the completion handle of a failing task is completed
+     * exceptionally and if the thread pool keeps working afterwards.
+     */
+    @Test
+    public void testSubmitFailingThread() {
+
+        ThreadPool threadPool = new BlockingThreadPoolImpl(1, 10);
+        AtomicInteger counter = new AtomicInteger();
+
+        CompletableFuture<Void> failed = threadPool.submitThread(new FailingTestTask());
+        CompletableFuture<Void> succeeded =
+            threadPool.submitThread(new BlockingTestTask(new CountDownLatch(0), counter));
+        succeeded.join();
+
+        assertTrue(failed.isCompletedExceptionally());
+        assertEquals(1, counter.get());
+
+        threadPool.stop();
+
+        assertTrue(threadPool.awaitTermination(TIMEOUT));
+    }
+
+    /**
+     * Tests if a stopped thread pool rejects new tasks.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testAddThreadAfterStop() {
+
+        ThreadPool threadPool = new BlockingThreadPoolImpl(1, 1);
+        threadPool.stop();
+
+        threadPool.addThread(new BlockingTestTask(new CountDownLatch(0), new AtomicInteger()));
+    }
+
+    /**
+     * Tests awaiting the termination of a thread pool which has not been stopped.
+     */
+    @Test
+    public void testAwaitTerminationWithoutStop() {
+
+        ThreadPool threadPool = new BlockingThreadPoolImpl(1, 1);
+
+        assertFalse(threadPool.awaitTermination(SLEEP_TIME));
+
+        threadPool.stop();
+
+        assertTrue(threadPool.awaitTermination(TIMEOUT));
+    }
+
+    /**
+     * Tests creating a thread pool with an invalid number of threads.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMaximumThreads() {
+
+        new BlockingThreadPoolImpl(0, 1);
+    }
+
+    /**
+     * Tests creating a thread pool with an invalid queue size.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMaximumQueueSize() {
+
+        new BlockingThreadPoolImpl(1, 0);
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2018  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.concurrent.threads;
+
+
+import jmul.concurrent.threads.ThreadPool;
+
+
+/**
+ * A thread body which adds a task to a thread pool.
+ *
+ * @author Kristian Kutin
+ */
+public class TaskProducer implements Runnable {
+
+    /**
+     * A thread pool.
+     */
+    private final ThreadPool threadPool;
+
+    /**
+     * A task.
+     */
+    private final BlockingTestTask task;
+
+    /**
+     * Creates a new producer according to the specified parameters.
+     *
+     * @param aThreadPool
+     *        a thread pool
+     * @param aTask
+     *        a task
+     */
+    public TaskProducer(ThreadPool aThreadPool, BlockingTestTask aTask) {
+
+        threadPool = aThreadPool;
+        task = aTask;
+    }
+
+    /**
+     * Adds the task to the thread pool.
+     */
+    @Override
+    public void run() {
+
+        threadPool.addThread(task);
+    }
+
+}
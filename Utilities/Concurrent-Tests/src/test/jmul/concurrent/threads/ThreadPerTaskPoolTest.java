@@ -0,0 +1,238 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package test.jmul.concurrent.threads;
+
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jmul.concurrent.threads.ObservableThreadBase;
+import jmul.concurrent.threads.ThreadHelper;
+import jmul.concurrent.threads.ThreadPerTaskPoolImpl;
+import jmul.concurrent.threads.ThreadPool;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+
+/**
+ * This class contains tests to check the thread pool implementation which runs
+ * every task on its own thread.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class ThreadPerTaskPoolTest {
+
+    /**
+     * The maximum time to wait for a thread pool to terminate.
+     */
+    private static final long TIMEOUT = 10000L;
+
+    /**
+     * A sleep time.
+     */
+    private static final long SLEEP_TIME = 10L;
+
+    /**
+     * Waits until the specified thread pool has the specified number of active
+     * threads.
+     *
+     * @param aThreadPool
+     *        a thread pool
+     * @param anExpectedCount
+     *        the expected number of active threads
+     */
+    private static void waitForThreadCount(ThreadPool aThreadPool, int anExpectedCount) {
+
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+
+        while ((aThreadPool.threadCount() != anExpectedCount) && (System.currentTimeMillis() < deadline)) {
+
+            ThreadHelper.sleep(SLEEP_TIME);
+        }
+    }
+
+    /**
+     * Tests if every task is executed on its own thread.
+     */
+    @Test
+    public void testThreadPerTask() {
+
+        ThreadPool threadPool = new ThreadPerTaskPoolImpl(4, 10);
+        Set<String> threadNames = Collections.synchronizedSet(new HashSet<String>());
+
+        for (int a = 0; a < 20; a++) {
+
+            threadPool.addThread(new ThreadNameRecorder(threadNames));
+        }
+
+        threadPool.stop();
+
+        assertTrue(threadPool.awaitTermination(TIMEOUT));
+        assertEquals(20, threadNames.size());
+        assertEquals(0, threadPool.threadCount());
+    }
+
+    /**
+     * Tests if the number of concurrently running tasks is limited.
+     */
+    @Test
+    public void testConcurrencyLimit() {
+
+        ThreadPool threadPool = new ThreadPerTaskPoolImpl(2, 10);
+        CountDownLatch gate = new CountDownLatch(1);
+        AtomicInteger counter = new AtomicInteger();
+
+        for (int a = 0; a < 5; a++) {
+
+            threadPool.addThread(new BlockingTestTask(gate, counter));
+        }
+
+        waitForThreadCount(threadPool, 2);
+        ThreadHelper.sleep(SLEEP_TIME);
+
+        assertEquals(2, threadPool.threadCount());
+        assertEquals(0, counter.get());
+
+        threadPool.setMaximumThreads(5);
+        waitForThreadCount(threadPool, 5);
+
+        assertEquals(5, threadPool.threadCount());
+
+        gate.countDown();
+        threadPool.stop();
+
+        assertTrue(threadPool.awaitTermination(TIMEOUT));
+        assertEquals(5, counter.get());
+    }
+
+    /**
+     * Tests if adding a task blocks while the concurrency limit has been
+     * reached and the queue is full.
+     */
+    @Test
+    public void testBackpressure() throws InterruptedException {
+
+        ThreadPool threadPool = new ThreadPerTaskPoolImpl(1, 1);
+        CountDownLatch gate = new CountDownLatch(1);
+        AtomicInteger counter = new AtomicInteger();
+
+        threadPool.addThread(new BlockingTestTask(gate, counter));
+        threadPool.addThread(new BlockingTestTask(gate, counter));
+
+        Thread producer = new Thread(new TaskProducer(threadPool, new BlockingTestTask(gate, counter)));
+        producer.start();
+        producer.join(200L);
+
+        assertTrue(producer.isAlive());
+
+        gate.countDown();
+        producer.join(TIMEOUT);
+
+        assertFalse(producer.isAlive());
+
+        threadPool.stop();
+
+        assertTrue(threadPool.awaitTermination(TIMEOUT));
+        assertEquals(3, counter.get());
+    }
+
+    /**
+     * Tests if a stopped thread pool rejects new tasks.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testAddThreadAfterStop() {
+
+        ThreadPool threadPool = new ThreadPerTaskPoolImpl(1, 1);
+        threadPool.stop();
+
+        threadPool.addThread(new BlockingTestTask(new CountDownLatch(0), new AtomicInteger()));
+    }
+
+    /**
+     * Tests creating a thread pool with an invalid number of threads.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMaximumThreads() {
+
+        new ThreadPerTaskPoolImpl(0, 1);
+    }
+
+}
+
+
+/**
+ * A task which records the name of the thread it is executed on.
+ *
+ * @author Kristian Kutin
+ */
+class ThreadNameRecorder extends ObservableThreadBase {
+
+    /**
+     * The recorded thread names.
+     */
+    private final Set<String> threadNames;
+
+    /**
+     * Creates a new task according to the specified parameters.
+     *
+     * @param someThreadNames
+     *        the recorded thread names
+     */
+    ThreadNameRecorder(Set<String> someThreadNames) {
+
+        super();
+
+        threadNames = someThreadNames;
+    }
+
+    /**
+     * Records the name of the current thread.
+     */
+    @Override
+    protected void performAction() {
+
+        threadNames.add(Thread.currentThread().getName());
+    }
+
+}
@@ -0,0 +1,503 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.concurrent.threads;
+
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * An implementation of a thread pool.<br>
+ * <br>
+ * <i>Implementation details:<br>
+ * Pending tasks are kept in a bounded queue. Worker threads block on the queue
+ * until a task is available (i.e. idle workers don't consume CPU time) and
+ * start executing a task as soon as it has been added. If the queue is full
+ * the caller of {@link #addThread} blocks until a worker has taken a task
+ * from the queue (i.e. backpressure). After {@link #stop} has been called no
+ * new tasks are accepted, the workers process all remaining tasks and
+ * terminate afterwards (see {@link #awaitTermination}).</i>
+ *
+ * @author Kristian Kutin
+ */
+public class BlockingThreadPoolImpl implements ThreadPool {
+
+    /**
+     * The name prefix for worker threads.
+     */
+    private static final String WORKER_THREAD_NAME_PREFIX = "pool-worker-thread-";
+
+    /**
+     * A property key.
+     */
+    private static final String MAX_THREADS_KEY = "maxThreads";
+
+    /**
+     * A property key.
+     */
+    private static final String MAX_QUEUE_SIZE_KEY = "maxQueueSize";
+
+    /**
+     * If a new worker thread is started this ID will be assigned to it. After
+     * assignment this member's value will be increased by 1.
+     */
+    private static int nextWorkerThreadId = 1;
+
+    /**
+     * Contains all tasks which have yet to be executed.
+     */
+    private final Queue<ObservableThread> queue;
+
+    /**
+     * References to all running worker threads.
+     */
+    private final Collection<Thread> workerThreads;
+
+    /**
+     * The maximum queue size.
+     */
+    private int maxQueueSize;
+
+    /**
+     * The maximum number of allowed threads.
+     */
+    private int maxActiveThreads;
+
+    /**
+     * The number of worker threads which are currently executing a task.
+     */
+    private int activeThreads;
+
+    /**
+     * Status of this thread pool (active = true, finished = false).
+     */
+    private boolean active;
+
+    /**
+     * The default constructor. The initial settings are read from a property
+     * file.
+     */
+    public BlockingThreadPoolImpl() {
+
+        this(readProperty(MAX_THREADS_KEY), readProperty(MAX_QUEUE_SIZE_KEY));
+    }
+
+    /**
+     * Creates a new thread pool according to the specified parameters.
+     *
+     * @param aMaximumThreads
+     *        the maximum number of worker threads
+     * @param aMaximumQueueSize
+     *        the maximum number of pending tasks
+     */
+    public BlockingThreadPoolImpl(int aMaximumThreads, int aMaximumQueueSize) {
+
+        checkPositiveNumber(aMaximumThreads);
+        checkPositiveNumber(aMaximumQueueSize);
+
+        maxActiveThreads = aMaximumThreads;
+        maxQueueSize = aMaximumQueueSize;
+        activeThreads = 0;
+        active = true;
+
+        queue = new ArrayDeque<>();
+        workerThreads = new HashSet<>();
+
+        synchronized (this) {
+
+            updateThreadCapacity();
+        }
+    }
+
+    /**
+     * Reads the specified property from the thread pool configuration.
+     *
+     * @param aKey
+     *        a property key
+     *
+     * @return the property value
+     */
+    private static int readProperty(String aKey) {
+
+        ResourceBundle bundle = ResourceBundle.getBundle(ThreadPool.class.getName());
+        return Integer.parseInt(bundle.getString(aKey));
+    }
+
+    /**
+     * Checks the specified number.
+     *
+     * @param aNumber
+     *        a number
+     */
+    private static void checkPositiveNumber(int aNumber) {
+
+        if (aNumber < 1) {
+
+            String message = "An invalid number (" + aNumber + ") has been specified!";
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    /**
+     * Starts new worker threads if there are less worker threads than allowed.
+     * Superfluous worker threads retire on their own (see {@link #nextTask}).
+     * The caller must hold this thread pool's lock.
+     */
+    private void updateThreadCapacity() {
+
+        if (active) {
+
+            int delta = maxActiveThreads - workerThreads.size();
+
+            for (int a = 0; a < delta; a++) {
+
+                Thread thread = new Thread(new PooledWorkerThread(this));
+                thread.setName(WORKER_THREAD_NAME_PREFIX + getNextWorkerThreadID());
+
+                workerThreads.add(thread);
+                thread.start();
+            }
+
+            if (delta < 0) {
+
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Returns the next ID for a worker thread.
+     *
+     * @return an ID
+     */
+    private static synchronized int getNextWorkerThreadID() {
+
+        int newID = nextWorkerThreadId;
+        nextWorkerThreadId++;
+
+        return newID;
+    }
+
+    /**
+     * Adds a thread to this thread pool. The thread is not started immediately.
+     * Only if the threadpool has free capacity it is started. If the queue of
+     * pending tasks is full the invoking thread blocks until there is free
+     * capacity.
+     *
+     * @param aThread
+     *        an observable thread
+     */
+    @Override
+    public void addThread(ObservableThread aThread) {
+
+        if (aThread == null) {
+
+            String message = "No thread has been specified!";
+            throw new IllegalArgumentException(message);
+        }
+
+        synchronized (this) {
+
+            while (active && (queue.size() >= maxQueueSize)) {
+
+                try {
+
+                    wait();
+
+                } catch (InterruptedException e) {
+
+                    Thread.currentThread().interrupt();
+
+                    String message = "The thread was interrupted while waiting for free queue capacity!";
+                    throw new IllegalStateException(message, e);
+                }
+            }
+
+            if (!active) {
+
+                String message = "The thread pool has been stopped and doesn't accept new threads!";
+                throw new IllegalStateException(message);
+            }
+
+            queue.add(aThread);
+            notifyAll();
+        }
+    }
+
+    /**
+     * Returns the next pending task. The invoking worker thread blocks until a
+     * task is available. If the invoking worker thread is superfluous or if this
+     * thread pool has been stopped and all pending tasks have been taken then
+     * <code>null</code> is returned and the worker thread is unregistered.
+     *
+     * @return a task or <code>null</code> if the invoking worker thread has to
+     *         terminate
+     */
+    ObservableThread nextTask() {
+
+        Thread currentThread = Thread.currentThread();
+
+        synchronized (this) {
+
+            while (true) {
+
+                if (workerThreads.size() > maxActiveThreads) {
+
+                    break;
+                }
+
+                ObservableThread task = queue.poll();
+
+                if (task != null) {
+
+                    activeThreads++;
+                    notifyAll();
+
+                    return task;
+                }
+
+                if (!active) {
+
+                    break;
+                }
+
+                try {
+
+                    wait();
+
+                } catch (InterruptedException e) {
+
+                    // A worker thread is only interrupted if the whole application
+                    // shuts down.
+
+                    break;
+                }
+            }
+
+            workerThreads.remove(currentThread);
+            notifyAll();
+        }
+
+        return null;
+    }
+
+    /**
+     * Is invoked by a worker thread when it has finished executing a task.
+     */
+    void finishedTask() {
+
+        synchronized (this) {
+
+            activeThreads--;
+        }
+    }
+
+    /**
+     * Is invoked by a worker thread which terminates abnormally (i.e. a task
+     * threw an exception). The worker thread is unregistered and replaced.
+     */
+    void abortedWorker() {
+
+        Thread currentThread = Thread.currentThread();
+
+        synchronized (this) {
+
+            activeThreads--;
+            workerThreads.remove(currentThread);
+            notifyAll();
+
+            updateThreadCapacity();
+        }
+    }
+
+    /**
+     * Adds a thread to this thread pool (see {@link #addThread}) and returns a
+     * handle which is completed when the thread has finished.
+     *
+     * @param aThread
+     *        an observable thread
+     *
+     * @return a completion handle
+     */
+    @Override
+    public CompletableFuture<Void> submitThread(ObservableThread aThread) {
+
+        addThread(aThread);
+
+        return aThread.getCompletion();
+    }
+
+    /**
+     * The currently active threads (i.e. worker threads which are currently
+     * executing a task).
+     *
+     * @return the number of active threads
+     */
+    @Override
+    public int threadCount() {
+
+        synchronized (this) {
+
+            return activeThreads;
+        }
+    }
+
+    /**
+     * The maximum number of allowed threads.
+     *
+     * @return maximum threads
+     */
+    @Override
+    public int getMaximumThreads() {
+
+        synchronized (this) {
+
+            return maxActiveThreads;
+        }
+    }
+
+    /**
+     * Sets the maximum number of allowed threads. Additional worker threads are
+     * started immediately. Superfluous worker threads terminate after they have
+     * finished their current task.
+     *
+     * @param aMaximum
+     *        maximum threads
+     */
+    @Override
+    public void setMaximumThreads(int aMaximum) {
+
+        checkPositiveNumber(aMaximum);
+
+        synchronized (this) {
+
+            maxActiveThreads = aMaximum;
+            updateThreadCapacity();
+        }
+    }
+
+    /**
+     * The current maximum queue size.
+     *
+     * @return the current maximum queue size
+     */
+    @Override
+    public int getMaximumQueueSize() {
+
+        synchronized (this) {
+
+            return maxQueueSize;
+        }
+    }
+
+    /**
+     * Sets the current maximum queue size.
+     *
+     * @param aMaximum
+     *        the current maximum queue size
+     */
+    @Override
+    public void setMaximumQueueSize(int aMaximum) {
+
+        checkPositiveNumber(aMaximum);
+
+        synchronized (this) {
+
+            maxQueueSize = aMaximum;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Stops the thread pool (i.e. no new threads are accepted by the add method
+     * and what remains in the pipeline will be executed).
+     */
+    @Override
+    public void stop() {
+
+        synchronized (this) {
+
+            active = false;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Waits until all worker threads have terminated after this thread pool has
+     * been stopped.
+     *
+     * @param aTimeout
+     *        the maximum time to wait in milliseconds
+     *
+     * @return <code>true</code> if all worker threads have terminated, else
+     *         <code>false</code>
+     */
+    @Override
+    public boolean awaitTermination(long aTimeout) {
+
+        long deadline = System.currentTimeMillis() + aTimeout;
+
+        synchronized (this) {
+
+            while (!workerThreads.isEmpty()) {
+
+                long remainingTime = deadline - System.currentTimeMillis();
+
+                if (active || (remainingTime <= 0L)) {
+
+                    return false;
+                }
+
+                try {
+
+                    wait(remainingTime);
+
+                } catch (InterruptedException e) {
+
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+
+}
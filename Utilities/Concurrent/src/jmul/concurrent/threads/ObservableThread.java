@@ -34,6 +34,9 @@
 package jmul.concurrent.threads;
 
 
+import java.util.concurrent.CompletableFuture;
+
+
 /**
  * This entity describes an observed thread.
  *
@@ -49,4 +52,13 @@ public interface ObservableThread extends Runnable {
      */
     void addListener(ThreadListener aListener);
 
+    /**
+     * Returns a handle which is completed after the thread has finished and all
+     * listeners have been informed. If the thread terminates abnormally the
+     * handle is completed exceptionally.
+     *
+     * @return a completion handle
+     */
+    CompletableFuture<Void> getCompletion();
+
 }
@@ -36,6 +36,7 @@ package jmul.concurrent.threads;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 
 
 /**
@@ -50,12 +51,18 @@ public abstract class ObservableThreadBase implements ObservableThread {
      */
     private Collection<ThreadListener> listeners;
 
+    /**
+     * A handle which is completed when this thread has finished.
+     */
+    private final CompletableFuture<Void> completion;
+
     /**
      * The default constructor.
      */
     protected ObservableThreadBase() {
 
         listeners = new ArrayList<>();
+        completion = new CompletableFuture<>();
     }
 
     /**
@@ -103,9 +110,32 @@ public abstract class ObservableThreadBase implements ObservableThread {
     @Override
     public void run() {
 
-        performAction();
+        try {
+
+            performAction();
+
+            finishedThread();
+
+        } catch (RuntimeException | Error e) {
+
+            completion.completeExceptionally(e);
+            throw e;
+        }
+
+        completion.complete(null);
+    }
+
+    /**
+     * Returns a handle which is completed after the thread has finished and all
+     * listeners have been informed. If the thread terminates abnormally the
+     * handle is completed exceptionally.
+     *
+     * @return a completion handle
+     */
+    @Override
+    public CompletableFuture<Void> getCompletion() {
 
-        finishedThread();
+        return completion;
     }
 
     /**
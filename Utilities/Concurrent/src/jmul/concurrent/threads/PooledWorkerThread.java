@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.concurrent.threads;
+
+
+/**
+ * An implementation of a worker thread which blocks until the thread pool
+ * provides a task.
+ *
+ * @author Kristian Kutin
+ */
+class PooledWorkerThread implements Runnable {
+
+    /**
+     * A reference to the thread pool which provides the tasks.
+     */
+    private final BlockingThreadPoolImpl threadPool;
+
+    /**
+     * Creates a new worker thread according to the specified parameters.
+     *
+     * @param aThreadPool
+     *        a reference to the thread pool
+     */
+    PooledWorkerThread(BlockingThreadPoolImpl aThreadPool) {
+
+        threadPool = aThreadPool;
+    }
+
+    /**
+     * The actual worker algorithm.
+     */
+    @Override
+    public void run() {
+
+        ObservableThread task = threadPool.nextTask();
+
+        while (task != null) {
+
+            boolean finished = false;
+
+            try {
+
+                task.run();
+                finished = true;
+
+            } finally {
+
+                if (finished) {
+
+                    threadPool.finishedTask();
+
+                } else {
+
+                    threadPool.abortedWorker();
+                }
+            }
+
+            task = threadPool.nextTask();
+        }
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.concurrent.threads;
+
+
+/**
+ * The body of a short-lived thread which executes a single task.
+ *
+ * @author Kristian Kutin
+ */
+class TaskThread implements Runnable {
+
+    /**
+     * A reference to the thread pool which started this thread.
+     */
+    private final ThreadPerTaskPoolImpl threadPool;
+
+    /**
+     * The task which is executed by this thread.
+     */
+    private final ObservableThread task;
+
+    /**
+     * Creates a new task thread according to the specified parameters.
+     *
+     * @param aThreadPool
+     *        a reference to the thread pool
+     * @param aTask
+     *        a task
+     */
+    TaskThread(ThreadPerTaskPoolImpl aThreadPool, ObservableThread aTask) {
+
+        threadPool = aThreadPool;
+        task = aTask;
+    }
+
+    /**
+     * Executes the task and informs the thread pool afterwards.
+     */
+    @Override
+    public void run() {
+
+        try {
+
+            task.run();
+
+        } finally {
+
+            threadPool.finishedTask();
+        }
+    }
+
+}
@@ -0,0 +1,427 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.concurrent.threads;
+
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * An implementation of a thread pool which runs every task on its own
+ * thread.<br>
+ * <br>
+ * <i>Implementation details:<br>
+ * Instead of multiplexing tasks onto a fixed set of worker threads a new
+ * short-lived thread is started for every task. No thread is kept alive while
+ * the thread pool is idle. The maximum number of threads limits how many tasks
+ * run concurrently. Tasks which exceed this limit are queued and started as
+ * soon as a running task finishes. If the queue is full the caller of
+ * {@link #addThread} blocks until there is free capacity (i.e.
+ * backpressure).</i>
+ *
+ * @author Kristian Kutin
+ */
+public class ThreadPerTaskPoolImpl implements ThreadPool {
+
+    /**
+     * The name prefix for task threads.
+     */
+    private static final String TASK_THREAD_NAME_PREFIX = "task-thread-";
+
+    /**
+     * A property key.
+     */
+    private static final String MAX_THREADS_KEY = "maxThreads";
+
+    /**
+     * A property key.
+     */
+    private static final String MAX_QUEUE_SIZE_KEY = "maxQueueSize";
+
+    /**
+     * If a new task thread is started this ID will be assigned to it. After
+     * assignment this member's value will be increased by 1.
+     */
+    private static long nextTaskThreadId = 1L;
+
+    /**
+     * Contains all tasks which have yet to be executed.
+     */
+    private final Queue<ObservableThread> queue;
+
+    /**
+     * The maximum queue size.
+     */
+    private int maxQueueSize;
+
+    /**
+     * The maximum number of concurrently running tasks.
+     */
+    private int maxActiveThreads;
+
+    /**
+     * The number of tasks which are currently running.
+     */
+    private int activeThreads;
+
+    /**
+     * Status of this thread pool (active = true, finished = false).
+     */
+    private boolean active;
+
+    /**
+     * The default constructor. The initial settings are read from a property
+     * file.
+     */
+    public ThreadPerTaskPoolImpl() {
+
+        this(readProperty(MAX_THREADS_KEY), readProperty(MAX_QUEUE_SIZE_KEY));
+    }
+
+    /**
+     * Creates a new thread pool according to the specified parameters.
+     *
+     * @param aMaximumThreads
+     *        the maximum number of concurrently running tasks
+     * @param aMaximumQueueSize
+     *        the maximum number of pending tasks
+     */
+    public ThreadPerTaskPoolImpl(int aMaximumThreads, int aMaximumQueueSize) {
+
+        checkPositiveNumber(aMaximumThreads);
+        checkPositiveNumber(aMaximumQueueSize);
+
+        maxActiveThreads = aMaximumThreads;
+        maxQueueSize = aMaximumQueueSize;
+        activeThreads = 0;
+        active = true;
+
+        queue = new ArrayDeque<>();
+    }
+
+    /**
+     * Reads the specified property from the thread pool configuration.
+     *
+     * @param aKey
+     *        a property key
+     *
+     * @return the property value
+     */
+    private static int readProperty(String aKey) {
+
+        ResourceBundle bundle = ResourceBundle.getBundle(ThreadPool.class.getName());
+        return Integer.parseInt(bundle.getString(aKey));
+    }
+
+    /**
+     * Checks the specified number.
+     *
+     * @param aNumber
+     *        a number
+     */
+    private static void checkPositiveNumber(int aNumber) {
+
+        if (aNumber < 1) {
+
+            String message = "An invalid number (" + aNumber + ") has been specified!";
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    /**
+     * Returns the next ID for a task thread.
+     *
+     * @return an ID
+     */
+    private static synchronized long getNextTaskThreadID() {
+
+        long newID = nextTaskThreadId;
+        nextTaskThreadId++;
+
+        return newID;
+    }
+
+    /**
+     * Starts queued tasks as long as the concurrency limit allows it. The caller
+     * must hold this thread pool's lock.
+     */
+    private void startPendingTasks() {
+
+        while ((activeThreads < maxActiveThreads) && !queue.isEmpty()) {
+
+            ObservableThread task = queue.poll();
+            startTask(task);
+        }
+
+        notifyAll();
+    }
+
+    /**
+     * Starts the specified task on a new thread. The caller must hold this
+     * thread pool's lock.
+     *
+     * @param aTask
+     *        a task
+     */
+    private void startTask(ObservableThread aTask) {
+
+        Thread thread = new Thread(new TaskThread(this, aTask));
+        thread.setName(TASK_THREAD_NAME_PREFIX + getNextTaskThreadID());
+
+        activeThreads++;
+        thread.start();
+    }
+
+    /**
+     * Adds a thread to this thread pool. If the concurrency limit hasn't been
+     * reached the thread is started immediately, otherwise it is queued. If the
+     * queue of pending tasks is full the invoking thread blocks until there is
+     * free capacity.
+     *
+     * @param aThread
+     *        an observable thread
+     */
+    @Override
+    public void addThread(ObservableThread aThread) {
+
+        if (aThread == null) {
+
+            String message = "No thread has been specified!";
+            throw new IllegalArgumentException(message);
+        }
+
+        synchronized (this) {
+
+            while (active && (activeThreads >= maxActiveThreads) && (queue.size() >= maxQueueSize)) {
+
+                try {
+
+                    wait();
+
+                } catch (InterruptedException e) {
+
+                    Thread.currentThread().interrupt();
+
+                    String message = "The thread was interrupted while waiting for free queue capacity!";
+                    throw new IllegalStateException(message, e);
+                }
+            }
+
+            if (!active) {
+
+                String message = "The thread pool has been stopped and doesn't accept new threads!";
+                throw new IllegalStateException(message);
+            }
+
+            if (activeThreads < maxActiveThreads) {
+
+                startTask(aThread);
+
+            } else {
+
+                queue.add(aThread);
+            }
+        }
+    }
+
+    /**
+     * Is invoked by a task thread when its task has finished (regularly or
+     * abnormally).
+     */
+    void finishedTask() {
+
+        synchronized (this) {
+
+            activeThreads--;
+            startPendingTasks();
+        }
+    }
+
+    /**
+     * Adds a thread to this thread pool (see {@link #addThread}) and returns a
+     * handle which is completed when the thread has finished.
+     *
+     * @param aThread
+     *        an observable thread
+     *
+     * @return a completion handle
+     */
+    @Override
+    public CompletableFuture<Void> submitThread(ObservableThread aThread) {
+
+        addThread(aThread);
+
+        return aThread.getCompletion();
+    }
+
+    /**
+     * The currently active threads (i.e. tasks which are currently running).
+     *
+     * @return the number of active threads
+     */
+    @Override
+    public int threadCount() {
+
+        synchronized (this) {
+
+            return activeThreads;
+        }
+    }
+
+    /**
+     * The maximum number of concurrently running tasks.
+     *
+     * @return maximum threads
+     */
+    @Override
+    public int getMaximumThreads() {
+
+        synchronized (this) {
+
+            return maxActiveThreads;
+        }
+    }
+
+    /**
+     * Sets the maximum number of concurrently running tasks. If the limit is
+     * raised queued tasks are started immediately. If the limit is lowered
+     * running tasks are not affected.
+     *
+     * @param aMaximum
+     *        maximum threads
+     */
+    @Override
+    public void setMaximumThreads(int aMaximum) {
+
+        checkPositiveNumber(aMaximum);
+
+        synchronized (this) {
+
+            maxActiveThreads = aMaximum;
+            startPendingTasks();
+        }
+    }
+
+    /**
+     * The current maximum queue size.
+     *
+     * @return the current maximum queue size
+     */
+    @Override
+    public int getMaximumQueueSize() {
+
+        synchronized (this) {
+
+            return maxQueueSize;
+        }
+    }
+
+    /**
+     * Sets the current maximum queue size.
+     *
+     * @param aMaximum
+     *        the current maximum queue size
+     */
+    @Override
+    public void setMaximumQueueSize(int aMaximum) {
+
+        checkPositiveNumber(aMaximum);
+
+        synchronized (this) {
+
+            maxQueueSize = aMaximum;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Stops the thread pool (i.e. no new threads are accepted by the add method
+     * and what remains in the pipeline will be executed).
+     */
+    @Override
+    public void stop() {
+
+        synchronized (this) {
+
+            active = false;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Waits until all tasks have finished after this thread pool has been
+     * stopped.
+     *
+     * @param aTimeout
+     *        the maximum time to wait in milliseconds
+     *
+     * @return <code>true</code> if all tasks have finished, else
+     *         <code>false</code>
+     */
+    @Override
+    public boolean awaitTermination(long aTimeout) {
+
+        long deadline = System.currentTimeMillis() + aTimeout;
+
+        synchronized (this) {
+
+            while ((activeThreads > 0) || !queue.isEmpty()) {
+
+                long remainingTime = deadline - System.currentTimeMillis();
+
+                if (active || (remainingTime <= 0L)) {
+
+                    return false;
+                }
+
+                try {
+
+                    wait(remainingTime);
+
+                } catch (InterruptedException e) {
+
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+
+            return !active;
+        }
+    }
+
+}
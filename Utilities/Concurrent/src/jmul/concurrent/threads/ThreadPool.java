@@ -34,6 +34,9 @@
 package jmul.concurrent.threads;
 
 
+import java.util.concurrent.CompletableFuture;
+
+
 /**
  * This interface describes a thread pool.<br>
  * <br>
@@ -55,6 +58,17 @@ public interface ThreadPool {
      */
     void addThread(ObservableThread aThread);
 
+    /**
+     * Adds a thread to this thread pool (see {@link #addThread}) and returns a
+     * handle which is completed when the thread has finished.
+     *
+     * @param aThread
+     *        an observable thread
+     *
+     * @return a completion handle
+     */
+    CompletableFuture<Void> submitThread(ObservableThread aThread);
+
     /**
      * The currently active threads.
      *
@@ -99,4 +113,16 @@ public interface ThreadPool {
      */
     void stop();
 
+    /**
+     * Waits until all worker threads have terminated after this thread pool has
+     * been stopped.
+     *
+     * @param aTimeout
+     *        the maximum time to wait in milliseconds
+     *
+     * @return <code>true</code> if all worker threads have terminated, else
+     *         <code>false</code>
+     */
+    boolean awaitTermination(long aTimeout);
+
 }
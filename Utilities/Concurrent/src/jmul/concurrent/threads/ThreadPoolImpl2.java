@@ -41,6 +41,7 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.Queue;
 import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
 import jmul.math.MathHelper;
@@ -56,7 +57,7 @@ import jmul.math.MathHelper;
  *
  * @author Kristian Kutin
  *
- * @deprecated Rework the treadpool, worker threads and observable threads.
+ * @deprecated Use {@link jmul.concurrent.threads.BlockingThreadPoolImpl} instead.
  */
 @Deprecated
 public class ThreadPoolImpl2 implements ThreadPool {
@@ -102,6 +103,12 @@ public class ThreadPoolImpl2 implements ThreadPool {
      */
     private Collection<WorkerThread> workerThreads;
 
+    /**
+     * References to all threads which run worker threads (including stopped
+     * worker threads which may not have terminated yet).
+     */
+    private final Collection<Thread> threads;
+
     /**
      * A maximum stack size.
      */
@@ -132,6 +139,7 @@ public class ThreadPoolImpl2 implements ThreadPool {
 
         queue = new ConcurrentLinkedQueue<>();
         workerThreads = new ArrayList<>();
+        threads = new ArrayList<>();
 
         updateThreadCapacity();
     }
@@ -181,6 +189,11 @@ public class ThreadPoolImpl2 implements ThreadPool {
                     String newThreadName = WORKER_THREAD_NAME_PREFIX + pattern.format(newID);
                     thread.setName(newThreadName);
 
+                    synchronized (threads) {
+
+                        threads.add(thread);
+                    }
+
                     thread.start();
                 }
             }
@@ -235,6 +248,23 @@ public class ThreadPoolImpl2 implements ThreadPool {
         }
     }
 
+    /**
+     * Adds a thread to this thread pool (see {@link #addThread}) and returns a
+     * handle which is completed when the thread has finished.
+     *
+     * @param aThread
+     *        an observable thread
+     *
+     * @return a completion handle
+     */
+    @Override
+    public CompletableFuture<Void> submitThread(ObservableThread aThread) {
+
+        addThread(aThread);
+
+        return aThread.getCompletion();
+    }
+
     /**
      * The currently active threads.
      *
@@ -311,4 +341,54 @@ public class ThreadPoolImpl2 implements ThreadPool {
         workerThreads.clear();
     }
 
+    /**
+     * Waits until all worker threads have terminated after this thread pool has
+     * been stopped.
+     *
+     * @param aTimeout
+     *        the maximum time to wait in milliseconds
+     *
+     * @return <code>true</code> if all worker threads have terminated, else
+     *         <code>false</code>
+     */
+    @Override
+    public boolean awaitTermination(long aTimeout) {
+
+        if (active) {
+
+            return false;
+        }
+
+        long deadline = System.currentTimeMillis() + aTimeout;
+        Collection<Thread> snapshot;
+
+        synchronized (threads) {
+
+            snapshot = new ArrayList<>(threads);
+        }
+
+        for (Thread thread : snapshot) {
+
+            long remainingTime = deadline - System.currentTimeMillis();
+
+            try {
+
+                // A timeout of zero would wait forever.
+                thread.join(Math.max(1L, remainingTime));
+
+            } catch (InterruptedException e) {
+
+                Thread.currentThread().interrupt();
+                return false;
+            }
+
+            if (thread.isAlive()) {
+
+                return false;
+            }
+        }
+
+        return true;
+    }
+
 }
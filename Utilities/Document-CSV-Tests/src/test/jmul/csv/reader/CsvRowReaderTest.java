@@ -0,0 +1,274 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.csv.reader;
+
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import jmul.csv.reader.CsvDocumentReaderImpl2;
+import jmul.csv.reader.CsvRowReader;
+import jmul.csv.reader.CsvRowReaderImpl;
+import jmul.csv.reader.CsvStructureException;
+
+import jmul.document.csv.CsvDocument;
+import jmul.document.csv.structure.HeaderType;
+import static jmul.document.csv.structure.HeaderType.FIRST_LINE_IS_HEADER;
+import static jmul.document.csv.structure.HeaderType.NO_HEADER;
+import jmul.document.csv.structure.StructureType;
+import static jmul.document.csv.structure.StructureType.FLEXIBLE;
+import static jmul.document.csv.structure.StructureType.RIGID;
+
+import jmul.misc.table.Table;
+
+import static jmul.string.Constants.NEW_LINE_UNIX;
+import static jmul.string.Constants.SEMICOLON;
+
+import jmul.test.classification.ModuleTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+
+
+/**
+ * This class contains tests to check reading CSV files row by row.
+ *
+ * @author Kristian Kutin
+ */
+@ModuleTest
+public class CsvRowReaderTest {
+
+    /**
+     * Reads all rows of the specified content.
+     *
+     * @param aContent
+     *        the CSV content
+     * @param aHeaderType
+     *        the expected header type
+     * @param aStructureType
+     *        the expected structure type
+     *
+     * @return all rows
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while reading
+     */
+    private static List<List<String>> readRows(String aContent, HeaderType aHeaderType,
+                                               StructureType aStructureType) throws IOException {
+
+        List<List<String>> rows = new ArrayList<>();
+
+        try (CsvRowReader reader =
+             new CsvRowReaderImpl(new StringReader(aContent), aHeaderType, aStructureType, SEMICOLON, NEW_LINE_UNIX)) {
+
+            while (true) {
+
+                List<String> row = reader.readRow();
+                if (row == null) {
+
+                    break;
+                }
+
+                assertEquals(rows.size(), reader.getRowIndex());
+                rows.add(row);
+            }
+        }
+
+        return rows;
+    }
+
+    /**
+     * Checks that the rows which are read one by one match the table of the
+     * corresponding document.
+     *
+     * @param aContent
+     *        the CSV content
+     * @param aHeaderType
+     *        the expected header type
+     * @param aStructureType
+     *        the expected structure type
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while reading
+     */
+    private static void compareWithDocument(String aContent, HeaderType aHeaderType,
+                                            StructureType aStructureType) throws IOException {
+
+        File file = File.createTempFile("row-reader", ".csv");
+        file.deleteOnExit();
+        Files.write(file.toPath(), aContent.getBytes(StandardCharsets.UTF_8));
+
+        CsvDocumentReaderImpl2 documentReader =
+            new CsvDocumentReaderImpl2(StandardCharsets.UTF_8, aHeaderType, aStructureType, SEMICOLON, NEW_LINE_UNIX);
+        CsvDocument document = documentReader.readFrom(file);
+        Table<String> table = document.getContent();
+
+        List<List<String>> rows = new ArrayList<>();
+        try (CsvRowReader reader = documentReader.openRowReader(file)) {
+
+            while (true) {
+
+                List<String> row = reader.readRow();
+                if (row == null) {
+
+                    break;
+                }
+
+                rows.add(row);
+            }
+        }
+
+        assertEquals(table.rows(), rows.size());
+
+        for (int rowIndex = 0; rowIndex < rows.size(); rowIndex++) {
+
+            List<String> row = rows.get(rowIndex);
+
+            for (int columnIndex = 0; columnIndex < table.columns(); columnIndex++) {
+
+                String expected = table.getCell(columnIndex, rowIndex);
+                String actual = (columnIndex < row.size()) ? row.get(columnIndex) : null;
+
+                assertEquals(expected, actual);
+            }
+        }
+
+        file.delete();
+    }
+
+    /**
+     * Tests reading a file with a header line.
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while reading
+     */
+    @Test
+    public void testHeader() throws IOException {
+
+        String content = "A;B;C\n1;2;3\n4;;6\n";
+
+        try (CsvRowReader reader =
+             new CsvRowReaderImpl(new StringReader(content), FIRST_LINE_IS_HEADER, RIGID, SEMICOLON, NEW_LINE_UNIX)) {
+
+            assertEquals(Arrays.asList("A", "B", "C"), reader.getColumnNames());
+            assertEquals(-1, reader.getRowIndex());
+
+            assertEquals(Arrays.asList("1", "2", "3"), reader.readRow());
+            assertEquals(Arrays.asList("4", null, "6"), reader.readRow());
+            assertNull(reader.readRow());
+            assertEquals(1, reader.getRowIndex());
+        }
+    }
+
+    /**
+     * Tests reading a file without a header line.
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while reading
+     */
+    @Test
+    public void testNoHeader() throws IOException {
+
+        List<List<String>> rows = readRows("1;2\n3;4", NO_HEADER, RIGID);
+
+        assertEquals(Arrays.asList(Arrays.asList("1", "2"), Arrays.asList("3", "4")), rows);
+    }
+
+    /**
+     * Tests reading a file with quoted cells which contain line separators.
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while reading
+     */
+    @Test
+    public void testMultiLineCells() throws IOException {
+
+        List<List<String>> rows = readRows("A;B\n\"1\n2\";3\n'x;y';z\n", FIRST_LINE_IS_HEADER, RIGID);
+
+        assertEquals(Arrays.asList(Arrays.asList("\"12\"", "3"), Arrays.asList("'x;y'", "z")), rows);
+    }
+
+    /**
+     * Tests reading a file with a flexible structure.
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while reading
+     */
+    @Test
+    public void testFlexibleStructure() throws IOException {
+
+        List<List<String>> rows = readRows("1;2\n3;4;5\n6;7\n", NO_HEADER, FLEXIBLE);
+
+        assertEquals(3, rows.size());
+        assertEquals(Arrays.asList("3", "4", "5"), rows.get(1));
+    }
+
+    /**
+     * Tests reading a file which violates a rigid structure.
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while reading
+     */
+    @Test(expected = CsvStructureException.class)
+    public void testRigidStructureViolation() throws IOException {
+
+        readRows("A;B\n1;2\n3;4;5\n", FIRST_LINE_IS_HEADER, RIGID);
+    }
+
+    /**
+     * Tests if reading rows one by one yields the same content as reading the
+     * whole document.
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while reading
+     */
+    @Test
+    public void testCompareWithDocument() throws IOException {
+
+        compareWithDocument("A;B;C\n1;2;3\n4;;6\n", FIRST_LINE_IS_HEADER, RIGID);
+        compareWithDocument("A;B\n\"1\n2\";3\n'x;y';z", FIRST_LINE_IS_HEADER, RIGID);
+        compareWithDocument("1;2\n3;4;5\n6\n7;8\n", NO_HEADER, FLEXIBLE);
+        compareWithDocument("1;2;3", NO_HEADER, RIGID);
+    }
+
+}
@@ -0,0 +1,504 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.csv.reader;
+
+
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import jmul.csv.reader.CsvDocumentReaderImpl2;
+import jmul.csv.reader.CsvRowHandler;
+import jmul.csv.reader.CsvStructureException;
+import jmul.csv.reader.ParallelCsvDocumentReaderImpl;
+
+import jmul.document.csv.CsvDocument;
+import jmul.document.csv.structure.HeaderType;
+import static jmul.document.csv.structure.HeaderType.FIRST_LINE_IS_HEADER;
+import static jmul.document.csv.structure.HeaderType.NO_HEADER;
+import jmul.document.csv.structure.StructureType;
+import static jmul.document.csv.structure.StructureType.FLEXIBLE;
+import static jmul.document.csv.structure.StructureType.RIGID;
+
+import jmul.misc.table.ColumnType;
+import jmul.misc.table.ColumnarTable;
+import jmul.misc.table.Table;
+
+import static jmul.string.Constants.NEW_LINE_UNIX;
+import static jmul.string.Constants.SEMICOLON;
+
+import jmul.test.classification.ModuleTest;
+
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * This class contains tests to check reading CSV files in parallel chunks.
+ * The chunks are kept small in order to split the test files into many
+ * chunks.
+ *
+ * @author Kristian Kutin
+ */
+@ModuleTest
+public class ParallelCsvDocumentReaderTest {
+
+    /**
+     * A fork/join pool for the tests.
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * Preparations before a test.
+     */
+    @Before
+    public void setUp() {
+
+        pool = new ForkJoinPool(4);
+    }
+
+    /**
+     * Cleanup after a test.
+     */
+    @After
+    public void tearDown() {
+
+        pool.shutdown();
+        pool = null;
+    }
+
+    /**
+     * Creates CSV content with random cells. Some cells are quoted and contain
+     * separators and line separators.
+     *
+     * @param aSeed
+     *        a seed for the random generator
+     * @param aRowCount
+     *        the number of rows
+     * @param aColumnCount
+     *        the number of columns
+     * @param shortRows
+     *        if <code>true</code> some rows have fewer columns
+     *
+     * @return CSV content
+     */
+    private static String createContent(long aSeed, int aRowCount, int aColumnCount, boolean shortRows) {
+
+        Random random = new Random(aSeed);
+        StringBuilder buffer = new StringBuilder();
+
+        for (int row = 0; row < aRowCount; row++) {
+
+            int columns = aColumnCount;
+            if (shortRows && (row > 0) && (random.nextInt(4) == 0)) {
+
+                columns = 1 + random.nextInt(aColumnCount);
+            }
+
+            for (int column = 0; column < columns; column++) {
+
+                if (column > 0) {
+
+                    buffer.append(SEMICOLON);
+                }
+
+                switch (random.nextInt(6)) {
+                case 0:
+                    break;
+                case 1:
+                    buffer.append("\"a;b\nc\"");
+                    break;
+                case 2:
+                    buffer.append("'x\n\ny'");
+                    break;
+                case 3:
+                    buffer.append("\u00e4\u00f6\u00fc\u20ac");
+                    break;
+                default:
+                    buffer.append(random.nextInt(100000));
+                    break;
+                }
+            }
+
+            buffer.append(NEW_LINE_UNIX);
+        }
+
+        return buffer.toString();
+    }
+
+    /**
+     * Writes the specified content to a temporary file.
+     *
+     * @param aContent
+     *        the CSV content
+     * @param aCharset
+     *        the charset of the file
+     *
+     * @return a file
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while writing
+     */
+    private static File createFile(String aContent, Charset aCharset) throws IOException {
+
+        File file = File.createTempFile("parallel-reader", ".csv");
+        file.deleteOnExit();
+        Files.write(file.toPath(), aContent.getBytes(aCharset));
+
+        return file;
+    }
+
+    /**
+     * Checks that the parallel reader returns the same table as the
+     * sequential reader.
+     *
+     * @param aContent
+     *        the CSV content
+     * @param aCharset
+     *        the charset of the file
+     * @param aHeaderType
+     *        the expected header type
+     * @param aStructureType
+     *        the expected structure type
+     * @param aChunkSize
+     *        the chunk size in bytes
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while reading
+     */
+    private void compareWithSequentialReader(String aContent, Charset aCharset, HeaderType aHeaderType,
+                                             StructureType aStructureType, int aChunkSize) throws IOException {
+
+        File file = createFile(aContent, aCharset);
+
+        CsvDocumentReaderImpl2 sequentialReader =
+            new CsvDocumentReaderImpl2(aCharset, aHeaderType, aStructureType, SEMICOLON, NEW_LINE_UNIX);
+        ParallelCsvDocumentReaderImpl parallelReader =
+            new ParallelCsvDocumentReaderImpl(aCharset, aHeaderType, aStructureType, SEMICOLON, NEW_LINE_UNIX, pool,
+                                              aChunkSize);
+
+        CsvDocument expectedDocument = sequentialReader.readFrom(file);
+        CsvDocument actualDocument = parallelReader.readFrom(file);
+
+        Table<String> expected = expectedDocument.getContent();
+        Table<String> actual = actualDocument.getContent();
+
+        assertEquals(expected.rows(), actual.rows());
+        assertEquals(expected.columns(), actual.columns());
+
+        for (int columnIndex = 0; columnIndex < expected.columns(); columnIndex++) {
+
+            if (aHeaderType == FIRST_LINE_IS_HEADER) {
+
+                assertEquals(expected.getColumnName(columnIndex), actual.getColumnName(columnIndex));
+            }
+
+            for (int rowIndex = 0; rowIndex < expected.rows(); rowIndex++) {
+
+                assertEquals(expected.getCell(columnIndex, rowIndex), actual.getCell(columnIndex, rowIndex));
+            }
+        }
+
+        file.delete();
+    }
+
+    /**
+     * Tests reading a file with a header line.
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while reading
+     */
+    @Test
+    public void testHeader() throws IOException {
+
+        String content = createContent(1L, 200, 4, false);
+
+        compareWithSequentialReader(content, StandardCharsets.UTF_8, FIRST_LINE_IS_HEADER, RIGID, 16);
+        compareWithSequentialReader(content, StandardCharsets.UTF_8, FIRST_LINE_IS_HEADER, RIGID, 37);
+        compareWithSequentialReader(content, StandardCharsets.UTF_8, FIRST_LINE_IS_HEADER, RIGID, 256);
+    }
+
+    /**
+     * Tests reading a file without a header line.
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while reading
+     */
+    @Test
+    public void testNoHeader() throws IOException {
+
+        String content = createContent(2L, 200, 3, false);
+
+        compareWithSequentialReader(content, StandardCharsets.UTF_8, NO_HEADER, RIGID, 16);
+        compareWithSequentialReader(content, StandardCharsets.ISO_8859_1, NO_HEADER, RIGID, 53);
+    }
+
+    /**
+     * Tests reading a file with a flexible structure. Rows with fewer columns
+     * are continued on the next line, which may belong to another chunk.
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while reading
+     */
+    @Test
+    public void testFlexibleStructure() throws IOException {
+
+        String content = createContent(3L, 300, 5, true);
+
+        compareWithSequentialReader(content, StandardCharsets.UTF_8, FIRST_LINE_IS_HEADER, FLEXIBLE, 16);
+        compareWithSequentialReader(content, StandardCharsets.UTF_8, NO_HEADER, FLEXIBLE, 41);
+        compareWithSequentialReader(content, StandardCharsets.UTF_8, NO_HEADER, FLEXIBLE, 1024);
+    }
+
+    /**
+     * Tests reading a file whose charset doesn't allow splitting the file on
+     * byte level.
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while reading
+     */
+    @Test
+    public void testUnsupportedCharset() throws IOException {
+
+        String content = createContent(4L, 100, 3, false);
+
+        compareWithSequentialReader(content, StandardCharsets.UTF_16, FIRST_LINE_IS_HEADER, RIGID, 16);
+    }
+
+    /**
+     * Tests reading a file without a trailing row separator.
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while reading
+     */
+    @Test
+    public void testNoTrailingRowSeparator() throws IOException {
+
+        String content = createContent(5L, 100, 3, false);
+        content = content.substring(0, content.length() - 1);
+
+        compareWithSequentialReader(content, StandardCharsets.UTF_8, FIRST_LINE_IS_HEADER, RIGID, 16);
+    }
+
+    /**
+     * Tests reading a file which violates a rigid structure.
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while reading
+     */
+    @Test(expected = CsvStructureException.class)
+    public void testRigidStructureViolation() throws IOException {
+
+        String content = createContent(6L, 100, 3, false) + "1;2;3;4\n" + createContent(7L, 100, 3, false);
+        File file = createFile(content, StandardCharsets.UTF_8);
+
+        ParallelCsvDocumentReaderImpl reader =
+            new ParallelCsvDocumentReaderImpl(StandardCharsets.UTF_8, NO_HEADER, RIGID, SEMICOLON, NEW_LINE_UNIX, pool,
+                                              32);
+        reader.readFrom(file);
+    }
+
+    /**
+     * Tests reading a file which violates a rigid structure and contains an
+     * unclosed quote after the violation. The error of the earlier row is
+     * reported like with the sequential reader.
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while reading
+     */
+    @Test
+    public void testEarliestError() throws IOException {
+
+        StringBuilder content = new StringBuilder();
+        for (int a = 0; a < 20; a++) {
+
+            content.append(a).append(";a;b").append(NEW_LINE_UNIX);
+        }
+        content.append("1;2;3;4\n\"x;1;2\n7;8;9\n10;11;12\n");
+
+        File file = createFile(content.toString(), StandardCharsets.UTF_8);
+
+        CsvDocumentReaderImpl2 sequentialReader =
+            new CsvDocumentReaderImpl2(StandardCharsets.UTF_8, NO_HEADER, RIGID, SEMICOLON, NEW_LINE_UNIX);
+        assertEquals(CsvStructureException.class, readAndCatch(sequentialReader, file));
+
+        for (int chunkSize = 1; chunkSize <= 64; chunkSize++) {
+
+            ParallelCsvDocumentReaderImpl parallelReader =
+                new ParallelCsvDocumentReaderImpl(StandardCharsets.UTF_8, NO_HEADER, RIGID, SEMICOLON, NEW_LINE_UNIX,
+                                                  pool, chunkSize);
+            assertEquals(CsvStructureException.class, readAndCatch(parallelReader, file));
+        }
+
+        file.delete();
+    }
+
+    /**
+     * Reads the specified file and returns the type of the exception which is
+     * thrown.
+     *
+     * @param aReader
+     *        a document reader
+     * @param aFile
+     *        the input file
+     *
+     * @return the exception type or <code>null</code> if no exception is
+     *         thrown
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while reading
+     */
+    private static Class<?> readAndCatch(CsvDocumentReaderImpl2 aReader, File aFile) throws IOException {
+
+        try {
+
+            aReader.readFrom(aFile);
+
+        } catch (RuntimeException e) {
+
+            return e.getClass();
+        }
+
+        return null;
+    }
+
+    /**
+     * Tests that the rows are passed to a row handler in order.
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while reading
+     */
+    @Test
+    public void testRowHandler() throws IOException {
+
+        StringBuilder content = new StringBuilder("A;B\n");
+        for (int a = 0; a < 1000; a++) {
+
+            content.append(a).append(SEMICOLON).append(a * 2).append(NEW_LINE_UNIX);
+        }
+
+        File file = createFile(content.toString(), StandardCharsets.UTF_8);
+
+        ParallelCsvDocumentReaderImpl reader =
+            new ParallelCsvDocumentReaderImpl(StandardCharsets.UTF_8, FIRST_LINE_IS_HEADER, RIGID, SEMICOLON,
+                                              NEW_LINE_UNIX, pool, 64);
+
+        final List<String> columnNames = new ArrayList<>();
+        final List<List<String>> rows = new ArrayList<>();
+
+        reader.readFrom(file, new CsvRowHandler() {
+
+            @Override
+            public void handleColumnNames(List<String> someColumnNames) {
+
+                columnNames.addAll(someColumnNames);
+            }
+
+            @Override
+            public void handleRows(int aFirstRowIndex, List<List<String>> someRows) {
+
+                assertEquals(rows.size(), aFirstRowIndex);
+                rows.addAll(someRows);
+            }
+        });
+
+        assertEquals(2, columnNames.size());
+        assertEquals(1000, rows.size());
+
+        for (int a = 0; a < rows.size(); a++) {
+
+            assertEquals(String.valueOf(a), rows.get(a).get(0));
+            assertEquals(String.valueOf(a * 2), rows.get(a).get(1));
+        }
+
+        file.delete();
+    }
+
+    /**
+     * Tests reading a file into a columnar table.
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while reading
+     */
+    @Test
+    public void testColumnarTable() throws IOException {
+
+        StringBuilder content = new StringBuilder("id;name;price\n");
+        for (int a = 0; a < 500; a++) {
+
+            content.append(a).append(SEMICOLON).append("item").append(a % 7).append(SEMICOLON);
+            content.append(a).append(".25").append(NEW_LINE_UNIX);
+        }
+
+        File file = createFile(content.toString(), StandardCharsets.UTF_8);
+
+        ParallelCsvDocumentReaderImpl reader =
+            new ParallelCsvDocumentReaderImpl(StandardCharsets.UTF_8, FIRST_LINE_IS_HEADER, RIGID, SEMICOLON,
+                                              NEW_LINE_UNIX, pool, 64);
+
+        ColumnarTable table = reader.readColumnarTable(file, true);
+        Table<String> expected = reader.readFrom(file).getContent();
+
+        assertEquals(expected.getColumnNames(), table.getColumnNames());
+        assertEquals(expected.rows(), table.rows());
+        assertEquals(ColumnType.INT, table.getColumnType(0));
+        assertEquals(ColumnType.STRING, table.getColumnType(1));
+        assertEquals(ColumnType.DOUBLE, table.getColumnType(2));
+
+        for (int a = 0; a < table.rows(); a++) {
+
+            assertEquals(Integer.parseInt(expected.getCell(0, a)), table.getInt(0, a));
+            assertEquals(expected.getCell(1, a), table.getString(1, a));
+            assertEquals(Double.parseDouble(expected.getCell(2, a)), table.getDouble(2, a), 0.0);
+        }
+
+        ColumnarTable stringTable = reader.readColumnarTable(file, false);
+
+        assertEquals(ColumnType.STRING, stringTable.getColumnType(0));
+        assertEquals("499", stringTable.getString(0, 499));
+
+        file.delete();
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.csv.reader;
+
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import java.nio.channels.FileChannel;
+
+import java.util.concurrent.RecursiveTask;
+
+
+/**
+ * A task which looks for the first row separator outside of a quoted section.
+ *
+ * @author Kristian Kutin
+ */
+class BoundaryTask extends RecursiveTask<Long> {
+
+    /**
+     * The serial UID as required by java's serialization mechanism.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The input file.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The offset where the search starts.
+     */
+    private final long start;
+
+    /**
+     * The quote state at the start offset.
+     */
+    private final int quoteState;
+
+    /**
+     * The encoded row separator.
+     */
+    private final byte[] rowSeparator;
+
+    /**
+     * Creates a new task according to the specified parameters.
+     *
+     * @param aChannel
+     *        the input file
+     * @param aStart
+     *        the offset where the search starts
+     * @param aQuoteState
+     *        the quote state at the start offset
+     * @param aRowSeparator
+     *        the encoded row separator
+     */
+    BoundaryTask(FileChannel aChannel, long aStart, int aQuoteState, byte[] aRowSeparator) {
+
+        super();
+
+        channel = aChannel;
+        start = aStart;
+        quoteState = aQuoteState;
+        rowSeparator = aRowSeparator;
+    }
+
+    /**
+     * Looks for the row separator.
+     *
+     * @return the offset after the row separator or the file size
+     */
+    @Override
+    protected Long compute() {
+
+        try {
+
+            return ChunkHelper.findBoundary(channel, start, quoteState, rowSeparator);
+
+        } catch (IOException e) {
+
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,583 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.csv.reader;
+
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+
+import static jmul.document.csv.CsvHelper.normalizeValue;
+
+import static jmul.io.Constants.END_OF_FILE;
+import jmul.io.text.LineScanner;
+
+import jmul.metainfo.annotations.Modified;
+
+import jmul.string.FieldSplitter;
+import jmul.string.QuoteNotClosedException;
+
+
+/**
+ * A utility class for splitting a CSV file into chunks which can be parsed
+ * independently. The file is examined on byte level, which is only possible
+ * if quote characters and separators can be identified without decoding the
+ * file (see {@link #isSupported}).<br>
+ * <br>
+ * A quoted section may contain row separators. Thus the quote state (i.e.
+ * outside of quotes, within " or within ') at the start of a chunk depends on
+ * all preceding chunks. The state transitions of every chunk are determined
+ * for all three possible start states, which allows examining all chunks in
+ * parallel.
+ *
+ * @author Kristian Kutin
+ */
+final class ChunkHelper {
+
+    /**
+     * The quote state outside of quoted sections.
+     */
+    static final int NO_QUOTE = 0;
+
+    /**
+     * The quote state within a section quoted with ".
+     */
+    static final int QUOTATION_MARK = 1;
+
+    /**
+     * The quote state within a section quoted with '.
+     */
+    static final int APOSTROPHE = 2;
+
+    /**
+     * The number of quote states.
+     */
+    static final int QUOTE_STATES = 3;
+
+    /**
+     * The size of the buffer which is used to scan a chunk.
+     */
+    private static final int BUFFER_SIZE = 65536;
+
+    /**
+     * The default constructor.
+     */
+    private ChunkHelper() {
+
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Checks if a file with the specified properties can be split into chunks
+     * on byte level.
+     *
+     * @param aCharset
+     *        the charset of the file
+     * @param aColumnSeparator
+     *        the column separator
+     * @param aRowSeparator
+     *        the row separator
+     *
+     * @return <code>true</code> if the file can be split on byte level, else
+     *         <code>false</code>
+     */
+    static boolean isSupported(Charset aCharset, String aColumnSeparator, String aRowSeparator) {
+
+        // In UTF-8 and single byte charsets a byte which represents a character of the
+        // US-ASCII charset is never part of another character.
+        boolean asciiCompatible =
+            StandardCharsets.UTF_8.equals(aCharset) ||
+            (aCharset.canEncode() && (aCharset.newEncoder().maxBytesPerChar() == 1.0f));
+
+        if (!asciiCompatible || !isAsciiEncoded(aCharset, "\"'")) {
+
+            return false;
+        }
+
+        if (containsQuotes(aColumnSeparator) || containsQuotes(aRowSeparator)) {
+
+            return false;
+        }
+
+        byte[] separator = aRowSeparator.getBytes(aCharset);
+
+        return (separator.length > 0) && !hasBorder(separator);
+    }
+
+    /**
+     * Checks if the specified characters are encoded as US-ASCII bytes.
+     *
+     * @param aCharset
+     *        a charset
+     * @param someCharacters
+     *        some characters
+     *
+     * @return <code>true</code> if all characters are encoded as US-ASCII
+     *         bytes, else <code>false</code>
+     */
+    private static boolean isAsciiEncoded(Charset aCharset, String someCharacters) {
+
+        byte[] expected = someCharacters.getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = someCharacters.getBytes(aCharset);
+
+        return Arrays.equals(expected, actual);
+    }
+
+    /**
+     * Checks if the specified string contains quote characters.
+     *
+     * @param aString
+     *        a string
+     *
+     * @return <code>true</code> if the string contains quote characters, else
+     *         <code>false</code>
+     */
+    private static boolean containsQuotes(String aString) {
+
+        return (aString.indexOf('"') >= 0) || (aString.indexOf('\'') >= 0);
+    }
+
+    /**
+     * Checks if a proper prefix of the specified byte sequence is also a
+     * suffix. Occurrences of a sequence without such a border never overlap,
+     * i.e. every occurrence which is found when starting to search at an
+     * arbitrary position is also found when searching from the start.
+     *
+     * @param someBytes
+     *        a byte sequence
+     *
+     * @return <code>true</code> if the byte sequence has a border, else
+     *         <code>false</code>
+     */
+    private static boolean hasBorder(byte[] someBytes) {
+
+        int length = someBytes.length;
+
+        for (int borderLength = 1; borderLength < length; borderLength++) {
+
+            boolean border = true;
+            for (int a = 0; a < borderLength; a++) {
+
+                if (someBytes[a] != someBytes[length - borderLength + a]) {
+
+                    border = false;
+                    break;
+                }
+            }
+
+            if (border) {
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Determines the quote state after the specified byte.
+     *
+     * @param aState
+     *        the current quote state
+     * @param b
+     *        a byte
+     *
+     * @return the new quote state
+     */
+    static int toggleQuote(int aState, byte b) {
+
+        switch (aState) {
+        case NO_QUOTE:
+            if (b == '"') {
+
+                return QUOTATION_MARK;
+
+            } else if (b == '\'') {
+
+                return APOSTROPHE;
+            }
+            return NO_QUOTE;
+        case QUOTATION_MARK:
+            return (b == '"') ? NO_QUOTE : QUOTATION_MARK;
+        case APOSTROPHE:
+            return (b == '\'') ? NO_QUOTE : APOSTROPHE;
+        default:
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Determines the quote state at the end of the specified chunk for every
+     * possible quote state at the start of the chunk.
+     *
+     * @param aChannel
+     *        the file
+     * @param aStart
+     *        the start offset of the chunk
+     * @param anEnd
+     *        the end offset of the chunk (exclusive)
+     *
+     * @return the quote states at the end of the chunk (indexed by the quote
+     *         state at the start of the chunk)
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while trying to read from the file
+     */
+    static int[] scanQuotes(FileChannel aChannel, long aStart, long anEnd) throws IOException {
+
+        int[] states = new int[QUOTE_STATES];
+        for (int a = 0; a < QUOTE_STATES; a++) {
+
+            states[a] = a;
+        }
+
+        InputStream input = new RangeInputStream(aChannel, aStart, anEnd);
+        byte[] buffer = new byte[BUFFER_SIZE];
+
+        while (true) {
+
+            int count = input.read(buffer);
+            if (count == END_OF_FILE) {
+
+                break;
+            }
+
+            for (int a = 0; a < count; a++) {
+
+                byte b = buffer[a];
+                if ((b != '"') && (b != '\'')) {
+
+                    continue;
+                }
+
+                for (int state = 0; state < QUOTE_STATES; state++) {
+
+                    states[state] = toggleQuote(states[state], b);
+                }
+            }
+        }
+
+        return states;
+    }
+
+    /**
+     * Looks for the first row separator outside of a quoted section.
+     *
+     * @param aChannel
+     *        the file
+     * @param aStart
+     *        the offset where the search starts
+     * @param aQuoteState
+     *        the quote state at the start offset
+     * @param aRowSeparator
+     *        the encoded row separator
+     *
+     * @return the offset after the row separator or the file size if there is
+     *         no such row separator
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while trying to read from the file
+     */
+    static long findBoundary(FileChannel aChannel, long aStart, int aQuoteState,
+                             byte[] aRowSeparator) throws IOException {
+
+        long size = aChannel.size();
+        InputStream input = new RangeInputStream(aChannel, aStart, size);
+        byte[] buffer = new byte[BUFFER_SIZE];
+
+        int state = aQuoteState;
+        int matched = 0;
+        long offset = aStart;
+
+        while (true) {
+
+            int count = input.read(buffer);
+            if (count == END_OF_FILE) {
+
+                return size;
+            }
+
+            for (int a = 0; a < count; a++) {
+
+                byte b = buffer[a];
+
+                // The row separator has no border, i.e. after a mismatch only the current
+                // byte can start a new match.
+                if (b == aRowSeparator[matched]) {
+
+                    matched++;
+
+                } else {
+
+                    matched = (b == aRowSeparator[0]) ? 1 : 0;
+                }
+
+                if ((matched == aRowSeparator.length) && (state == NO_QUOTE)) {
+
+                    return offset + a + 1;
+
+                } else if (matched == aRowSeparator.length) {
+
+                    matched = 0;
+                }
+
+                state = toggleQuote(state, b);
+            }
+
+            offset += count;
+        }
+    }
+
+    /**
+     * Creates a line scanner for the specified chunk.
+     *
+     * @param aChannel
+     *        the file
+     * @param aStart
+     *        the start offset of the chunk
+     * @param anEnd
+     *        the end offset of the chunk (exclusive)
+     * @param aCharset
+     *        the charset of the file
+     * @param aRowSeparator
+     *        the row separator
+     *
+     * @return a line scanner
+     */
+    static LineScanner newScanner(FileChannel aChannel, long aStart, long anEnd, Charset aCharset,
+                                  String aRowSeparator) {
+
+        InputStream input = new RangeInputStream(aChannel, aStart, anEnd);
+
+        return new LineScanner(new InputStreamReader(input, aCharset), aRowSeparator);
+    }
+
+    /**
+     * Parses all rows of the specified chunk.
+     *
+     * @param aChannel
+     *        the file
+     * @param aStart
+     *        the start offset of the chunk
+     * @param anEnd
+     *        the end offset of the chunk (exclusive)
+     * @param aCharset
+     *        the charset of the file
+     * @param aColumnSeparator
+     *        the column separator
+     * @param aRowSeparator
+     *        the row separator
+     * @param anExpectedColumnCount
+     *        the number of columns of the first line
+     *
+     * @return the rows of the chunk and the error if the chunk contains an
+     *         unclosed quote
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while trying to read from the file
+     */
+    static ChunkResult parseChunk(FileChannel aChannel, long aStart, long anEnd, Charset aCharset,
+                                  String aColumnSeparator, String aRowSeparator,
+                                  int anExpectedColumnCount) throws IOException {
+
+        LineScanner scanner = newScanner(aChannel, aStart, anEnd, aCharset, aRowSeparator);
+        FieldSplitter splitter = new FieldSplitter(aColumnSeparator);
+
+        List<List<String>> rows = new ArrayList<>();
+        List<String> lastRow = null;
+
+        while (true) {
+
+            List<String> row;
+
+            try {
+
+                row = RecordHelper.readNextRecord(scanner, splitter, anExpectedColumnCount);
+
+            } catch (QuoteNotClosedException e) {
+
+                // The error is reported after the previous rows have been checked, like
+                // with a sequential reader.
+                return new ChunkResult(rows, false, e);
+            }
+
+            if (row == null) {
+
+                break;
+            }
+
+            rows.add(normalizeRow(row));
+            lastRow = row;
+        }
+
+        // A row with fewer columns than expected is only complete at the end of the file.
+        boolean incomplete = (lastRow != null) && (lastRow.size() < anExpectedColumnCount);
+
+        return new ChunkResult(rows, incomplete, null);
+    }
+
+    /**
+     * Normalizes all cells of the specified row.
+     *
+     * @param aRow
+     *        a row
+     *
+     * @return the specified row
+     */
+    static List<String> normalizeRow(@Modified List<String> aRow) {
+
+        for (ListIterator<String> iterator = aRow.listIterator(); iterator.hasNext(); ) {
+
+            iterator.set(normalizeValue(iterator.next()));
+        }
+
+        return aRow;
+    }
+
+}
+
+
+/**
+ * An input stream which reads a range of a file. Positional reads are used,
+ * i.e. several streams can read from the same file channel concurrently.
+ *
+ * @author Kristian Kutin
+ */
+class RangeInputStream extends InputStream {
+
+    /**
+     * The file.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The offset of the next byte.
+     */
+    private long position;
+
+    /**
+     * The end offset of the range (exclusive).
+     */
+    private final long end;
+
+    /**
+     * Creates a new input stream according to the specified parameters.
+     *
+     * @param aChannel
+     *        the file
+     * @param aStart
+     *        the start offset of the range
+     * @param anEnd
+     *        the end offset of the range (exclusive)
+     */
+    RangeInputStream(FileChannel aChannel, long aStart, long anEnd) {
+
+        super();
+
+        channel = aChannel;
+        position = aStart;
+        end = anEnd;
+    }
+
+    /**
+     * Reads a single byte.
+     *
+     * @return a byte or <code>-1</code> if the end of the range has been
+     *         reached
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while trying to read from the file
+     */
+    @Override
+    public int read() throws IOException {
+
+        byte[] buffer = new byte[1];
+        int count = read(buffer, 0, 1);
+
+        return (count == END_OF_FILE) ? END_OF_FILE : (buffer[0] & 0xff);
+    }
+
+    /**
+     * Reads several bytes.
+     *
+     * @param aBuffer
+     *        the buffer into which the bytes are read
+     * @param anOffset
+     *        the offset within the buffer
+     * @param aLength
+     *        the maximum number of bytes which are read
+     *
+     * @return the number of bytes which were read or <code>-1</code> if the
+     *         end of the range has been reached
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while trying to read from the file
+     */
+    @Override
+    public int read(byte[] aBuffer, int anOffset, int aLength) throws IOException {
+
+        long remaining = end - position;
+        if (remaining <= 0) {
+
+            return END_OF_FILE;
+        }
+
+        int length = (int) Math.min(aLength, remaining);
+        if (length == 0) {
+
+            return 0;
+        }
+
+        int count = channel.read(ByteBuffer.wrap(aBuffer, anOffset, length), position);
+        if (count == END_OF_FILE) {
+
+            return END_OF_FILE;
+        }
+
+        position += count;
+
+        return count;
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.csv.reader;
+
+
+import java.util.List;
+
+import jmul.string.QuoteNotClosedException;
+
+
+/**
+ * The rows of a chunk. If the chunk couldn't be parsed completely, the rows
+ * before the erroneous row and the error are kept, i.e. the error is only
+ * reported after the rows of all previous chunks have been checked.
+ *
+ * @author Kristian Kutin
+ */
+class ChunkResult {
+
+    /**
+     * The rows of the chunk.
+     */
+    final List<List<String>> rows;
+
+    /**
+     * A flag indicating that the last row of the chunk might continue in the
+     * next chunk.
+     */
+    final boolean incomplete;
+
+    /**
+     * The error which occurred after the last row or <code>null</code> if the
+     * chunk was parsed completely.
+     */
+    final QuoteNotClosedException error;
+
+    /**
+     * Creates a new chunk result according to the specified parameters.
+     *
+     * @param someRows
+     *        the rows of the chunk
+     * @param anIncompleteFlag
+     *        a flag indicating that the last row of the chunk might continue
+     *        in the next chunk
+     * @param anError
+     *        the error which occurred after the last row or <code>null</code>
+     *        if the chunk was parsed completely
+     */
+    ChunkResult(List<List<String>> someRows, boolean anIncompleteFlag, QuoteNotClosedException anError) {
+
+        super();
+
+        rows = someRows;
+        incomplete = anIncompleteFlag;
+        error = anError;
+    }
+
+}
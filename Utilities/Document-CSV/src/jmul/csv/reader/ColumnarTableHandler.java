@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.csv.reader;
+
+
+import java.util.List;
+
+import jmul.misc.table.ColumnarTableBuilder;
+
+
+/**
+ * A row handler which fills a columnar table builder.
+ *
+ * @author Kristian Kutin
+ */
+class ColumnarTableHandler implements CsvRowHandler {
+
+    /**
+     * The table builder.
+     */
+    private final ColumnarTableBuilder builder;
+
+    /**
+     * The default constructor.
+     */
+    ColumnarTableHandler() {
+
+        super();
+
+        builder = new ColumnarTableBuilder();
+    }
+
+    /**
+     * Handles the column names.
+     *
+     * @param someColumnNames
+     *        the column names
+     */
+    @Override
+    public void handleColumnNames(List<String> someColumnNames) {
+
+        builder.setColumnNames(someColumnNames);
+    }
+
+    /**
+     * Handles a batch of rows.
+     *
+     * @param aFirstRowIndex
+     *        the index of the first row of this batch
+     * @param someRows
+     *        a batch of rows
+     */
+    @Override
+    public void handleRows(int aFirstRowIndex, List<List<String>> someRows) {
+
+        for (List<String> row : someRows) {
+
+            builder.addRow(row);
+        }
+    }
+
+    /**
+     * Returns the table builder.
+     *
+     * @return a table builder
+     */
+    ColumnarTableBuilder getBuilder() {
+
+        return builder;
+    }
+
+}
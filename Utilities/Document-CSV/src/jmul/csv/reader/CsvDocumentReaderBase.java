@@ -34,7 +34,6 @@
 package jmul.csv.reader;
 
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -54,6 +53,8 @@ import jmul.document.csv.structure.StructureType;
 import jmul.document.type.DocumentType;
 import jmul.document.type.DocumentTypes;
 
+import jmul.io.text.LineScanner;
+
 import jmul.metainfo.annotations.Modified;
 
 import jmul.misc.table.ModifiableTable;
@@ -182,10 +183,11 @@ abstract class CsvDocumentReaderBase implements CsvDocumentReader {
         DocumentType documentType = DocumentTypes.getDocumentType(aFile.getName());
         ModifiableTable<String> table = new ModifiableTableImpl<>();
 
-        try (BufferedReader br = new BufferedReader(new InputStreamReader(new FileInputStream(aFile), charset))) {
+        try (LineScanner scanner =
+             new LineScanner(new InputStreamReader(new FileInputStream(aFile), charset), rowSeparator)) {
 
-            parseFirstLine(br, table);
-            parseRemainingContent(br, table);
+            parseFirstLine(scanner, table);
+            parseRemainingContent(scanner, table);
         }
 
         return new CsvDocumentImpl(documentType, charset, headerType, structureType, columnSeparator, rowSeparator,
@@ -246,29 +248,29 @@ abstract class CsvDocumentReaderBase implements CsvDocumentReader {
      * The first line is parsed for identifying the number of columns in a CSV file. Additionally the first line
      * may contain data or a header line. The specified table is updated accordingly.
      *
-     * @param aReader
-     *        a handle on the actual file
+     * @param aScanner
+     *        a line scanner on the actual file
      * @param aTable
      *        a modifiable table
      *
      * @throws IOException
      *         is thrown if an error occurrs while trying to read from the CSV file
      */
-    protected abstract void parseFirstLine(BufferedReader aReader,
+    protected abstract void parseFirstLine(LineScanner aScanner,
                                            @Modified ModifiableTable<String> aTable) throws IOException;
 
     /**
      * The remaining content of a CSV file is parsed and the specified table is updated accordingly.
      *
-     * @param aReader
-     *        a handle on the actual file
+     * @param aScanner
+     *        a line scanner on the actual file
      * @param aTable
      *        a modifiable table
      *
      * @throws IOException
      *         is thrown if an error occurrs while trying to read from the CSV file
      */
-    protected abstract void parseRemainingContent(BufferedReader aReader,
+    protected abstract void parseRemainingContent(LineScanner aScanner,
                                                   @Modified ModifiableTable<String> aTable) throws IOException;
 
     /**
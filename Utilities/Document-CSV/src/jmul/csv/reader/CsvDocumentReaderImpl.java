@@ -34,7 +34,6 @@
 package jmul.csv.reader;
 
 
-import java.io.BufferedReader;
 import java.io.IOException;
 
 import java.nio.charset.Charset;
@@ -47,8 +46,8 @@ import jmul.document.csv.structure.StructureType;
 import static jmul.document.csv.structure.StructureType.FLEXIBLE;
 import static jmul.document.csv.structure.StructureType.RIGID;
 
+import jmul.io.text.LineScanner;
 import jmul.io.text.ReadBuffer;
-import jmul.io.text.TextFileHelper;
 
 import jmul.metainfo.annotations.Modified;
 
@@ -225,8 +224,8 @@ public class CsvDocumentReaderImpl extends CsvDocumentReaderBase {
      * The first line is parsed for identifying the number of columns in a CSV file. Additionally the first line
      * may contain data or a header line. The specified table is updated accordingly.
      *
-     * @param aReader
-     *        a handle on the actual file
+     * @param aScanner
+     *        a line scanner on the actual file
      * @param aTable
      *        a modifiable table
      *
@@ -234,9 +233,9 @@ public class CsvDocumentReaderImpl extends CsvDocumentReaderBase {
      *         is thrown if an error occurrs while trying to read from the CSV file
      */
     @Override
-    protected void parseFirstLine(BufferedReader aReader, @Modified ModifiableTable<String> aTable) throws IOException {
+    protected void parseFirstLine(LineScanner aScanner, @Modified ModifiableTable<String> aTable) throws IOException {
 
-        ReadBuffer result = TextFileHelper.readLine(aReader, getRowSeparator());
+        ReadBuffer result = aScanner.readLine();
 
         if (result.isEndOfFile()) {
 
@@ -254,8 +253,8 @@ public class CsvDocumentReaderImpl extends CsvDocumentReaderBase {
     /**
      * The remaining content of a CSV file is parsed and the specified table is updated accordingly.
      *
-     * @param aReader
-     *        a handle on the actual file
+     * @param aScanner
+     *        a line scanner on the actual file
      * @param aTable
      *        a modifiable table
      *
@@ -263,16 +262,16 @@ public class CsvDocumentReaderImpl extends CsvDocumentReaderBase {
      *         is thrown if an error occurrs while trying to read from the CSV file
      */
     @Override
-    protected void parseRemainingContent(BufferedReader aReader,
+    protected void parseRemainingContent(LineScanner aScanner,
                                          @Modified ModifiableTable<String> aTable) throws IOException {
 
         int currentRow = aTable.rows();
 
         while (true) {
 
-            ReadBuffer result = TextFileHelper.readLine(aReader, getRowSeparator());
+            ReadBuffer result = aScanner.readLine();
 
-            if (result.isEndOfFile() && result.isEmpty()) {
+            if (RecordHelper.isEndOfInput(result)) {
 
                 return;
             }
@@ -34,12 +34,14 @@
 package jmul.csv.reader;
 
 
-import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 
 import java.nio.charset.Charset;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import static jmul.document.csv.CsvHelper.normalizeValue;
@@ -48,15 +50,14 @@ import jmul.document.csv.structure.StructureType;
 import static jmul.document.csv.structure.StructureType.FLEXIBLE;
 import static jmul.document.csv.structure.StructureType.RIGID;
 
-import jmul.io.text.ReadBuffer;
-import jmul.io.text.TextFileHelper;
+import jmul.io.text.LineScanner;
 
 import jmul.metainfo.annotations.Modified;
 
 import jmul.misc.table.ModifiableTable;
 
-import jmul.string.QuoteNotClosedException;
-import jmul.string.TextHelper;
+import jmul.string.FieldSplitter;
+
 
 
 /**
@@ -225,57 +226,67 @@ public class CsvDocumentReaderImpl2 extends CsvDocumentReaderBase {
     }
 
     /**
-     * The first line is parsed for identifying the number of columns in a CSV file. Additionally the first line
-     * may contain data or a header line. The specified table is updated accordingly.
+     * Opens the specified file for reading it row by row. Unlike
+     * {@link #readFrom(File)} the content of the file is not kept in memory.
      *
-     * @param aReader
-     *        a handle on the actual file
-     * @param aTable
-     *        a modifiable table
+     * @param aFilename
+     *        the name of the input file
+     *
+     * @return a row reader which has to be closed by the caller
      *
      * @throws IOException
-     *         is thrown if an error occurrs while trying to read from the CSV file
+     *         is thrown if an error occurrs while trying to read from the file
      */
-    @Override
-    protected void parseFirstLine(BufferedReader aReader, @Modified ModifiableTable<String> aTable) throws IOException {
+    public CsvRowReader openRowReader(String aFilename) throws IOException {
 
-        StringBuilder buffer = new StringBuilder();
-        List<String> substrings = null;
-
-        while (true) {
-
-            ReadBuffer result = TextFileHelper.readLine(aReader, getRowSeparator());
-
-            if (result.isEndOfFile() && result.isEmpty()) {
-
-                if (substrings == null) {
-
-                    substrings = new ArrayList<>();
-                }
+        return openRowReader(new File(aFilename));
+    }
 
-                break;
-            }
+    /**
+     * Opens the specified file for reading it row by row. Unlike
+     * {@link #readFrom(File)} the content of the file is not kept in memory.
+     *
+     * @param aFile
+     *        the input file
+     *
+     * @return a row reader which has to be closed by the caller
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while trying to read from the file
+     */
+    public CsvRowReader openRowReader(File aFile) throws IOException {
 
-            String line = result.getLine();
-            buffer.append(line);
+        Reader reader = new InputStreamReader(new FileInputStream(aFile), getCharset());
 
-            try {
+        try {
 
-                substrings = TextHelper.splitLine(buffer.toString(), getColumnSeparator());
-                break;
+            return new CsvRowReaderImpl(reader, getHeaderType(), getStructureType(), getColumnSeparator(),
+                                        getRowSeparator());
 
-            } catch (QuoteNotClosedException e) {
+        } catch (IOException | RuntimeException e) {
 
-                // This exception indicates that the processed line is not complete because the
-                // content of a table cell is quoted but the quote closing character is not
-                // reached yet. This exception should not be preserved. It is assumed that the
-                // table row is spread over several text lines.
-                // If there is an issue with the table structure (i.e. number of identified
-                // columns) then an exception will be thrown.
-                continue;
-            }
+            reader.close();
+            throw e;
         }
+    }
+
+    /**
+     * The first line is parsed for identifying the number of columns in a CSV file. Additionally the first line
+     * may contain data or a header line. The specified table is updated accordingly.
+     *
+     * @param aScanner
+     *        a line scanner on the actual file
+     * @param aTable
+     *        a modifiable table
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while trying to read from the CSV file
+     */
+    @Override
+    protected void parseFirstLine(LineScanner aScanner, @Modified ModifiableTable<String> aTable) throws IOException {
 
+        FieldSplitter splitter = new FieldSplitter(getColumnSeparator());
+        List<String> substrings = RecordHelper.readFirstRecord(aScanner, splitter);
 
         parseLine(aTable, substrings);
     }
@@ -283,8 +294,8 @@ public class CsvDocumentReaderImpl2 extends CsvDocumentReaderBase {
     /**
      * The remaining content of a CSV file is parsed and the specified table is updated accordingly.
      *
-     * @param aReader
-     *        a handle on the actual file
+     * @param aScanner
+     *        a line scanner on the actual file
      * @param aTable
      *        a modifiable table
      *
@@ -292,65 +303,24 @@ public class CsvDocumentReaderImpl2 extends CsvDocumentReaderBase {
      *         is thrown if an error occurrs while trying to read from the CSV file
      */
     @Override
-    protected void parseRemainingContent(BufferedReader aReader,
+    protected void parseRemainingContent(LineScanner aScanner,
                                          @Modified ModifiableTable<String> aTable) throws IOException {
 
         int currentRow = aTable.rows();
         int expectedColumns = aTable.columns();
 
-        StringBuilder buffer = new StringBuilder();
-        List<String> substrings = null;
-        boolean endOfFile = false;
+        FieldSplitter splitter = new FieldSplitter(getColumnSeparator());
 
         while (true) {
 
             // Assemble a table row, which may span several lines.
 
-            ReadBuffer result = TextFileHelper.readLine(aReader, getRowSeparator());
-
-            if (result.isEndOfFile() && result.isEmpty()) {
-
-                endOfFile = true;
+            List<String> substrings = RecordHelper.readNextRecord(aScanner, splitter, expectedColumns);
 
-                if (buffer.length() == 0) {
-
-                    // If we processed the last table row then we can leave.
-                    break;
-                }
-            }
+            if (substrings == null) {
 
-            String line = result.getLine();
-            buffer.append(line);
-
-            try {
-
-                substrings = TextHelper.splitLine(buffer.toString(), getColumnSeparator());
-
-                if (substrings.size() < expectedColumns) {
-
-                    if (!endOfFile) {
-
-                        continue;
-                    }
-                }
-
-                // The current table row is stored in the variable substrings.
-                buffer = new StringBuilder(); // Thus we can clear the buffer.
-
-            } catch (QuoteNotClosedException e) {
-
-                // This exception indicates that the processed line is not complete because the
-                // content of a table cell is quoted but the quote closing character is not
-                // reached yet. This exception should not be preserved. It is assumed that the
-                // table row is spread over several text lines.
-                // If there is an issue with the table structure (i.e. number of identified
-                // columns) then an exception will be thrown.
-                if (endOfFile) {
-
-                    throw e;
-                }
-
-                continue;
+                // If we processed the last table row then we can leave.
+                break;
             }
 
 
@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.csv.reader;
+
+
+import java.util.List;
+
+
+/**
+ * This interface describes an entity that processes the content of a CSV file
+ * in batches of rows. The batches are passed in the order of the rows within
+ * the file.
+ *
+ * @author Kristian Kutin
+ */
+public interface CsvRowHandler {
+
+    /**
+     * Handles the column names. This method is called once before any row is
+     * passed.
+     *
+     * @param someColumnNames
+     *        the column names or an empty list if the CSV file has no header
+     *        line
+     */
+    void handleColumnNames(List<String> someColumnNames);
+
+    /**
+     * Handles a batch of rows. Empty cells are normalized (see
+     * {@link jmul.document.csv.CsvHelper#normalizeValue}).
+     *
+     * @param aFirstRowIndex
+     *        the index of the first row of this batch
+     * @param someRows
+     *        a batch of rows
+     */
+    void handleRows(int aFirstRowIndex, List<List<String>> someRows);
+
+}
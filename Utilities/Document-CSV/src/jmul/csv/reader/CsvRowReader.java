@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.csv.reader;
+
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import java.util.List;
+
+import jmul.document.csv.structure.HeaderType;
+import jmul.document.csv.structure.StructureType;
+
+
+/**
+ * This interface describes an entity that reads a CSV file row by row. Only
+ * the current row is kept in memory.
+ *
+ * @author Kristian Kutin
+ */
+public interface CsvRowReader extends Closeable {
+
+    /**
+     * Returns the header type.
+     *
+     * @return a header type
+     */
+    HeaderType getHeaderType();
+
+    /**
+     * Returns the structure type.
+     *
+     * @return a structure type
+     */
+    StructureType getStructureType();
+
+    /**
+     * Returns the column names.
+     *
+     * @return the column names or an empty list if the CSV file has no header
+     *         line
+     */
+    List<String> getColumnNames();
+
+    /**
+     * Reads the next row. Empty cells are normalized (see
+     * {@link jmul.document.csv.CsvHelper#normalizeValue}).
+     *
+     * @return the cells of the next row or <code>null</code> if there are no
+     *         more rows
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while trying to read from the file
+     */
+    List<String> readRow() throws IOException;
+
+    /**
+     * Returns the index of the row which was read last.
+     *
+     * @return a row index or <code>-1</code> if no row has been read yet
+     */
+    int getRowIndex();
+
+}
@@ -0,0 +1,284 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.csv.reader;
+
+
+import java.io.IOException;
+import java.io.Reader;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.ListIterator;
+
+import jmul.checks.ParameterCheckHelper;
+
+import static jmul.document.csv.CsvHelper.normalizeValue;
+import jmul.document.csv.structure.HeaderType;
+import static jmul.document.csv.structure.HeaderType.FIRST_LINE_IS_HEADER;
+import static jmul.document.csv.structure.HeaderType.NO_HEADER;
+import jmul.document.csv.structure.StructureType;
+import static jmul.document.csv.structure.StructureType.FLEXIBLE;
+import static jmul.document.csv.structure.StructureType.RIGID;
+
+import jmul.io.text.LineScanner;
+
+import jmul.metainfo.annotations.Modified;
+
+import jmul.string.FieldSplitter;
+
+
+/**
+ * An implementation of a CSV row reader. The rows are read with the same
+ * semantics as {@link CsvDocumentReaderImpl2}, i.e. quoted cells may contain
+ * line separators, which are removed.
+ *
+ * @author Kristian Kutin
+ */
+public class CsvRowReaderImpl implements CsvRowReader {
+
+    /**
+     * The underlying line scanner.
+     */
+    private final LineScanner scanner;
+
+    /**
+     * The header type which is expected.
+     */
+    private final HeaderType headerType;
+
+    /**
+     * The structure type which is expected.
+     */
+    private final StructureType structureType;
+
+    /**
+     * A field splitter for the expected column separator.
+     */
+    private final FieldSplitter splitter;
+
+    /**
+     * The column names.
+     */
+    private final List<String> columnNames;
+
+    /**
+     * The number of columns of the first line.
+     */
+    private final int expectedColumns;
+
+    /**
+     * The first row if the first line doesn't contain a header.
+     */
+    private List<String> firstRow;
+
+    /**
+     * The index of the row which was read last.
+     */
+    private int rowIndex;
+
+    /**
+     * Creates a new row reader according to the specified parameters. The first
+     * line is read immediately.
+     *
+     * @param aReader
+     *        a character stream
+     * @param aHeaderType
+     *        the expected header type
+     * @param aStructureType
+     *        the expected structure type
+     * @param aColumnSeparator
+     *        the expected column separator
+     * @param aRowSeparator
+     *        the expected row separator
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while trying to read from the file
+     */
+    public CsvRowReaderImpl(Reader aReader, HeaderType aHeaderType, StructureType aStructureType,
+                            String aColumnSeparator, String aRowSeparator) throws IOException {
+
+        super();
+
+        headerType = (HeaderType) ParameterCheckHelper.checkObjectParameter(aHeaderType);
+        structureType = (StructureType) ParameterCheckHelper.checkObjectParameter(aStructureType);
+        splitter = new FieldSplitter(aColumnSeparator);
+        scanner = new LineScanner(aReader, aRowSeparator);
+
+        List<String> firstRecord = RecordHelper.readFirstRecord(scanner, splitter);
+        expectedColumns = firstRecord.size();
+        rowIndex = -1;
+
+        if (headerType == FIRST_LINE_IS_HEADER) {
+
+            columnNames = Collections.unmodifiableList(firstRecord);
+            firstRow = null;
+
+        } else if (headerType == NO_HEADER) {
+
+            columnNames = Collections.emptyList();
+            firstRow = normalizeRow(firstRecord);
+
+        } else {
+
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Returns the header type.
+     *
+     * @return a header type
+     */
+    @Override
+    public HeaderType getHeaderType() {
+
+        return headerType;
+    }
+
+    /**
+     * Returns the structure type.
+     *
+     * @return a structure type
+     */
+    @Override
+    public StructureType getStructureType() {
+
+        return structureType;
+    }
+
+    /**
+     * Returns the column names.
+     *
+     * @return the column names or an empty list if the CSV file has no header
+     *         line
+     */
+    @Override
+    public List<String> getColumnNames() {
+
+        return columnNames;
+    }
+
+    /**
+     * Reads the next row. Empty cells are normalized (see
+     * {@link jmul.document.csv.CsvHelper#normalizeValue}).
+     *
+     * @return the cells of the next row or <code>null</code> if there are no
+     *         more rows
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while trying to read from the file
+     */
+    @Override
+    public List<String> readRow() throws IOException {
+
+        if (firstRow != null) {
+
+            List<String> row = firstRow;
+            firstRow = null;
+            rowIndex++;
+
+            return row;
+        }
+
+        List<String> record = RecordHelper.readNextRecord(scanner, splitter, expectedColumns);
+        if (record == null) {
+
+            return null;
+        }
+
+        int nextRowIndex = rowIndex + 1;
+        int actualColumns = record.size();
+
+        if (structureType == RIGID) {
+
+            if (actualColumns != expectedColumns) {
+
+                String message =
+                    "The table structure is invalid (current row=" + nextRowIndex + "; expected columns=" +
+                    expectedColumns + "; actual columns=" + actualColumns + ")!";
+                throw new CsvStructureException(message);
+            }
+
+        } else if (structureType != FLEXIBLE) {
+
+            throw new UnsupportedOperationException();
+        }
+
+        rowIndex = nextRowIndex;
+
+        return normalizeRow(record);
+    }
+
+    /**
+     * Returns the index of the row which was read last.
+     *
+     * @return a row index or <code>-1</code> if no row has been read yet
+     */
+    @Override
+    public int getRowIndex() {
+
+        return rowIndex;
+    }
+
+    /**
+     * Closes the underlying character stream.
+     *
+     * @throws IOException
+     *         is thrown if an error occurs while closing the character stream
+     */
+    @Override
+    public void close() throws IOException {
+
+        scanner.close();
+    }
+
+    /**
+     * Normalizes all cells of the specified record.
+     *
+     * @param aRecord
+     *        a record
+     *
+     * @return the specified record
+     */
+    private static List<String> normalizeRow(@Modified List<String> aRecord) {
+
+        for (ListIterator<String> iterator = aRecord.listIterator(); iterator.hasNext(); ) {
+
+            iterator.set(normalizeValue(iterator.next()));
+        }
+
+        return aRecord;
+    }
+
+}
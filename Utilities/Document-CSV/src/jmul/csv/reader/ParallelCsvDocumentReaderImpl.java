@@ -0,0 +1,635 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.csv.reader;
+
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import jmul.checks.ParameterCheckHelper;
+
+import jmul.document.csv.CsvDocument;
+import jmul.document.csv.CsvDocumentImpl;
+import jmul.document.csv.structure.HeaderType;
+import static jmul.document.csv.structure.HeaderType.FIRST_LINE_IS_HEADER;
+import static jmul.document.csv.structure.HeaderType.NO_HEADER;
+import jmul.document.csv.structure.StructureType;
+import static jmul.document.csv.structure.StructureType.RIGID;
+import jmul.document.type.DocumentType;
+import jmul.document.type.DocumentTypes;
+
+import jmul.io.text.LineScanner;
+
+import jmul.misc.table.ColumnType;
+import jmul.misc.table.ColumnarTable;
+import jmul.misc.table.ColumnarTableBuilder;
+
+import jmul.string.FieldSplitter;
+
+
+/**
+ * An implementation for a CSV document reader which parses large files on
+ * several cores. The file is split into chunks at row separators which are
+ * not part of a quoted section. The chunks are parsed on a fork/join pool and
+ * the rows are passed on in the order of the file.<br>
+ * <br>
+ * The result is the same as with {@link CsvDocumentReaderImpl2}. A row with
+ * fewer columns than the first row is continued on the next line, which may
+ * belong to the next chunk. In that case the affected chunks are parsed again
+ * together.<br>
+ * <br>
+ * Files which are smaller than a chunk are read sequentially. This also
+ * applies to files whose charset or separators don't allow splitting the file
+ * on byte level (e.g. UTF-16, see {@link ChunkHelper#isSupported}).
+ *
+ * @author Kristian Kutin
+ */
+public class ParallelCsvDocumentReaderImpl extends CsvDocumentReaderImpl2 {
+
+    /**
+     * The default chunk size in bytes.
+     */
+    public static final int DEFAULT_CHUNK_SIZE;
+
+    /**
+     * The number of rows which are passed on at once when a file is read
+     * sequentially.
+     */
+    private static final int BATCH_SIZE;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+        BATCH_SIZE = 10000;
+    }
+
+    /**
+     * The fork/join pool on which the chunks are parsed.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The chunk size in bytes.
+     */
+    private final int chunkSize;
+
+    /**
+     * The default constructor.
+     */
+    public ParallelCsvDocumentReaderImpl() {
+
+        this(DEFAULT_CHARSET, DEFAULT_HEADER_TYPE, DEFAULT_STRUCTURE_TYPE, DEFAULT_COLUMN_SEPARATOR,
+             DEFAULT_ROW_SEPARATOR);
+    }
+
+    /**
+     * Creates a new document reader according to the specified parameters.
+     *
+     * @param aCharset
+     *        the assumed charset
+     */
+    public ParallelCsvDocumentReaderImpl(Charset aCharset) {
+
+        this(aCharset, DEFAULT_HEADER_TYPE, DEFAULT_STRUCTURE_TYPE, DEFAULT_COLUMN_SEPARATOR, DEFAULT_ROW_SEPARATOR);
+    }
+
+    /**
+     * Creates a new document reader according to the specified parameters.
+     *
+     * @param aCharset
+     *        the assumed charset
+     * @param aHeaderType
+     *        the assumed header type
+     * @param aStructureType
+     *        the assumed structure type
+     * @param aColumnSeparator
+     *        the assumed column separator
+     * @param aRowSeparator
+     *        the assumed row separator
+     */
+    public ParallelCsvDocumentReaderImpl(Charset aCharset, HeaderType aHeaderType, StructureType aStructureType,
+                                         String aColumnSeparator, String aRowSeparator) {
+
+        this(aCharset, aHeaderType, aStructureType, aColumnSeparator, aRowSeparator, ForkJoinPool.commonPool(),
+             DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a new document reader according to the specified parameters.
+     *
+     * @param aCharset
+     *        the assumed charset
+     * @param aHeaderType
+     *        the assumed header type
+     * @param aStructureType
+     *        the assumed structure type
+     * @param aColumnSeparator
+     *        the assumed column separator
+     * @param aRowSeparator
+     *        the assumed row separator
+     * @param aPool
+     *        the fork/join pool on which the chunks are parsed
+     * @param aChunkSize
+     *        the chunk size in bytes
+     */
+    public ParallelCsvDocumentReaderImpl(Charset aCharset, HeaderType aHeaderType, StructureType aStructureType,
+                                         String aColumnSeparator, String aRowSeparator, ForkJoinPool aPool,
+                                         int aChunkSize) {
+
+        super(aCharset, aHeaderType, aStructureType, aColumnSeparator, aRowSeparator);
+
+        pool = (ForkJoinPool) ParameterCheckHelper.checkObjectParameter(aPool);
+
+        if (aChunkSize < 1) {
+
+            String message = "The chunk size must be greater than zero (" + aChunkSize + ")!";
+            throw new IllegalArgumentException(message);
+        }
+
+        chunkSize = aChunkSize;
+    }
+
+    /**
+     * Reads from the specified file and returns a document that
+     * contains the file content.
+     *
+     * @param aFile
+     *        the input file
+     *
+     * @return a document object
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while trying to read from the file
+     */
+    @Override
+    public CsvDocument readFrom(File aFile) throws IOException {
+
+        TableBuilder builder = new TableBuilder(getHeaderType());
+        readFrom(aFile, builder);
+
+        DocumentType documentType = DocumentTypes.getDocumentType(aFile.getName());
+        return new CsvDocumentImpl(documentType, getCharset(), getHeaderType(), getStructureType(),
+                                   getColumnSeparator(), getRowSeparator(), builder.getTable());
+    }
+
+    /**
+     * Reads from the specified file and returns the content as columnar table.
+     *
+     * @param aFilename
+     *        the name of the input file
+     * @param inferTypes
+     *        if <code>true</code> the column types are inferred from the
+     *        content, else all columns are string columns
+     *
+     * @return a table
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while trying to read from the file
+     */
+    public ColumnarTable readColumnarTable(String aFilename, boolean inferTypes) throws IOException {
+
+        return readColumnarTable(new File(aFilename), inferTypes);
+    }
+
+    /**
+     * Reads from the specified file and returns the content as columnar table.
+     * The rows are passed directly to the table builder, i.e. no intermediate
+     * table of strings is created.
+     *
+     * @param aFile
+     *        the input file
+     * @param inferTypes
+     *        if <code>true</code> the column types are inferred from the
+     *        content, else all columns are string columns
+     *
+     * @return a table
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while trying to read from the file
+     */
+    public ColumnarTable readColumnarTable(File aFile, boolean inferTypes) throws IOException {
+
+        ColumnarTableHandler handler = new ColumnarTableHandler();
+        readFrom(aFile, handler);
+
+        ColumnarTableBuilder builder = handler.getBuilder();
+
+        if (inferTypes) {
+
+            return builder.build();
+        }
+
+        ColumnType[] types = new ColumnType[builder.columns()];
+        Arrays.fill(types, ColumnType.STRING);
+
+        return builder.build(types);
+    }
+
+    /**
+     * Reads from the specified file and passes the rows in batches to the
+     * specified handler.
+     *
+     * @param aFilename
+     *        the name of the input file
+     * @param aHandler
+     *        a row handler
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while trying to read from the file
+     */
+    public void readFrom(String aFilename, CsvRowHandler aHandler) throws IOException {
+
+        readFrom(new File(aFilename), aHandler);
+    }
+
+    /**
+     * Reads from the specified file and passes the rows in batches to the
+     * specified handler. The handler is called by the calling thread.
+     *
+     * @param aFile
+     *        the input file
+     * @param aHandler
+     *        a row handler
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while trying to read from the file
+     */
+    public void readFrom(File aFile, CsvRowHandler aHandler) throws IOException {
+
+        ParameterCheckHelper.checkObjectParameter(aHandler);
+
+        boolean supported = ChunkHelper.isSupported(getCharset(), getColumnSeparator(), getRowSeparator());
+
+        if (!supported || (aFile.length() <= chunkSize)) {
+
+            readSequentially(aFile, aHandler);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(aFile.toPath(), StandardOpenOption.READ)) {
+
+            readInParallel(channel, aHandler);
+        }
+    }
+
+    /**
+     * Reads from the specified file row by row.
+     *
+     * @param aFile
+     *        the input file
+     * @param aHandler
+     *        a row handler
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while trying to read from the file
+     */
+    private void readSequentially(File aFile, CsvRowHandler aHandler) throws IOException {
+
+        try (CsvRowReader reader = openRowReader(aFile)) {
+
+            aHandler.handleColumnNames(reader.getColumnNames());
+
+            List<List<String>> batch = new ArrayList<>();
+            int firstRowIndex = 0;
+
+            while (true) {
+
+                List<String> row = reader.readRow();
+                if (row == null) {
+
+                    break;
+                }
+
+                batch.add(row);
+
+                if (batch.size() == BATCH_SIZE) {
+
+                    aHandler.handleRows(firstRowIndex, batch);
+                    firstRowIndex += batch.size();
+                    batch = new ArrayList<>();
+                }
+            }
+
+            if (!batch.isEmpty()) {
+
+                aHandler.handleRows(firstRowIndex, batch);
+            }
+        }
+    }
+
+    /**
+     * Reads from the specified file in chunks which are parsed in parallel.
+     *
+     * @param aChannel
+     *        the input file
+     * @param aHandler
+     *        a row handler
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while trying to read from the file
+     */
+    private void readInParallel(FileChannel aChannel, CsvRowHandler aHandler) throws IOException {
+
+        Charset charset = getCharset();
+        byte[] rowSeparator = getRowSeparator().getBytes(charset);
+
+
+        // The first row may span several lines but ends with the first row separator
+        // outside of a quoted section.
+
+        long dataStart = ChunkHelper.findBoundary(aChannel, 0L, ChunkHelper.NO_QUOTE, rowSeparator);
+
+        LineScanner scanner = ChunkHelper.newScanner(aChannel, 0L, dataStart, charset, getRowSeparator());
+        List<String> firstRecord = RecordHelper.readFirstRecord(scanner, new FieldSplitter(getColumnSeparator()));
+        int expectedColumns = firstRecord.size();
+        int rowIndex;
+
+        if (getHeaderType() == FIRST_LINE_IS_HEADER) {
+
+            aHandler.handleColumnNames(Collections.unmodifiableList(firstRecord));
+            rowIndex = 0;
+
+        } else if (getHeaderType() == NO_HEADER) {
+
+            aHandler.handleColumnNames(Collections.<String>emptyList());
+
+            List<List<String>> rows = new ArrayList<>();
+            rows.add(ChunkHelper.normalizeRow(firstRecord));
+            aHandler.handleRows(0, rows);
+            rowIndex = 1;
+
+        } else {
+
+            throw new UnsupportedOperationException();
+        }
+
+
+        long[] boundaries = determineBoundaries(aChannel, dataStart, rowSeparator);
+        int chunks = boundaries.length - 1;
+
+
+        // Parse the chunks in parallel and pass on the rows in order. Only a limited
+        // number of chunks is parsed in advance.
+
+        int window = 2 * pool.getParallelism();
+        List<ForkJoinTask<ChunkResult>> tasks = new ArrayList<>();
+        tasks.addAll(Collections.<ForkJoinTask<ChunkResult>>nCopies(chunks, null));
+        int submitted = 0;
+
+        try {
+
+            int chunk = 0;
+            while (chunk < chunks) {
+
+                submitted = Math.max(submitted, chunk);
+                while ((submitted < chunks) && (submitted < chunk + window)) {
+
+                    ParseTask task =
+                        new ParseTask(aChannel, boundaries[submitted], boundaries[submitted + 1], charset,
+                                      getColumnSeparator(), getRowSeparator(), expectedColumns);
+                    tasks.set(submitted, pool.submit(task));
+                    submitted++;
+                }
+
+                ChunkResult result = join(tasks.get(chunk));
+                tasks.set(chunk, null);
+
+                int end = chunk + 1;
+                while (result.incomplete && (end < chunks)) {
+
+                    // The last row continues in the next chunk.
+                    cancel(tasks.set(end, null));
+                    end++;
+
+                    result =
+                        ChunkHelper.parseChunk(aChannel, boundaries[chunk], boundaries[end], charset,
+                                               getColumnSeparator(), getRowSeparator(), expectedColumns);
+                }
+
+                rowIndex = handleRows(aHandler, rowIndex, expectedColumns, result.rows);
+
+                if (result.error != null) {
+
+                    throw result.error;
+                }
+
+                chunk = end;
+            }
+
+        } finally {
+
+            for (ForkJoinTask<ChunkResult> task : tasks) {
+
+                cancel(task);
+            }
+        }
+    }
+
+    /**
+     * Splits the content after the first row into chunks. Every chunk starts
+     * after a row separator which is not part of a quoted section.
+     *
+     * @param aChannel
+     *        the input file
+     * @param aDataStart
+     *        the offset after the first row
+     * @param aRowSeparator
+     *        the encoded row separator
+     *
+     * @return the chunk boundaries (i.e. the start offset of every chunk and
+     *         the file size)
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while trying to read from the file
+     */
+    private long[] determineBoundaries(FileChannel aChannel, long aDataStart,
+                                       byte[] aRowSeparator) throws IOException {
+
+        long size = aChannel.size();
+        int chunks = (int) Math.max(1L, (size - aDataStart + chunkSize - 1) / chunkSize);
+
+        long[] starts = new long[chunks + 1];
+        for (int a = 0; a < chunks; a++) {
+
+            starts[a] = aDataStart + (long) a * chunkSize;
+        }
+        starts[chunks] = size;
+
+
+        // Determine the quote state transitions of all chunks in parallel.
+
+        List<ForkJoinTask<int[]>> scans = new ArrayList<>();
+        for (int a = 0; a < chunks - 1; a++) {
+
+            scans.add(pool.submit(new QuoteScanTask(aChannel, starts[a], starts[a + 1])));
+        }
+
+        int[] states = new int[chunks];
+        states[0] = ChunkHelper.NO_QUOTE;
+        for (int a = 1; a < chunks; a++) {
+
+            states[a] = join(scans.get(a - 1))[states[a - 1]];
+        }
+
+
+        // Look for the first row separator outside of a quoted section within every chunk.
+
+        List<ForkJoinTask<Long>> searches = new ArrayList<>();
+        for (int a = 1; a < chunks; a++) {
+
+            searches.add(pool.submit(new BoundaryTask(aChannel, starts[a], states[a], aRowSeparator)));
+        }
+
+        List<Long> boundaries = new ArrayList<>();
+        boundaries.add(aDataStart);
+
+        for (ForkJoinTask<Long> search : searches) {
+
+            long boundary = join(search);
+            long previousBoundary = boundaries.get(boundaries.size() - 1);
+
+            // A quoted section may span several chunks.
+            if ((boundary > previousBoundary) && (boundary < size)) {
+
+                boundaries.add(boundary);
+            }
+        }
+
+        boundaries.add(Math.max(size, aDataStart));
+
+        long[] result = new long[boundaries.size()];
+        for (int a = 0; a < result.length; a++) {
+
+            result[a] = boundaries.get(a);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks the specified rows and passes them to the specified handler.
+     *
+     * @param aHandler
+     *        a row handler
+     * @param aFirstRowIndex
+     *        the index of the first row
+     * @param anExpectedColumnCount
+     *        the number of columns of the first row
+     * @param someRows
+     *        the rows
+     *
+     * @return the index of the next row
+     */
+    private int handleRows(CsvRowHandler aHandler, int aFirstRowIndex, int anExpectedColumnCount,
+                           List<List<String>> someRows) {
+
+        if (someRows.isEmpty()) {
+
+            return aFirstRowIndex;
+        }
+
+        if (getStructureType() == RIGID) {
+
+            for (int a = 0; a < someRows.size(); a++) {
+
+                int actualColumns = someRows.get(a).size();
+
+                if (actualColumns != anExpectedColumnCount) {
+
+                    String message =
+                        "The table structure is invalid (current row=" + (aFirstRowIndex + a) +
+                        "; expected columns=" + anExpectedColumnCount + "; actual columns=" + actualColumns + ")!";
+                    throw new CsvStructureException(message);
+                }
+            }
+        }
+
+        aHandler.handleRows(aFirstRowIndex, someRows);
+
+        return aFirstRowIndex + someRows.size();
+    }
+
+    /**
+     * Waits for the specified task and returns its result.
+     *
+     * @param aTask
+     *        a task
+     *
+     * @return the result of the task
+     *
+     * @throws IOException
+     *         is thrown if an error occurred while the task read from the file
+     */
+    private static <T> T join(ForkJoinTask<T> aTask) throws IOException {
+
+        try {
+
+            return aTask.join();
+
+        } catch (UncheckedIOException e) {
+
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Cancels the specified task if it exists.
+     *
+     * @param aTask
+     *        a task or <code>null</code>
+     */
+    private static void cancel(ForkJoinTask<?> aTask) {
+
+        if (aTask != null) {
+
+            aTask.cancel(false);
+        }
+    }
+
+}
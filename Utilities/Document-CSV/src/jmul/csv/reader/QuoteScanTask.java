@@ -0,0 +1,110 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.csv.reader;
+
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import java.nio.channels.FileChannel;
+
+import java.util.concurrent.RecursiveTask;
+
+
+/**
+ * A task which determines the quote state transitions of a chunk.
+ *
+ * @author Kristian Kutin
+ */
+class QuoteScanTask extends RecursiveTask<int[]> {
+
+    /**
+     * The serial UID as required by java's serialization mechanism.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The input file.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The start offset of the chunk.
+     */
+    private final long start;
+
+    /**
+     * The end offset of the chunk (exclusive).
+     */
+    private final long end;
+
+    /**
+     * Creates a new task according to the specified parameters.
+     *
+     * @param aChannel
+     *        the input file
+     * @param aStart
+     *        the start offset of the chunk
+     * @param anEnd
+     *        the end offset of the chunk (exclusive)
+     */
+    QuoteScanTask(FileChannel aChannel, long aStart, long anEnd) {
+
+        super();
+
+        channel = aChannel;
+        start = aStart;
+        end = anEnd;
+    }
+
+    /**
+     * Determines the quote state transitions.
+     *
+     * @return the quote states at the end of the chunk (indexed by the quote
+     *         state at the start of the chunk)
+     */
+    @Override
+    protected int[] compute() {
+
+        try {
+
+            return ChunkHelper.scanQuotes(channel, start, end);
+
+        } catch (IOException e) {
+
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,174 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.csv.reader;
+
+
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jmul.io.text.LineScanner;
+import jmul.io.text.ReadBuffer;
+
+import jmul.metainfo.annotations.Modified;
+
+import jmul.string.FieldSplitter;
+
+
+/**
+ * A utility class for assembling CSV records (i.e. table rows) from text lines.
+ * A record may span several text lines if a quoted cell contains line separators.
+ * Line separators within cells are removed.
+ *
+ * @author Kristian Kutin
+ */
+final class RecordHelper {
+
+    /**
+     * The default constructor.
+     */
+    private RecordHelper() {
+
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Reads the first record.
+     *
+     * @param aScanner
+     *        a line scanner
+     * @param aSplitter
+     *        a field splitter for the column separator
+     *
+     * @return the cells of the first record (the list is empty if the input is
+     *         empty)
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while trying to read from the CSV file
+     */
+    static List<String> readFirstRecord(LineScanner aScanner, @Modified FieldSplitter aSplitter) throws IOException {
+
+        aSplitter.reset();
+
+        while (true) {
+
+            ReadBuffer result = aScanner.readLine();
+
+            if (isEndOfInput(result)) {
+
+                aSplitter.reset();
+                return new ArrayList<>();
+            }
+
+            aSplitter.append(result.getLine());
+
+            // If a quoted section is still open then the table row is assumed to be
+            // spread over several text lines.
+            if (!aSplitter.isQuoteOpen()) {
+
+                return aSplitter.finish(new ArrayList<String>());
+            }
+        }
+    }
+
+    /**
+     * Reads the next record. A record with fewer cells than expected is
+     * continued on the next text line.
+     *
+     * @param aScanner
+     *        a line scanner
+     * @param aSplitter
+     *        a field splitter for the column separator
+     * @param anExpectedColumnCount
+     *        the expected number of cells
+     *
+     * @return the cells of the next record or <code>null</code> if the end of
+     *         the input has been reached
+     *
+     * @throws IOException
+     *         is thrown if an error occurrs while trying to read from the CSV file
+     */
+    static List<String> readNextRecord(LineScanner aScanner, @Modified FieldSplitter aSplitter,
+                                       int anExpectedColumnCount) throws IOException {
+
+        aSplitter.reset();
+
+        while (true) {
+
+            ReadBuffer result = aScanner.readLine();
+            boolean endOfInput = isEndOfInput(result);
+
+            if (endOfInput) {
+
+                if (aSplitter.isEmpty()) {
+
+                    // If we processed the last table row then we can leave.
+                    return null;
+                }
+
+                // If a quoted section is still open then it will never be closed and
+                // an exception is thrown.
+                return aSplitter.finish(new ArrayList<String>());
+            }
+
+            aSplitter.append(result.getLine());
+
+            // If a quoted section is still open then the table row is assumed to be
+            // spread over several text lines.
+            if (aSplitter.isQuoteOpen() || (aSplitter.fieldCount() < anExpectedColumnCount)) {
+
+                continue;
+            }
+
+            return aSplitter.finish(new ArrayList<String>());
+        }
+    }
+
+    /**
+     * Checks if the specified read result indicates that there is no more
+     * content.
+     *
+     * @param aResult
+     *        the result of a read operation
+     *
+     * @return <code>true</code> if there is no more content, else
+     *         <code>false</code>
+     */
+    static boolean isEndOfInput(ReadBuffer aResult) {
+
+        return (aResult == null) || (aResult.isEndOfFile() && aResult.isEmpty());
+    }
+
+}
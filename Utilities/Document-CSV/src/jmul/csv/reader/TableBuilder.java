@@ -0,0 +1,137 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.csv.reader;
+
+
+import java.util.List;
+
+import jmul.document.csv.structure.HeaderType;
+import static jmul.document.csv.structure.HeaderType.FIRST_LINE_IS_HEADER;
+
+import jmul.misc.table.ModifiableTable;
+import jmul.misc.table.ModifiableTableImpl;
+
+
+/**
+ * A row handler which fills a table.
+ *
+ * @author Kristian Kutin
+ */
+class TableBuilder implements CsvRowHandler {
+
+    /**
+     * The table.
+     */
+    private final ModifiableTable<String> table;
+
+    /**
+     * The header type.
+     */
+    private final HeaderType headerType;
+
+    /**
+     * Creates a new table builder according to the specified parameters.
+     *
+     * @param aHeaderType
+     *        the header type
+     */
+    TableBuilder(HeaderType aHeaderType) {
+
+        super();
+
+        table = new ModifiableTableImpl<>();
+        headerType = aHeaderType;
+    }
+
+    /**
+     * Handles the column names.
+     *
+     * @param someColumnNames
+     *        the column names
+     */
+    @Override
+    public void handleColumnNames(List<String> someColumnNames) {
+
+        if (headerType != FIRST_LINE_IS_HEADER) {
+
+            return;
+        }
+
+        int columns = someColumnNames.size();
+        CsvDocumentReaderBase.resizeTable(table, columns, 0);
+
+        for (int a = 0; a < columns; a++) {
+
+            table.setColumnName(a, someColumnNames.get(a));
+        }
+    }
+
+    /**
+     * Handles a batch of rows.
+     *
+     * @param aFirstRowIndex
+     *        the index of the first row of this batch
+     * @param someRows
+     *        a batch of rows
+     */
+    @Override
+    public void handleRows(int aFirstRowIndex, List<List<String>> someRows) {
+
+        int rowIndex = aFirstRowIndex;
+
+        for (List<String> row : someRows) {
+
+            int columns = row.size();
+            CsvDocumentReaderBase.resizeTable(table, columns, rowIndex + 1);
+
+            for (int a = 0; a < columns; a++) {
+
+                table.updateCell(a, rowIndex, row.get(a));
+            }
+
+            rowIndex++;
+        }
+    }
+
+    /**
+     * Returns the table.
+     *
+     * @return a table
+     */
+    ModifiableTable<String> getTable() {
+
+        return table;
+    }
+
+}
@@ -48,7 +48,8 @@ import jmul.document.text.TextDocumentImpl;
 import jmul.document.type.DocumentType;
 import jmul.document.type.DocumentTypes;
 
-import static jmul.io.Constants.END_OF_FILE;
+import jmul.io.text.LineScanner;
+import jmul.io.text.ReadBuffer;
 
 import jmul.misc.text.ModifiableText;
 import jmul.misc.text.ModifiableTextImpl;
@@ -154,33 +155,17 @@ public class TextDocumentReaderImpl implements TextDocumentReader {
         ParameterCheckHelper.checkFileParameter(aFile);
 
         ModifiableText content = new ModifiableTextImpl();
-        StringBuilder buffer = new StringBuilder();
 
-        try (InputStreamReader isr = new InputStreamReader(new FileInputStream(aFile), charset)) {
+        try (LineScanner scanner =
+             new LineScanner(new InputStreamReader(new FileInputStream(aFile), charset), lineSeparator)) {
 
-            while (true) {
+            ReadBuffer result;
+            do {
 
-                int result = END_OF_FILE;
-                result = isr.read();
+                result = scanner.readLine();
+                content.addLine(result.getLine());
 
-                if (result == END_OF_FILE) {
-
-                    content.addLine(buffer.toString());
-                    break;
-                }
-
-                char b = (char) result;
-
-                buffer.append(b);
-                String line = buffer.toString();
-
-                if (line.endsWith(lineSeparator)) {
-
-                    line = line.replace(lineSeparator, "");
-                    content.addLine(line);
-                    buffer = new StringBuilder();
-                }
-            }
+            } while (!result.isEndOfFile());
         }
 
         DocumentType documentType = DocumentTypes.getDocumentType(aFile.getAbsolutePath());
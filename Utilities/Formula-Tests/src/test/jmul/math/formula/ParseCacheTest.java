@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.math.formula;
+
+
+import jmul.math.formula.Formula;
+import jmul.math.formula.parser.FormulaParser;
+import jmul.math.formula.parser.FormulaParserImpl;
+
+import jmul.test.classification.ModuleTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import org.junit.Test;
+
+
+/**
+ * A set of tests for parsing the same formula string repeatedly.
+ *
+ * @author Kristian Kutin
+ */
+@ModuleTest
+public class ParseCacheTest extends FormulaTestBase {
+
+    /**
+     * Tests if formulas which were parsed from the same string don't share
+     * their variables.
+     */
+    @Test
+    public void testIndependentFormulas() {
+
+        Formula formula1 = getFormulaParser().parseString("a * 2 + b");
+        Formula formula2 = getFormulaParser().parseString("a * 2 + b");
+
+        assertNotSame(formula1, formula2);
+
+        formula1.setVariable("a", 1);
+        formula1.setVariable("b", 2);
+        formula2.setVariable("a", 10);
+        formula2.setVariable("b", 20);
+
+        assertEquals(4, formula1.calculate());
+        assertEquals(40, formula2.calculate());
+    }
+
+    /**
+     * Tests parsing many different formula strings with a small cache.
+     */
+    @Test
+    public void testEviction() {
+
+        FormulaParser parser = new FormulaParserImpl(4);
+
+        for (int a = 0; a < 3; a++) {
+
+            for (int b = 1; b <= 10; b++) {
+
+                Formula formula = parser.parseString("x * " + b);
+                formula.setVariable("x", a);
+
+                assertEquals(a * b, formula.calculate());
+            }
+        }
+    }
+
+    /**
+     * Tests parsing without a cache.
+     */
+    @Test
+    public void testDisabledCache() {
+
+        FormulaParser parser = new FormulaParserImpl(0);
+
+        assertEquals(7, parser.parseString("3 + 4").calculate());
+        assertEquals(7, parser.parseString("3 + 4").calculate());
+    }
+
+    /**
+     * Tests creating a parser with an invalid cache size.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCacheSize() {
+
+        new FormulaParserImpl(-1);
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.math.formula;
+
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jmul.math.formula.Formula;
+import jmul.math.formula.FormulaException;
+
+import jmul.test.classification.ModuleTest;
+
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+
+/**
+ * A set of tests for assigning variables of compiled formulas.
+ *
+ * @author Kristian Kutin
+ */
+@ModuleTest
+public class VariableIndexTest extends FormulaTestBase {
+
+    /**
+     * Tests assigning variables by index.
+     */
+    @Test
+    public void testSetVariableByIndex() {
+
+        Formula formula = getFormulaParser().parseString("(a + b) * a - b % 3");
+
+        int a = formula.getVariableIndex("a");
+        int b = formula.getVariableIndex("b");
+
+        for (int x = -20; x <= 20; x++) {
+
+            for (int y = 1; y <= 20; y++) {
+
+                formula.setVariable(a, x);
+                formula.setVariable(b, y);
+
+                assertEquals((x + y) * x - y % 3, formula.calculate());
+            }
+        }
+    }
+
+    /**
+     * Tests looking up an unknown variable.
+     */
+    @Test
+    public void testUnknownVariable() {
+
+        Formula formula = getFormulaParser().parseString("a + 1");
+
+        assertEquals(0, formula.getVariableIndex("a"));
+        assertEquals(-1, formula.getVariableIndex("b"));
+    }
+
+    /**
+     * Tests if a reference is read on every calculation.
+     */
+    @Test
+    public void testReference() {
+
+        Formula formula = getFormulaParser().parseString("x * 2 - 1");
+
+        AtomicInteger x = new AtomicInteger(3);
+        formula.setVariable("x", x);
+
+        assertEquals(5, formula.calculate());
+
+        x.set(5);
+
+        assertEquals(9, formula.calculate());
+
+        formula.setVariable(formula.getVariableIndex("x"), 7);
+        x.set(11);
+
+        assertEquals(13, formula.calculate());
+    }
+
+    /**
+     * Tests calculating a formula with an unresolved variable.
+     */
+    @Test(expected = FormulaException.class)
+    public void testUnresolvedVariable() {
+
+        Formula formula = getFormulaParser().parseString("a + b");
+
+        formula.setVariable(formula.getVariableIndex("a"), 1);
+        formula.calculate();
+    }
+
+    /**
+     * Tests removing an assigned reference.
+     */
+    @Test(expected = FormulaException.class)
+    public void testRemovedReference() {
+
+        Formula formula = getFormulaParser().parseString("a");
+
+        formula.setVariable("a", 1);
+        assertEquals(1, formula.calculate());
+
+        formula.setVariable("a", null);
+        formula.calculate();
+    }
+
+}
@@ -0,0 +1,213 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.math.formula.parser;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import jmul.math.formula.parser.ParserHelper;
+import jmul.math.formula.parser.patterns.TokenPattern;
+import jmul.math.formula.parser.patterns.TokenPatternHelper;
+import jmul.math.formula.parser.tokens.Token;
+
+import jmul.test.classification.UnitTest;
+
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+
+/**
+ * Tests splitting strings into tokens with the single pass lexer. The results
+ * are compared with the results of the regular expression based splitting.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+@RunWith(Parameterized.class)
+public class TokenizeTest {
+
+    /**
+     * All patterns to identify tokens.
+     */
+    private Map<TokenPattern, Pattern> patterns;
+
+    /**
+     * A string which is to be split up.
+     */
+    private final String input;
+
+    /**
+     * Creates a test according to the specified parameters.
+     *
+     * @param anInput
+     */
+    public TokenizeTest(String anInput) {
+
+        super();
+
+        input = anInput;
+    }
+
+    /**
+     * Sets up needed resources and prerequisites for the tests.
+     */
+    @Before
+    public void setUp() {
+
+        patterns = TokenPatternHelper.toMap();
+    }
+
+    /**
+     * Cleans up after a test.
+     */
+    @After
+    public void tearDown() {
+
+        patterns = null;
+    }
+
+    /**
+     * Tests if both ways of splitting a string produce the same tokens or
+     * the same exception.
+     */
+    @Test
+    public void testTokenize() {
+
+        List<Token> expectedSequence = null;
+        Class<?> expectedExceptionType = null;
+        try {
+
+            expectedSequence = ParserHelper.splitString(patterns, input);
+
+        } catch (RuntimeException e) {
+
+            expectedExceptionType = e.getClass();
+        }
+
+        List<Token> actualSequence = null;
+        Class<?> actualExceptionType = null;
+        try {
+
+            actualSequence = ParserHelper.tokenize(input);
+
+        } catch (RuntimeException e) {
+
+            actualExceptionType = e.getClass();
+        }
+
+        {
+            String message = String.format("The exceptions don't match (input=\"%s\")!", input);
+            assertEquals(message, expectedExceptionType, actualExceptionType);
+        }
+
+        if (expectedExceptionType != null) {
+
+            return;
+        }
+
+        assertNotNull(actualSequence);
+
+        {
+            String message =
+                String.format("Sizes of token sequences don't match (input=\"%s\";expected=%s;actual=%s)!", input,
+                              expectedSequence, actualSequence);
+            assertEquals(message, expectedSequence.size(), actualSequence.size());
+        }
+
+        for (int a = 0; a < expectedSequence.size(); a++) {
+
+            Token expectedToken = expectedSequence.get(a);
+            Token actualToken = actualSequence.get(a);
+
+            String message =
+                String.format("Tokens don't match (string=\"%s\";expected=\"%s\";actual=\"%s\")!", input,
+                              expectedToken, actualToken);
+            assertEquals(message, expectedToken.toString(), actualToken.toString());
+            assertEquals(message, expectedToken.getTraits(), actualToken.getTraits());
+        }
+    }
+
+    /**
+     * Returns a matrix of input data.
+     *
+     * @return a matrix of input data
+     */
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+
+        Collection<Object[]> parameters = new ArrayList<Object[]>();
+
+        parameters.add(new Object[] { null });
+        parameters.add(new Object[] { "" });
+        parameters.add(new Object[] { " " });
+        parameters.add(new Object[] { " 1 + 1 " });
+        parameters.add(new Object[] { "1" });
+        parameters.add(new Object[] { "0" });
+        parameters.add(new Object[] { "10-7" });
+        parameters.add(new Object[] { "-1" });
+        parameters.add(new Object[] { "1+1" });
+        parameters.add(new Object[] { "((1+2)-3)+1" });
+        parameters.add(new Object[] { "100+205-15+234" });
+        parameters.add(new Object[] { "(1+2)/(3-4)%5*6" });
+        parameters.add(new Object[] { "3d6" });
+        parameters.add(new Object[] { "3D6+1" });
+        parameters.add(new Object[] { "d6" });
+        parameters.add(new Object[] { "d0" });
+        parameters.add(new Object[] { "d" });
+        parameters.add(new Object[] { "d-1)(" });
+        parameters.add(new Object[] { "dx" });
+        parameters.add(new Object[] { "Dd1" });
+        parameters.add(new Object[] { "x1d6" });
+        parameters.add(new Object[] { "a*b" });
+        parameters.add(new Object[] { "4+a" });
+        parameters.add(new Object[] { "variable" });
+        parameters.add(new Object[] { "var1+var2" });
+        parameters.add(new Object[] { ")))((((" });
+        parameters.add(new Object[] { "1+[" });
+        parameters.add(new Object[] { "1+$" });
+        parameters.add(new Object[] { "1\n+1" });
+
+        return parameters;
+    }
+
+}
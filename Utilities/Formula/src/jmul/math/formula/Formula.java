@@ -63,4 +63,25 @@ public interface Formula {
      */
     void setVariable(String aVariableName, Number aReference);
 
+    /**
+     * Returns the index of the specified variable. The index can be used to
+     * assign values without looking up the variable by name.
+     *
+     * @param aVariableName
+     *        the name of a variable
+     *
+     * @return an index or -1 if the formula doesn't contain the variable
+     */
+    int getVariableIndex(String aVariableName);
+
+    /**
+     * The method allows to change a variable at runtime.
+     *
+     * @param anIndex
+     *        the index of a variable (see {@link #getVariableIndex})
+     * @param aValue
+     *        the variable value
+     */
+    void setVariable(int anIndex, int aValue);
+
 }
@@ -35,11 +35,14 @@ package jmul.math.formula;
 
 
 import jmul.math.formula.parser.components.Component;
+import jmul.math.formula.program.CompilerHelper;
+import jmul.math.formula.program.Program;
 import jmul.math.graph.Tree;
 
 
 /**
- * An implementation of a formula.
+ * An implementation of a formula. The component tree is compiled to a flat
+ * program which is used for all calculations.
  *
  * @author Kristian Kutin
  */
@@ -60,6 +63,11 @@ public class FormulaImpl implements Formula {
      */
     private final VariableManager variableManager;
 
+    /**
+     * The compiled formula.
+     */
+    private final Program program;
+
     /**
      * Creates a new formula entity
      *
@@ -77,6 +85,7 @@ public class FormulaImpl implements Formula {
         formula = aFormula;
         componentTree = aComponentTree;
         variableManager = aVariableManager;
+        program = CompilerHelper.compile(aComponentTree.getRoot());
     }
 
     /**
@@ -89,16 +98,7 @@ public class FormulaImpl implements Formula {
     @Override
     public int calculate() {
 
-        Component root = componentTree.getRoot();
-
-        if (root == null) {
-
-            return 0;
-
-        } else {
-
-            return root.calculate();
-        }
+        return program.calculate();
     }
 
     /**
@@ -113,6 +113,38 @@ public class FormulaImpl implements Formula {
     public void setVariable(String aVariableName, Number aReference) {
 
         variableManager.setVariable(aVariableName, aReference);
+        program.setVariable(program.getVariableIndex(aVariableName), aReference);
+    }
+
+    /**
+     * Returns the index of the specified variable. The index can be used to
+     * assign values without looking up the variable by name.
+     *
+     * @param aVariableName
+     *        the name of a variable
+     *
+     * @return an index or -1 if the formula doesn't contain the variable
+     */
+    @Override
+    public int getVariableIndex(String aVariableName) {
+
+        return program.getVariableIndex(aVariableName);
+    }
+
+    /**
+     * The method allows to change a variable at runtime. Unlike
+     * {@link #setVariable(String, Number)} the variable manager is not
+     * updated.
+     *
+     * @param anIndex
+     *        the index of a variable (see {@link #getVariableIndex})
+     * @param aValue
+     *        the variable value
+     */
+    @Override
+    public void setVariable(int anIndex, int aValue) {
+
+        program.setVariable(anIndex, aValue);
     }
 
     /**
@@ -37,6 +37,8 @@ package jmul.math.formula.parser;
 import java.util.ArrayList;
 import java.util.List;
 
+import jmul.checks.ParameterCheckHelper;
+
 import jmul.math.formula.Formula;
 import jmul.math.formula.FormulaImpl;
 import jmul.math.formula.VariableManager;
@@ -52,25 +54,60 @@ import jmul.transformation.TransformationParameters;
 
 
 /**
- * An implementation of a formula parser.
+ * An implementation of a formula parser.<br>
+ * <br>
+ * Token trees are cached by formula string, i.e. parsing the same formula
+ * string again skips tokenization and the construction of the token tree.
+ * Every call still returns a new formula with its own variables.
  *
  * @author Kristian Kutin
  */
 public class FormulaParserImpl implements FormulaParser {
 
+    /**
+     * The default number of token trees which are cached.
+     */
+    public static final int DEFAULT_CACHE_SIZE;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        DEFAULT_CACHE_SIZE = 128;
+    }
+
     /**
      * A token parser.
      */
     private final TokenParser tokenParser;
 
+    /**
+     * A cache for token trees. The cache is also used as monitor.
+     */
+    private final TokenTreeCache cache;
+
     /**
      * The default constructor.
      */
     public FormulaParserImpl() {
 
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a new formula parser according to the specified parameters.
+     *
+     * @param aCacheSize
+     *        the maximum number of cached token trees (<code>0</code> disables
+     *        the cache)
+     */
+    public FormulaParserImpl(int aCacheSize) {
+
         super();
 
         tokenParser = new TokenParserImpl();
+        cache = new TokenTreeCache(ParameterCheckHelper.checkPositiveIntegerParameter(aCacheSize));
     }
 
     /**
@@ -84,7 +121,7 @@ public class FormulaParserImpl implements FormulaParser {
     @Override
     public Formula parseString(String aString) {
 
-        Tree<Node<Token>> tokenTree = tokenParser.parseString(aString);
+        Tree<Node<Token>> tokenTree = getTokenTree(aString);
 
         List<Variable> variableReferenceList = new ArrayList<>();
         TransformationParameters parameters = TransformationHelper.createTransformationParameters(tokenTree);
@@ -98,4 +135,41 @@ public class FormulaParserImpl implements FormulaParser {
         return formula;
     }
 
+    /**
+     * Returns the token tree for the specified string. The token tree is
+     * looked up in the cache first and only parsed if there is no cache
+     * entry. Token trees are not modified by the subsequent transformations
+     * and can be shared.
+     *
+     * @param aString
+     *        a string to be parsed
+     *
+     * @return a token tree
+     */
+    private Tree<Node<Token>> getTokenTree(String aString) {
+
+        if (cache.getMaximumSize() == 0) {
+
+            return tokenParser.parseString(aString);
+        }
+
+        Tree<Node<Token>> tokenTree;
+        synchronized (cache) {
+
+            tokenTree = cache.get(aString);
+        }
+
+        if (tokenTree == null) {
+
+            tokenTree = tokenParser.parseString(aString);
+
+            synchronized (cache) {
+
+                cache.put(aString, tokenTree);
+            }
+        }
+
+        return tokenTree;
+    }
+
 }
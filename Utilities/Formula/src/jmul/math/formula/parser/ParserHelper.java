@@ -45,12 +45,11 @@ import jmul.checks.ParameterCheckHelper;
 import static jmul.math.formula.parser.patterns.GroupNames.REST;
 import static jmul.math.formula.parser.patterns.GroupNames.TOKEN;
 import jmul.math.formula.parser.patterns.TokenPattern;
+import jmul.math.formula.parser.patterns.TokenPatterns;
 import jmul.math.formula.parser.tokens.Token;
 import jmul.math.formula.parser.tokens.TokenImpl;
 import jmul.math.formula.parser.tokens.TokenTrait;
 
-import static jmul.string.Constants.EMPTY_STRING;
-
 
 /**
  * A utility class for parsing formula string.
@@ -60,16 +59,29 @@ import static jmul.string.Constants.EMPTY_STRING;
 public final class ParserHelper {
 
     /**
-     * A regular exoression.
+     * A space character.
+     */
+    private static final char SPACE;
+
+    /**
+     * The traits of all token patterns as arrays. The arrays are indexed by
+     * the ordinal of the token patterns.
      */
-    private static final String SPACE_REGEX;
+    private static final TokenTrait[][] TRAITS;
 
     /*
      * The static initializer.
      */
     static {
 
-        SPACE_REGEX = "[ ]";
+        SPACE = ' ';
+
+        TokenPatterns[] patterns = TokenPatterns.values();
+        TRAITS = new TokenTrait[patterns.length][];
+        for (TokenPatterns pattern : patterns) {
+
+            TRAITS[pattern.ordinal()] = pattern.getTraits().toArray(new TokenTrait[] { });
+        }
     }
 
     /**
@@ -90,7 +102,26 @@ public final class ParserHelper {
      */
     public static String trimString(String aString) {
 
-        return aString.replaceAll(SPACE_REGEX, EMPTY_STRING);
+        int firstSpace = aString.indexOf(SPACE);
+        if (firstSpace < 0) {
+
+            return aString;
+        }
+
+        int length = aString.length();
+        StringBuilder buffer = new StringBuilder(length);
+        buffer.append(aString, 0, firstSpace);
+
+        for (int a = firstSpace + 1; a < length; a++) {
+
+            char c = aString.charAt(a);
+            if (c != SPACE) {
+
+                buffer.append(c);
+            }
+        }
+
+        return buffer.toString();
     }
 
     /**
@@ -109,48 +140,259 @@ public final class ParserHelper {
 
         ParameterCheckHelper.checkObjectParameter(aString);
 
-        if (aString.isEmpty()) {
+        String remainder = aString;
+        while (!remainder.isEmpty()) {
 
-            return sequence;
-        }
+            TokenPattern tokenPattern = null;
+            String tokenString = null;
+            String rest = null;
+            boolean match = false;
+            for (Map.Entry<TokenPattern, Pattern> entry : allPatterns.entrySet()) {
+
+                tokenPattern = entry.getKey();
+                Pattern pattern = entry.getValue();
+
+                Matcher matcher = pattern.matcher(remainder);
+                if (!matcher.matches()) {
+
+                    continue;
+                }
+
+                tokenString = matcher.group(TOKEN);
+                rest = matcher.group(REST);
 
-        TokenPattern tokenPattern = null;
-        String tokenString = null;
-        String rest = null;
-        boolean match = false;
-        for (Map.Entry<TokenPattern, Pattern> entry : allPatterns.entrySet()) {
+                if ((tokenString != null) && (rest != null)) {
 
-            tokenPattern = entry.getKey();
-            Pattern pattern = entry.getValue();
+                    match = true;
+                    break;
+                }
+            }
 
-            Matcher matcher = pattern.matcher(aString);
-            if (!matcher.matches()) {
+            if (!match) {
 
-                continue;
+                throw newUnidentifiedTokenException(remainder);
             }
 
-            tokenString = matcher.group(TOKEN);
-            rest = matcher.group(REST);
+            Token token = new TokenImpl(tokenString, tokenPattern.getTraits().toArray(new TokenTrait[] { }));
+            sequence.add(token);
+
+            remainder = rest;
+        }
+
+        return sequence;
+    }
+
+    /**
+     * Splits the specified string into tokens. The string is scanned once from
+     * left to right and tokens are identified according to the rules of
+     * {@link TokenPatterns} without evaluating any regular expression.
+     *
+     * @param aString
+     *        the string which is to be split into tokens
+     *
+     * @return a sequence of tokens
+     */
+    public static List<Token> tokenize(String aString) {
+
+        ParameterCheckHelper.checkObjectParameter(aString);
+
+        int length = aString.length();
+        List<Token> sequence = new ArrayList<>();
+
+        int index = 0;
+        while (index < length) {
+
+            char c = aString.charAt(index);
+            int end = index + 1;
+            TokenPatterns pattern;
+
+            switch (c) {
+            case '+':
+                pattern = TokenPatterns.PLUS;
+                break;
+            case '-':
+                pattern = TokenPatterns.MINUS;
+                break;
+            case '*':
+                pattern = TokenPatterns.MULIPLICATION;
+                break;
+            case '/':
+                pattern = TokenPatterns.DIVISION;
+                break;
+            case '%':
+                pattern = TokenPatterns.MODULO;
+                break;
+            case '(':
+                pattern = TokenPatterns.OPENING_PARENTHESIS;
+                break;
+            case ')':
+                pattern = TokenPatterns.CLOSING_PARENTHESIS;
+                break;
+            default:
+                if (isNonZeroDigit(c)) {
+
+                    pattern = TokenPatterns.NUMBER;
+                    end = skipDigits(aString, end);
+
+                } else if (isDiceSymbol(c)) {
+
+                    char next = (end < length) ? aString.charAt(end) : SPACE;
+
+                    if (isLetter(next)) {
+
+                        pattern = TokenPatterns.VARIABLE;
+                        end = skipLettersAndDigits(aString, end + 1);
+
+                    } else if (isNonZeroDigit(next)) {
 
-            if ((tokenString != null) && (rest != null)) {
+                        pattern = TokenPatterns.DICE_OPERATOR;
 
-                match = true;
+                    } else {
+
+                        throw newUnidentifiedTokenException(aString.substring(index));
+                    }
+
+                } else if (isLetter(c)) {
+
+                    pattern = TokenPatterns.VARIABLE;
+                    end = skipLettersAndDigits(aString, end);
+
+                } else {
+
+                    throw newUnidentifiedTokenException(aString.substring(index));
+                }
                 break;
             }
+
+            String tokenString = aString.substring(index, end);
+            sequence.add(new TokenImpl(tokenString, TRAITS[pattern.ordinal()]));
+
+            index = end;
         }
 
-        if (!match) {
+        return sequence;
+    }
+
+    /**
+     * Returns the index of the first character at or after the specified index
+     * which is not a digit.
+     *
+     * @param aString
+     *        a string
+     * @param anIndex
+     *        a start index
+     *
+     * @return an index
+     */
+    private static int skipDigits(String aString, int anIndex) {
+
+        int length = aString.length();
+        int index = anIndex;
 
-            String message = String.format("No token could be identified in the specified string (\"%s\")!", aString);
-            throw new FormulaParsingException(message);
+        while ((index < length) && isDigit(aString.charAt(index))) {
+
+            index++;
         }
 
-        Token token = new TokenImpl(tokenString, tokenPattern.getTraits().toArray(new TokenTrait[] { }));
+        return index;
+    }
+
+    /**
+     * Returns the index of the first character at or after the specified index
+     * which is neither a letter nor a digit.
+     *
+     * @param aString
+     *        a string
+     * @param anIndex
+     *        a start index
+     *
+     * @return an index
+     */
+    private static int skipLettersAndDigits(String aString, int anIndex) {
+
+        int length = aString.length();
+        int index = anIndex;
 
-        sequence.add(token);
-        sequence.addAll(splitString(allPatterns, rest));
+        while (index < length) {
 
-        return sequence;
+            char c = aString.charAt(index);
+            if (!isLetter(c) && !isDigit(c)) {
+
+                break;
+            }
+
+            index++;
+        }
+
+        return index;
+    }
+
+    /**
+     * Checks if the specified character is a digit.
+     *
+     * @param c
+     *        a character
+     *
+     * @return <code>true</code> if the character is a digit, else <code>false</code>
+     */
+    private static boolean isDigit(char c) {
+
+        return (c >= '0') && (c <= '9');
+    }
+
+    /**
+     * Checks if the specified character is a digit other than zero.
+     *
+     * @param c
+     *        a character
+     *
+     * @return <code>true</code> if the character is a digit other than zero, else
+     *         <code>false</code>
+     */
+    private static boolean isNonZeroDigit(char c) {
+
+        return (c >= '1') && (c <= '9');
+    }
+
+    /**
+     * Checks if the specified character is a latin letter.
+     *
+     * @param c
+     *        a character
+     *
+     * @return <code>true</code> if the character is a letter, else <code>false</code>
+     */
+    private static boolean isLetter(char c) {
+
+        return ((c >= 'a') && (c <= 'z')) || ((c >= 'A') && (c <= 'Z'));
+    }
+
+    /**
+     * Checks if the specified character is the dice operator symbol.
+     *
+     * @param c
+     *        a character
+     *
+     * @return <code>true</code> if the character is a dice operator symbol, else
+     *         <code>false</code>
+     */
+    private static boolean isDiceSymbol(char c) {
+
+        return (c == 'd') || (c == 'D');
+    }
+
+    /**
+     * Creates an exception for a string whose beginning doesn't match any token.
+     *
+     * @param aString
+     *        the remaining string
+     *
+     * @return an exception
+     */
+    private static FormulaParsingException newUnidentifiedTokenException(String aString) {
+
+        String message = String.format("No token could be identified in the specified string (\"%s\")!", aString);
+        return new FormulaParsingException(message);
     }
 
     /*
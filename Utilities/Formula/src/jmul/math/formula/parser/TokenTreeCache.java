@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.math.formula.parser;
+
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import jmul.math.formula.parser.tokens.Token;
+import jmul.math.graph.Node;
+import jmul.math.graph.Tree;
+
+
+/**
+ * A cache for token trees which evicts the least recently used entry once the
+ * maximum size is exceeded. The cache is not synchronized.
+ *
+ * @author Kristian Kutin
+ */
+class TokenTreeCache {
+
+    /**
+     * The maximum number of cache entries.
+     */
+    private final int maximumSize;
+
+    /**
+     * The cache entries in access order, i.e. the least recently used entry
+     * comes first.
+     */
+    private final Map<String, Tree<Node<Token>>> entries;
+
+    /**
+     * Creates a new cache according to the specified parameters.
+     *
+     * @param aMaximumSize
+     *        the maximum number of cache entries
+     */
+    TokenTreeCache(int aMaximumSize) {
+
+        super();
+
+        maximumSize = aMaximumSize;
+        entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Returns the maximum number of cache entries.
+     *
+     * @return the maximum number of cache entries
+     */
+    int getMaximumSize() {
+
+        return maximumSize;
+    }
+
+    /**
+     * Returns the token tree for the specified formula string.
+     *
+     * @param aString
+     *        a formula string
+     *
+     * @return a token tree or <code>null</code> if there is no cache entry
+     */
+    Tree<Node<Token>> get(String aString) {
+
+        return entries.get(aString);
+    }
+
+    /**
+     * Adds the specified token tree. The least recently used entry is evicted
+     * if the cache exceeds its maximum size.
+     *
+     * @param aString
+     *        a formula string
+     * @param aTokenTree
+     *        the token tree of the formula string
+     */
+    void put(String aString, Tree<Node<Token>> aTokenTree) {
+
+        entries.put(aString, aTokenTree);
+
+        if (entries.size() > maximumSize) {
+
+            Iterator<String> iterator = entries.keySet().iterator();
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+}
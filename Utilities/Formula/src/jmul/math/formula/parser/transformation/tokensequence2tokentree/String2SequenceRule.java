@@ -34,14 +34,9 @@
 package jmul.math.formula.parser.transformation.tokensequence2tokentree;
 
 
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.regex.Pattern;
 
 import jmul.math.formula.parser.ParserHelper;
-import jmul.math.formula.parser.patterns.TokenPattern;
-import jmul.math.formula.parser.patterns.TokenPatternHelper;
 import jmul.math.formula.parser.tokens.Token;
 import jmul.math.graph.Node;
 import jmul.math.graph.Tree;
@@ -58,19 +53,6 @@ import jmul.transformation.TransformationRuleBase;
  */
 public class String2SequenceRule extends TransformationRuleBase {
 
-    /**
-     * All patterns for identifying tokens.
-     */
-    private static final Map<TokenPattern, Pattern> PATTERNS;
-
-    /*
-     * The static initializer.
-     */
-    static {
-
-        PATTERNS = Collections.unmodifiableMap(TokenPatternHelper.toMap());
-    }
-
     /**
      * Creates a new transformation rule according to the specified parameters.
      *
@@ -111,7 +93,7 @@ public class String2SequenceRule extends TransformationRuleBase {
         String input = TransformationHelper.object2String(someParameters);
 
         String normalizedInput = ParserHelper.trimString(input);
-        List<Token> tokenSequence = ParserHelper.splitString(PATTERNS, normalizedInput);
+        List<Token> tokenSequence = ParserHelper.tokenize(normalizedInput);
 
         TransformationParameters newParameters = TransformationHelper.createTranformationParameters(tokenSequence);
 
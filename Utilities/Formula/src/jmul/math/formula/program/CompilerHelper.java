@@ -0,0 +1,293 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.math.formula.program;
+
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jmul.math.formula.FormulaException;
+import jmul.math.formula.parser.components.Component;
+import jmul.math.formula.parser.components.Constant;
+import jmul.math.formula.parser.components.DiceOperator;
+import jmul.math.formula.parser.components.Division;
+import jmul.math.formula.parser.components.Minus;
+import jmul.math.formula.parser.components.Modulo;
+import jmul.math.formula.parser.components.Multiplication;
+import jmul.math.formula.parser.components.Plus;
+import jmul.math.formula.parser.components.Variable;
+import static jmul.math.formula.program.Opcodes.ADD;
+import static jmul.math.formula.program.Opcodes.DIVIDE;
+import static jmul.math.formula.program.Opcodes.LOAD_VARIABLE;
+import static jmul.math.formula.program.Opcodes.MODULO;
+import static jmul.math.formula.program.Opcodes.MULTIPLY;
+import static jmul.math.formula.program.Opcodes.NEGATE;
+import static jmul.math.formula.program.Opcodes.PUSH_CONSTANT;
+import static jmul.math.formula.program.Opcodes.ROLL_DICE;
+import static jmul.math.formula.program.Opcodes.SUBTRACT;
+
+
+/**
+ * A utility class which compiles a component tree to a program.
+ *
+ * @author Kristian Kutin
+ */
+public final class CompilerHelper {
+
+    /**
+     * The default constructor.
+     */
+    private CompilerHelper() {
+
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Compiles the component tree with the specified root.
+     *
+     * @param aRoot
+     *        the root of a component tree or <code>null</code> for an empty
+     *        formula
+     *
+     * @return a program
+     */
+    public static Program compile(Component aRoot) {
+
+        Compilation compilation = new Compilation();
+
+        if (aRoot != null) {
+
+            compilation.compile(aRoot);
+        }
+
+        return compilation.toProgram();
+    }
+
+}
+
+
+/**
+ * The state of a single compilation.
+ */
+class Compilation {
+
+    /**
+     * The instructions and their operands.
+     */
+    private final List<Integer> code;
+
+    /**
+     * All variable names and their indices.
+     */
+    private final Map<String, Integer> variables;
+
+    /**
+     * The current stack depth.
+     */
+    private int depth;
+
+    /**
+     * The maximum stack depth.
+     */
+    private int maximumDepth;
+
+    /**
+     * The default constructor.
+     */
+    Compilation() {
+
+        super();
+
+        code = new ArrayList<>();
+        variables = new LinkedHashMap<>();
+        depth = 0;
+        maximumDepth = 0;
+    }
+
+    /**
+     * Compiles the specified component and all its children (post order).
+     *
+     * @param aComponent
+     *        a component
+     */
+    void compile(Component aComponent) {
+
+        if (aComponent instanceof Constant) {
+
+            emit(PUSH_CONSTANT, ((Constant) aComponent).getValue());
+
+        } else if (aComponent instanceof Variable) {
+
+            emit(LOAD_VARIABLE, variableIndex(((Variable) aComponent).getVariableName()));
+
+        } else if (aComponent instanceof Plus) {
+
+            compileChildren(aComponent);
+
+            if (aComponent.children() == 2) {
+
+                emit(ADD);
+            }
+
+        } else if (aComponent instanceof Minus) {
+
+            compileChildren(aComponent);
+
+            if (aComponent.children() == 2) {
+
+                emit(SUBTRACT);
+
+            } else {
+
+                emit(NEGATE);
+            }
+
+        } else if (aComponent instanceof Multiplication) {
+
+            compileChildren(aComponent);
+            emit(MULTIPLY);
+
+        } else if (aComponent instanceof Division) {
+
+            compileChildren(aComponent);
+            emit(DIVIDE);
+
+        } else if (aComponent instanceof Modulo) {
+
+            compileChildren(aComponent);
+            emit(MODULO);
+
+        } else if (aComponent instanceof DiceOperator) {
+
+            compileChildren(aComponent);
+            emit(ROLL_DICE);
+
+        } else {
+
+            String message = "The component cannot be compiled (" + aComponent.getClass().getName() + ")!";
+            throw new FormulaException(message);
+        }
+    }
+
+    /**
+     * Compiles all children of the specified component.
+     *
+     * @param aComponent
+     *        a component
+     */
+    private void compileChildren(Component aComponent) {
+
+        for (int a = 0; a < aComponent.children(); a++) {
+
+            compile(aComponent.getChild(a));
+        }
+    }
+
+    /**
+     * Returns the index of the specified variable. A new index is assigned on
+     * the first occurrence.
+     *
+     * @param aVariableName
+     *        the name of a variable
+     *
+     * @return an index
+     */
+    private int variableIndex(String aVariableName) {
+
+        Integer index = variables.get(aVariableName);
+
+        if (index == null) {
+
+            index = variables.size();
+            variables.put(aVariableName, index);
+        }
+
+        return index;
+    }
+
+    /**
+     * Adds an instruction which pushes a value on the stack.
+     *
+     * @param anOpcode
+     *        an instruction
+     * @param anOperand
+     *        the operand of the instruction
+     */
+    private void emit(int anOpcode, int anOperand) {
+
+        code.add(anOpcode);
+        code.add(anOperand);
+
+        depth++;
+        maximumDepth = Math.max(maximumDepth, depth);
+    }
+
+    /**
+     * Adds an instruction which operates on the topmost values of the stack.
+     *
+     * @param anOpcode
+     *        an instruction
+     */
+    private void emit(int anOpcode) {
+
+        code.add(anOpcode);
+
+        if (anOpcode != NEGATE) {
+
+            depth--;
+        }
+    }
+
+    /**
+     * Creates the program.
+     *
+     * @return a program
+     */
+    Program toProgram() {
+
+        int[] instructions = new int[code.size()];
+
+        for (int a = 0; a < instructions.length; a++) {
+
+            instructions[a] = code.get(a);
+        }
+
+        String[] variableNames = variables.keySet().toArray(new String[variables.size()]);
+
+        return new Program(instructions, variableNames, maximumDepth);
+    }
+
+}
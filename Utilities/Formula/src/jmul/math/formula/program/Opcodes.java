@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.math.formula.program;
+
+
+/**
+ * A utility class which contains the instruction codes of a formula program.
+ * Instructions with an operand are followed by the operand within the code
+ * array.
+ *
+ * @author Kristian Kutin
+ */
+final class Opcodes {
+
+    /**
+     * Pushes a constant (operand: the constant).
+     */
+    static final int PUSH_CONSTANT = 0;
+
+    /**
+     * Pushes the value of a variable (operand: the variable index).
+     */
+    static final int LOAD_VARIABLE = 1;
+
+    /**
+     * Replaces the two topmost values by their sum.
+     */
+    static final int ADD = 2;
+
+    /**
+     * Replaces the two topmost values by their difference.
+     */
+    static final int SUBTRACT = 3;
+
+    /**
+     * Replaces the two topmost values by their product.
+     */
+    static final int MULTIPLY = 4;
+
+    /**
+     * Replaces the two topmost values by their quotient.
+     */
+    static final int DIVIDE = 5;
+
+    /**
+     * Replaces the two topmost values by the remainder of their division.
+     */
+    static final int MODULO = 6;
+
+    /**
+     * Negates the topmost value.
+     */
+    static final int NEGATE = 7;
+
+    /**
+     * Replaces the two topmost values (number of dice and sides) by a dice roll.
+     */
+    static final int ROLL_DICE = 8;
+
+    /**
+     * The default constructor.
+     */
+    private Opcodes() {
+
+        throw new UnsupportedOperationException();
+    }
+
+}
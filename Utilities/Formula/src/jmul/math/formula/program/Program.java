@@ -0,0 +1,333 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.math.formula.program;
+
+
+import jmul.math.formula.FormulaException;
+import static jmul.math.formula.program.Opcodes.ADD;
+import static jmul.math.formula.program.Opcodes.DIVIDE;
+import static jmul.math.formula.program.Opcodes.LOAD_VARIABLE;
+import static jmul.math.formula.program.Opcodes.MODULO;
+import static jmul.math.formula.program.Opcodes.MULTIPLY;
+import static jmul.math.formula.program.Opcodes.NEGATE;
+import static jmul.math.formula.program.Opcodes.PUSH_CONSTANT;
+import static jmul.math.formula.program.Opcodes.ROLL_DICE;
+import static jmul.math.formula.program.Opcodes.SUBTRACT;
+import jmul.math.random.DiceFactory;
+
+
+/**
+ * A formula which was compiled to a flat program for a stack machine. The
+ * program is evaluated within a single loop, i.e. without recursion and
+ * without dispatching to the components of the formula. Variables are kept in
+ * slots which are addressed by an index.<br>
+ * <br>
+ * <i>Note:<br>
+ * A program reuses its stack for every calculation and is not thread-safe.</i>
+ *
+ * @author Kristian Kutin
+ */
+public final class Program {
+
+    /**
+     * The instructions and their operands.
+     */
+    private final int[] code;
+
+    /**
+     * The names of all variables (the array index is the variable index).
+     */
+    private final String[] variableNames;
+
+    /**
+     * The current values of all variables.
+     */
+    private final int[] values;
+
+    /**
+     * References to entities which provide variable values. A reference is
+     * read once per calculation.
+     */
+    private final Number[] references;
+
+    /**
+     * Flags which indicate that a value or reference was assigned to a variable.
+     */
+    private final boolean[] resolved;
+
+    /**
+     * The number of variables which have neither a value nor a reference.
+     */
+    private int unresolved;
+
+    /**
+     * The number of variables which are bound to a reference.
+     */
+    private int referenced;
+
+    /**
+     * The operand stack.
+     */
+    private final int[] stack;
+
+    /**
+     * Creates a new program according to the specified parameters.
+     *
+     * @param someCode
+     *        the instructions and their operands
+     * @param someVariableNames
+     *        the names of all variables
+     * @param aStackSize
+     *        the maximum stack depth
+     */
+    Program(int[] someCode, String[] someVariableNames, int aStackSize) {
+
+        super();
+
+        code = someCode;
+        variableNames = someVariableNames;
+        values = new int[someVariableNames.length];
+        references = new Number[someVariableNames.length];
+        resolved = new boolean[someVariableNames.length];
+        unresolved = someVariableNames.length;
+        referenced = 0;
+        stack = new int[aStackSize];
+    }
+
+    /**
+     * Returns the number of variables.
+     *
+     * @return the number of variables
+     */
+    public int variables() {
+
+        return variableNames.length;
+    }
+
+    /**
+     * Returns the index of the specified variable.
+     *
+     * @param aVariableName
+     *        the name of a variable
+     *
+     * @return an index or -1 if the program doesn't contain the variable
+     */
+    public int getVariableIndex(String aVariableName) {
+
+        for (int a = 0; a < variableNames.length; a++) {
+
+            if (variableNames[a].equals(aVariableName)) {
+
+                return a;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Assigns a value to the specified variable.
+     *
+     * @param anIndex
+     *        the index of a variable
+     * @param aValue
+     *        a value
+     */
+    public void setVariable(int anIndex, int aValue) {
+
+        unbind(anIndex);
+
+        values[anIndex] = aValue;
+        resolve(anIndex, true);
+    }
+
+    /**
+     * Assigns a reference to the specified variable. The value is read from
+     * the reference at the beginning of every calculation.
+     *
+     * @param anIndex
+     *        the index of a variable
+     * @param aReference
+     *        a reference or <code>null</code> to remove the assignment
+     */
+    public void setVariable(int anIndex, Number aReference) {
+
+        unbind(anIndex);
+
+        if (aReference != null) {
+
+            references[anIndex] = aReference;
+            referenced++;
+        }
+
+        resolve(anIndex, aReference != null);
+    }
+
+    /**
+     * Removes the reference of the specified variable.
+     *
+     * @param anIndex
+     *        the index of a variable
+     */
+    private void unbind(int anIndex) {
+
+        if (references[anIndex] != null) {
+
+            references[anIndex] = null;
+            referenced--;
+        }
+    }
+
+    /**
+     * Updates the resolution state of the specified variable.
+     *
+     * @param anIndex
+     *        the index of a variable
+     * @param aFlag
+     *        <code>true</code> if the variable is resolved, else <code>false</code>
+     */
+    private void resolve(int anIndex, boolean aFlag) {
+
+        if (resolved[anIndex] != aFlag) {
+
+            resolved[anIndex] = aFlag;
+            unresolved += aFlag ? -1 : 1;
+        }
+    }
+
+    /**
+     * Calculates a result for the formula.
+     *
+     * @return a result
+     */
+    public int calculate() {
+
+        if (unresolved > 0) {
+
+            throwUnresolvedVariable();
+        }
+
+        if (referenced > 0) {
+
+            for (int a = 0; a < references.length; a++) {
+
+                Number reference = references[a];
+
+                if (reference != null) {
+
+                    values[a] = reference.intValue();
+                }
+            }
+        }
+
+        int pc = 0;
+        int sp = 0;
+
+        while (pc < code.length) {
+
+            switch (code[pc]) {
+            case PUSH_CONSTANT:
+                stack[sp] = code[pc + 1];
+                sp++;
+                pc += 2;
+                break;
+            case LOAD_VARIABLE:
+                stack[sp] = values[code[pc + 1]];
+                sp++;
+                pc += 2;
+                break;
+            case ADD:
+                sp--;
+                stack[sp - 1] += stack[sp];
+                pc++;
+                break;
+            case SUBTRACT:
+                sp--;
+                stack[sp - 1] -= stack[sp];
+                pc++;
+                break;
+            case MULTIPLY:
+                sp--;
+                stack[sp - 1] *= stack[sp];
+                pc++;
+                break;
+            case DIVIDE:
+                sp--;
+                stack[sp - 1] /= stack[sp];
+                pc++;
+                break;
+            case MODULO:
+                sp--;
+                stack[sp - 1] %= stack[sp];
+                pc++;
+                break;
+            case NEGATE:
+                stack[sp - 1] = -stack[sp - 1];
+                pc++;
+                break;
+            case ROLL_DICE:
+                sp--;
+                stack[sp - 1] = DiceFactory.createDice(stack[sp - 1], stack[sp]).roll();
+                pc++;
+                break;
+            default:
+                String message = "An unknown instruction was encountered (" + code[pc] + ")!";
+                throw new FormulaException(message);
+            }
+        }
+
+        if (sp == 0) {
+
+            return 0;
+        }
+
+        return stack[0];
+    }
+
+    /**
+     * Throws an exception for the first unresolved variable.
+     */
+    private void throwUnresolvedVariable() {
+
+        for (int a = 0; a < resolved.length; a++) {
+
+            if (!resolved[a]) {
+
+                String message = String.format("The variable (%s) has no assigned value!", variableNames[a]);
+                throw new FormulaException(message);
+            }
+        }
+    }
+
+}
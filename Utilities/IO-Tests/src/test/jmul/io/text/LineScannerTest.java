@@ -0,0 +1,257 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.io.text;
+
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import jmul.io.text.LineScanner;
+import jmul.io.text.ReadBuffer;
+import jmul.io.text.TextFileHelper;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+
+/**
+ * This test suite tests reading lines with a {@link LineScanner} and with
+ * {@link TextFileHelper#readLine}.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class LineScannerTest {
+
+    /**
+     * Reads all lines with a line scanner.
+     *
+     * @param aString
+     *        the content
+     * @param aLineSeparator
+     *        a line separator
+     * @param aBufferSize
+     *        the buffer size of the line scanner
+     *
+     * @return all lines
+     *
+     * @throws IOException
+     *         is thrown if an error occurs while reading
+     */
+    private static List<String> scan(String aString, String aLineSeparator, int aBufferSize) throws IOException {
+
+        List<String> lines = new ArrayList<>();
+
+        try (LineScanner scanner = new LineScanner(new StringReader(aString), aLineSeparator, aBufferSize)) {
+
+            for (String line : scanner) {
+
+                lines.add(line);
+            }
+        }
+
+        return lines;
+    }
+
+    /**
+     * Reads all lines with the text file helper.
+     *
+     * @param aString
+     *        the content
+     * @param aLineSeparator
+     *        a line separator
+     *
+     * @return all lines
+     *
+     * @throws IOException
+     *         is thrown if an error occurs while reading
+     */
+    private static List<String> readLines(String aString, String aLineSeparator) throws IOException {
+
+        List<String> lines = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(new StringReader(aString))) {
+
+            ReadBuffer result;
+            do {
+
+                result = TextFileHelper.readLine(reader, aLineSeparator);
+                lines.add(result.getLine());
+
+            } while (!result.isEndOfFile());
+        }
+
+        return lines;
+    }
+
+    /**
+     * Returns the expected lines.
+     *
+     * @param aString
+     *        the content
+     * @param aLineSeparator
+     *        a line separator
+     *
+     * @return all lines
+     */
+    private static List<String> expectedLines(String aString, String aLineSeparator) {
+
+        return Arrays.asList(aString.split(Pattern.quote(aLineSeparator), -1));
+    }
+
+    /**
+     * Tests reading lines with a single character line separator.
+     *
+     * @throws IOException
+     *         is thrown if an error occurs while reading
+     */
+    @Test
+    public void testSingleCharacterSeparator() throws IOException {
+
+        String content = "first\nsecond\n\nlast";
+
+        assertEquals(Arrays.asList("first", "second", "", "last"), scan(content, "\n", 4));
+        assertEquals(Arrays.asList("first", "second", "", "last"), readLines(content, "\n"));
+    }
+
+    /**
+     * Tests reading lines with a multi character line separator which
+     * crosses the chunk boundaries.
+     *
+     * @throws IOException
+     *         is thrown if an error occurs while reading
+     */
+    @Test
+    public void testMultiCharacterSeparator() throws IOException {
+
+        String content = "a\r\nbc\r\n\r\nd\re\n\r\n";
+
+        List<String> expected = Arrays.asList("a", "bc", "", "d\re\n", "");
+
+        for (int bufferSize = 1; bufferSize < 20; bufferSize++) {
+
+            assertEquals(expected, scan(content, "\r\n", bufferSize));
+        }
+
+        assertEquals(expected, readLines(content, "\r\n"));
+    }
+
+    /**
+     * Tests reading an empty stream and a stream which ends with a line
+     * separator.
+     *
+     * @throws IOException
+     *         is thrown if an error occurs while reading
+     */
+    @Test
+    public void testTrailingSeparator() throws IOException {
+
+        assertEquals(Arrays.asList(""), scan("", "\n", 16));
+        assertEquals(Arrays.asList("line", ""), scan("line\n", "\n", 16));
+
+        try (LineScanner scanner = new LineScanner(new StringReader("line"), "\n")) {
+
+            ReadBuffer result = scanner.readLine();
+            assertEquals("line", result.getLine());
+            assertTrue(result.isEndOfFile());
+
+            assertNull(scanner.readLine());
+            assertFalse(scanner.iterator().hasNext());
+        }
+    }
+
+    /**
+     * Tests reading characters which cannot be represented by a single byte.
+     *
+     * @throws IOException
+     *         is thrown if an error occurs while reading
+     */
+    @Test
+    public void testNonAsciiCharacters() throws IOException {
+
+        String content = "äöü\n€中\nß";
+
+        List<String> expected = Arrays.asList("äöü", "€中", "ß");
+
+        assertEquals(expected, scan(content, "\n", 2));
+        assertEquals(expected, readLines(content, "\n"));
+    }
+
+    /**
+     * Tests reading random content with various line separators and buffer
+     * sizes.
+     *
+     * @throws IOException
+     *         is thrown if an error occurs while reading
+     */
+    @Test
+    public void testRandomContent() throws IOException {
+
+        Random random = new Random(4711L);
+        String[] separators = { "\n", "\r\n", "ab", "aab", "||" };
+        char[] alphabet = { 'a', 'b', 'c', '\r', '\n', '|' };
+
+        for (int a = 0; a < 200; a++) {
+
+            String separator = separators[random.nextInt(separators.length)];
+
+            StringBuilder buffer = new StringBuilder();
+            int length = random.nextInt(100);
+            for (int b = 0; b < length; b++) {
+
+                buffer.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+
+            String content = buffer.toString();
+            List<String> expected = expectedLines(content, separator);
+
+            String message = String.format("content=\"%s\";separator=\"%s\"", content, separator);
+            assertEquals(message, expected, scan(content, separator, 1 + random.nextInt(16)));
+            assertEquals(message, expected, readLines(content, separator));
+        }
+    }
+
+}
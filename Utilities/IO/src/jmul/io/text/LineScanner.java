@@ -0,0 +1,385 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.io.text;
+
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import jmul.checks.ParameterCheckHelper;
+
+import static jmul.io.Constants.END_OF_FILE;
+
+
+/**
+ * A line scanner reads lines from a character stream. The characters are
+ * read in chunks and the line separator (which may consist of several
+ * characters) is searched for within the chunk, i.e. every character is
+ * examined and copied only once.<br>
+ * <br>
+ * The content after the last line separator is returned as last line, even
+ * if it is empty. A scanner is not thread safe.
+ *
+ * @author Kristian Kutin
+ */
+public class LineScanner implements Closeable, Iterable<String> {
+
+    /**
+     * The default size of the character buffer.
+     */
+    public static final int DEFAULT_BUFFER_SIZE;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        DEFAULT_BUFFER_SIZE = 8192;
+    }
+
+    /**
+     * The underlying character stream.
+     */
+    private final Reader reader;
+
+    /**
+     * The line separator.
+     */
+    private final char[] separator;
+
+    /**
+     * A buffer which contains the characters which were read from the stream.
+     */
+    private final char[] buffer;
+
+    /**
+     * The index of the next character which has not been processed yet.
+     */
+    private int position;
+
+    /**
+     * The index after the last valid character within the buffer.
+     */
+    private int limit;
+
+    /**
+     * A flag indicating that the end of the character stream has been reached.
+     */
+    private boolean endOfStream;
+
+    /**
+     * A flag indicating that the last line has been returned.
+     */
+    private boolean finished;
+
+    /**
+     * A reusable buffer for assembling a line.
+     */
+    private final StringBuilder line;
+
+    /**
+     * Creates a new line scanner according to the specified parameters.
+     *
+     * @param aReader
+     *        a character stream
+     * @param aLineSeparator
+     *        the assumed line separator
+     */
+    public LineScanner(Reader aReader, String aLineSeparator) {
+
+        this(aReader, aLineSeparator, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new line scanner according to the specified parameters.
+     *
+     * @param aReader
+     *        a character stream
+     * @param aLineSeparator
+     *        the assumed line separator
+     * @param aBufferSize
+     *        the size of the character buffer (the buffer is enlarged if it
+     *        cannot hold at least two line separators)
+     */
+    public LineScanner(Reader aReader, String aLineSeparator, int aBufferSize) {
+
+        super();
+
+        reader = (Reader) ParameterCheckHelper.checkObjectParameter(aReader);
+        separator = ParameterCheckHelper.checkLineSeparatorParameter(aLineSeparator).toCharArray();
+
+        int bufferSize = Math.max(ParameterCheckHelper.checkPositiveIntegerParameter(aBufferSize), 2 * separator.length);
+        buffer = new char[bufferSize];
+
+        position = 0;
+        limit = 0;
+        endOfStream = false;
+        finished = false;
+        line = new StringBuilder();
+    }
+
+    /**
+     * Reads the next line.
+     *
+     * @return the next line or <code>null</code> if the last line has already
+     *         been returned
+     *
+     * @throws IOException
+     *         is thrown if an error occurs while reading from the character
+     *         stream
+     */
+    public ReadBuffer readLine() throws IOException {
+
+        if (finished) {
+
+            return null;
+        }
+
+        line.setLength(0);
+        int separatorLength = separator.length;
+
+        while (true) {
+
+            int index = indexOfSeparator();
+            if (index >= 0) {
+
+                line.append(buffer, position, index - position);
+                position = index + separatorLength;
+
+                return new ReadBuffer(line, false);
+            }
+
+            if (endOfStream) {
+
+                line.append(buffer, position, limit - position);
+                position = limit;
+                finished = true;
+
+                return new ReadBuffer(line, true);
+            }
+
+            // The last characters may be the beginning of a separator and
+            // remain in the buffer.
+            int safeLimit = limit - (separatorLength - 1);
+            if (safeLimit > position) {
+
+                line.append(buffer, position, safeLimit - position);
+                position = safeLimit;
+            }
+
+            fillBuffer();
+        }
+    }
+
+    /**
+     * Searches the unprocessed characters within the buffer for a line
+     * separator.
+     *
+     * @return the index of the line separator or <code>-1</code> if the buffer
+     *         doesn't contain a complete line separator
+     */
+    private int indexOfSeparator() {
+
+        char first = separator[0];
+        int separatorLength = separator.length;
+        int lastStart = limit - separatorLength;
+
+        for (int a = position; a <= lastStart; a++) {
+
+            if (buffer[a] != first) {
+
+                continue;
+            }
+
+            int b = 1;
+            while ((b < separatorLength) && (buffer[a + b] == separator[b])) {
+
+                b++;
+            }
+
+            if (b == separatorLength) {
+
+                return a;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Moves the unprocessed characters to the beginning of the buffer and
+     * fills the rest of the buffer from the character stream.
+     *
+     * @throws IOException
+     *         is thrown if an error occurs while reading from the character
+     *         stream
+     */
+    private void fillBuffer() throws IOException {
+
+        int remaining = limit - position;
+        if (position > 0) {
+
+            System.arraycopy(buffer, position, buffer, 0, remaining);
+            position = 0;
+            limit = remaining;
+        }
+
+        int count = reader.read(buffer, limit, buffer.length - limit);
+        if (count == END_OF_FILE) {
+
+            endOfStream = true;
+
+        } else {
+
+            limit += count;
+        }
+    }
+
+    /**
+     * Returns an iterator over the remaining lines. Lines which have already
+     * been read are not returned again. An error while reading is rethrown as
+     * {@link UncheckedIOException}.
+     *
+     * @return an iterator
+     */
+    @Override
+    public Iterator<String> iterator() {
+
+        return new LineIterator(this);
+    }
+
+    /**
+     * Closes the underlying character stream.
+     *
+     * @throws IOException
+     *         is thrown if an error occurs while closing the character stream
+     */
+    @Override
+    public void close() throws IOException {
+
+        reader.close();
+    }
+
+}
+
+
+/**
+ * An iterator over the lines of a line scanner.
+ *
+ * @author Kristian Kutin
+ */
+class LineIterator implements Iterator<String> {
+
+    /**
+     * The underlying line scanner.
+     */
+    private final LineScanner scanner;
+
+    /**
+     * The next line or <code>null</code> if the next line hasn't been read yet.
+     */
+    private String nextLine;
+
+    /**
+     * Creates a new iterator according to the specified parameters.
+     *
+     * @param aScanner
+     *        a line scanner
+     */
+    LineIterator(LineScanner aScanner) {
+
+        super();
+
+        scanner = aScanner;
+        nextLine = null;
+    }
+
+    /**
+     * Checks if there is another line.
+     *
+     * @return <code>true</code> if there is another line, else <code>false</code>
+     */
+    @Override
+    public boolean hasNext() {
+
+        if (nextLine != null) {
+
+            return true;
+        }
+
+        ReadBuffer result;
+        try {
+
+            result = scanner.readLine();
+
+        } catch (IOException e) {
+
+            throw new UncheckedIOException(e);
+        }
+
+        if (result == null) {
+
+            return false;
+        }
+
+        nextLine = result.getLine();
+
+        return true;
+    }
+
+    /**
+     * Returns the next line.
+     *
+     * @return a line
+     */
+    @Override
+    public String next() {
+
+        if (!hasNext()) {
+
+            throw new NoSuchElementException();
+        }
+
+        String line = nextLine;
+        nextLine = null;
+
+        return line;
+    }
+
+}
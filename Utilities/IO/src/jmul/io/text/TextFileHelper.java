@@ -36,12 +36,10 @@ package jmul.io.text;
 
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 
 import static jmul.io.Constants.END_OF_FILE;
 
-import static jmul.string.Constants.EMPTY_STRING;
 import static jmul.string.Constants.STARTING_INDEX;
 
 
@@ -65,7 +63,9 @@ public final class TextFileHelper {
 
     /**
      * Reads a line from the specified input stream according to the specified line
-     * separator.
+     * separator. The input stream is read character by character, i.e. nothing
+     * beyond the line separator is consumed. For reading all lines of a stream
+     * a {@link LineScanner} is faster.
      *
      * @param aReader
      *        the input stream
@@ -79,9 +79,12 @@ public final class TextFileHelper {
      */
     public static ReadBuffer readLine(BufferedReader aReader, String aLineSeparator) throws IOException {
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        StringBuilder buffer = new StringBuilder();
         boolean endOfFile = false;
 
+        int separatorLength = aLineSeparator.length();
+        char lastSeparatorChar = aLineSeparator.charAt(separatorLength - 1);
+
         while (true) {
 
             int i = aReader.read();
@@ -92,19 +95,49 @@ public final class TextFileHelper {
                 break;
             }
 
-            baos.write(i);
-            String line = baos.toString();
+            char c = (char) i;
+            buffer.append(c);
 
-            if (line.endsWith(aLineSeparator)) {
+            if ((c == lastSeparatorChar) && endsWith(buffer, aLineSeparator)) {
 
+                buffer.setLength(buffer.length() - separatorLength);
                 break;
             }
         }
 
-        String line = baos.toString();
-        line = line.replace(aLineSeparator, EMPTY_STRING);
+        return new ReadBuffer(buffer, endOfFile);
+    }
+
+    /**
+     * Checks if the specified buffer ends with the specified suffix.
+     *
+     * @param aBuffer
+     *        a buffer
+     * @param aSuffix
+     *        a suffix
+     *
+     * @return <code>true</code> if the buffer ends with the suffix, else
+     *         <code>false</code>
+     */
+    private static boolean endsWith(StringBuilder aBuffer, String aSuffix) {
+
+        int suffixLength = aSuffix.length();
+        int offset = aBuffer.length() - suffixLength;
+
+        if (offset < 0) {
+
+            return false;
+        }
+
+        for (int a = 0; a < suffixLength; a++) {
+
+            if (aBuffer.charAt(offset + a) != aSuffix.charAt(a)) {
+
+                return false;
+            }
+        }
 
-        return new ReadBuffer(line, endOfFile);
+        return true;
     }
 
     /**
@@ -35,6 +35,7 @@ package test.jmul.math.hash;
 
 
 import jmul.math.hash.HashHelper;
+import jmul.math.hash.PrimePair;
 
 import static jmul.misc.equality.EqualityHelper.equalObjects;
 
@@ -104,6 +105,42 @@ public class HashCodeTest {
         assertEquals(person1.hashCode(), person2.hashCode());
     }
 
+    /**
+     * Tests if the overloaded variants with a fixed number of arguments
+     * calculate the same hash code as the variant with a variable argument
+     * list.
+     */
+    @Test
+    public void testFixedArityVariants() {
+
+        Class<?> clazz = DummyPerson.class;
+        PrimePair pair = HashHelper.getPrimePair(clazz);
+
+        assertEquals(HashHelper.calculateHashCode(clazz, new Object[] { "a" }),
+                     HashHelper.calculateHashCode(clazz, "a"));
+        assertEquals(HashHelper.calculateHashCode(clazz, new Object[] { "a", null, 3 }),
+                     HashHelper.calculateHashCode(clazz, "a", null, 3));
+        assertEquals(HashHelper.calculateHashCode(pair.toList(), 1, 2, 3, 4, 5, 6, 7, 8),
+                     HashHelper.calculateHashCode(pair, 1, 2, 3, 4, 5, 6, 7, 8));
+        assertEquals(HashHelper.calculateHashCode(pair, new Object[] { 1, 2, 3, 4, 5, 6, 7, 8, 9 }),
+                     HashHelper.calculateHashCode(pair.toList(), 1, 2, 3, 4, 5, 6, 7, 8, 9));
+    }
+
+    /**
+     * Tests if the prime numbers which are associated with a class don't change.
+     */
+    @Test
+    public void testStablePrimePair() {
+
+        Class<?> clazz = DummyPerson.class;
+
+        PrimePair pair = HashHelper.getPrimePair(clazz);
+
+        assertEquals(pair, HashHelper.getPrimePair(clazz));
+        assertEquals(pair.toList(), HashHelper.getTwoPrimeNumbers(clazz));
+        assertTrue(pair.getFirstPrime() < pair.getSecondPrime());
+    }
+
 }
 
 
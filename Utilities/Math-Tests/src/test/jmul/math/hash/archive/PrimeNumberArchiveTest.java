@@ -36,18 +36,25 @@ package test.jmul.math.hash.archive;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import jmul.checks.exceptions.NullListParameterException;
 import jmul.checks.exceptions.NullParameterException;
 import jmul.checks.exceptions.UnexpectedSizeException;
 
 import jmul.math.hash.HashHelper;
+import jmul.math.hash.PrimePair;
 import jmul.math.hash.archive.ExistingEntryException;
 import jmul.math.hash.archive.PrimeNumberArchive;
 import jmul.math.hash.archive.PrimeNumberArchiveImpl;
 import jmul.math.hash.archive.UnknownClassException;
 
 import org.junit.After;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import org.junit.Before;
@@ -90,7 +97,7 @@ public class PrimeNumberArchiveTest {
     @Test
     public void testSuccessfulAddEntry() {
 
-        Class clazz = Object.class;
+        Class<?> clazz = Object.class;
         List<Integer> primeNumbers = HashHelper.determineTwoPrimeNumbers();
 
         archive.addEntry(clazz, primeNumbers);
@@ -103,7 +110,7 @@ public class PrimeNumberArchiveTest {
     @Test(expected = ExistingEntryException.class)
     public void testUnsuccessfulAddEntry() {
 
-        Class clazz = Object.class;
+        Class<?> clazz = Object.class;
         List<Integer> primeNumbers = HashHelper.determineTwoPrimeNumbers();
 
         archive.addEntry(clazz, primeNumbers);
@@ -116,7 +123,7 @@ public class PrimeNumberArchiveTest {
     @Test(expected = NullParameterException.class)
     public void testInvalidClassAddEntry() {
 
-        Class clazz = null;
+        Class<?> clazz = null;
         List<Integer> primeNumbers = HashHelper.determineTwoPrimeNumbers();
 
         archive.addEntry(clazz, primeNumbers);
@@ -128,7 +135,7 @@ public class PrimeNumberArchiveTest {
     @Test(expected = UnexpectedSizeException.class)
     public void testInvalidClassAddEntry2() {
 
-        Class clazz = Object.class;
+        Class<?> clazz = Object.class;
         List<Integer> primeNumbers = new ArrayList<>();
 
         archive.addEntry(clazz, primeNumbers);
@@ -140,7 +147,7 @@ public class PrimeNumberArchiveTest {
     @Test(expected = NullListParameterException.class)
     public void testInvalidClassAddEntry3() {
 
-        Class clazz = Object.class;
+        Class<?> clazz = Object.class;
         List<Integer> primeNumbers = null;
 
         archive.addEntry(clazz, primeNumbers);
@@ -152,7 +159,7 @@ public class PrimeNumberArchiveTest {
     @Test
     public void testExistsEntry() {
 
-        Class clazz = Object.class;
+        Class<?> clazz = Object.class;
 
         assertFalse(archive.existsEntry(clazz));
     }
@@ -163,7 +170,7 @@ public class PrimeNumberArchiveTest {
     @Test
     public void testExistsEntry2() {
 
-        Class clazz = null;
+        Class<?> clazz = null;
 
         assertFalse(archive.existsEntry(clazz));
     }
@@ -174,7 +181,7 @@ public class PrimeNumberArchiveTest {
     @Test(expected = UnknownClassException.class)
     public void testGetEntry() {
 
-        Class clazz = Object.class;
+        Class<?> clazz = Object.class;
 
         archive.getEntry(clazz);
     }
@@ -185,9 +192,96 @@ public class PrimeNumberArchiveTest {
     @Test(expected = NullParameterException.class)
     public void testGetEntry2() {
 
-        Class clazz = null;
+        Class<?> clazz = null;
 
         archive.getEntry(clazz);
     }
 
+    /**
+     * Tests retrieving a prime pair for a class without an entry.
+     */
+    @Test
+    public void testGetPrimePair() {
+
+        Class<?> clazz = Object.class;
+
+        PrimePair pair = archive.getPrimePair(clazz);
+
+        assertTrue(archive.existsEntry(clazz));
+        assertEquals(pair.toList(), archive.getEntry(clazz));
+    }
+
+    /**
+     * Tests retrieving a prime pair for a class with an existing entry.
+     */
+    @Test
+    public void testGetPrimePair2() {
+
+        Class<?> clazz = Object.class;
+        List<Integer> primeNumbers = HashHelper.determineTwoPrimeNumbers();
+
+        archive.addEntry(clazz, primeNumbers);
+
+        assertEquals(primeNumbers, archive.getPrimePair(clazz).toList());
+    }
+
+    /**
+     * Tests retrieving a prime pair with an invalid parameter.
+     */
+    @Test(expected = NullParameterException.class)
+    public void testGetPrimePair3() {
+
+        Class<?> clazz = null;
+
+        archive.getPrimePair(clazz);
+    }
+
+    /**
+     * Tests retrieving a prime pair from several threads at the same time. All
+     * threads must see the same entry.
+     *
+     * @throws Exception
+     *         is thrown if a thread fails
+     */
+    @Test
+    public void testConcurrentGetPrimePair() throws Exception {
+
+        final int threads = 8;
+        final Class<?> clazz = Object.class;
+        final CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+
+            List<Future<PrimePair>> results = new ArrayList<>();
+
+            for (int a = 0; a < threads; a++) {
+
+                results.add(executor.submit(new Callable<PrimePair>() {
+
+                    @Override
+                    public PrimePair call() throws Exception {
+
+                        start.await();
+                        return archive.getPrimePair(clazz);
+                    }
+                }));
+            }
+
+            start.countDown();
+
+            PrimePair expected = archive.getPrimePair(clazz);
+
+            for (Future<PrimePair> result : results) {
+
+                assertEquals(expected, result.get());
+            }
+
+        } finally {
+
+            executor.shutdown();
+        }
+    }
+
 }
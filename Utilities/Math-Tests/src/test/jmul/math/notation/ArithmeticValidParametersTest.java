@@ -0,0 +1,166 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.math.notation;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import jmul.math.notation.NotationHelper;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+
+/**
+ * The class contains tests to check the arithmetic operations on number
+ * strings.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+@RunWith(Parameterized.class)
+public class ArithmeticValidParametersTest {
+
+    /**
+     * The first number string.
+     */
+    private String firstNumber;
+
+    /**
+     * The second number string.
+     */
+    private String secondNumber;
+
+    /**
+     * The expected sum.
+     */
+    private String expectedSum;
+
+    /**
+     * The expected difference.
+     */
+    private String expectedDifference;
+
+    /**
+     * The expected product.
+     */
+    private String expectedProduct;
+
+    /**
+     * Creates a new test case according to the specified parameters.
+     *
+     * @param aFirstNumber
+     * @param aSecondNumber
+     * @param theExpectedSum
+     * @param theExpectedDifference
+     * @param theExpectedProduct
+     */
+    public ArithmeticValidParametersTest(String aFirstNumber, String aSecondNumber, String theExpectedSum,
+                                         String theExpectedDifference, String theExpectedProduct) {
+
+        super();
+
+        firstNumber = aFirstNumber;
+        secondNumber = aSecondNumber;
+        expectedSum = theExpectedSum;
+        expectedDifference = theExpectedDifference;
+        expectedProduct = theExpectedProduct;
+    }
+
+    /**
+     * Tests adding two number strings.
+     */
+    @Test
+    public void testAdd() {
+
+        assertEquals(expectedSum, NotationHelper.add(firstNumber, secondNumber));
+    }
+
+    /**
+     * Tests subtracting two number strings.
+     */
+    @Test
+    public void testSubtract() {
+
+        assertEquals(expectedDifference, NotationHelper.subtract(firstNumber, secondNumber));
+    }
+
+    /**
+     * Tests multiplying two number strings.
+     */
+    @Test
+    public void testMultiply() {
+
+        assertEquals(expectedProduct, NotationHelper.multiply(firstNumber, secondNumber));
+    }
+
+    /**
+     * Returns a matrix of input data.
+     *
+     * @return a matrix of input data
+     */
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+
+        Collection<Object[]> parameters = new ArrayList<Object[]>();
+
+        parameters.add(new Object[] { "0", "0", "0", "0", "0" });
+        parameters.add(new Object[] { "1", "0", "1", "1", "0" });
+        parameters.add(new Object[] { "0", "1", "1", "-1", "0" });
+        parameters.add(new Object[] { "2", "3", "5", "-1", "6" });
+        parameters.add(new Object[] { "-2", "3", "1", "-5", "-6" });
+        parameters.add(new Object[] { "-2", "-3", "-5", "1", "6" });
+        parameters.add(new Object[] { "999", "1", "1000", "998", "999" });
+        parameters.add(new Object[] { "1000", "1", "1001", "999", "1000" });
+        parameters.add(new Object[] { "1.5", "2,25", "3.75", "-0.75", "3.375" });
+        parameters.add(new Object[] { "0.1", "0.2", "0.3", "-0.1", "0.02" });
+        parameters.add(new Object[] { "1.0", "1", "2", "0", "1" });
+        parameters.add(new Object[] { "-0.05", "0.05", "0", "-0.1", "-0.0025" });
+        parameters.add(new Object[] { "1.5E3", "2.0E-2", "1500.02", "1499.98", "30" });
+        parameters.add(new Object[] { "1.0E2", "150", "250", "-50", "15000" });
+        parameters.add(new Object[] { "9223372036854775807", "9223372036854775807", "18446744073709551614", "0",
+                                      "85070591730234615847396907784232501249" });
+        parameters.add(new Object[] { "12345678901234567890.123456789", "-0.000000001",
+                                      "12345678901234567890.123456788", "12345678901234567890.12345679",
+                                      "-12345678901.234567890123456789" });
+
+        return parameters;
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.math.notation;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import jmul.math.notation.NotationHelper;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+
+/**
+ * The class contains tests to check the digit by digit comparison of number
+ * strings.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+@RunWith(Parameterized.class)
+public class CompareNumbersValidParametersTest {
+
+    /**
+     * The first number string.
+     */
+    private String firstNumber;
+
+    /**
+     * The second number string.
+     */
+    private String secondNumber;
+
+    /**
+     * The expected signum of the comparison.
+     */
+    private int expectedResult;
+
+    /**
+     * Creates a new test case according to the specified parameters.
+     *
+     * @param aFirstNumber
+     * @param aSecondNumber
+     * @param theExpectedResult
+     */
+    public CompareNumbersValidParametersTest(String aFirstNumber, String aSecondNumber, int theExpectedResult) {
+
+        super();
+
+        firstNumber = aFirstNumber;
+        secondNumber = aSecondNumber;
+        expectedResult = theExpectedResult;
+    }
+
+    /**
+     * Tests comparing two number strings.
+     */
+    @Test
+    public void testCompareNumbers() {
+
+        int result = NotationHelper.compareNumbers(firstNumber, secondNumber);
+        assertEquals(expectedResult, Integer.signum(result));
+
+        int reverseResult = NotationHelper.compareNumbers(secondNumber, firstNumber);
+        assertEquals(-expectedResult, Integer.signum(reverseResult));
+    }
+
+    /**
+     * Returns a matrix of input data.
+     *
+     * @return a matrix of input data
+     */
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+
+        Collection<Object[]> parameters = new ArrayList<Object[]>();
+
+        parameters.add(new Object[] { "0", "0", 0 });
+        parameters.add(new Object[] { "0", "-0", 0 });
+        parameters.add(new Object[] { "0", "0.000", 0 });
+        parameters.add(new Object[] { "0", "0.0E5", 0 });
+        parameters.add(new Object[] { "1", "0", 1 });
+        parameters.add(new Object[] { "-1", "0", -1 });
+        parameters.add(new Object[] { "-1", "1", -1 });
+        parameters.add(new Object[] { "007", "7", 0 });
+        parameters.add(new Object[] { "+7", "7", 0 });
+        parameters.add(new Object[] { "9", "10", -1 });
+        parameters.add(new Object[] { "-9", "-10", 1 });
+        parameters.add(new Object[] { "1.0", "1,00", 0 });
+        parameters.add(new Object[] { "1.5", "1", 1 });
+        parameters.add(new Object[] { "0.05", "0,5", -1 });
+        parameters.add(new Object[] { "-0.05", "-0,5", 1 });
+        parameters.add(new Object[] { "12.345", "12.3449", 1 });
+        parameters.add(new Object[] { "1.5E2", "150", 0 });
+        parameters.add(new Object[] { "1,5E+2", "150.0", 0 });
+        parameters.add(new Object[] { "1.5E-2", "0.015", 0 });
+        parameters.add(new Object[] { "1.5E-2", "0.0151", -1 });
+        parameters.add(new Object[] { "9.9E1", "1.0E2", -1 });
+        parameters.add(new Object[] { "-9.9E1", "-1.0E2", 1 });
+        parameters.add(new Object[] { "3.4028235E38", "3.4028233E38", 1 });
+        parameters.add(new Object[] { "9223372036854775807", "9223372036854775808", -1 });
+        parameters.add(new Object[] { "-9223372036854775808", "-9223372036854775807", -1 });
+
+        return parameters;
+    }
+
+}
@@ -39,6 +39,8 @@ import java.util.Collection;
 
 import jmul.math.notation.NotationHelper;
 import jmul.math.notation.PrecisionTypes;
+import static jmul.math.notation.PrecisionTypes.SIGNED_FLOATING_POINT_32_BIT;
+import static jmul.math.notation.PrecisionTypes.SIGNED_FLOATING_POINT_64_BIT;
 import static jmul.math.notation.PrecisionTypes.SIGNED_INTEGER_32_BIT;
 import static jmul.math.notation.PrecisionTypes.SIGNED_INTEGER_64_BIT;
 
@@ -114,6 +116,24 @@ public class PrecisionCheckValidParametersTest {
         parameters.add(new Object[] { "-2147483649", SIGNED_INTEGER_64_BIT });
         parameters.add(new Object[] { "9223372036854775807", SIGNED_INTEGER_64_BIT });
         parameters.add(new Object[] { "-9223372036854775808", SIGNED_INTEGER_64_BIT });
+        parameters.add(new Object[] { "0.0", SIGNED_FLOATING_POINT_32_BIT });
+        parameters.add(new Object[] { "1.5", SIGNED_FLOATING_POINT_32_BIT });
+        parameters.add(new Object[] { "-1,5", SIGNED_FLOATING_POINT_32_BIT });
+        parameters.add(new Object[] { "0.123456", SIGNED_FLOATING_POINT_32_BIT });
+        parameters.add(new Object[] { "0.123456789", SIGNED_FLOATING_POINT_64_BIT });
+        parameters.add(new Object[] { "1.00000001", SIGNED_FLOATING_POINT_64_BIT });
+        parameters.add(new Object[] { "16777216.0", SIGNED_FLOATING_POINT_32_BIT });
+        parameters.add(new Object[] { "16777217.0", SIGNED_FLOATING_POINT_64_BIT });
+        parameters.add(new Object[] { "9.5367431640625E-7", SIGNED_FLOATING_POINT_32_BIT });
+        parameters.add(new Object[] { "0.1234567891", SIGNED_FLOATING_POINT_64_BIT });
+        parameters.add(new Object[] { String.valueOf(Float.MAX_VALUE), SIGNED_FLOATING_POINT_32_BIT });
+        parameters.add(new Object[] { String.valueOf(-Float.MAX_VALUE), SIGNED_FLOATING_POINT_32_BIT });
+        parameters.add(new Object[] { String.valueOf(Float.MIN_VALUE), SIGNED_FLOATING_POINT_32_BIT });
+        parameters.add(new Object[] { "3.5E38", SIGNED_FLOATING_POINT_64_BIT });
+        parameters.add(new Object[] { "-3.5E38", SIGNED_FLOATING_POINT_64_BIT });
+        parameters.add(new Object[] { "1.0E-46", SIGNED_FLOATING_POINT_64_BIT });
+        parameters.add(new Object[] { String.valueOf(Double.MAX_VALUE), SIGNED_FLOATING_POINT_64_BIT });
+        parameters.add(new Object[] { String.valueOf(-Double.MAX_VALUE), SIGNED_FLOATING_POINT_64_BIT });
 
         return parameters;
     }
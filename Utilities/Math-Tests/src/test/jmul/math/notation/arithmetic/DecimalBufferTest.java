@@ -0,0 +1,194 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.math.notation.arithmetic;
+
+
+import java.math.BigDecimal;
+
+import java.util.Random;
+
+import jmul.math.notation.arithmetic.DecimalBuffer;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+
+/**
+ * The class contains tests to check the arithmetic operations of a decimal
+ * buffer.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class DecimalBufferTest {
+
+    /**
+     * The number of random operations.
+     */
+    private static final int ITERATIONS = 2000;
+
+    /**
+     * Returns a random number string.
+     *
+     * @param aRandom
+     *        a random number generator
+     *
+     * @return a number string
+     */
+    private static String randomNumber(Random aRandom) {
+
+        StringBuilder buffer = new StringBuilder();
+
+        if (aRandom.nextBoolean()) {
+
+            buffer.append('-');
+        }
+
+        int integerDigits = 1 + aRandom.nextInt(25);
+
+        for (int a = 0; a < integerDigits; a++) {
+
+            buffer.append((char) ('0' + aRandom.nextInt(10)));
+        }
+
+        if (aRandom.nextBoolean()) {
+
+            buffer.append('.');
+
+            int fractionDigits = 1 + aRandom.nextInt(25);
+
+            for (int a = 0; a < fractionDigits; a++) {
+
+                buffer.append((char) ('0' + aRandom.nextInt(10)));
+            }
+        }
+
+        return String.valueOf(buffer);
+    }
+
+    /**
+     * Compares the specified buffer with the specified expected value.
+     *
+     * @param expected
+     *        the expected value
+     * @param actual
+     *        the actual buffer
+     */
+    private static void assertSameValue(BigDecimal expected, DecimalBuffer actual) {
+
+        BigDecimal actualValue = new BigDecimal(String.valueOf(actual));
+
+        assertEquals(expected + " <> " + actual, 0, expected.compareTo(actualValue));
+    }
+
+    /**
+     * Tests random operations against a reference implementation.
+     */
+    @Test
+    public void testRandomOperations() {
+
+        Random random = new Random(42L);
+
+        DecimalBuffer first = new DecimalBuffer();
+        DecimalBuffer second = new DecimalBuffer();
+
+        for (int a = 0; a < ITERATIONS; a++) {
+
+            String firstNumber = randomNumber(random);
+            String secondNumber = randomNumber(random);
+
+            BigDecimal firstValue = new BigDecimal(firstNumber);
+            BigDecimal secondValue = new BigDecimal(secondNumber);
+
+            second.set(secondNumber);
+
+            assertSameValue(firstValue.add(secondValue), first.set(firstNumber).add(second));
+            assertSameValue(firstValue.subtract(secondValue), first.set(firstNumber).subtract(second));
+            assertSameValue(firstValue.multiply(secondValue), first.set(firstNumber).multiply(second));
+
+            assertEquals(firstValue.compareTo(secondValue), first.set(firstNumber).compare(second));
+        }
+    }
+
+    /**
+     * Tests accumulating many numbers within the same buffer.
+     */
+    @Test
+    public void testAccumulation() {
+
+        DecimalBuffer sum = new DecimalBuffer();
+        DecimalBuffer summand = new DecimalBuffer();
+
+        for (int a = 0; a < 1000; a++) {
+
+            sum.add(summand.set("0.01"));
+        }
+
+        assertEquals("10", String.valueOf(sum));
+
+        sum.subtract(summand.set("1.0E1"));
+
+        assertTrue(sum.isZero());
+        assertEquals("0", String.valueOf(sum));
+    }
+
+    /**
+     * Tests operations where both operands are the same buffer.
+     */
+    @Test
+    public void testSameOperand() {
+
+        DecimalBuffer buffer = new DecimalBuffer("-12.5");
+
+        assertEquals("-25", String.valueOf(buffer.add(buffer)));
+        assertEquals("625", String.valueOf(buffer.multiply(buffer)));
+        assertEquals("0", String.valueOf(buffer.subtract(buffer)));
+    }
+
+    /**
+     * Tests the number of significant digits.
+     */
+    @Test
+    public void testPrecision() {
+
+        assertEquals(0, new DecimalBuffer("0.000").precision());
+        assertEquals(1, new DecimalBuffer("1000").precision());
+        assertEquals(3, new DecimalBuffer("-0.00101").precision());
+        assertEquals(2, new DecimalBuffer("1.5E300").precision());
+    }
+
+}
@@ -0,0 +1,165 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package test.jmul.math.prime;
+
+
+import jmul.math.prime.PrimeNumberHelper;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+
+/**
+ * Tests the primality checks of the {@link jmul.math.prime.PrimeNumberHelper}.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class PrimeNumberCheckTest {
+
+    /**
+     * Checks the specified number by trial division.
+     *
+     * @param n
+     *        a number
+     *
+     * @return <code>true</code> if the specified number is a prime number, else
+     *         <code>false</code>
+     */
+    private static boolean isPrimeNumberByTrialDivision(long n) {
+
+        if (n < 2L) {
+
+            return false;
+        }
+
+        for (long a = 2L; (a * a) <= n; a++) {
+
+            if ((n % a) == 0L) {
+
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Compares the results for small numbers with trial division.
+     */
+    @Test
+    public void testSmallNumbers() {
+
+        for (int a = 0; a < 200000; a++) {
+
+            assertEquals("Number " + a, isPrimeNumberByTrialDivision(a), PrimeNumberHelper.isPrimeNumber(a));
+        }
+    }
+
+    /**
+     * Compares the results for numbers near the upper bound of integers with
+     * trial division.
+     */
+    @Test
+    public void testLargeIntegers() {
+
+        for (int a = Integer.MAX_VALUE - 1000; a < Integer.MAX_VALUE; a++) {
+
+            assertEquals("Number " + a, isPrimeNumberByTrialDivision(a), PrimeNumberHelper.isPrimeNumber(a));
+        }
+
+        assertTrue(PrimeNumberHelper.isPrimeNumber(Integer.MAX_VALUE));
+    }
+
+    /**
+     * Checks some numbers beyond the range of integers.
+     */
+    @Test
+    public void testLongNumbers() {
+
+        assertTrue(PrimeNumberHelper.isPrimeNumber(2305843009213693951L));
+        assertFalse(PrimeNumberHelper.isPrimeNumber(2305843009213693953L));
+        assertTrue(PrimeNumberHelper.isPrimeNumber(9223372036854775783L));
+        assertFalse(PrimeNumberHelper.isPrimeNumber(Long.MAX_VALUE));
+        assertTrue(PrimeNumberHelper.isPrimeNumber(4294967311L));
+        assertFalse(PrimeNumberHelper.isPrimeNumber(3215031751L));
+        assertFalse(PrimeNumberHelper.isPrimeNumber(3825123056546413051L));
+
+        for (long a = 4759123041L; a < 4759123241L; a++) {
+
+            assertEquals("Number " + a, isPrimeNumberByTrialDivision(a), PrimeNumberHelper.isPrimeNumber(a));
+        }
+    }
+
+    /**
+     * Checks the nth prime number for large n.
+     */
+    @Test
+    public void testNthPrimeNumber() {
+
+        assertEquals(7919, PrimeNumberHelper.getNextPrimeNumber(1000));
+        assertEquals(104729, PrimeNumberHelper.getNextPrimeNumber(10000));
+        assertEquals(1299709, PrimeNumberHelper.getNextPrimeNumber(100000));
+        assertEquals(15485863, PrimeNumberHelper.getNextPrimeNumber(1000000));
+    }
+
+    /**
+     * Checks counting prime numbers.
+     */
+    @Test
+    public void testCountPrimeNumbers() {
+
+        assertEquals(0, PrimeNumberHelper.countPrimeNumbers(1));
+        assertEquals(1, PrimeNumberHelper.countPrimeNumbers(2));
+        assertEquals(4, PrimeNumberHelper.countPrimeNumbers(10));
+        assertEquals(25, PrimeNumberHelper.countPrimeNumbers(100));
+        assertEquals(78498, PrimeNumberHelper.countPrimeNumbers(1000000));
+        assertEquals(664579, PrimeNumberHelper.countPrimeNumbers(10000000));
+    }
+
+    /**
+     * Checks a negative number.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeNumber() {
+
+        PrimeNumberHelper.isPrimeNumber(-1);
+    }
+
+}
@@ -36,34 +36,57 @@ package jmul.math.hash;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
-import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
 
 import static jmul.math.hash.Constants.DEFAULT_LIST_SIZE;
 import jmul.math.hash.archive.PrimeNumberArchive;
 import jmul.math.hash.archive.PrimeNumberArchiveImpl;
 import jmul.math.prime.PrimeNumberHelper;
-import static jmul.math.random.StandardDice.D20;
 
 
 /**
- * A utility class for calculating hash values.
+ * A utility class for calculating hash values.<br>
+ * <br>
+ * <i>Note:<br>
+ * For up to eight field values there are overloaded variants of
+ * {@link #calculateHashCode} which neither allocate an array nor box the
+ * prime numbers. These are preferred in frequently called
+ * <code>hashCode</code> methods.</i>
  *
  * @author Kristian Kutin
  */
 public final class HashHelper {
 
+    /**
+     * The number of prime numbers from which the prime numbers for a class are
+     * chosen.
+     */
+    private static final int CANDIDATE_COUNT = 20;
+
+    /**
+     * The prime numbers from which the prime numbers for a class are chosen
+     * (i.e. the first {@link #CANDIDATE_COUNT} prime numbers).
+     */
+    private static final int[] CANDIDATES;
+
     /**
      * The archive stores prime numbers for calculating hash codes.
      */
-    private static PrimeNumberArchive archive;
+    private static final PrimeNumberArchive ARCHIVE;
 
     /*
      * The static initializer.
      */
     static {
 
-        archive = new PrimeNumberArchiveImpl();
+        CANDIDATES = new int[CANDIDATE_COUNT];
+
+        for (int a = 0; a < CANDIDATE_COUNT; a++) {
+
+            CANDIDATES[a] = PrimeNumberHelper.getNextPrimeNumber(a + 1);
+        }
+
+        ARCHIVE = new PrimeNumberArchiveImpl();
     }
 
     /**
@@ -84,11 +107,193 @@ public final class HashHelper {
      *
      * @return a hash value
      */
-    public static int calculateHashCode(Class aClass, Object... someObjects) {
+    public static int calculateHashCode(Class<?> aClass, Object... someObjects) {
+
+        return calculateHashCode(getPrimePair(aClass), someObjects);
+    }
+
+    /**
+     * Calculates a hash code according to the specified parameters. Unlike the
+     * variant with a variable argument list no array is allocated.
+     *
+     * @param aClass
+     *        the class
+     * @param o1
+     *        a field value
+     *
+     * @return a hash value
+     */
+    public static int calculateHashCode(Class<?> aClass, Object o1) {
+
+        return calculateHashCode(getPrimePair(aClass), o1);
+    }
+
+    /**
+     * Calculates a hash code according to the specified parameters. Unlike the
+     * variant with a variable argument list no array is allocated.
+     *
+     * @param aClass
+     *        the class
+     * @param o1
+     *        a field value
+     * @param o2
+     *        a field value
+     *
+     * @return a hash value
+     */
+    public static int calculateHashCode(Class<?> aClass, Object o1, Object o2) {
+
+        return calculateHashCode(getPrimePair(aClass), o1, o2);
+    }
+
+    /**
+     * Calculates a hash code according to the specified parameters. Unlike the
+     * variant with a variable argument list no array is allocated.
+     *
+     * @param aClass
+     *        the class
+     * @param o1
+     *        a field value
+     * @param o2
+     *        a field value
+     * @param o3
+     *        a field value
+     *
+     * @return a hash value
+     */
+    public static int calculateHashCode(Class<?> aClass, Object o1, Object o2, Object o3) {
+
+        return calculateHashCode(getPrimePair(aClass), o1, o2, o3);
+    }
+
+    /**
+     * Calculates a hash code according to the specified parameters. Unlike the
+     * variant with a variable argument list no array is allocated.
+     *
+     * @param aClass
+     *        the class
+     * @param o1
+     *        a field value
+     * @param o2
+     *        a field value
+     * @param o3
+     *        a field value
+     * @param o4
+     *        a field value
+     *
+     * @return a hash value
+     */
+    public static int calculateHashCode(Class<?> aClass, Object o1, Object o2, Object o3, Object o4) {
+
+        return calculateHashCode(getPrimePair(aClass), o1, o2, o3, o4);
+    }
+
+    /**
+     * Calculates a hash code according to the specified parameters. Unlike the
+     * variant with a variable argument list no array is allocated.
+     *
+     * @param aClass
+     *        the class
+     * @param o1
+     *        a field value
+     * @param o2
+     *        a field value
+     * @param o3
+     *        a field value
+     * @param o4
+     *        a field value
+     * @param o5
+     *        a field value
+     *
+     * @return a hash value
+     */
+    public static int calculateHashCode(Class<?> aClass, Object o1, Object o2, Object o3, Object o4, Object o5) {
+
+        return calculateHashCode(getPrimePair(aClass), o1, o2, o3, o4, o5);
+    }
+
+    /**
+     * Calculates a hash code according to the specified parameters. Unlike the
+     * variant with a variable argument list no array is allocated.
+     *
+     * @param aClass
+     *        the class
+     * @param o1
+     *        a field value
+     * @param o2
+     *        a field value
+     * @param o3
+     *        a field value
+     * @param o4
+     *        a field value
+     * @param o5
+     *        a field value
+     * @param o6
+     *        a field value
+     *
+     * @return a hash value
+     */
+    public static int calculateHashCode(Class<?> aClass, Object o1, Object o2, Object o3, Object o4, Object o5, Object o6) {
 
-        List<Integer> primeNumbers = getTwoPrimeNumbers(aClass);
+        return calculateHashCode(getPrimePair(aClass), o1, o2, o3, o4, o5, o6);
+    }
+
+    /**
+     * Calculates a hash code according to the specified parameters. Unlike the
+     * variant with a variable argument list no array is allocated.
+     *
+     * @param aClass
+     *        the class
+     * @param o1
+     *        a field value
+     * @param o2
+     *        a field value
+     * @param o3
+     *        a field value
+     * @param o4
+     *        a field value
+     * @param o5
+     *        a field value
+     * @param o6
+     *        a field value
+     * @param o7
+     *        a field value
+     *
+     * @return a hash value
+     */
+    public static int calculateHashCode(Class<?> aClass, Object o1, Object o2, Object o3, Object o4, Object o5, Object o6, Object o7) {
+
+        return calculateHashCode(getPrimePair(aClass), o1, o2, o3, o4, o5, o6, o7);
+    }
+
+    /**
+     * Calculates a hash code according to the specified parameters. Unlike the
+     * variant with a variable argument list no array is allocated.
+     *
+     * @param aClass
+     *        the class
+     * @param o1
+     *        a field value
+     * @param o2
+     *        a field value
+     * @param o3
+     *        a field value
+     * @param o4
+     *        a field value
+     * @param o5
+     *        a field value
+     * @param o6
+     *        a field value
+     * @param o7
+     *        a field value
+     * @param o8
+     *        a field value
+     *
+     * @return a hash value
+     */
+    public static int calculateHashCode(Class<?> aClass, Object o1, Object o2, Object o3, Object o4, Object o5, Object o6, Object o7, Object o8) {
 
-        return calculateHashCode(primeNumbers, someObjects);
+        return calculateHashCode(getPrimePair(aClass), o1, o2, o3, o4, o5, o6, o7, o8);
     }
 
     /**
@@ -103,14 +308,24 @@ public final class HashHelper {
      *
      * @return a list containing two prime numbers
      */
-    public static List<Integer> getTwoPrimeNumbers(Class aClass) {
+    public static List<Integer> getTwoPrimeNumbers(Class<?> aClass) {
 
-        if (!archive.existsEntry(aClass)) {
+        return getPrimePair(aClass).toList();
+    }
 
-            archive.addEntry(aClass, determineTwoPrimeNumbers());
-        }
+    /**
+     * Associates two random prime numbers with the specified class (see
+     * {@link #getTwoPrimeNumbers}). The prime numbers are returned as primitive
+     * values.
+     *
+     * @param aClass
+     *        a class object
+     *
+     * @return a pair of prime numbers
+     */
+    public static PrimePair getPrimePair(Class<?> aClass) {
 
-        return archive.getEntry(aClass);
+        return ARCHIVE.getPrimePair(aClass);
     }
 
     /**
@@ -134,27 +349,318 @@ public final class HashHelper {
         int firstPrime = twoPrimeNumbers.get(0);
         int secondPrime = twoPrimeNumbers.get(1);
 
-        int hash = firstPrime;
+        return combineHashCodes(firstPrime, secondPrime, someObjects);
+    }
 
-        for (Object object : someObjects) {
+    /**
+     * Calculates a hash code according to the specified parameters.
+     *
+     * @param aPair
+     *        a pair of prime numbers
+     * @param someObjects
+     *        all field values of an instance of the class
+     *
+     * @return a hash value
+     */
+    public static int calculateHashCode(PrimePair aPair, Object... someObjects) {
 
-            int n;
+        return combineHashCodes(aPair.getFirstPrime(), aPair.getSecondPrime(), someObjects);
+    }
 
-            if (object == null) {
+    /**
+     * Calculates a hash code according to the specified parameters. Unlike the
+     * variant with a variable argument list no array is allocated.
+     *
+     * @param aPair
+     *        a pair of prime numbers
+     * @param o1
+     *        a field value
+     *
+     * @return a hash value
+     */
+    public static int calculateHashCode(PrimePair aPair, Object o1) {
+
+        int secondPrime = aPair.getSecondPrime();
+        int hash = aPair.getFirstPrime();
+
+        hash = secondPrime * hash + hashCode(o1);
+
+        return hash;
+    }
+
+    /**
+     * Calculates a hash code according to the specified parameters. Unlike the
+     * variant with a variable argument list no array is allocated.
+     *
+     * @param aPair
+     *        a pair of prime numbers
+     * @param o1
+     *        a field value
+     * @param o2
+     *        a field value
+     *
+     * @return a hash value
+     */
+    public static int calculateHashCode(PrimePair aPair, Object o1, Object o2) {
+
+        int secondPrime = aPair.getSecondPrime();
+        int hash = aPair.getFirstPrime();
+
+        hash = secondPrime * hash + hashCode(o1);
+        hash = secondPrime * hash + hashCode(o2);
+
+        return hash;
+    }
+
+    /**
+     * Calculates a hash code according to the specified parameters. Unlike the
+     * variant with a variable argument list no array is allocated.
+     *
+     * @param aPair
+     *        a pair of prime numbers
+     * @param o1
+     *        a field value
+     * @param o2
+     *        a field value
+     * @param o3
+     *        a field value
+     *
+     * @return a hash value
+     */
+    public static int calculateHashCode(PrimePair aPair, Object o1, Object o2, Object o3) {
+
+        int secondPrime = aPair.getSecondPrime();
+        int hash = aPair.getFirstPrime();
+
+        hash = secondPrime * hash + hashCode(o1);
+        hash = secondPrime * hash + hashCode(o2);
+        hash = secondPrime * hash + hashCode(o3);
+
+        return hash;
+    }
+
+    /**
+     * Calculates a hash code according to the specified parameters. Unlike the
+     * variant with a variable argument list no array is allocated.
+     *
+     * @param aPair
+     *        a pair of prime numbers
+     * @param o1
+     *        a field value
+     * @param o2
+     *        a field value
+     * @param o3
+     *        a field value
+     * @param o4
+     *        a field value
+     *
+     * @return a hash value
+     */
+    public static int calculateHashCode(PrimePair aPair, Object o1, Object o2, Object o3, Object o4) {
+
+        int secondPrime = aPair.getSecondPrime();
+        int hash = aPair.getFirstPrime();
+
+        hash = secondPrime * hash + hashCode(o1);
+        hash = secondPrime * hash + hashCode(o2);
+        hash = secondPrime * hash + hashCode(o3);
+        hash = secondPrime * hash + hashCode(o4);
+
+        return hash;
+    }
+
+    /**
+     * Calculates a hash code according to the specified parameters. Unlike the
+     * variant with a variable argument list no array is allocated.
+     *
+     * @param aPair
+     *        a pair of prime numbers
+     * @param o1
+     *        a field value
+     * @param o2
+     *        a field value
+     * @param o3
+     *        a field value
+     * @param o4
+     *        a field value
+     * @param o5
+     *        a field value
+     *
+     * @return a hash value
+     */
+    public static int calculateHashCode(PrimePair aPair, Object o1, Object o2, Object o3, Object o4, Object o5) {
+
+        int secondPrime = aPair.getSecondPrime();
+        int hash = aPair.getFirstPrime();
+
+        hash = secondPrime * hash + hashCode(o1);
+        hash = secondPrime * hash + hashCode(o2);
+        hash = secondPrime * hash + hashCode(o3);
+        hash = secondPrime * hash + hashCode(o4);
+        hash = secondPrime * hash + hashCode(o5);
+
+        return hash;
+    }
 
-                n = 0;
+    /**
+     * Calculates a hash code according to the specified parameters. Unlike the
+     * variant with a variable argument list no array is allocated.
+     *
+     * @param aPair
+     *        a pair of prime numbers
+     * @param o1
+     *        a field value
+     * @param o2
+     *        a field value
+     * @param o3
+     *        a field value
+     * @param o4
+     *        a field value
+     * @param o5
+     *        a field value
+     * @param o6
+     *        a field value
+     *
+     * @return a hash value
+     */
+    public static int calculateHashCode(PrimePair aPair, Object o1, Object o2, Object o3, Object o4, Object o5, Object o6) {
 
-            } else {
+        int secondPrime = aPair.getSecondPrime();
+        int hash = aPair.getFirstPrime();
 
-                n = object.hashCode();
-            }
+        hash = secondPrime * hash + hashCode(o1);
+        hash = secondPrime * hash + hashCode(o2);
+        hash = secondPrime * hash + hashCode(o3);
+        hash = secondPrime * hash + hashCode(o4);
+        hash = secondPrime * hash + hashCode(o5);
+        hash = secondPrime * hash + hashCode(o6);
 
-            hash = secondPrime * hash + n;
+        return hash;
+    }
+
+    /**
+     * Calculates a hash code according to the specified parameters. Unlike the
+     * variant with a variable argument list no array is allocated.
+     *
+     * @param aPair
+     *        a pair of prime numbers
+     * @param o1
+     *        a field value
+     * @param o2
+     *        a field value
+     * @param o3
+     *        a field value
+     * @param o4
+     *        a field value
+     * @param o5
+     *        a field value
+     * @param o6
+     *        a field value
+     * @param o7
+     *        a field value
+     *
+     * @return a hash value
+     */
+    public static int calculateHashCode(PrimePair aPair, Object o1, Object o2, Object o3, Object o4, Object o5, Object o6, Object o7) {
+
+        int secondPrime = aPair.getSecondPrime();
+        int hash = aPair.getFirstPrime();
+
+        hash = secondPrime * hash + hashCode(o1);
+        hash = secondPrime * hash + hashCode(o2);
+        hash = secondPrime * hash + hashCode(o3);
+        hash = secondPrime * hash + hashCode(o4);
+        hash = secondPrime * hash + hashCode(o5);
+        hash = secondPrime * hash + hashCode(o6);
+        hash = secondPrime * hash + hashCode(o7);
+
+        return hash;
+    }
+
+    /**
+     * Calculates a hash code according to the specified parameters. Unlike the
+     * variant with a variable argument list no array is allocated.
+     *
+     * @param aPair
+     *        a pair of prime numbers
+     * @param o1
+     *        a field value
+     * @param o2
+     *        a field value
+     * @param o3
+     *        a field value
+     * @param o4
+     *        a field value
+     * @param o5
+     *        a field value
+     * @param o6
+     *        a field value
+     * @param o7
+     *        a field value
+     * @param o8
+     *        a field value
+     *
+     * @return a hash value
+     */
+    public static int calculateHashCode(PrimePair aPair, Object o1, Object o2, Object o3, Object o4, Object o5, Object o6, Object o7, Object o8) {
+
+        int secondPrime = aPair.getSecondPrime();
+        int hash = aPair.getFirstPrime();
+
+        hash = secondPrime * hash + hashCode(o1);
+        hash = secondPrime * hash + hashCode(o2);
+        hash = secondPrime * hash + hashCode(o3);
+        hash = secondPrime * hash + hashCode(o4);
+        hash = secondPrime * hash + hashCode(o5);
+        hash = secondPrime * hash + hashCode(o6);
+        hash = secondPrime * hash + hashCode(o7);
+        hash = secondPrime * hash + hashCode(o8);
+
+        return hash;
+    }
+
+    /**
+     * Calculates a hash code according to the specified parameters.
+     *
+     * @param firstPrime
+     *        the initial hash value
+     * @param secondPrime
+     *        the multiplier
+     * @param someObjects
+     *        all field values of an instance of the class
+     *
+     * @return a hash value
+     */
+    private static int combineHashCodes(int firstPrime, int secondPrime, Object... someObjects) {
+
+        int hash = firstPrime;
+
+        for (Object object : someObjects) {
+
+            hash = secondPrime * hash + hashCode(object);
         }
 
         return hash;
     }
 
+    /**
+     * Returns the hash code of the specified object.
+     *
+     * @param anObject
+     *        an object or <code>null</code>
+     *
+     * @return the hash code or 0 if the object is <code>null</code>
+     */
+    private static int hashCode(Object anObject) {
+
+        if (anObject == null) {
+
+            return 0;
+        }
+
+        return anObject.hashCode();
+    }
+
     /**
      * Determines two prime numbers and returns them as a list.
      *
@@ -162,15 +668,29 @@ public final class HashHelper {
      */
     public static List<Integer> determineTwoPrimeNumbers() {
 
-        Set<Integer> primeNumbers = new TreeSet<>();
+        return new ArrayList<>(determinePrimePair().toList());
+    }
+
+    /**
+     * Determines two different prime numbers. The prime numbers are randomly
+     * chosen from a precalculated table. The smaller prime number is the first
+     * prime number.
+     *
+     * @return a pair of prime numbers
+     */
+    public static PrimePair determinePrimePair() {
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        int a = random.nextInt(CANDIDATE_COUNT);
+        int b = random.nextInt(CANDIDATE_COUNT - 1);
 
-        while (primeNumbers.size() < DEFAULT_LIST_SIZE) {
+        if (b >= a) {
 
-            int primeNumber = PrimeNumberHelper.getNextPrimeNumber(D20.roll());
-            primeNumbers.add(primeNumber);
+            b++;
         }
 
-        return new ArrayList<>(primeNumbers);
+        return new PrimePair(CANDIDATES[Math.min(a, b)], CANDIDATES[Math.max(a, b)]);
     }
 
 }
@@ -0,0 +1,161 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.math.hash;
+
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * An immutable pair of prime numbers which is used for calculating hash codes.
+ * The prime numbers are kept as primitive values in order to avoid unboxing
+ * during hash calculation.
+ *
+ * @author Kristian Kutin
+ */
+public final class PrimePair {
+
+    /**
+     * The first prime number (i.e. the initial hash value).
+     */
+    private final int firstPrime;
+
+    /**
+     * The second prime number (i.e. the multiplier).
+     */
+    private final int secondPrime;
+
+    /**
+     * Both prime numbers as an unmodifiable list.
+     */
+    private final List<Integer> list;
+
+    /**
+     * Creates a new pair according to the specified parameters.
+     *
+     * @param aFirstPrime
+     *        the first prime number
+     * @param aSecondPrime
+     *        the second prime number
+     */
+    public PrimePair(int aFirstPrime, int aSecondPrime) {
+
+        super();
+
+        firstPrime = aFirstPrime;
+        secondPrime = aSecondPrime;
+        list = Collections.unmodifiableList(Arrays.asList(aFirstPrime, aSecondPrime));
+    }
+
+    /**
+     * Returns the first prime number.
+     *
+     * @return a prime number
+     */
+    public int getFirstPrime() {
+
+        return firstPrime;
+    }
+
+    /**
+     * Returns the second prime number.
+     *
+     * @return a prime number
+     */
+    public int getSecondPrime() {
+
+        return secondPrime;
+    }
+
+    /**
+     * Returns both prime numbers as an unmodifiable list.
+     *
+     * @return a list with two prime numbers
+     */
+    public List<Integer> toList() {
+
+        return list;
+    }
+
+    /**
+     * Checks if this pair and the specified object are equal.
+     *
+     * @param o
+     *        another object
+     *
+     * @return <code>true</code> if both objects are equal, else <code>false</code>
+     */
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+
+            return true;
+        }
+
+        if (o instanceof PrimePair) {
+
+            PrimePair other = (PrimePair) o;
+
+            return (firstPrime == other.firstPrime) && (secondPrime == other.secondPrime);
+        }
+
+        return false;
+    }
+
+    /**
+     * Calculates a hash code for this pair.
+     *
+     * @return a hash code
+     */
+    @Override
+    public int hashCode() {
+
+        return 31 * firstPrime + secondPrime;
+    }
+
+    /**
+     * Returns a string representation of this pair.
+     *
+     * @return a string representation
+     */
+    @Override
+    public String toString() {
+
+        return String.valueOf(list);
+    }
+
+}
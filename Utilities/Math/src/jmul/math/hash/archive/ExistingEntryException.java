@@ -56,7 +56,7 @@ public class ExistingEntryException extends IllegalArgumentException {
      * @param aClass
      *        the class for which an update was tried
      */
-    public ExistingEntryException(Class aClass) {
+    public ExistingEntryException(Class<?> aClass) {
 
         super(createMessage(ParameterCheckHelper.checkClassParameter(aClass)));
     }
@@ -69,7 +69,7 @@ public class ExistingEntryException extends IllegalArgumentException {
      *
      * @return an error message
      */
-    private static String createMessage(Class aClass) {
+    private static String createMessage(Class<?> aClass) {
 
         StringBuilder buffer = new StringBuilder();
 
@@ -36,6 +36,8 @@ package jmul.math.hash.archive;
 
 import java.util.List;
 
+import jmul.math.hash.PrimePair;
+
 
 /**
  * This interface describes an archive for prime numbers which are used
@@ -55,7 +57,7 @@ public interface PrimeNumberArchive {
      * @param somePrimeNumbers
      *        a list with prime numbers
      */
-    void addEntry(Class aClass, List<Integer> somePrimeNumbers);
+    void addEntry(Class<?> aClass, List<Integer> somePrimeNumbers);
 
     /**
      * Checks if an entry exists for for the specified class.
@@ -65,7 +67,7 @@ public interface PrimeNumberArchive {
      *
      * @return <code>true</code> if an entry exists, else <code>false</code>
      */
-    boolean existsEntry(Class aClass);
+    boolean existsEntry(Class<?> aClass);
 
     /**
      * Returns the list which associated with the specified class.
@@ -75,6 +77,18 @@ public interface PrimeNumberArchive {
      *
      * @return a list of prime numbers
      */
-    List<Integer> getEntry(Class aClass);
+    List<Integer> getEntry(Class<?> aClass);
+
+    /**
+     * Returns the prime numbers which are associated with the specified class.
+     * If no entry exists yet a new entry is created. Concurrent callers will
+     * always see the same entry.
+     *
+     * @param aClass
+     *        the class for which to retrieve the prime numbers
+     *
+     * @return a pair of prime numbers
+     */
+    PrimePair getPrimePair(Class<?> aClass);
 
 }
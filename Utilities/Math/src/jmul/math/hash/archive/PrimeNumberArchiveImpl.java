@@ -34,26 +34,30 @@
 package jmul.math.hash.archive;
 
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import jmul.checks.ParameterCheckHelper;
 
 import static jmul.math.hash.Constants.DEFAULT_LIST_SIZE;
+import jmul.math.hash.HashHelper;
+import jmul.math.hash.PrimePair;
 
 
 /**
- * An implementation of a prime number archive.
+ * An implementation of a prime number archive. The entries are attached to
+ * the class objects by means of a {@link ClassValue}. Thus a lookup requires
+ * no locking and the archive can safely be shared between threads.
  *
  * @author Kristian Kutin
  */
 public class PrimeNumberArchiveImpl implements PrimeNumberArchive {
 
     /**
-     * The actual archive.
+     * The actual archive. Every class is associated with a slot which holds
+     * the prime numbers once an entry has been added.
      */
-    private Map<Class, List<Integer>> entries;
+    private final ClassValue<AtomicReference<PrimePair>> entries;
 
     /**
      * The default constructor.
@@ -62,7 +66,7 @@ public class PrimeNumberArchiveImpl implements PrimeNumberArchive {
 
         super();
 
-        entries = new HashMap<>();
+        entries = new EntrySlots();
     }
 
     /**
@@ -76,17 +80,17 @@ public class PrimeNumberArchiveImpl implements PrimeNumberArchive {
      *        a list with prime numbers
      */
     @Override
-    public void addEntry(Class aClass, List<Integer> somePrimeNumbers) {
+    public void addEntry(Class<?> aClass, List<Integer> somePrimeNumbers) {
 
         ParameterCheckHelper.checkClassParameter(aClass);
         ParameterCheckHelper.checkList(somePrimeNumbers, DEFAULT_LIST_SIZE);
 
-        if (entries.containsKey(aClass)) {
+        PrimePair pair = new PrimePair(somePrimeNumbers.get(0), somePrimeNumbers.get(1));
+
+        if (!entries.get(aClass).compareAndSet(null, pair)) {
 
             throw new ExistingEntryException(aClass);
         }
-
-        entries.put(aClass, somePrimeNumbers);
     }
 
     /**
@@ -98,9 +102,14 @@ public class PrimeNumberArchiveImpl implements PrimeNumberArchive {
      * @return <code>true</code> if an entry exists, else <code>false</code>
      */
     @Override
-    public boolean existsEntry(Class aClass) {
+    public boolean existsEntry(Class<?> aClass) {
+
+        if (aClass == null) {
+
+            return false;
+        }
 
-        return entries.containsKey(aClass);
+        return entries.get(aClass).get() != null;
     }
 
     /**
@@ -112,14 +121,67 @@ public class PrimeNumberArchiveImpl implements PrimeNumberArchive {
      * @return a list of prime numbers
      */
     @Override
-    public List<Integer> getEntry(Class aClass) {
+    public List<Integer> getEntry(Class<?> aClass) {
 
-        if (!entries.containsKey(aClass)) {
+        ParameterCheckHelper.checkClassParameter(aClass);
+
+        PrimePair pair = entries.get(aClass).get();
+
+        if (pair == null) {
 
             throw new UnknownClassException(aClass);
         }
 
-        return entries.get(aClass);
+        return pair.toList();
+    }
+
+    /**
+     * Returns the prime numbers which are associated with the specified class.
+     * If no entry exists yet a new entry is created. Concurrent callers will
+     * always see the same entry.
+     *
+     * @param aClass
+     *        the class for which to retrieve the prime numbers
+     *
+     * @return a pair of prime numbers
+     */
+    @Override
+    public PrimePair getPrimePair(Class<?> aClass) {
+
+        ParameterCheckHelper.checkClassParameter(aClass);
+
+        AtomicReference<PrimePair> slot = entries.get(aClass);
+        PrimePair pair = slot.get();
+
+        if (pair == null) {
+
+            slot.compareAndSet(null, HashHelper.determinePrimePair());
+            pair = slot.get();
+        }
+
+        return pair;
+    }
+
+}
+
+
+/**
+ * A class value which provides an empty slot for every class.
+ */
+class EntrySlots extends ClassValue<AtomicReference<PrimePair>> {
+
+    /**
+     * Creates an empty slot for the specified class.
+     *
+     * @param type
+     *        a class
+     *
+     * @return an empty slot
+     */
+    @Override
+    protected AtomicReference<PrimePair> computeValue(Class<?> type) {
+
+        return new AtomicReference<>();
     }
 
 }
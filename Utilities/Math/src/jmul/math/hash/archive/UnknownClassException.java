@@ -55,7 +55,7 @@ public class UnknownClassException extends IllegalArgumentException {
      * @param aClass
      *        the class for which no entry exists
      */
-    public UnknownClassException(Class aClass) {
+    public UnknownClassException(Class<?> aClass) {
 
         super(createMessage(ParameterCheckHelper.checkClassParameter(aClass)));
     }
@@ -68,7 +68,7 @@ public class UnknownClassException extends IllegalArgumentException {
      *
      * @return an error message
      */
-    private static String createMessage(Class aClass) {
+    private static String createMessage(Class<?> aClass) {
 
         StringBuilder buffer = new StringBuilder();
 
@@ -34,8 +34,6 @@
 package jmul.math.notation;
 
 
-import java.util.regex.Pattern;
-
 import jmul.checks.ParameterCheckHelper;
 
 import static jmul.math.notation.NotationTypes.FLOATING_POINT;
@@ -43,6 +41,7 @@ import static jmul.math.notation.NotationTypes.INTEGER;
 import static jmul.math.notation.NotationTypes.SCIENTIFIC_NOTATION;
 import static jmul.math.notation.Signs.NEGATIVE;
 import static jmul.math.notation.Signs.POSITIVE;
+import jmul.math.notation.arithmetic.DecimalBuffer;
 import jmul.math.notation.evaluation.ExpressionEvaluator;
 import jmul.math.notation.evaluation.FloatingPointFloatingPointEvaluator;
 import jmul.math.notation.evaluation.IntegerIntegerEvaluator;
@@ -50,6 +49,7 @@ import jmul.math.notation.evaluation.ScientificNotationScientificNotationEvaluat
 import jmul.math.notation.parser.FloatingPointParser;
 import jmul.math.notation.parser.IntegerParser;
 import jmul.math.notation.parser.NumberParser;
+import jmul.math.notation.precision.FloatingPointPrecisionChecker;
 import jmul.math.notation.precision.IntegerPrecisionChecker;
 import jmul.math.notation.precision.PrecisionChecker;
 
@@ -86,69 +86,53 @@ public final class NotationHelper {
     private static final String COMMA_AS_DECIMAL_SEPARATOR = ",";
 
     /**
-     * A pattern to identify integer numbers.
-     */
-    private static final String POSITIVE_NUMBER_REGEX = "^[+]?[\\d]+$";
-
-    /**
-     * A pattern to identify integer numbers.
-     */
-    private static final String NEGATIVE_NUMBER_REGEX = "^[-][\\d]+$";
-
-    /**
-     * A pattern to identify floating point numbers (point as decimal separator).
-     */
-    private static final String POSITIVE_FLOATING_POINT_NUMBER_REGEX = "^[+]?[\\d]+[.][\\d]+$";
-
-    /**
-     * A pattern to identify floating point numbers (point as decimal separator).
-     */
-    private static final String NEGATIVE_FLOATING_POINT_NUMBER_REGEX = "^[-][\\d]+[.][\\d]+$";
-
-    /**
-     * A pattern to identify floating point numbers (comma as decimal separator).
+     * A character.
      */
-    private static final String POSITIVE_FLOATING_POINT_NUMBER_2_REGEX = "^[+]?[\\d]+[,][\\d]+$";
+    private static final char PLUS_CHARACTER = '+';
 
     /**
-     * A pattern to identify floating point numbers (comma as decimal separator).
+     * A character.
      */
-    private static final String NEGATIVE_FLOATING_POINT_NUMBER_2_REGEX = "^[-][\\d]+[,][\\d]+$";
+    private static final char MINUS_CHARACTER = '-';
 
     /**
-     * A pattern to identify numbers specified with the scientific notation (point as decimal separator).
+     * A character.
      */
-    private static final String POSITIVE_SCIENTIFIC_NOTATION_REGEX = "^[+]?[\\d][.][\\d]*E[+-]?[\\d]+$";
+    private static final char POINT_CHARACTER = '.';
 
     /**
-     * A pattern to identify numbers specified with the scientific notation (point as decimal separator).
+     * A character.
      */
-    private static final String NEGATIVE_SCIENTIFIC_NOTATION_REGEX = "^[-][\\d][.][\\d]*E[+-]?[\\d]+$";
+    private static final char COMMA_CHARACTER = ',';
 
     /**
-     * A pattern to identify numbers specified with the scientific notation (comma as decimal separator).
+     * A character.
      */
-    private static final String POSITIVE_SCIENTIFIC_NOTATION_2_REGEX = "^[+]?[\\d][,][\\d]*E[+-]?[\\d]+$";
+    private static final char EXPONENT_CHARACTER = 'E';
 
     /**
-     * A pattern to identify numbers specified with the scientific notation (comma as decimal separator).
+     * The properties of integer numbers (indexed by sign, see
+     * {@link #signIndex}).
      */
-    private static final String NEGATIVE_SCIENTIFIC_NOTATION_2_REGEX = "^[-][\\d][,][\\d]*E[+-]?[\\d]+$";
+    private static final NotationProperties[] INTEGER_PROPERTIES;
 
     /**
-     * A pattern to identify a positive exponent.
+     * The properties of floating point numbers (indexed by decimal separator
+     * and sign, see {@link #separatorIndex} and {@link #signIndex}).
      */
-    private static final String POSITIVE_EXPONENT_REGEX = "^.+[E][+]?[\\d].*$";
+    private static final NotationProperties[] FLOATING_POINT_PROPERTIES;
 
     /**
-     * A pattern to identify a negative exponent.
+     * The properties of numbers in the scientific notation (indexed by decimal
+     * separator, sign and exponent sign).
      */
-    private static final String NEGATIVE_EXPONENT_REGEX = "^.+[E][-][\\d].*$";
+    private static final NotationProperties[] SCIENTIFIC_NOTATION_PROPERTIES;
 
     /**
-     * A pattern to identify a signed number.
+     * The upper bound for an exponent. Larger exponents are truncated as they
+     * exceed any number string which can be handled anyway.
      */
-    private static final String SIGNED_NUMBER_REGEX = "^[+-].+$";
+    private static final long MAXIMUM_EXPONENT = Integer.MAX_VALUE;
 
     /**
      * An expression evaluator.
@@ -172,6 +156,11 @@ public final class NotationHelper {
      */
     private static final PrecisionChecker INTEGER_PRECISION_CHECKER = new IntegerPrecisionChecker();
 
+    /**
+     * A precision checker.
+     */
+    private static final PrecisionChecker FLOATING_POINT_PRECISION_CHECKER = new FloatingPointPrecisionChecker();
+
     /**
      * A number parser.
      */
@@ -182,6 +171,39 @@ public final class NotationHelper {
      */
     private static final NumberParser FLOATING_POINT_PARSER = new FloatingPointParser();
 
+    /*
+     * The static initializer.
+     */
+    static {
+
+        String[] separators = { POINT_AS_DECIMAL_SEPARATOR, COMMA_AS_DECIMAL_SEPARATOR };
+        Signs[] signs = { POSITIVE, NEGATIVE };
+
+        INTEGER_PROPERTIES = new NotationProperties[2];
+        FLOATING_POINT_PROPERTIES = new NotationProperties[4];
+        SCIENTIFIC_NOTATION_PROPERTIES = new NotationProperties[8];
+
+        for (int a = 0; a < signs.length; a++) {
+
+            INTEGER_PROPERTIES[a] = new NotationPropertiesImpl(NO_DECIMAL_SEPARATOR, INTEGER, signs[a]);
+        }
+
+        for (int a = 0; a < separators.length; a++) {
+
+            for (int b = 0; b < signs.length; b++) {
+
+                FLOATING_POINT_PROPERTIES[a * 2 + b] =
+                    new NotationPropertiesImpl(separators[a], FLOATING_POINT, signs[b]);
+
+                for (int c = 0; c < signs.length; c++) {
+
+                    SCIENTIFIC_NOTATION_PROPERTIES[a * 4 + b * 2 + c] =
+                        new NotationPropertiesImpl(separators[a], SCIENTIFIC_NOTATION, signs[b], signs[c]);
+                }
+            }
+        }
+    }
+
     /**
      * The default constructor.
      */
@@ -191,31 +213,63 @@ public final class NotationHelper {
     }
 
     /**
-     * Tries to determine the sign of the exponent in the specified string.
+     * Checks if the specified character is a decimal digit.
      *
-     * @param aString
-     *        a number string
+     * @param c
+     *        a character
      *
-     * @return a sign
+     * @return <code>true</code> if the character is a digit, else <code>false</code>
      */
-    private static Signs determineExponentSign(String aString) {
+    private static boolean isDigit(char c) {
+
+        return (c >= '0') && (c <= '9');
+    }
 
-        if (Pattern.matches(POSITIVE_EXPONENT_REGEX, aString)) {
+    /**
+     * Returns the index of the specified sign within the properties tables.
+     *
+     * @param aSign
+     *        a sign
+     *
+     * @return an index
+     */
+    private static int signIndex(Signs aSign) {
 
-            return POSITIVE;
+        return (aSign == POSITIVE) ? 0 : 1;
+    }
 
-        } else if (Pattern.matches(NEGATIVE_EXPONENT_REGEX, aString)) {
+    /**
+     * Returns the index of the specified decimal separator within the properties
+     * tables.
+     *
+     * @param aSeparator
+     *        a decimal separator character
+     *
+     * @return an index
+     */
+    private static int separatorIndex(char aSeparator) {
 
-            return NEGATIVE;
+        return (aSeparator == POINT_CHARACTER) ? 0 : 1;
+    }
 
-        } else {
+    /**
+     * Creates an exception for a string which cannot be interpreted as a number.
+     *
+     * @param aString
+     *        a string
+     *
+     * @return an exception
+     */
+    private static IllegalArgumentException createInvalidNumberException(String aString) {
 
-            throw new UnsupportedOperationException();
-        }
+        String message = "The specified string (\"" + aString + "\") couldn't be interpreted as a number!";
+        return new IllegalArgumentException(message);
     }
 
     /**
      * Checks the specified number string and returns the identified properties.
+     * The string is scanned exactly once. The returned properties are shared
+     * and immutable, i.e. no objects are created.
      *
      * @param aString
      *        a number string
@@ -226,55 +280,110 @@ public final class NotationHelper {
 
         ParameterCheckHelper.checkStringParameter(aString);
 
-        if (Pattern.matches(POSITIVE_NUMBER_REGEX, aString)) {
+        int length = aString.length();
+        int index = 0;
 
-            return new NotationPropertiesImpl(NO_DECIMAL_SEPARATOR, INTEGER, POSITIVE);
+        Signs sign = POSITIVE;
+        char c = aString.charAt(index);
 
-        } else if (Pattern.matches(NEGATIVE_NUMBER_REGEX, aString)) {
+        if (c == PLUS_CHARACTER) {
 
-            return new NotationPropertiesImpl(NO_DECIMAL_SEPARATOR, INTEGER, NEGATIVE);
+            index++;
 
-        } else if (Pattern.matches(POSITIVE_FLOATING_POINT_NUMBER_REGEX, aString)) {
+        } else if (c == MINUS_CHARACTER) {
 
-            return new NotationPropertiesImpl(POINT_AS_DECIMAL_SEPARATOR, FLOATING_POINT, POSITIVE);
+            sign = NEGATIVE;
+            index++;
+        }
 
-        } else if (Pattern.matches(NEGATIVE_FLOATING_POINT_NUMBER_REGEX, aString)) {
 
-            return new NotationPropertiesImpl(POINT_AS_DECIMAL_SEPARATOR, FLOATING_POINT, NEGATIVE);
+        int integerStart = index;
 
-        } else if (Pattern.matches(POSITIVE_FLOATING_POINT_NUMBER_2_REGEX, aString)) {
+        while ((index < length) && isDigit(aString.charAt(index))) {
 
-            return new NotationPropertiesImpl(COMMA_AS_DECIMAL_SEPARATOR, FLOATING_POINT, POSITIVE);
+            index++;
+        }
 
-        } else if (Pattern.matches(NEGATIVE_FLOATING_POINT_NUMBER_2_REGEX, aString)) {
+        int integerDigits = index - integerStart;
 
-            return new NotationPropertiesImpl(COMMA_AS_DECIMAL_SEPARATOR, FLOATING_POINT, NEGATIVE);
+        if (integerDigits == 0) {
 
-        } else if (Pattern.matches(POSITIVE_SCIENTIFIC_NOTATION_REGEX, aString)) {
+            throw createInvalidNumberException(aString);
+        }
 
-            return new NotationPropertiesImpl(POINT_AS_DECIMAL_SEPARATOR, SCIENTIFIC_NOTATION, POSITIVE,
-                                              determineExponentSign(aString));
+        if (index == length) {
 
-        } else if (Pattern.matches(NEGATIVE_SCIENTIFIC_NOTATION_REGEX, aString)) {
+            return INTEGER_PROPERTIES[signIndex(sign)];
+        }
 
-            return new NotationPropertiesImpl(POINT_AS_DECIMAL_SEPARATOR, SCIENTIFIC_NOTATION, NEGATIVE,
-                                              determineExponentSign(aString));
 
-        } else if (Pattern.matches(POSITIVE_SCIENTIFIC_NOTATION_2_REGEX, aString)) {
+        char separator = aString.charAt(index);
 
-            return new NotationPropertiesImpl(COMMA_AS_DECIMAL_SEPARATOR, SCIENTIFIC_NOTATION, POSITIVE,
-                                              determineExponentSign(aString));
+        if ((separator != POINT_CHARACTER) && (separator != COMMA_CHARACTER)) {
 
-        } else if (Pattern.matches(NEGATIVE_SCIENTIFIC_NOTATION_2_REGEX, aString)) {
+            throw createInvalidNumberException(aString);
+        }
 
-            return new NotationPropertiesImpl(COMMA_AS_DECIMAL_SEPARATOR, SCIENTIFIC_NOTATION, NEGATIVE,
-                                              determineExponentSign(aString));
+        index++;
 
-        } else {
+        int fractionStart = index;
 
-            String message = "The specified string (\"" + aString + "\") couldn't be interpreted as a number!";
-            throw new IllegalArgumentException(message);
+        while ((index < length) && isDigit(aString.charAt(index))) {
+
+            index++;
+        }
+
+        int fractionDigits = index - fractionStart;
+
+        if (index == length) {
+
+            if (fractionDigits == 0) {
+
+                throw createInvalidNumberException(aString);
+            }
+
+            return FLOATING_POINT_PROPERTIES[separatorIndex(separator) * 2 + signIndex(sign)];
+        }
+
+
+        if ((aString.charAt(index) != EXPONENT_CHARACTER) || (integerDigits != 1)) {
+
+            throw createInvalidNumberException(aString);
+        }
+
+        index++;
+
+        Signs exponentSign = POSITIVE;
+
+        if (index < length) {
+
+            c = aString.charAt(index);
+
+            if (c == PLUS_CHARACTER) {
+
+                index++;
+
+            } else if (c == MINUS_CHARACTER) {
+
+                exponentSign = NEGATIVE;
+                index++;
+            }
+        }
+
+        int exponentStart = index;
+
+        while ((index < length) && isDigit(aString.charAt(index))) {
+
+            index++;
         }
+
+        if ((index == exponentStart) || (index != length)) {
+
+            throw createInvalidNumberException(aString);
+        }
+
+        return SCIENTIFIC_NOTATION_PROPERTIES[separatorIndex(separator) * 4 + signIndex(sign) * 2 +
+                                              signIndex(exponentSign)];
     }
 
     /**
@@ -321,9 +430,9 @@ public final class NotationHelper {
             checker = INTEGER_PRECISION_CHECKER;
             break;
         case FLOATING_POINT:
-            throw new UnsupportedOperationException("Not implemented yet!");
         case SCIENTIFIC_NOTATION:
-            throw new UnsupportedOperationException("Not implemented yet!");
+            checker = FLOATING_POINT_PRECISION_CHECKER;
+            break;
         default:
             String message = "An unknown notation type (\"" + notationType + "\") was encountered!";
             throw new IllegalArgumentException(message);
@@ -405,6 +514,434 @@ public final class NotationHelper {
         }
     }
 
+    /**
+     * Compares the specified number strings digit by digit. The numbers may
+     * be provided in any notation and with any decimal separator. No
+     * intermediate strings are created.
+     *
+     * @param firstNumber
+     *        the first number as string
+     * @param secondNumber
+     *        the second number as string
+     *
+     * @return a negative integer, zero or a positive integer if the first number
+     *         is lesser than, equal to or greater than the second number
+     */
+    public static int compareNumbers(String firstNumber, String secondNumber) {
+
+        NotationProperties firstProperties = checkString(firstNumber);
+        NotationProperties secondProperties = checkString(secondNumber);
+
+        return compareNumbers(firstNumber, firstProperties, secondNumber, secondProperties);
+    }
+
+    /**
+     * Compares the specified number strings digit by digit. The numbers may
+     * be provided in any notation and with any decimal separator. No
+     * intermediate strings are created.
+     *
+     * @param firstNumber
+     *        the first number as string
+     * @param firstProperties
+     *        the properties of the first number
+     * @param secondNumber
+     *        the second number as string
+     * @param secondProperties
+     *        the properties of the second number
+     *
+     * @return a negative integer, zero or a positive integer if the first number
+     *         is lesser than, equal to or greater than the second number
+     */
+    public static int compareNumbers(String firstNumber, NotationProperties firstProperties, String secondNumber,
+                                     NotationProperties secondProperties) {
+
+        int firstEnd = mantissaEnd(firstNumber, firstProperties);
+        int firstDigit = firstSignificantDigit(firstNumber, firstEnd);
+
+        int secondEnd = mantissaEnd(secondNumber, secondProperties);
+        int secondDigit = firstSignificantDigit(secondNumber, secondEnd);
+
+        int firstSignum = signum(firstProperties, firstDigit);
+        int secondSignum = signum(secondProperties, secondDigit);
+
+        if (firstSignum != secondSignum) {
+
+            return (firstSignum < secondSignum) ? -1 : 1;
+        }
+
+        if (firstSignum == 0) {
+
+            return 0;
+        }
+
+
+        long firstOrder = order(firstNumber, firstProperties, firstEnd, firstDigit);
+        long secondOrder = order(secondNumber, secondProperties, secondEnd, secondDigit);
+
+        int magnitude;
+
+        if (firstOrder != secondOrder) {
+
+            magnitude = (firstOrder < secondOrder) ? -1 : 1;
+
+        } else {
+
+            magnitude = compareDigits(firstNumber, firstDigit, firstEnd, secondNumber, secondDigit, secondEnd);
+        }
+
+        return firstSignum * magnitude;
+    }
+
+    /**
+     * Counts the significant digits of the specified number string (i.e. all
+     * digits between the first and the last non-zero digit of the mantissa).
+     *
+     * @param aString
+     *        a number string
+     * @param someProperties
+     *        the properties of the number string
+     *
+     * @return the number of significant digits (0 if the number is zero)
+     */
+    public static int countSignificantDigits(String aString, NotationProperties someProperties) {
+
+        int end = mantissaEnd(aString, someProperties);
+        int first = firstSignificantDigit(aString, end);
+
+        if (first < 0) {
+
+            return 0;
+        }
+
+        int last = lastSignificantDigit(aString, end);
+        int count = 0;
+
+        for (int a = first; a <= last; a++) {
+
+            if (isDigit(aString.charAt(a))) {
+
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Adds the specified number strings.
+     *
+     * @param firstNumber
+     *        the first number as string
+     * @param secondNumber
+     *        the second number as string
+     *
+     * @return the sum in plain notation
+     */
+    public static String add(String firstNumber, String secondNumber) {
+
+        DecimalBuffer buffer = new DecimalBuffer(firstNumber);
+        buffer.add(new DecimalBuffer(secondNumber));
+
+        return String.valueOf(buffer);
+    }
+
+    /**
+     * Subtracts the second number string from the first number string.
+     *
+     * @param firstNumber
+     *        the first number as string
+     * @param secondNumber
+     *        the second number as string
+     *
+     * @return the difference in plain notation
+     */
+    public static String subtract(String firstNumber, String secondNumber) {
+
+        DecimalBuffer buffer = new DecimalBuffer(firstNumber);
+        buffer.subtract(new DecimalBuffer(secondNumber));
+
+        return String.valueOf(buffer);
+    }
+
+    /**
+     * Multiplies the specified number strings.
+     *
+     * @param firstNumber
+     *        the first number as string
+     * @param secondNumber
+     *        the second number as string
+     *
+     * @return the product in plain notation
+     */
+    public static String multiply(String firstNumber, String secondNumber) {
+
+        DecimalBuffer buffer = new DecimalBuffer(firstNumber);
+        buffer.multiply(new DecimalBuffer(secondNumber));
+
+        return String.valueOf(buffer);
+    }
+
+    /**
+     * Returns the end index (exclusive) of the mantissa of the specified number
+     * string.
+     *
+     * @param aString
+     *        a number string
+     * @param someProperties
+     *        the properties of the number string
+     *
+     * @return an index
+     */
+    private static int mantissaEnd(String aString, NotationProperties someProperties) {
+
+        if (someProperties.hasExponent()) {
+
+            return aString.indexOf(EXPONENT_CHARACTER);
+        }
+
+        return aString.length();
+    }
+
+    /**
+     * Returns the index of the first significant (i.e. non-zero) digit of the
+     * mantissa.
+     *
+     * @param aString
+     *        a number string
+     * @param anEnd
+     *        the end index (exclusive) of the mantissa
+     *
+     * @return an index or -1 if the number is zero
+     */
+    private static int firstSignificantDigit(String aString, int anEnd) {
+
+        for (int a = 0; a < anEnd; a++) {
+
+            char c = aString.charAt(a);
+
+            if (isDigit(c) && (c != ZERO_CHARACTER)) {
+
+                return a;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last significant (i.e. non-zero) digit of the
+     * mantissa.
+     *
+     * @param aString
+     *        a number string
+     * @param anEnd
+     *        the end index (exclusive) of the mantissa
+     *
+     * @return an index or -1 if the number is zero
+     */
+    private static int lastSignificantDigit(String aString, int anEnd) {
+
+        for (int a = anEnd - 1; a >= 0; a--) {
+
+            char c = aString.charAt(a);
+
+            if (isDigit(c) && (c != ZERO_CHARACTER)) {
+
+                return a;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the signum of a number string.
+     *
+     * @param someProperties
+     *        the properties of the number string
+     * @param aFirstDigit
+     *        the index of the first significant digit or -1
+     *
+     * @return -1, 0 or 1
+     */
+    private static int signum(NotationProperties someProperties, int aFirstDigit) {
+
+        if (aFirstDigit < 0) {
+
+            return 0;
+        }
+
+        return someProperties.isNegative() ? -1 : 1;
+    }
+
+    /**
+     * Returns the order of magnitude of the first significant digit (i.e. the
+     * power of ten which the digit represents).
+     *
+     * @param aString
+     *        a number string
+     * @param someProperties
+     *        the properties of the number string
+     * @param anEnd
+     *        the end index (exclusive) of the mantissa
+     * @param aFirstDigit
+     *        the index of the first significant digit
+     *
+     * @return the order of magnitude
+     */
+    private static long order(String aString, NotationProperties someProperties, int anEnd, int aFirstDigit) {
+
+        String decimalSeparator = someProperties.getDecimalSeparator();
+
+        int separator;
+
+        if (decimalSeparator.isEmpty()) {
+
+            separator = anEnd;
+
+        } else {
+
+            separator = aString.indexOf(decimalSeparator.charAt(0));
+        }
+
+        long order;
+
+        if (aFirstDigit < separator) {
+
+            order = separator - aFirstDigit - 1;
+
+        } else {
+
+            order = separator - aFirstDigit;
+        }
+
+        if (someProperties.hasExponent()) {
+
+            order += exponent(aString, anEnd);
+        }
+
+        return order;
+    }
+
+    /**
+     * Returns the signed exponent of a number string in the scientific notation.
+     *
+     * @param aString
+     *        a number string
+     * @param anEnd
+     *        the index of the exponent character
+     *
+     * @return the exponent
+     */
+    private static long exponent(String aString, int anEnd) {
+
+        int length = aString.length();
+        int index = anEnd + 1;
+
+        boolean negative = false;
+        char c = aString.charAt(index);
+
+        if (c == PLUS_CHARACTER) {
+
+            index++;
+
+        } else if (c == MINUS_CHARACTER) {
+
+            negative = true;
+            index++;
+        }
+
+        long exponent = 0L;
+
+        for (; index < length; index++) {
+
+            exponent = Math.min(exponent * 10L + (aString.charAt(index) - ZERO_CHARACTER), MAXIMUM_EXPONENT);
+        }
+
+        return negative ? -exponent : exponent;
+    }
+
+    /**
+     * Compares the significant digits of two number strings with the same order
+     * of magnitude.
+     *
+     * @param firstNumber
+     *        the first number as string
+     * @param firstDigit
+     *        the index of the first significant digit of the first number
+     * @param firstEnd
+     *        the end index (exclusive) of the mantissa of the first number
+     * @param secondNumber
+     *        the second number as string
+     * @param secondDigit
+     *        the index of the first significant digit of the second number
+     * @param secondEnd
+     *        the end index (exclusive) of the mantissa of the second number
+     *
+     * @return -1, 0 or 1
+     */
+    private static int compareDigits(String firstNumber, int firstDigit, int firstEnd, String secondNumber,
+                                     int secondDigit, int secondEnd) {
+
+        int firstLast = lastSignificantDigit(firstNumber, firstEnd);
+        int secondLast = lastSignificantDigit(secondNumber, secondEnd);
+
+        int a = firstDigit;
+        int b = secondDigit;
+
+        while (true) {
+
+            boolean firstExhausted = a > firstLast;
+            boolean secondExhausted = b > secondLast;
+
+            if (firstExhausted || secondExhausted) {
+
+                if (firstExhausted && secondExhausted) {
+
+                    return 0;
+                }
+
+                return firstExhausted ? -1 : 1;
+            }
+
+            char c1 = firstNumber.charAt(a);
+            char c2 = secondNumber.charAt(b);
+
+            if (c1 != c2) {
+
+                return (c1 < c2) ? -1 : 1;
+            }
+
+            a = nextDigit(firstNumber, a, firstEnd);
+            b = nextDigit(secondNumber, b, secondEnd);
+        }
+    }
+
+    /**
+     * Returns the index of the next digit within the mantissa (i.e. the decimal
+     * separator is skipped).
+     *
+     * @param aString
+     *        a number string
+     * @param anIndex
+     *        the index of the current digit
+     * @param anEnd
+     *        the end index (exclusive) of the mantissa
+     *
+     * @return an index
+     */
+    private static int nextDigit(String aString, int anIndex, int anEnd) {
+
+        int index = anIndex + 1;
+
+        if ((index < anEnd) && !isDigit(aString.charAt(index))) {
+
+            index++;
+        }
+
+        return index;
+    }
+
     /**
      * Expands the specified number string if it is provided in the scientific notation.
      *
@@ -593,7 +1130,8 @@ public final class NotationHelper {
 
         boolean signed;
         char sign;
-        if (Pattern.matches(SIGNED_NUMBER_REGEX, buffer)) {
+        char first = buffer.charAt(0);
+        if (((first == PLUS_CHARACTER) || (first == MINUS_CHARACTER)) && (buffer.length() > 1)) {
 
             signed = true;
             sign = buffer.charAt(0);
@@ -0,0 +1,899 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.math.notation.arithmetic;
+
+
+import jmul.math.notation.NotationHelper;
+import jmul.math.notation.NotationProperties;
+
+
+/**
+ * A mutable decimal number of arbitrary length. The number is kept as a
+ * normalized digit array (i.e. without leading and trailing zeros) and a
+ * decimal exponent. Arithmetic operations are performed in place and reuse the
+ * digit arrays, thus a single buffer can accumulate any number of operands
+ * without creating intermediate strings or objects.<br>
+ * <br>
+ * <i>Note:<br>
+ * A buffer is not thread-safe. Operands which differ greatly in their order of
+ * magnitude (e.g. 1E1000000 and 1) require digit arrays of corresponding
+ * length.</i>
+ *
+ * @author Kristian Kutin
+ */
+public final class DecimalBuffer {
+
+    /**
+     * The default capacity of a new buffer.
+     */
+    private static final int DEFAULT_CAPACITY = 32;
+
+    /**
+     * The base of the digits.
+     */
+    private static final int BASE = 10;
+
+    /**
+     * The digits of the number (least significant digit first).
+     */
+    private byte[] digits;
+
+    /**
+     * A second digit array which is used as target for a multiplication.
+     */
+    private byte[] scratch;
+
+    /**
+     * The number of digits which are in use.
+     */
+    private int length;
+
+    /**
+     * The power of ten of the least significant digit.
+     */
+    private int exponent;
+
+    /**
+     * A flag which indicates a negative number.
+     */
+    private boolean negative;
+
+    /**
+     * The default constructor. The buffer represents the number zero.
+     */
+    public DecimalBuffer() {
+
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new buffer according to the specified parameters. The buffer
+     * represents the number zero.
+     *
+     * @param aCapacity
+     *        the initial number of digits
+     */
+    public DecimalBuffer(int aCapacity) {
+
+        super();
+
+        if (aCapacity < 1) {
+
+            String message = "The capacity must be a positive number (" + aCapacity + ")!";
+            throw new IllegalArgumentException(message);
+        }
+
+        digits = new byte[aCapacity];
+        scratch = new byte[0];
+        setZero();
+    }
+
+    /**
+     * Creates a new buffer according to the specified parameters.
+     *
+     * @param aNumber
+     *        a number string
+     */
+    public DecimalBuffer(String aNumber) {
+
+        this(Math.max(DEFAULT_CAPACITY, aNumber == null ? 0 : aNumber.length()));
+
+        set(aNumber);
+    }
+
+    /**
+     * Sets this buffer to zero.
+     *
+     * @return this buffer
+     */
+    public DecimalBuffer setZero() {
+
+        length = 0;
+        exponent = 0;
+        negative = false;
+
+        return this;
+    }
+
+    /**
+     * Sets this buffer to the specified number.
+     *
+     * @param aNumber
+     *        a number string (any notation)
+     *
+     * @return this buffer
+     */
+    public DecimalBuffer set(String aNumber) {
+
+        NotationProperties properties = NotationHelper.checkString(aNumber);
+
+        return set(aNumber, properties);
+    }
+
+    /**
+     * Sets this buffer to the specified number.
+     *
+     * @param aNumber
+     *        a number string (any notation)
+     * @param someProperties
+     *        the properties of the number string
+     *
+     * @return this buffer
+     */
+    public DecimalBuffer set(String aNumber, NotationProperties someProperties) {
+
+        int end = aNumber.length();
+        long scale = 0L;
+
+        if (someProperties.hasExponent()) {
+
+            int index = aNumber.indexOf('E');
+            scale = parseExponent(aNumber, index + 1, end);
+            end = index;
+        }
+
+        ensureCapacity(end);
+        length = 0;
+
+        boolean fraction = !someProperties.getDecimalSeparator().isEmpty();
+
+        for (int a = end - 1; a >= 0; a--) {
+
+            char c = aNumber.charAt(a);
+
+            if ((c >= '0') && (c <= '9')) {
+
+                digits[length] = (byte) (c - '0');
+                length++;
+
+                if (fraction) {
+
+                    scale--;
+                }
+
+            } else if ((c == '.') || (c == ',')) {
+
+                fraction = false;
+            }
+        }
+
+        if ((scale < Integer.MIN_VALUE) || (scale > Integer.MAX_VALUE)) {
+
+            String message = "The exponent of the specified number is out of range (" + aNumber + ")!";
+            throw new IllegalArgumentException(message);
+        }
+
+        exponent = (int) scale;
+        negative = someProperties.isNegative();
+        normalize();
+
+        return this;
+    }
+
+    /**
+     * Sets this buffer to the value of the specified buffer.
+     *
+     * @param aBuffer
+     *        a buffer
+     *
+     * @return this buffer
+     */
+    public DecimalBuffer set(DecimalBuffer aBuffer) {
+
+        if (aBuffer != this) {
+
+            ensureCapacity(aBuffer.length);
+            System.arraycopy(aBuffer.digits, 0, digits, 0, aBuffer.length);
+
+            length = aBuffer.length;
+            exponent = aBuffer.exponent;
+            negative = aBuffer.negative;
+        }
+
+        return this;
+    }
+
+    /**
+     * Adds the specified number to this buffer.
+     *
+     * @param aBuffer
+     *        a buffer
+     *
+     * @return this buffer
+     */
+    public DecimalBuffer add(DecimalBuffer aBuffer) {
+
+        return add(aBuffer, false);
+    }
+
+    /**
+     * Subtracts the specified number from this buffer.
+     *
+     * @param aBuffer
+     *        a buffer
+     *
+     * @return this buffer
+     */
+    public DecimalBuffer subtract(DecimalBuffer aBuffer) {
+
+        return add(aBuffer, true);
+    }
+
+    /**
+     * Multiplies this buffer with the specified number.
+     *
+     * @param aBuffer
+     *        a buffer
+     *
+     * @return this buffer
+     */
+    public DecimalBuffer multiply(DecimalBuffer aBuffer) {
+
+        if (isZero() || aBuffer.isZero()) {
+
+            return setZero();
+        }
+
+        long scale = (long) exponent + aBuffer.exponent;
+        checkExponent(scale);
+
+        int otherLength = aBuffer.length;
+        int resultLength = length + otherLength;
+
+        if (scratch.length < resultLength) {
+
+            scratch = new byte[Math.max(resultLength, digits.length)];
+        }
+
+        for (int a = 0; a < resultLength; a++) {
+
+            scratch[a] = 0;
+        }
+
+        byte[] otherDigits = aBuffer.digits;
+
+        for (int a = 0; a < length; a++) {
+
+            int digit = digits[a];
+
+            if (digit == 0) {
+
+                continue;
+            }
+
+            int carry = 0;
+
+            for (int b = 0; b < otherLength; b++) {
+
+                int total = scratch[a + b] + digit * otherDigits[b] + carry;
+                scratch[a + b] = (byte) (total % BASE);
+                carry = total / BASE;
+            }
+
+            scratch[a + otherLength] = (byte) carry;
+        }
+
+        byte[] swap = digits;
+        digits = scratch;
+        scratch = swap;
+
+        length = resultLength;
+        exponent = (int) scale;
+        negative = negative != aBuffer.negative;
+        normalize();
+
+        return this;
+    }
+
+    /**
+     * Compares this buffer with the specified buffer.
+     *
+     * @param aBuffer
+     *        a buffer
+     *
+     * @return a negative integer, zero or a positive integer if this number is
+     *         lesser than, equal to or greater than the specified number
+     */
+    public int compare(DecimalBuffer aBuffer) {
+
+        int signum = signum();
+        int otherSignum = aBuffer.signum();
+
+        if (signum != otherSignum) {
+
+            return (signum < otherSignum) ? -1 : 1;
+        }
+
+        return signum * compareMagnitude(aBuffer);
+    }
+
+    /**
+     * Checks if this buffer represents zero.
+     *
+     * @return <code>true</code> if the number is zero, else <code>false</code>
+     */
+    public boolean isZero() {
+
+        return length == 0;
+    }
+
+    /**
+     * Checks if this buffer represents a negative number.
+     *
+     * @return <code>true</code> if the number is negative, else <code>false</code>
+     */
+    public boolean isNegative() {
+
+        return negative;
+    }
+
+    /**
+     * Returns the signum of this number.
+     *
+     * @return -1, 0 or 1
+     */
+    public int signum() {
+
+        if (isZero()) {
+
+            return 0;
+        }
+
+        return negative ? -1 : 1;
+    }
+
+    /**
+     * Returns the number of significant digits.
+     *
+     * @return the number of significant digits
+     */
+    public int precision() {
+
+        return length;
+    }
+
+    /**
+     * Appends this number in plain notation (i.e. without exponent and with a
+     * point as decimal separator) to the specified buffer.
+     *
+     * @param aBuffer
+     *        a string buffer
+     *
+     * @return the specified string buffer
+     */
+    public StringBuilder appendTo(StringBuilder aBuffer) {
+
+        if (isZero()) {
+
+            return aBuffer.append('0');
+        }
+
+        if (negative) {
+
+            aBuffer.append('-');
+        }
+
+        if (exponent >= 0) {
+
+            for (int a = length - 1; a >= 0; a--) {
+
+                aBuffer.append((char) ('0' + digits[a]));
+            }
+
+            for (int a = 0; a < exponent; a++) {
+
+                aBuffer.append('0');
+            }
+
+        } else {
+
+            int fractionDigits = -exponent;
+
+            if (length <= fractionDigits) {
+
+                aBuffer.append("0.");
+
+                for (int a = length; a < fractionDigits; a++) {
+
+                    aBuffer.append('0');
+                }
+
+                for (int a = length - 1; a >= 0; a--) {
+
+                    aBuffer.append((char) ('0' + digits[a]));
+                }
+
+            } else {
+
+                for (int a = length - 1; a >= 0; a--) {
+
+                    aBuffer.append((char) ('0' + digits[a]));
+
+                    if (a == fractionDigits) {
+
+                        aBuffer.append('.');
+                    }
+                }
+            }
+        }
+
+        return aBuffer;
+    }
+
+    /**
+     * Returns this number in plain notation (i.e. without exponent and with a
+     * point as decimal separator).
+     *
+     * @return a number string
+     */
+    @Override
+    public String toString() {
+
+        return String.valueOf(appendTo(new StringBuilder(length + 2)));
+    }
+
+    /**
+     * Adds or subtracts the specified number.
+     *
+     * @param aBuffer
+     *        a buffer
+     * @param subtraction
+     *        <code>true</code> if the specified number is subtracted, else
+     *        <code>false</code>
+     *
+     * @return this buffer
+     */
+    private DecimalBuffer add(DecimalBuffer aBuffer, boolean subtraction) {
+
+        if (aBuffer.isZero()) {
+
+            return this;
+        }
+
+        boolean otherNegative = aBuffer.negative != subtraction;
+
+        if (isZero()) {
+
+            set(aBuffer);
+            negative = otherNegative;
+
+            return this;
+        }
+
+        if (aBuffer == this) {
+
+            if (subtraction) {
+
+                return setZero();
+            }
+
+            return multiplyByTwo();
+        }
+
+        align(aBuffer.exponent);
+
+        if (negative == otherNegative) {
+
+            addMagnitude(aBuffer);
+
+        } else if (compareMagnitude(aBuffer) >= 0) {
+
+            subtractMagnitude(aBuffer, false);
+
+        } else {
+
+            subtractMagnitude(aBuffer, true);
+            negative = otherNegative;
+        }
+
+        normalize();
+
+        return this;
+    }
+
+    /**
+     * Doubles this number.
+     *
+     * @return this buffer
+     */
+    private DecimalBuffer multiplyByTwo() {
+
+        ensureCapacity(length + 1);
+
+        int carry = 0;
+
+        for (int a = 0; a < length; a++) {
+
+            int total = 2 * digits[a] + carry;
+            digits[a] = (byte) (total % BASE);
+            carry = total / BASE;
+        }
+
+        digits[length] = (byte) carry;
+        length++;
+        normalize();
+
+        return this;
+    }
+
+    /**
+     * Shifts the digits of this buffer so that the least significant digit has
+     * an exponent which is not greater than the specified exponent.
+     *
+     * @param anExponent
+     *        an exponent
+     */
+    private void align(int anExponent) {
+
+        if (exponent <= anExponent) {
+
+            return;
+        }
+
+        long shift = (long) exponent - anExponent;
+
+        if (shift + length > Integer.MAX_VALUE - 1) {
+
+            String message = "The orders of magnitude of the operands differ too much!";
+            throw new IllegalArgumentException(message);
+        }
+
+        int offset = (int) shift;
+
+        ensureCapacity(length + offset);
+        System.arraycopy(digits, 0, digits, offset, length);
+
+        for (int a = 0; a < offset; a++) {
+
+            digits[a] = 0;
+        }
+
+        length += offset;
+        exponent = anExponent;
+    }
+
+    /**
+     * Adds the magnitude of the specified number. The exponent of this buffer
+     * must not be greater than the exponent of the specified buffer.
+     *
+     * @param aBuffer
+     *        a buffer
+     */
+    private void addMagnitude(DecimalBuffer aBuffer) {
+
+        int offset = offset(aBuffer);
+        int otherEnd = offset + aBuffer.length;
+        int end = Math.max(length, otherEnd) + 1;
+
+        ensureCapacity(end);
+        clear(length, end);
+
+        int carry = 0;
+
+        for (int a = offset; a < end; a++) {
+
+            int otherDigit = (a < otherEnd) ? aBuffer.digits[a - offset] : 0;
+            int total = digits[a] + otherDigit + carry;
+
+            digits[a] = (byte) (total % BASE);
+            carry = total / BASE;
+
+            if ((carry == 0) && (a >= otherEnd)) {
+
+                break;
+            }
+        }
+
+        length = end;
+    }
+
+    /**
+     * Subtracts the magnitudes of this buffer and the specified number. The
+     * exponent of this buffer must not be greater than the exponent of the
+     * specified buffer.
+     *
+     * @param aBuffer
+     *        a buffer
+     * @param reverse
+     *        <code>false</code> if the specified magnitude is subtracted from
+     *        this magnitude, <code>true</code> if this magnitude is subtracted
+     *        from the specified magnitude
+     */
+    private void subtractMagnitude(DecimalBuffer aBuffer, boolean reverse) {
+
+        int offset = offset(aBuffer);
+        int otherEnd = offset + aBuffer.length;
+        int end = Math.max(length, otherEnd);
+
+        ensureCapacity(end);
+        clear(length, end);
+
+        int borrow = 0;
+
+        for (int a = 0; a < end; a++) {
+
+            int otherDigit = ((a >= offset) && (a < otherEnd)) ? aBuffer.digits[a - offset] : 0;
+            int difference;
+
+            if (reverse) {
+
+                difference = otherDigit - digits[a] - borrow;
+
+            } else {
+
+                difference = digits[a] - otherDigit - borrow;
+            }
+
+            if (difference < 0) {
+
+                difference += BASE;
+                borrow = 1;
+
+            } else {
+
+                borrow = 0;
+            }
+
+            digits[a] = (byte) difference;
+        }
+
+        length = end;
+    }
+
+    /**
+     * Compares the magnitudes (i.e. absolute values) of this buffer and the
+     * specified buffer. Zeros which were added by an alignment are ignored.
+     *
+     * @param aBuffer
+     *        a buffer
+     *
+     * @return -1, 0 or 1
+     */
+    private int compareMagnitude(DecimalBuffer aBuffer) {
+
+        long order = (long) exponent + length;
+        long otherOrder = (long) aBuffer.exponent + aBuffer.length;
+
+        if (order != otherOrder) {
+
+            return (order < otherOrder) ? -1 : 1;
+        }
+
+        int a = length - 1;
+        int b = aBuffer.length - 1;
+
+        while ((a >= 0) && (b >= 0)) {
+
+            int digit = digits[a];
+            int otherDigit = aBuffer.digits[b];
+
+            if (digit != otherDigit) {
+
+                return (digit < otherDigit) ? -1 : 1;
+            }
+
+            a--;
+            b--;
+        }
+
+        for (; a >= 0; a--) {
+
+            if (digits[a] != 0) {
+
+                return 1;
+            }
+        }
+
+        for (; b >= 0; b--) {
+
+            if (aBuffer.digits[b] != 0) {
+
+                return -1;
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Returns the position of the least significant digit of the specified
+     * buffer within this buffer's digit array.
+     *
+     * @param aBuffer
+     *        a buffer
+     *
+     * @return an offset
+     */
+    private int offset(DecimalBuffer aBuffer) {
+
+        long offset = (long) aBuffer.exponent - exponent;
+
+        if (offset + aBuffer.length > Integer.MAX_VALUE - 1) {
+
+            String message = "The orders of magnitude of the operands differ too much!";
+            throw new IllegalArgumentException(message);
+        }
+
+        return (int) offset;
+    }
+
+    /**
+     * Removes leading and trailing zeros.
+     */
+    private void normalize() {
+
+        while ((length > 0) && (digits[length - 1] == 0)) {
+
+            length--;
+        }
+
+        if (length == 0) {
+
+            setZero();
+            return;
+        }
+
+        int zeros = 0;
+
+        while (digits[zeros] == 0) {
+
+            zeros++;
+        }
+
+        if (zeros > 0) {
+
+            checkExponent((long) exponent + zeros);
+
+            System.arraycopy(digits, zeros, digits, 0, length - zeros);
+            length -= zeros;
+            exponent += zeros;
+        }
+    }
+
+    /**
+     * Sets the digits within the specified range to zero.
+     *
+     * @param aStart
+     *        the start index (inclusive)
+     * @param anEnd
+     *        the end index (exclusive)
+     */
+    private void clear(int aStart, int anEnd) {
+
+        for (int a = aStart; a < anEnd; a++) {
+
+            digits[a] = 0;
+        }
+    }
+
+    /**
+     * Makes sure that the digit array can hold the specified number of digits.
+     *
+     * @param aCapacity
+     *        the required number of digits
+     */
+    private void ensureCapacity(int aCapacity) {
+
+        if (digits.length < aCapacity) {
+
+            int capacity = Math.max(aCapacity, digits.length * 2);
+
+            byte[] newDigits = new byte[capacity];
+            System.arraycopy(digits, 0, newDigits, 0, length);
+
+            digits = newDigits;
+        }
+    }
+
+    /**
+     * Checks if the specified exponent is within range.
+     *
+     * @param anExponent
+     *        an exponent
+     */
+    private static void checkExponent(long anExponent) {
+
+        if ((anExponent < Integer.MIN_VALUE) || (anExponent > Integer.MAX_VALUE)) {
+
+            String message = "The exponent is out of range (" + anExponent + ")!";
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    /**
+     * Parses the exponent of a number string without creating a substring.
+     *
+     * @param aNumber
+     *        a number string
+     * @param aStart
+     *        the index of the first character of the exponent
+     * @param anEnd
+     *        the end index (exclusive) of the exponent
+     *
+     * @return the exponent
+     */
+    private static long parseExponent(String aNumber, int aStart, int anEnd) {
+
+        int index = aStart;
+        boolean negativeExponent = false;
+
+        char c = aNumber.charAt(index);
+
+        if (c == '+') {
+
+            index++;
+
+        } else if (c == '-') {
+
+            negativeExponent = true;
+            index++;
+        }
+
+        long value = 0L;
+
+        for (; index < anEnd; index++) {
+
+            value = value * BASE + (aNumber.charAt(index) - '0');
+
+            if (value > Integer.MAX_VALUE) {
+
+                String message = "The exponent of the specified number is out of range (" + aNumber + ")!";
+                throw new IllegalArgumentException(message);
+            }
+        }
+
+        return negativeExponent ? -value : value;
+    }
+
+}
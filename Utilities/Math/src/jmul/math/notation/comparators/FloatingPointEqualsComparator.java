@@ -36,7 +36,6 @@ package jmul.math.notation.comparators;
 
 import jmul.math.notation.NotationHelper;
 import jmul.math.notation.NotationProperties;
-import jmul.math.notation.Signs;
 
 
 /**
@@ -72,21 +71,7 @@ public class FloatingPointEqualsComparator extends NumberComparatorBase {
     public boolean compare(String firstNumber, NotationProperties firstProperties, String secondNumber,
                            NotationProperties secondProperties) {
 
-        Signs firstSign = firstProperties.getSign();
-        int firstLength = firstNumber.length();
-
-        Signs secondSign = secondProperties.getSign();
-        int secondLength = secondNumber.length();
-
-        if ((firstSign == secondSign) && (firstLength == secondLength)) {
-
-            String normalizedFirstNumber = NotationHelper.normalizeString(firstNumber);
-            String normalizedSecondNumber = NotationHelper.normalizeString(secondNumber);
-
-            return normalizedFirstNumber.compareTo(normalizedSecondNumber) == 0;
-        }
-
-        return false;
+        return NotationHelper.compareNumbers(firstNumber, firstProperties, secondNumber, secondProperties) == 0;
     }
 
 }
@@ -36,8 +36,6 @@ package jmul.math.notation.comparators;
 
 import jmul.math.notation.NotationHelper;
 import jmul.math.notation.NotationProperties;
-import jmul.math.notation.Signs;
-import static jmul.math.notation.Signs.POSITIVE;
 
 
 /**
@@ -73,46 +71,7 @@ public class FloatingPointGreaterThanComparator extends NumberComparatorBase {
     public boolean compare(String firstNumber, NotationProperties firstProperties, String secondNumber,
                            NotationProperties secondProperties) {
 
-        Signs firstSign = firstProperties.getSign();
-        int firstLength = firstNumber.length();
-
-        Signs secondSign = secondProperties.getSign();
-        int secondLength = secondNumber.length();
-
-        if (firstSign == secondSign) {
-
-            String normalizedFirstNumber = NotationHelper.normalizeString(firstNumber);
-            String normalizedSecondNumber = NotationHelper.normalizeString(secondNumber);
-
-            if (firstSign == POSITIVE) {
-
-                if (firstLength == secondLength) {
-
-                    return normalizedFirstNumber.compareTo(normalizedSecondNumber) > 0;
-
-                } else if (firstLength > secondLength) {
-
-                    return true;
-                }
-
-            } else {
-
-                if (firstLength == secondLength) {
-
-                    return normalizedFirstNumber.compareTo(normalizedSecondNumber) < 0;
-
-                } else if (firstLength < secondLength) {
-
-                    return true;
-                }
-            }
-
-        } else if (firstSign == POSITIVE) {
-
-            return true;
-        }
-
-        return false;
+        return NotationHelper.compareNumbers(firstNumber, firstProperties, secondNumber, secondProperties) > 0;
     }
 
 }
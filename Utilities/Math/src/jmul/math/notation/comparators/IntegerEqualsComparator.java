@@ -34,8 +34,8 @@
 package jmul.math.notation.comparators;
 
 
+import jmul.math.notation.NotationHelper;
 import jmul.math.notation.NotationProperties;
-import jmul.math.notation.Signs;
 
 
 /**
@@ -71,18 +71,7 @@ public class IntegerEqualsComparator extends NumberComparatorBase {
     public boolean compare(String firstNumber, NotationProperties firstProperties, String secondNumber,
                            NotationProperties secondProperties) {
 
-        Signs firstSign = firstProperties.getSign();
-        int firstLength = firstNumber.length();
-
-        Signs secondSign = secondProperties.getSign();
-        int secondLength = secondNumber.length();
-
-        if ((firstSign == secondSign) && (firstLength == secondLength)) {
-
-            return firstNumber.compareTo(secondNumber) == 0;
-        }
-
-        return false;
+        return NotationHelper.compareNumbers(firstNumber, firstProperties, secondNumber, secondProperties) == 0;
     }
 
 }
@@ -45,11 +45,6 @@ import jmul.math.notation.NotationProperties;
  */
 public class ScientificNotationGreaterThanComparator extends NumberComparatorBase {
 
-    /**
-     * A comparator for floating point numbers.
-     */
-    private static final NumberComparator COMPARATOR = new FloatingPointGreaterThanComparator();
-
     /**
      * The default constructor.
      */
@@ -76,10 +71,7 @@ public class ScientificNotationGreaterThanComparator extends NumberComparatorBas
     public boolean compare(String firstNumber, NotationProperties firstProperties, String secondNumber,
                            NotationProperties secondProperties) {
 
-        String expandedFirstNumber = NotationHelper.expandScientificNotation(firstNumber, firstProperties);
-        String expandedSecondNumber = NotationHelper.expandScientificNotation(secondNumber, secondProperties);
-
-        return COMPARATOR.compare(expandedFirstNumber, expandedSecondNumber);
+        return NotationHelper.compareNumbers(firstNumber, firstProperties, secondNumber, secondProperties) > 0;
     }
 
 }
@@ -45,11 +45,6 @@ import jmul.math.notation.NotationProperties;
  */
 public class ScientificNotationLesserThanComparator extends NumberComparatorBase {
 
-    /**
-     * A comparator for floating point numbers.
-     */
-    private static final NumberComparator COMPARATOR = new FloatingPointLesserThanComparator();
-
     /**
      * The default constructor.
      */
@@ -76,10 +71,7 @@ public class ScientificNotationLesserThanComparator extends NumberComparatorBase
     public boolean compare(String firstNumber, NotationProperties firstProperties, String secondNumber,
                            NotationProperties secondProperties) {
 
-        String expandedFirstNumber = NotationHelper.expandScientificNotation(firstNumber, firstProperties);
-        String expandedSecondNumber = NotationHelper.expandScientificNotation(secondNumber, secondProperties);
-
-        return COMPARATOR.compare(expandedFirstNumber, expandedSecondNumber);
+        return NotationHelper.compareNumbers(firstNumber, firstProperties, secondNumber, secondProperties) < 0;
     }
 
 }
@@ -0,0 +1,172 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2019  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.math.notation.precision;
+
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import jmul.math.exceptions.NumberTooBigException;
+import jmul.math.notation.NotationHelper;
+import jmul.math.notation.NotationProperties;
+import jmul.math.notation.PrecisionTypes;
+import static jmul.math.notation.PrecisionTypes.SIGNED_FLOATING_POINT_32_BIT;
+import static jmul.math.notation.PrecisionTypes.SIGNED_FLOATING_POINT_64_BIT;
+
+
+/**
+ * An implementation of a precision checker for floating point number strings
+ * (i.e. floating point numbers and numbers in the scientific notation).<br>
+ * <br>
+ * <i>Note:<br>
+ * A number requires 32 bit precision if the nearest float value, rounded to
+ * the significant digits of the number, is the number itself (i.e. the number
+ * survives a round trip through the primitive type float). Every other number
+ * within the range of the primitive type double requires 64 bit precision.
+ * Numbers with more significant digits than a double can hold are rounded.</i>
+ *
+ * @author Kristian Kutin
+ */
+public class FloatingPointPrecisionChecker extends PrecisionCheckerBase {
+
+    /**
+     * The largest magnitude of a double value.
+     */
+    private static final String MAX_DOUBLE = String.valueOf(Double.MAX_VALUE);
+
+    /**
+     * The negated largest magnitude of a double value.
+     */
+    private static final String NEGATED_MAX_DOUBLE = String.valueOf(-Double.MAX_VALUE);
+
+    /**
+     * The default constructor.
+     */
+    public FloatingPointPrecisionChecker() {
+
+        super();
+    }
+
+    /**
+     * Compares the magnitude of the specified number string with the specified
+     * threshold.
+     *
+     * @param aString
+     *        a number string
+     * @param someProperties
+     *        the properties of the number
+     * @param aThreshold
+     *        a positive threshold
+     * @param aNegatedThreshold
+     *        the negated threshold
+     *
+     * @return a negative integer, zero or a positive integer if the magnitude is
+     *         lesser than, equal to or greater than the threshold
+     */
+    private static int compareMagnitude(String aString, NotationProperties someProperties, String aThreshold,
+                                        String aNegatedThreshold) {
+
+        if (someProperties.isNegative()) {
+
+            return -NotationHelper.compareNumbers(aString, someProperties, aNegatedThreshold,
+                                                  NotationHelper.checkString(aNegatedThreshold));
+        }
+
+        return NotationHelper.compareNumbers(aString, someProperties, aThreshold,
+                                             NotationHelper.checkString(aThreshold));
+    }
+
+    /**
+     * Returns the identified precision type (i.e. the lowest possible precision type to store
+     * the number) for the specified number string.
+     *
+     * @param aString
+     *        a number string
+     * @param someProperties
+     *        the properties of the number
+     *
+     * @return a precision
+     */
+    @Override
+    public PrecisionTypes checkPrecision(String aString, NotationProperties someProperties) {
+
+        int digits = NotationHelper.countSignificantDigits(aString, someProperties);
+
+        if (digits == 0) {
+
+            return SIGNED_FLOATING_POINT_32_BIT;
+        }
+
+        if (compareMagnitude(aString, someProperties, MAX_DOUBLE, NEGATED_MAX_DOUBLE) > 0) {
+
+            throw new NumberTooBigException(aString);
+        }
+
+        if (isFloatValue(NotationHelper.normalizeString(aString), digits)) {
+
+            return SIGNED_FLOATING_POINT_32_BIT;
+        }
+
+        return SIGNED_FLOATING_POINT_64_BIT;
+    }
+
+    /**
+     * Checks if the specified number survives a round trip through the
+     * primitive type float.
+     *
+     * @param aNormalizedString
+     *        a number string with a decimal point
+     * @param someSignificantDigits
+     *        the number of significant digits of the number
+     *
+     * @return <code>true</code> if the number can be stored as float, else
+     *         <code>false</code>
+     */
+    private static boolean isFloatValue(String aNormalizedString, int someSignificantDigits) {
+
+        float floatValue = Float.parseFloat(aNormalizedString);
+
+        if (Float.isInfinite(floatValue)) {
+
+            return false;
+        }
+
+        MathContext context = new MathContext(someSignificantDigits, RoundingMode.HALF_EVEN);
+        BigDecimal roundTrip = new BigDecimal(floatValue).round(context);
+
+        return roundTrip.compareTo(new BigDecimal(aNormalizedString)) == 0;
+    }
+
+}
@@ -35,10 +35,7 @@ package jmul.math.notation.precision;
 
 
 import jmul.math.exceptions.NumberTooBigException;
-import static jmul.math.notation.Comparators.EQUALS;
-import static jmul.math.notation.Comparators.GREATER_THAN;
-import static jmul.math.notation.Comparators.LESSER_THAN;
-import static jmul.math.notation.NotationHelper.evaluate;
+import jmul.math.notation.NotationHelper;
 import jmul.math.notation.NotationProperties;
 import jmul.math.notation.PrecisionTypes;
 import static jmul.math.notation.PrecisionTypes.SIGNED_INTEGER_32_BIT;
@@ -81,22 +78,42 @@ public class IntegerPrecisionChecker extends PrecisionCheckerBase {
         super();
     }
 
+    /**
+     * Compares the specified number string with the specified threshold.
+     *
+     * @param aString
+     *        a number string
+     * @param someProperties
+     *        the properties of the number
+     * @param aThreshold
+     *        a threshold
+     *
+     * @return a negative integer, zero or a positive integer if the number is
+     *         lesser than, equal to or greater than the threshold
+     */
+    private static int compare(String aString, NotationProperties someProperties, String aThreshold) {
+
+        return NotationHelper.compareNumbers(aString, someProperties, aThreshold,
+                                             NotationHelper.checkString(aThreshold));
+    }
+
     /**
      * Checks a positive number and returns a precision type.
      *
      * @param aString
      *        a number string
+     * @param someProperties
+     *        the properties of the number
      *
      * @return a precision
      */
-    private static PrecisionTypes checkPositiveNumber(String aString) {
+    private static PrecisionTypes checkPositiveNumber(String aString, NotationProperties someProperties) {
 
-        if (evaluate(aString, LESSER_THAN, MAX_INTEGER_32_BIT) || evaluate(aString, EQUALS, MAX_INTEGER_32_BIT)) {
+        if (compare(aString, someProperties, MAX_INTEGER_32_BIT) <= 0) {
 
             return SIGNED_INTEGER_32_BIT;
 
-        } else if (evaluate(aString, LESSER_THAN, MAX_INTEGER_64_BIT) ||
-                   evaluate(aString, EQUALS, MAX_INTEGER_64_BIT)) {
+        } else if (compare(aString, someProperties, MAX_INTEGER_64_BIT) <= 0) {
 
             return SIGNED_INTEGER_64_BIT;
 
@@ -111,17 +128,18 @@ public class IntegerPrecisionChecker extends PrecisionCheckerBase {
      *
      * @param aString
      *        a number string
+     * @param someProperties
+     *        the properties of the number
      *
      * @return a precision
      */
-    private static PrecisionTypes checkNegativeNumber(String aString) {
+    private static PrecisionTypes checkNegativeNumber(String aString, NotationProperties someProperties) {
 
-        if (evaluate(aString, GREATER_THAN, MIN_INTEGER_32_BIT) || evaluate(aString, EQUALS, MIN_INTEGER_32_BIT)) {
+        if (compare(aString, someProperties, MIN_INTEGER_32_BIT) >= 0) {
 
             return SIGNED_INTEGER_32_BIT;
 
-        } else if (evaluate(aString, GREATER_THAN, MIN_INTEGER_64_BIT) ||
-                   evaluate(aString, EQUALS, MIN_INTEGER_64_BIT)) {
+        } else if (compare(aString, someProperties, MIN_INTEGER_64_BIT) >= 0) {
 
             return SIGNED_INTEGER_64_BIT;
 
@@ -149,9 +167,9 @@ public class IntegerPrecisionChecker extends PrecisionCheckerBase {
 
         switch (sign) {
         case POSITIVE:
-            return checkPositiveNumber(aString);
+            return checkPositiveNumber(aString, someProperties);
         case NEGATIVE:
-            return checkNegativeNumber(aString);
+            return checkNegativeNumber(aString, someProperties);
         default:
             throw new UnsupportedOperationException();
         }
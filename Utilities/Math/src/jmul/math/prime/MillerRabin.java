@@ -0,0 +1,251 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.math.prime;
+
+
+/**
+ * A deterministic implementation of the Miller-Rabin primality test for
+ * numbers within the range of <code>long</code>.<br />
+ * <br />
+ * <i>Note:<br />
+ * The test uses base sets which are known to identify all composite numbers
+ * within the respective range, i.e. the result is exact.</i>
+ *
+ * @author Kristian Kutin
+ */
+final class MillerRabin {
+
+    /**
+     * Small prime numbers which are checked by division before the actual test.
+     */
+    private static final long[] SMALL_PRIME_NUMBERS = { 2L, 3L, 5L, 7L, 11L, 13L, 17L, 19L, 23L, 29L, 31L, 37L };
+
+    /**
+     * The upper bound (exclusive) for the small base set.
+     */
+    private static final long SMALL_BASES_LIMIT = 4759123141L;
+
+    /**
+     * A base set which is sufficient for all numbers below
+     * {@link #SMALL_BASES_LIMIT}.
+     */
+    private static final long[] SMALL_BASES = { 2L, 7L, 61L };
+
+    /**
+     * A base set which is sufficient for all numbers within the range of
+     * <code>long</code>.
+     */
+    private static final long[] LARGE_BASES = { 2L, 325L, 9375L, 28178L, 450775L, 9780504L, 1795265022L };
+
+    /**
+     * The default constructor.
+     */
+    private MillerRabin() {
+
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Checks if the specified number is a prime number.
+     *
+     * @param n
+     *
+     * @return <code>true</code> if the specified number is
+     *         a prime number, else <code>false</code>
+     */
+    static boolean isPrimeNumber(long n) {
+
+        if (n < 2L) {
+
+            return false;
+        }
+
+        for (long p : SMALL_PRIME_NUMBERS) {
+
+            if ((n % p) == 0L) {
+
+                return n == p;
+            }
+        }
+
+        long d = n - 1L;
+        int s = 0;
+
+        while ((d & 1L) == 0L) {
+
+            d >>>= 1;
+            s++;
+        }
+
+        long[] bases = (n < SMALL_BASES_LIMIT) ? SMALL_BASES : LARGE_BASES;
+
+        for (long base : bases) {
+
+            long a = base % n;
+
+            if ((a != 0L) && isWitness(a, d, s, n)) {
+
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks if the specified base proves that the specified number is a
+     * composite number.
+     *
+     * @param a
+     *        a base
+     * @param d
+     *        the odd part of n - 1
+     * @param s
+     *        the exponent of two of n - 1
+     * @param n
+     *        the number which is tested
+     *
+     * @return <code>true</code> if the number is a composite number, else
+     *         <code>false</code>
+     */
+    private static boolean isWitness(long a, long d, int s, long n) {
+
+        long x = powMod(a, d, n);
+
+        if ((x == 1L) || (x == (n - 1L))) {
+
+            return false;
+        }
+
+        for (int r = 1; r < s; r++) {
+
+            x = mulMod(x, x, n);
+
+            if (x == (n - 1L)) {
+
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Calculates (base ^ exponent) mod m.
+     *
+     * @param base
+     * @param exponent
+     * @param m
+     *
+     * @return the result
+     */
+    private static long powMod(long base, long exponent, long m) {
+
+        long result = 1L;
+        long b = base % m;
+        long e = exponent;
+
+        while (e > 0L) {
+
+            if ((e & 1L) == 1L) {
+
+                result = mulMod(result, b, m);
+            }
+
+            b = mulMod(b, b, m);
+            e >>>= 1;
+        }
+
+        return result;
+    }
+
+    /**
+     * Calculates (a * b) mod m without an overflow. Both factors must be less
+     * than m.
+     *
+     * @param a
+     * @param b
+     * @param m
+     *
+     * @return the result
+     */
+    private static long mulMod(long a, long b, long m) {
+
+        if (((a | b) >>> 31) == 0L) {
+
+            return (a * b) % m;
+        }
+
+        long result = 0L;
+        long x = a;
+        long y = b;
+
+        while (y > 0L) {
+
+            if ((y & 1L) == 1L) {
+
+                result = addMod(result, x, m);
+            }
+
+            x = addMod(x, x, m);
+            y >>>= 1;
+        }
+
+        return result;
+    }
+
+    /**
+     * Calculates (a + b) mod m without an overflow. Both summands must be less
+     * than m.
+     *
+     * @param a
+     * @param b
+     * @param m
+     *
+     * @return the result
+     */
+    private static long addMod(long a, long b, long m) {
+
+        long complement = m - b;
+
+        if (a >= complement) {
+
+            return a - complement;
+        }
+
+        return a + b;
+    }
+
+}
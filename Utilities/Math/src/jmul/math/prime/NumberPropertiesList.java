@@ -39,7 +39,7 @@ package jmul.math.prime;
  * with certain properties.<br />
  * <br />
  * <i>Note:<br />
- * Only one property is supported right now (i.e. is prime number).</i>
+ * Only properties regarding prime numbers are supported right now.</i>
  *
  * @author Kristian Kutin
  */
@@ -55,4 +55,24 @@ interface NumberPropertiesList {
      */
     boolean isPrimeNumber(int n);
 
+    /**
+     * Returns the nth prime number.
+     *
+     * @param n
+     *        a number (i.e. 1 for the first prime number, 2 for the second prime number,
+     *        etc.)
+     *
+     * @return a prime number
+     */
+    int getPrimeNumber(int n);
+
+    /**
+     * Counts all prime numbers which are less than or equal to the specified number.
+     *
+     * @param n
+     *
+     * @return the count of prime numbers
+     */
+    int countPrimeNumbers(int n);
+
 }
@@ -52,7 +52,7 @@ public final class PrimeNumberHelper {
      */
     static {
 
-        NUMBER_PROPERTIES_LIST = new NumberPropertiesListImpl();
+        NUMBER_PROPERTIES_LIST = new SegmentedPrimeSieve();
     }
 
     /**
@@ -83,24 +83,61 @@ public final class PrimeNumberHelper {
             throw new IllegalArgumentException(message);
         }
 
+        return NUMBER_PROPERTIES_LIST.getPrimeNumber(n);
+    }
 
-        int number = 1;
-        int count = 0;
-        int nextPrimeNumber = -1;
+    /**
+     * Checks if the specified number is a prime number.
+     *
+     * @param n
+     *        a positive integer (including zero)
+     *
+     * @return <code>true</code> if the specified number is
+     *         a prime number, else <code>false</code>
+     */
+    public static boolean isPrimeNumber(int n) {
 
-        while (count < n) {
+        return NUMBER_PROPERTIES_LIST.isPrimeNumber(n);
+    }
 
-            if (NUMBER_PROPERTIES_LIST.isPrimeNumber(number)) {
+    /**
+     * Checks if the specified number is a prime number. Numbers beyond the
+     * range of integers are checked with a deterministic Miller-Rabin test.
+     *
+     * @param n
+     *        a positive integer (including zero)
+     *
+     * @return <code>true</code> if the specified number is
+     *         a prime number, else <code>false</code>
+     */
+    public static boolean isPrimeNumber(long n) {
 
-                count++;
-                nextPrimeNumber = number;
+        if (n < 0L) {
 
-            }
+            String message = "Only positive integers (including zero) are allowed (actual parameter=" + n + ")!";
+            throw new IllegalArgumentException(message);
+        }
+
+        if (n <= Integer.MAX_VALUE) {
 
-            number++;
+            return NUMBER_PROPERTIES_LIST.isPrimeNumber((int) n);
         }
 
-        return nextPrimeNumber;
+        return MillerRabin.isPrimeNumber(n);
+    }
+
+    /**
+     * Counts all prime numbers which are less than or equal to the specified
+     * number.
+     *
+     * @param n
+     *        a positive integer (including zero)
+     *
+     * @return the count of prime numbers
+     */
+    public static int countPrimeNumbers(int n) {
+
+        return NUMBER_PROPERTIES_LIST.countPrimeNumbers(n);
     }
 
 }
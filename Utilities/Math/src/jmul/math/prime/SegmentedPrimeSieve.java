@@ -0,0 +1,486 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.math.prime;
+
+
+import java.util.Arrays;
+
+
+/**
+ * An implementation of a number property list which is based on a segmented
+ * sieve of Eratosthenes.<br />
+ * <br />
+ * <i>Implementation details:<br />
+ * The sieve stores one bit per odd number (i.e. a set bit marks a composite
+ * number) and a sorted array of all prime numbers found so far. The array
+ * allows to look up the nth prime number directly and to count prime numbers
+ * by a binary search. The sieve is extended on demand segment by segment up to
+ * {@link #MAXIMUM_LIMIT}. Larger numbers are checked with a deterministic
+ * Miller-Rabin test.<br />
+ * An extension creates a new snapshot of the sieve which replaces the previous
+ * snapshot. A snapshot is never modified after it has been published, i.e.
+ * queries don't require a lock.</i>
+ *
+ * @author Kristian Kutin
+ */
+class SegmentedPrimeSieve implements NumberPropertiesList {
+
+    /**
+     * The initial upper bound (exclusive) of the sieve. The prime numbers
+     * below this bound suffice to sieve all segments up to
+     * {@link #MAXIMUM_LIMIT}.
+     */
+    static final int INITIAL_LIMIT = 1 << 16;
+
+    /**
+     * The maximum upper bound (exclusive) of the sieve.
+     */
+    static final int MAXIMUM_LIMIT = 1 << 26;
+
+    /**
+     * The number of values which are sieved at once.
+     */
+    private static final int SEGMENT_SIZE = 1 << 18;
+
+    /**
+     * The current state of the sieve.
+     */
+    private volatile SieveSnapshot snapshot;
+
+    /**
+     * The default constructor.
+     */
+    SegmentedPrimeSieve() {
+
+        snapshot = SieveSnapshot.newInitialSnapshot(INITIAL_LIMIT);
+    }
+
+    /**
+     * Returns a snapshot which covers the specified number.
+     *
+     * @param n
+     *        a number less than {@link #MAXIMUM_LIMIT}
+     *
+     * @return a snapshot
+     */
+    private SieveSnapshot ensureLimit(int n) {
+
+        SieveSnapshot current = snapshot;
+
+        if (n < current.limit) {
+
+            return current;
+        }
+
+        synchronized (this) {
+
+            current = snapshot;
+
+            if (n < current.limit) {
+
+                return current;
+            }
+
+            int newLimit = (int) Math.min(MAXIMUM_LIMIT, Math.max(n + 1L, 2L * current.limit));
+            snapshot = current.extend(newLimit, SEGMENT_SIZE);
+
+            return snapshot;
+        }
+    }
+
+    /**
+     * Checks if the specified number is a prime number.
+     *
+     * @param n
+     *
+     * @return <code>true</code> if the specified number is
+     *         a prime number, else <code>false</code>
+     */
+    @Override
+    public boolean isPrimeNumber(int n) {
+
+        if (n < 0) {
+
+            String message = "Only positive integers (including zero) are allowed (actual parameter=" + n + ")!";
+            throw new IllegalArgumentException(message);
+        }
+
+        if (n >= MAXIMUM_LIMIT) {
+
+            return MillerRabin.isPrimeNumber(n);
+        }
+
+        return ensureLimit(n).isPrimeNumber(n);
+    }
+
+    /**
+     * Returns the nth prime number.
+     *
+     * @param n
+     *        a number (i.e. 1 for the first prime number, 2 for the second prime number,
+     *        etc.)
+     *
+     * @return a prime number
+     */
+    @Override
+    public int getPrimeNumber(int n) {
+
+        if (n < 1) {
+
+            String message = "Only positive integers (without zero) are allowed (actual parameter=" + n + ")!";
+            throw new IllegalArgumentException(message);
+        }
+
+        SieveSnapshot current = snapshot;
+
+        while ((current.primeCount < n) && (current.limit < MAXIMUM_LIMIT)) {
+
+            long bound = Math.max(current.limit, estimateUpperBound(n));
+            current = ensureLimit((int) Math.min(MAXIMUM_LIMIT - 1L, bound));
+        }
+
+        if (n <= current.primeCount) {
+
+            return current.primes[n - 1];
+        }
+
+        // The prime number lies beyond the sieve.
+
+        long candidate = current.primes[current.primeCount - 1];
+        int count = current.primeCount;
+
+        while (count < n) {
+
+            candidate += 2L;
+
+            if (candidate > Integer.MAX_VALUE) {
+
+                String message = "The prime number #" + n + " exceeds the range of integers!";
+                throw new IllegalArgumentException(message);
+            }
+
+            if (MillerRabin.isPrimeNumber(candidate)) {
+
+                count++;
+            }
+        }
+
+        return (int) candidate;
+    }
+
+    /**
+     * Estimates an upper bound for the nth prime number (see Rosser's theorem).
+     *
+     * @param n
+     *
+     * @return an upper bound
+     */
+    private static long estimateUpperBound(int n) {
+
+        if (n < 6) {
+
+            return 13L;
+        }
+
+        double logN = Math.log(n);
+        return (long) (n * (logN + Math.log(logN))) + 1L;
+    }
+
+    /**
+     * Counts all prime numbers which are less than or equal to the specified number.
+     *
+     * @param n
+     *        a number less than {@link #MAXIMUM_LIMIT}
+     *
+     * @return the count of prime numbers
+     */
+    @Override
+    public int countPrimeNumbers(int n) {
+
+        if (n < 0) {
+
+            String message = "Only positive integers (including zero) are allowed (actual parameter=" + n + ")!";
+            throw new IllegalArgumentException(message);
+        }
+
+        if (n >= MAXIMUM_LIMIT) {
+
+            String message =
+                "Prime numbers can only be counted below " + MAXIMUM_LIMIT + " (actual parameter=" + n + ")!";
+            throw new IllegalArgumentException(message);
+        }
+
+        SieveSnapshot current = ensureLimit(n);
+
+        int index = Arrays.binarySearch(current.primes, 0, current.primeCount, n);
+
+        if (index >= 0) {
+
+            return index + 1;
+        }
+
+        return -(index + 1);
+    }
+
+}
+
+
+/**
+ * An immutable state of a prime sieve.
+ *
+ * @author Kristian Kutin
+ */
+class SieveSnapshot {
+
+    /**
+     * The upper bound (exclusive) of the sieved numbers.
+     */
+    final int limit;
+
+    /**
+     * One bit per odd number (i.e. bit k represents the number 2k + 1). A set
+     * bit marks a composite number.
+     */
+    private final long[] composites;
+
+    /**
+     * All prime numbers below the limit in ascending order. The array may
+     * contain unused elements at the end.
+     */
+    final int[] primes;
+
+    /**
+     * The number of prime numbers below the limit.
+     */
+    final int primeCount;
+
+    /**
+     * Creates a new snapshot according to the specified parameters.
+     *
+     * @param limit
+     *        the upper bound (exclusive) of the sieved numbers
+     * @param composites
+     *        the bits which mark composite numbers
+     * @param primes
+     *        all prime numbers below the limit
+     * @param primeCount
+     *        the number of prime numbers below the limit
+     */
+    private SieveSnapshot(int limit, long[] composites, int[] primes, int primeCount) {
+
+        this.limit = limit;
+        this.composites = composites;
+        this.primes = primes;
+        this.primeCount = primeCount;
+    }
+
+    /**
+     * Returns the number of words which are required to store the bits for all
+     * odd numbers below the specified limit.
+     *
+     * @param limit
+     *        an upper bound (exclusive)
+     *
+     * @return a number of words
+     */
+    private static int words(int limit) {
+
+        return (int) ((((long) limit >>> 1) + 64L) >>> 6);
+    }
+
+    /**
+     * Creates a snapshot with a classic sieve of Eratosthenes.
+     *
+     * @param limit
+     *        the upper bound (exclusive) of the sieved numbers
+     *
+     * @return a snapshot
+     */
+    static SieveSnapshot newInitialSnapshot(int limit) {
+
+        long[] composites = new long[words(limit)];
+
+        markComposite(composites, 1L);
+
+        for (long p = 3L; (p * p) < limit; p += 2L) {
+
+            if (!isComposite(composites, p)) {
+
+                for (long m = p * p; m < limit; m += 2L * p) {
+
+                    markComposite(composites, m);
+                }
+            }
+        }
+
+        int[] primes = new int[limit / 8 + 16];
+        int count = 0;
+
+        primes[count] = 2;
+        count++;
+
+        for (int m = 3; m < limit; m += 2) {
+
+            if (!isComposite(composites, m)) {
+
+                primes[count] = m;
+                count++;
+            }
+        }
+
+        return new SieveSnapshot(limit, composites, primes, count);
+    }
+
+    /**
+     * Checks the bit of the specified odd number.
+     *
+     * @param bits
+     *        the bits which mark composite numbers
+     * @param m
+     *        an odd number
+     *
+     * @return <code>true</code> if the number is marked as composite number,
+     *         else <code>false</code>
+     */
+    private static boolean isComposite(long[] bits, long m) {
+
+        int index = (int) (m >>> 1);
+        return (bits[index >>> 6] & (1L << index)) != 0L;
+    }
+
+    /**
+     * Sets the bit of the specified odd number.
+     *
+     * @param bits
+     *        the bits which mark composite numbers
+     * @param m
+     *        an odd number
+     */
+    private static void markComposite(long[] bits, long m) {
+
+        int index = (int) (m >>> 1);
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    /**
+     * Checks if the specified number is a prime number. The number must be
+     * less than the limit of this snapshot.
+     *
+     * @param n
+     *
+     * @return <code>true</code> if the specified number is
+     *         a prime number, else <code>false</code>
+     */
+    boolean isPrimeNumber(int n) {
+
+        if (n == 2) {
+
+            return true;
+        }
+
+        if ((n < 2) || ((n & 1) == 0)) {
+
+            return false;
+        }
+
+        return !isComposite(composites, n);
+    }
+
+    /**
+     * Creates a new snapshot which covers all numbers below the specified
+     * limit. The numbers between the current limit and the new limit are sieved
+     * segment by segment. The prime numbers of this snapshot must include all
+     * prime numbers up to the square root of the new limit.
+     *
+     * @param newLimit
+     *        the new upper bound (exclusive)
+     * @param segmentSize
+     *        the number of values which are sieved at once
+     *
+     * @return a new snapshot
+     */
+    SieveSnapshot extend(int newLimit, int segmentSize) {
+
+        long[] newComposites = Arrays.copyOf(composites, words(newLimit));
+
+        int estimatedCount = (int) (newLimit / Math.max(1.0, Math.log(newLimit) - 1.1)) + 16;
+        int[] newPrimes = Arrays.copyOf(primes, Math.max(primes.length, estimatedCount));
+        int count = primeCount;
+
+        for (long low = limit; low < newLimit; low += segmentSize) {
+
+            long high = Math.min(low + segmentSize, newLimit);
+
+            for (int a = 1; a < count; a++) {
+
+                long p = newPrimes[a];
+
+                if ((p * p) >= high) {
+
+                    break;
+                }
+
+                long start = Math.max(p * p, ((low + p - 1L) / p) * p);
+
+                if ((start & 1L) == 0L) {
+
+                    start += p;
+                }
+
+                for (long m = start; m < high; m += 2L * p) {
+
+                    markComposite(newComposites, m);
+                }
+            }
+
+            for (long m = low | 1L; m < high; m += 2L) {
+
+                if (!isComposite(newComposites, m)) {
+
+                    if (count == newPrimes.length) {
+
+                        newPrimes = Arrays.copyOf(newPrimes, 2 * count);
+                    }
+
+                    newPrimes[count] = (int) m;
+                    count++;
+                }
+            }
+        }
+
+        return new SieveSnapshot(newLimit, newComposites, newPrimes, count);
+    }
+
+}
@@ -0,0 +1,197 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package test.jmul.messaging;
+
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jmul.messaging.BlockingMessagebus;
+import jmul.messaging.BlockingQueuingMessagebus;
+import jmul.messaging.Message;
+import jmul.messaging.MessageQuery;
+import jmul.messaging.MessageQueryResult;
+import jmul.messaging.Messagebus;
+import jmul.messaging.Receiver;
+import jmul.messaging.StandardMessage;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+
+/**
+ * This test suite tests a blocking queing messagebus.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class BlockingQueuingMessagebusTest {
+
+    /**
+     * Returns a query for the specified receiver.
+     *
+     * @param receiverName
+     *        the name of a receiver
+     *
+     * @return a query
+     */
+    private static MessageQuery newQuery(final String receiverName) {
+
+        Receiver receiver = new Receiver() {
+
+            @Override
+            public String receiverName() {
+
+                return receiverName;
+            }
+        };
+
+        return new MessageQuery(receiver);
+    }
+
+    /**
+     * Tests fetching a message from a messagebus that contains one message.
+     */
+    @Test
+    public void testFetchingMessage() {
+
+        Message message = new StandardMessage("a", "receiver", "c");
+
+        Messagebus messagebus = new BlockingQueuingMessagebus();
+        messagebus.send(message);
+        assertEquals(1, messagebus.size());
+
+        MessageQueryResult result = messagebus.fetch(newQuery("receiver"));
+        assertEquals(true, result.existsResult());
+        assertEquals(message, result.result());
+        assertEquals(0, messagebus.size());
+    }
+
+    /**
+     * Tests fetching a message with a timeout from an empty messagebus.
+     */
+    @Test
+    public void testFetchingMessageWithTimeout() {
+
+        BlockingMessagebus messagebus = new BlockingQueuingMessagebus();
+
+        long start = System.currentTimeMillis();
+        MessageQueryResult result = messagebus.fetch(newQuery("receiver"), 100L, TimeUnit.MILLISECONDS);
+        long duration = System.currentTimeMillis() - start;
+
+        assertEquals(false, result.existsResult());
+        assertTrue(duration >= 90L);
+    }
+
+    /**
+     * Tests waiting for a message which is sent by another thread.
+     */
+    @Test
+    public void testWaitingForMessage() throws InterruptedException {
+
+        final BlockingMessagebus messagebus = new BlockingQueuingMessagebus();
+        final Message message = new StandardMessage("a", "receiver", "c");
+
+        Thread sender = new Thread() {
+
+            @Override
+            public void run() {
+
+                try {
+
+                    Thread.sleep(50L);
+
+                } catch (InterruptedException e) {
+
+                    Thread.currentThread().interrupt();
+                }
+
+                messagebus.send(message);
+            }
+        };
+        sender.start();
+
+        MessageQueryResult result = messagebus.fetch(newQuery("receiver"), 10L, TimeUnit.SECONDS);
+        sender.join();
+
+        assertEquals(true, result.existsResult());
+        assertEquals(message, result.result());
+    }
+
+    /**
+     * Tests fetching several messages at once.
+     */
+    @Test
+    public void testFetchingBatch() {
+
+        BlockingMessagebus messagebus = new BlockingQueuingMessagebus();
+
+        for (int a = 0; a < 5; a++) {
+
+            messagebus.send(new StandardMessage("a", "receiver", String.valueOf(a)));
+        }
+
+        messagebus.send(new StandardMessage("a", "receiver2", "x"));
+        assertEquals(6, messagebus.size());
+
+        List<Message> messages = messagebus.fetch(newQuery("receiver"), 3);
+        assertEquals(3, messages.size());
+        assertEquals("0", messages.get(0).topic());
+        assertEquals("2", messages.get(2).topic());
+        assertEquals(3, messagebus.size());
+
+        messages = messagebus.fetch(newQuery("receiver"), 10);
+        assertEquals(2, messages.size());
+        assertEquals("3", messages.get(0).topic());
+
+        messages = messagebus.fetch(newQuery("receiver"), 10);
+        assertEquals(0, messages.size());
+        assertEquals(1, messagebus.size());
+    }
+
+    /**
+     * Tests fetching several messages with an invalid maximum.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testFetchingBatchWithInvalidMaximum() {
+
+        BlockingMessagebus messagebus = new BlockingQueuingMessagebus();
+        messagebus.fetch(newQuery("receiver"), 0);
+    }
+
+}
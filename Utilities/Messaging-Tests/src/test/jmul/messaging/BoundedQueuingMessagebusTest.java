@@ -0,0 +1,222 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package test.jmul.messaging;
+
+
+import jmul.messaging.MessageQuery;
+import jmul.messaging.MessageQueryResult;
+import jmul.messaging.MessageRejectedException;
+import jmul.messaging.OverflowPolicy;
+import jmul.messaging.QueuingMessagebus;
+import jmul.messaging.Receiver;
+import jmul.messaging.StandardMessage;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+
+/**
+ * This test suite tests a queing messagebus with bounded queues.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class BoundedQueuingMessagebusTest {
+
+    /**
+     * Returns a query for the specified receiver.
+     *
+     * @param receiverName
+     *        the name of a receiver
+     *
+     * @return a query
+     */
+    private static MessageQuery newQuery(final String receiverName) {
+
+        Receiver receiver = new Receiver() {
+
+            @Override
+            public String receiverName() {
+
+                return receiverName;
+            }
+        };
+
+        return new MessageQuery(receiver);
+    }
+
+    /**
+     * Tests discarding the oldest message if a queue is full.
+     */
+    @Test
+    public void testDropOldest() {
+
+        QueuingMessagebus messagebus =
+            new QueuingMessagebus(2, OverflowPolicy.DROP_OLDEST, QueuingMessagebus.NO_RECLAMATION);
+
+        messagebus.send(new StandardMessage("a", "receiver", "1"));
+        messagebus.send(new StandardMessage("a", "receiver", "2"));
+        messagebus.send(new StandardMessage("a", "receiver", "3"));
+        assertEquals(2, messagebus.size());
+
+        MessageQuery query = newQuery("receiver");
+        assertEquals("2", messagebus.fetch(query).result().topic());
+        assertEquals("3", messagebus.fetch(query).result().topic());
+        assertEquals(0, messagebus.size());
+    }
+
+    /**
+     * Tests discarding the newest message if a queue is full.
+     */
+    @Test
+    public void testDropNewest() {
+
+        QueuingMessagebus messagebus =
+            new QueuingMessagebus(2, OverflowPolicy.DROP_NEWEST, QueuingMessagebus.NO_RECLAMATION);
+
+        messagebus.send(new StandardMessage("a", "receiver", "1"));
+        messagebus.send(new StandardMessage("a", "receiver", "2"));
+        messagebus.send(new StandardMessage("a", "receiver", "3"));
+        assertEquals(2, messagebus.size());
+
+        MessageQuery query = newQuery("receiver");
+        assertEquals("1", messagebus.fetch(query).result().topic());
+        assertEquals("2", messagebus.fetch(query).result().topic());
+        assertFalse(messagebus.fetch(query).existsResult());
+    }
+
+    /**
+     * Tests rejecting a message if a queue is full.
+     */
+    @Test(expected = MessageRejectedException.class)
+    public void testReject() {
+
+        QueuingMessagebus messagebus =
+            new QueuingMessagebus(1, OverflowPolicy.REJECT, QueuingMessagebus.NO_RECLAMATION);
+
+        messagebus.send(new StandardMessage("a", "receiver", "1"));
+        messagebus.send(new StandardMessage("a", "receiver", "2"));
+    }
+
+    /**
+     * Tests if a full queue of one receiver doesn't affect other receivers.
+     */
+    @Test
+    public void testCapacityPerReceiver() {
+
+        QueuingMessagebus messagebus =
+            new QueuingMessagebus(1, OverflowPolicy.REJECT, QueuingMessagebus.NO_RECLAMATION);
+
+        messagebus.send(new StandardMessage("a", "receiver1", "1"));
+        messagebus.send(new StandardMessage("a", "receiver2", "2"));
+        assertEquals(2, messagebus.size());
+    }
+
+    /**
+     * Tests blocking the sender if a queue is full.
+     */
+    @Test
+    public void testBlockSender() throws InterruptedException {
+
+        final QueuingMessagebus messagebus =
+            new QueuingMessagebus(1, OverflowPolicy.BLOCK_SENDER, QueuingMessagebus.NO_RECLAMATION);
+
+        messagebus.send(new StandardMessage("a", "receiver", "1"));
+
+        Thread sender = new Thread() {
+
+            @Override
+            public void run() {
+
+                messagebus.send(new StandardMessage("a", "receiver", "2"));
+            }
+        };
+        sender.start();
+        sender.join(200L);
+
+        assertTrue(sender.isAlive());
+        assertEquals(1, messagebus.size());
+
+        MessageQuery query = newQuery("receiver");
+        assertEquals("1", messagebus.fetch(query).result().topic());
+
+        sender.join(10000L);
+
+        assertFalse(sender.isAlive());
+        assertEquals("2", messagebus.fetch(query).result().topic());
+    }
+
+    /**
+     * Tests removing idle queues.
+     */
+    @Test
+    public void testReclaimIdleQueues() throws InterruptedException {
+
+        QueuingMessagebus messagebus = new QueuingMessagebus(10, OverflowPolicy.REJECT, 50L);
+
+        messagebus.send(new StandardMessage("a", "receiver1", "1"));
+        messagebus.send(new StandardMessage("a", "receiver2", "2"));
+        assertEquals(2, messagebus.queueCount());
+
+        MessageQueryResult result = messagebus.fetch(newQuery("receiver1"));
+        assertTrue(result.existsResult());
+
+        Thread.sleep(100L);
+        messagebus.reclaimIdleQueues();
+
+        // Only the empty queue is removed.
+
+        assertEquals(1, messagebus.queueCount());
+        assertEquals(1, messagebus.size());
+
+        messagebus.send(new StandardMessage("a", "receiver1", "3"));
+        assertEquals(2, messagebus.queueCount());
+        assertEquals("3", messagebus.fetch(newQuery("receiver1")).result().topic());
+    }
+
+    /**
+     * Tests creating a messagebus with an invalid capacity.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacity() {
+
+        new QueuingMessagebus(0, OverflowPolicy.REJECT, QueuingMessagebus.NO_RECLAMATION);
+    }
+
+}
@@ -0,0 +1,207 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package test.jmul.messaging;
+
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jmul.messaging.ConcurrentSortedMessageStorage;
+import jmul.messaging.Message;
+import jmul.messaging.MessageQueryResult;
+import jmul.messaging.MessageStorage;
+import jmul.messaging.StandardMessage;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+
+/**
+ * This test suite tests a sorted message storage which supports multi threaded access.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class ConcurrentSortedMessageStorageTest {
+
+    /**
+     * The number of producer and consumer threads.
+     */
+    private static final int THREADS = 4;
+
+    /**
+     * The number of messages per producer.
+     */
+    private static final int MESSAGES_PER_PRODUCER = 1000;
+
+    /**
+     * The topics sorted by priority.
+     */
+    private static final String[] PRIORITIES = { "high", "medium", "low" };
+
+    /**
+     * Tests fetching a message from an empty storage.
+     */
+    @Test
+    public void testFetchingMessageFromEmptyStorage() {
+
+        MessageStorage storage = new ConcurrentSortedMessageStorage();
+        assertEquals(0, storage.size());
+
+        MessageQueryResult result = storage.fetch("any");
+        assertEquals(false, result.existsResult());
+
+        result = storage.fetch(PRIORITIES);
+        assertEquals(false, result.existsResult());
+    }
+
+    /**
+     * Tests fetching messages by priority.
+     */
+    @Test
+    public void testFetchingMessagesByPriority() {
+
+        MessageStorage storage = new ConcurrentSortedMessageStorage();
+
+        storage.put(new StandardMessage("1", "b", "low"));
+        storage.put(new StandardMessage("2", "b", "high"));
+        storage.put(new StandardMessage("3", "b", "low"));
+        storage.put(new StandardMessage("4", "b", "medium"));
+        assertEquals(4, storage.size());
+
+        assertEquals("2", storage.fetch(PRIORITIES).result().senderName());
+        assertEquals("4", storage.fetch(PRIORITIES).result().senderName());
+        assertEquals("1", storage.fetch(PRIORITIES).result().senderName());
+        assertEquals("3", storage.fetch(PRIORITIES).result().senderName());
+        assertEquals(0, storage.size());
+        assertEquals(false, storage.fetch(PRIORITIES).existsResult());
+    }
+
+    /**
+     * Tests fetching messages by priority after a topic has been emptied and
+     * refilled.
+     */
+    @Test
+    public void testRefillingTopic() {
+
+        MessageStorage storage = new ConcurrentSortedMessageStorage();
+
+        storage.put(new StandardMessage("1", "b", "high"));
+        storage.put(new StandardMessage("2", "b", "low"));
+
+        assertEquals("1", storage.fetch(PRIORITIES).result().senderName());
+
+        storage.put(new StandardMessage("3", "b", "high"));
+
+        assertEquals("3", storage.fetch(PRIORITIES).result().senderName());
+        assertEquals("2", storage.fetch(PRIORITIES).result().senderName());
+
+        storage.put(new StandardMessage("4", "b", "low"));
+
+        assertEquals("4", storage.fetch(PRIORITIES).result().senderName());
+        assertEquals(false, storage.fetch(PRIORITIES).existsResult());
+    }
+
+    /**
+     * Tests putting and fetching messages concurrently. Every message must be fetched
+     * exactly once.
+     */
+    @Test
+    public void testConcurrentAccess() throws InterruptedException {
+
+        final MessageStorage storage = new ConcurrentSortedMessageStorage();
+        final Set<String> fetchedMessages = Collections.synchronizedSet(new HashSet<String>());
+        final AtomicInteger fetchCount = new AtomicInteger();
+        final int expectedCount = THREADS * MESSAGES_PER_PRODUCER;
+
+        Thread[] threads = new Thread[2 * THREADS];
+
+        for (int a = 0; a < THREADS; a++) {
+
+            final String producerName = String.valueOf(a);
+
+            threads[a] = new Thread() {
+
+                @Override
+                public void run() {
+
+                    for (int b = 0; b < MESSAGES_PER_PRODUCER; b++) {
+
+                        String topic = PRIORITIES[b % PRIORITIES.length];
+                        storage.put(new StandardMessage(producerName + "-" + b, "b", topic));
+                    }
+                }
+            };
+
+            threads[THREADS + a] = new Thread() {
+
+                @Override
+                public void run() {
+
+                    while (fetchCount.get() < expectedCount) {
+
+                        MessageQueryResult result = storage.fetch(PRIORITIES);
+
+                        if (result.existsResult()) {
+
+                            Message message = result.result();
+                            fetchedMessages.add(message.senderName());
+                            fetchCount.incrementAndGet();
+                        }
+                    }
+                }
+            };
+        }
+
+        for (Thread thread : threads) {
+
+            thread.start();
+        }
+
+        for (Thread thread : threads) {
+
+            thread.join(30000L);
+        }
+
+        assertEquals(expectedCount, fetchCount.get());
+        assertEquals(expectedCount, fetchedMessages.size());
+        assertEquals(0, storage.size());
+    }
+
+}
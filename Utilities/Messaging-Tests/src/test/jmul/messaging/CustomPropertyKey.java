@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.messaging;
+
+
+import java.io.Serializable;
+
+import jmul.messaging.PropertyKey;
+
+
+/**
+ * A custom property key.
+ *
+ * @author Kristian Kutin
+ */
+class CustomPropertyKey implements PropertyKey, Serializable {
+
+    /**
+     * A serial version UID.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Returns a string representation of this key.
+     *
+     * @return a string representation
+     */
+    @Override
+    public String toString() {
+
+        return "content";
+    }
+
+    /**
+     * Checks if the specified object is equal to this key.
+     *
+     * @param o
+     *        an object
+     *
+     * @return <code>true</code> if the object is a key of the same type, else
+     *         <code>false</code>
+     */
+    @Override
+    public boolean equals(Object o) {
+
+        return o instanceof CustomPropertyKey;
+    }
+
+    /**
+     * Returns a hash code for this key.
+     *
+     * @return a hash code
+     */
+    @Override
+    public int hashCode() {
+
+        return toString().hashCode();
+    }
+
+}
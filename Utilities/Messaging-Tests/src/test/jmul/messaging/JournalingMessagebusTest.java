@@ -0,0 +1,376 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package test.jmul.messaging;
+
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import java.util.AbstractMap;
+import java.util.Map;
+
+import jmul.messaging.JournalingMessagebus;
+import jmul.messaging.Message;
+import jmul.messaging.MessageQuery;
+import jmul.messaging.MessageQueryResult;
+import jmul.messaging.MessageRejectedException;
+import jmul.messaging.PropertyKey;
+import jmul.messaging.Receiver;
+import jmul.messaging.StandardMessage;
+
+import jmul.test.classification.ModuleTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * This test suite tests a messagebus which stores the messages persistently.
+ *
+ * @author Kristian Kutin
+ */
+@ModuleTest
+public class JournalingMessagebusTest {
+
+    /**
+     * The directory which contains the message logs.
+     */
+    private static final File DIRECTORY = new File("testdata-messaging/journal");
+
+    /**
+     * A small segment size which causes frequent segment changes.
+     */
+    private static final int SEGMENT_SIZE = 4096;
+
+    /**
+     * A custom property key.
+     */
+    private static final PropertyKey CONTENT = new CustomPropertyKey();
+
+    /**
+     * Deletes the specified file or directory.
+     *
+     * @param file
+     *        a file or directory
+     */
+    private static void delete(File file) {
+
+        File[] children = file.listFiles();
+
+        if (children != null) {
+
+            for (File child : children) {
+
+                delete(child);
+            }
+        }
+
+        file.delete();
+    }
+
+    /**
+     * Returns a query for the specified receiver.
+     *
+     * @param receiverName
+     *        the name of a receiver
+     *
+     * @return a query
+     */
+    private static MessageQuery newQuery(final String receiverName) {
+
+        Receiver receiver = new Receiver() {
+
+            @Override
+            public String receiverName() {
+
+                return receiverName;
+            }
+        };
+
+        return new MessageQuery(receiver);
+    }
+
+    /**
+     * Returns a message with some content.
+     *
+     * @param receiver
+     *        the name of a receiver
+     * @param index
+     *        an index which is stored as content
+     *
+     * @return a message
+     */
+    private static Message newMessage(String receiver, int index) {
+
+        Map.Entry<PropertyKey, Object> entry = new AbstractMap.SimpleEntry<PropertyKey, Object>(CONTENT, index);
+
+        return newMessage(receiver, entry);
+    }
+
+    /**
+     * Returns a message with the specified content. The entries are only passed
+     * on to the message, i.e. the varargs array is safe.
+     *
+     * @param receiver
+     *        the name of a receiver
+     * @param someEntries
+     *        the content of the message
+     *
+     * @return a message
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    private static Message newMessage(String receiver, Map.Entry<PropertyKey, Object>... someEntries) {
+
+        return new StandardMessage("sender", receiver, "topic", someEntries);
+    }
+
+    /**
+     * Removes all message logs before a test.
+     */
+    @Before
+    public void setUp() {
+
+        delete(DIRECTORY);
+    }
+
+    /**
+     * Removes all message logs after a test.
+     */
+    @After
+    public void tearDown() {
+
+        delete(DIRECTORY);
+    }
+
+    /**
+     * Tests sending and fetching messages.
+     */
+    @Test
+    public void testSendAndFetch() {
+
+        try (JournalingMessagebus messagebus = new JournalingMessagebus(DIRECTORY, SEGMENT_SIZE)) {
+
+            Message message = newMessage("receiver", 1);
+            messagebus.send(message);
+            assertEquals(1, messagebus.size());
+
+            MessageQueryResult result = messagebus.fetch(newQuery("receiver"));
+            assertTrue(result.existsResult());
+
+            Message fetchedMessage = result.result();
+            assertEquals("sender", fetchedMessage.senderName());
+            assertEquals("receiver", fetchedMessage.receiverName());
+            assertEquals("topic", fetchedMessage.topic());
+            assertEquals(1, fetchedMessage.get(CONTENT));
+            assertEquals(((StandardMessage) message).date(), ((StandardMessage) fetchedMessage).date());
+
+            assertEquals(0, messagebus.size());
+            assertFalse(messagebus.fetch(newQuery("receiver")).existsResult());
+            assertFalse(messagebus.fetch(newQuery("unknown")).existsResult());
+        }
+    }
+
+    /**
+     * Tests the fetching order across several segments.
+     */
+    @Test
+    public void testFetchingOrderAcrossSegments() {
+
+        try (JournalingMessagebus messagebus = new JournalingMessagebus(DIRECTORY, SEGMENT_SIZE)) {
+
+            for (int a = 0; a < 100; a++) {
+
+                messagebus.send(newMessage("receiver", a));
+            }
+
+            assertEquals(100, messagebus.size());
+
+            for (int a = 0; a < 100; a++) {
+
+                MessageQueryResult result = messagebus.fetch(newQuery("receiver"));
+                assertEquals(a, result.result().get(CONTENT));
+            }
+
+            assertEquals(0, messagebus.size());
+        }
+
+        // Consumed segments have been recycled, i.e. only the current segment, a spare
+        // segment and the consumer offset remain.
+
+        File[] subdirectories = DIRECTORY.listFiles();
+        assertEquals(1, subdirectories.length);
+        assertEquals(3, subdirectories[0].listFiles().length);
+    }
+
+    /**
+     * Tests fetching the remaining messages after a restart.
+     */
+    @Test
+    public void testResumeAfterRestart() {
+
+        try (JournalingMessagebus messagebus = new JournalingMessagebus(DIRECTORY, SEGMENT_SIZE)) {
+
+            for (int a = 0; a < 50; a++) {
+
+                messagebus.send(newMessage("receiver1", a));
+                messagebus.send(newMessage("receiver2", a));
+            }
+
+            for (int a = 0; a < 30; a++) {
+
+                messagebus.fetch(newQuery("receiver1"));
+            }
+
+            assertEquals(70, messagebus.size());
+        }
+
+        try (JournalingMessagebus messagebus = new JournalingMessagebus(DIRECTORY, SEGMENT_SIZE)) {
+
+            assertEquals(70, messagebus.size());
+
+            for (int a = 30; a < 50; a++) {
+
+                assertEquals(a, messagebus.fetch(newQuery("receiver1")).result().get(CONTENT));
+            }
+
+            assertFalse(messagebus.fetch(newQuery("receiver1")).existsResult());
+
+            messagebus.send(newMessage("receiver2", 50));
+
+            for (int a = 0; a < 51; a++) {
+
+                assertEquals(a, messagebus.fetch(newQuery("receiver2")).result().get(CONTENT));
+            }
+
+            assertEquals(0, messagebus.size());
+        }
+    }
+
+    /**
+     * Tests a restart with a consumer offset which doesn't point to a record.
+     * The remainder of the segment is skipped, as when a record cannot be
+     * read while fetching.
+     */
+    @Test
+    public void testResumeWithCorruptedOffset() {
+
+        try (JournalingMessagebus messagebus = new JournalingMessagebus(DIRECTORY, SEGMENT_SIZE)) {
+
+            for (int a = 0; a < 3; a++) {
+
+                messagebus.send(newMessage("receiver", a));
+            }
+
+            messagebus.fetch(newQuery("receiver"));
+        }
+
+        File offsetFile = new File(DIRECTORY.listFiles()[0], "consumer.offset");
+
+        try (RandomAccessFile file = new RandomAccessFile(offsetFile, "rw")) {
+
+            file.seek(8);
+            int readPosition = file.readInt();
+
+            file.seek(8);
+            file.writeInt(readPosition + 1);
+
+        } catch (IOException e) {
+
+            fail(e.getMessage());
+        }
+
+        try (JournalingMessagebus messagebus = new JournalingMessagebus(DIRECTORY, SEGMENT_SIZE)) {
+
+            assertEquals(0, messagebus.size());
+            assertFalse(messagebus.fetch(newQuery("receiver")).existsResult());
+
+            messagebus.send(newMessage("receiver", 3));
+
+            assertEquals(1, messagebus.size());
+            assertEquals(3, messagebus.fetch(newQuery("receiver")).result().get(CONTENT));
+        }
+    }
+
+    /**
+     * Tests sending a message which is larger than a segment.
+     */
+    @Test
+    public void testLargeMessage() {
+
+        StringBuilder buffer = new StringBuilder();
+
+        for (int a = 0; a < SEGMENT_SIZE; a++) {
+
+            buffer.append('x');
+        }
+
+        String content = buffer.toString();
+        Map.Entry<PropertyKey, Object> entry = new AbstractMap.SimpleEntry<PropertyKey, Object>(CONTENT, content);
+
+        try (JournalingMessagebus messagebus = new JournalingMessagebus(DIRECTORY, SEGMENT_SIZE)) {
+
+            messagebus.send(newMessage("receiver", 1));
+            messagebus.send(newMessage("receiver", entry));
+            messagebus.send(newMessage("receiver", 2));
+
+            assertEquals(1, messagebus.fetch(newQuery("receiver")).result().get(CONTENT));
+            assertEquals(content, messagebus.fetch(newQuery("receiver")).result().get(CONTENT));
+            assertEquals(2, messagebus.fetch(newQuery("receiver")).result().get(CONTENT));
+        }
+    }
+
+    /**
+     * Tests sending a message with content which cannot be stored.
+     */
+    @Test(expected = MessageRejectedException.class)
+    public void testNotSerializableContent() {
+
+        Map.Entry<PropertyKey, Object> entry =
+            new AbstractMap.SimpleEntry<PropertyKey, Object>(CONTENT, new Object());
+
+        try (JournalingMessagebus messagebus = new JournalingMessagebus(DIRECTORY, SEGMENT_SIZE)) {
+
+            messagebus.send(newMessage("receiver", entry));
+        }
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.messaging;
+
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * This interface describes a messagebus which allows receivers to wait for
+ * messages and to fetch several messages at once.
+ *
+ * @author Kristian Kutin
+ */
+public interface BlockingMessagebus extends Messagebus {
+
+    /**
+     * This method allows a receiver to fetch the latest message. If there is no
+     * message the invoking thread waits until a message arrives or until the
+     * specified time has elapsed.
+     *
+     * @param query
+     *        the actual query (i.e. wrapped query string)
+     * @param timeout
+     *        the maximum time to wait
+     * @param unit
+     *        the time unit of the timeout
+     *
+     * @return a wrapper containing the query result
+     */
+    MessageQueryResult fetch(MessageQuery query, long timeout, TimeUnit unit);
+
+    /**
+     * This method allows a receiver to fetch several messages at once. The
+     * method doesn't wait for messages.
+     *
+     * @param query
+     *        the actual query (i.e. wrapped query string)
+     * @param maxMessages
+     *        the maximum number of messages which are fetched
+     *
+     * @return all fetched messages in the order in which they have been sent
+     *         (the list is empty if there are no messages)
+     */
+    List<Message> fetch(MessageQuery query, int maxMessages);
+
+}
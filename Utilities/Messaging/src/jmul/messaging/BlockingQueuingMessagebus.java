@@ -0,0 +1,230 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.messaging;
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * An implementation of a messagebus which stores the messages in individual queues by
+ * receiver. The messages are not stored persistently. Receivers can wait for messages
+ * and fetch several messages at once.<br>
+ * <br>
+ * <i>Implementation details:<br>
+ * The queues are looked up in a concurrent map, i.e. sending and fetching messages
+ * doesn't require a global lock.</i>
+ *
+ * @author Kristian Kutin
+ */
+public class BlockingQueuingMessagebus implements BlockingMessagebus {
+
+    /**
+     * This messagebus implementation puts the messages into individual queues for
+     * every receiver. This way the queuing mechanism isn't blocked when one receiver
+     * doesn't fetch his messages.
+     */
+    private final ConcurrentMap<String, BlockingQueue<Message>> queueMap;
+
+    /**
+     * The default constructor.
+     */
+    public BlockingQueuingMessagebus() {
+
+        super();
+
+        queueMap = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the queue for the specified receiver. If no such queue exists a new
+     * queue is created.
+     *
+     * @param receiver
+     *        the name of a receiver
+     *
+     * @return a queue
+     */
+    private BlockingQueue<Message> getQueue(String receiver) {
+
+        BlockingQueue<Message> queue = queueMap.get(receiver);
+
+        if (queue == null) {
+
+            BlockingQueue<Message> newQueue = new LinkedBlockingQueue<>();
+            queue = queueMap.putIfAbsent(receiver, newQueue);
+
+            if (queue == null) {
+
+                queue = newQueue;
+            }
+        }
+
+        return queue;
+    }
+
+    /**
+     * Sends the specified message. The message is stored until the receiver
+     * picks up the message.
+     *
+     * @param message
+     *        a message for another component
+     */
+    @Override
+    public void send(Message message) {
+
+        if (message == null) {
+
+            throw new IllegalArgumentException("No message (null) was specified!");
+        }
+
+        getQueue(message.receiverName()).add(message);
+    }
+
+    /**
+     * This method allows a receiver to fetch the latest message.
+     *
+     * @param query
+     *        the actual query (i.e. wrapped query string)
+     *
+     * @return a wrapper containing the query result
+     */
+    @Override
+    public MessageQueryResult fetch(MessageQuery query) {
+
+        BlockingQueue<Message> queue = queueMap.get(query.queryString());
+
+        if (queue == null) {
+
+            return new MessageQueryResult();
+
+        } else {
+
+            Message message = queue.poll();
+            return new MessageQueryResult(message);
+        }
+    }
+
+    /**
+     * This method allows a receiver to fetch the latest message. If there is no
+     * message the invoking thread waits until a message arrives or until the
+     * specified time has elapsed.
+     *
+     * @param query
+     *        the actual query (i.e. wrapped query string)
+     * @param timeout
+     *        the maximum time to wait
+     * @param unit
+     *        the time unit of the timeout
+     *
+     * @return a wrapper containing the query result
+     */
+    @Override
+    public MessageQueryResult fetch(MessageQuery query, long timeout, TimeUnit unit) {
+
+        BlockingQueue<Message> queue = getQueue(query.queryString());
+
+        Message message;
+
+        try {
+
+            message = queue.poll(timeout, unit);
+
+        } catch (InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+            message = null;
+        }
+
+        return new MessageQueryResult(message);
+    }
+
+    /**
+     * This method allows a receiver to fetch several messages at once. The
+     * method doesn't wait for messages.
+     *
+     * @param query
+     *        the actual query (i.e. wrapped query string)
+     * @param maxMessages
+     *        the maximum number of messages which are fetched
+     *
+     * @return all fetched messages in the order in which they have been sent
+     *         (the list is empty if there are no messages)
+     */
+    @Override
+    public List<Message> fetch(MessageQuery query, int maxMessages) {
+
+        if (maxMessages < 1) {
+
+            throw new IllegalArgumentException("An invalid maximum (" + maxMessages + ") was specified!");
+        }
+
+        List<Message> messages = new ArrayList<>();
+
+        BlockingQueue<Message> queue = queueMap.get(query.queryString());
+
+        if (queue != null) {
+
+            queue.drainTo(messages, maxMessages);
+        }
+
+        return messages;
+    }
+
+    /**
+     * Returns the toal count of messages on the message bus.
+     *
+     * @return the total count of messages
+     */
+    @Override
+    public int size() {
+
+        int size = 0;
+
+        for (BlockingQueue<Message> queue : queueMap.values()) {
+
+            size += queue.size();
+        }
+
+        return size;
+    }
+
+}
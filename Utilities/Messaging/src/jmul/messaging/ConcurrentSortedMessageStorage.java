@@ -0,0 +1,210 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.messaging;
+
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * This class represents a sorted message storage which supports multi threaded access.
+ * Messages are sorted by their topic.<br>
+ * <br>
+ * <i>Implementation details:<br>
+ * Every topic has its own lock-free queue and a message count. A concurrent set
+ * contains all topics which have messages. A prioritized fetch returns at once if the
+ * storage is empty and skips every topic which is not within the set without looking
+ * up its queue, i.e. neither {@link #put} nor {@link #fetch} require a lock. The total
+ * count of messages is maintained on every operation.</i>
+ *
+ * @author Kristian Kutin
+ */
+public class ConcurrentSortedMessageStorage implements MessageStorage {
+
+    /**
+     * The actual storage container.
+     */
+    private final ConcurrentMap<String, TopicQueue> storageMap;
+
+    /**
+     * All topics which have messages. A topic may remain in the set for a short time
+     * after its last message has been taken but a topic with messages is never missing.
+     */
+    private final Set<String> nonEmptyTopics;
+
+    /**
+     * The total count of messages within this message storage.
+     */
+    private final AtomicInteger size;
+
+    /**
+     * The default constructor.
+     */
+    public ConcurrentSortedMessageStorage() {
+
+        super();
+
+        storageMap = new ConcurrentHashMap<>();
+        nonEmptyTopics = ConcurrentHashMap.newKeySet();
+        size = new AtomicInteger();
+    }
+
+    /**
+     * Puts the specified message into this message storage. The message is stored until
+     * someone picks up the message.
+     *
+     * @param message
+     *        a message
+     */
+    @Override
+    public void put(Message message) {
+
+        if (message == null) {
+
+            throw new IllegalArgumentException("No message (null) was specified!");
+        }
+
+        String topic = message.topic();
+
+        TopicQueue queue = storageMap.get(topic);
+
+        if (queue == null) {
+
+            TopicQueue newQueue = new TopicQueue(topic, nonEmptyTopics);
+            queue = storageMap.putIfAbsent(topic, newQueue);
+
+            if (queue == null) {
+
+                queue = newQueue;
+            }
+        }
+
+        size.incrementAndGet();
+        queue.add(message);
+    }
+
+    /**
+     * This method allows a receiver to fetch the latest message for the specified topic.
+     *
+     * @param topic
+     *        messages are sorted by topic thus you have to provide a topic
+     *
+     * @return a wrapper containing the query result
+     */
+    @Override
+    public MessageQueryResult fetch(String topic) {
+
+        return new MessageQueryResult(poll(topic));
+    }
+
+    /**
+     * This method allows a receiver to fetch the latest message for the specified topics.
+     * The topics are provided as array that represent the priority of the topics. The lower
+     * the element index of the topic the hgher the priority of the topic. The first message
+     * found is returned.
+     *
+     * @param topicsByPriority
+     *        an array with all topics sorted by priority
+     *
+     * @return a wrapper containing the query result
+     */
+    @Override
+    public MessageQueryResult fetch(String... topicsByPriority) {
+
+        for (String topic : topicsByPriority) {
+
+            if (size.get() <= 0) {
+
+                break;
+            }
+
+            if (!nonEmptyTopics.contains(topic)) {
+
+                continue;
+            }
+
+            Message message = poll(topic);
+
+            if (message != null) {
+
+                return new MessageQueryResult(message);
+            }
+        }
+
+        return new MessageQueryResult();
+    }
+
+    /**
+     * Takes the oldest message for the specified topic.
+     *
+     * @param topic
+     *        a topic
+     *
+     * @return a message or <code>null</code> if there is no message for the topic
+     */
+    private Message poll(String topic) {
+
+        TopicQueue queue = storageMap.get(topic);
+
+        if (queue == null) {
+
+            return null;
+        }
+
+        Message message = queue.poll();
+
+        if (message != null) {
+
+            size.decrementAndGet();
+        }
+
+        return message;
+    }
+
+    /**
+     * Returns the toal count of messages within this message storage.
+     *
+     * @return the total count of messages
+     */
+    @Override
+    public int size() {
+
+        return size.get();
+    }
+
+}
@@ -0,0 +1,330 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.messaging;
+
+
+import java.io.Closeable;
+import java.io.File;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * An implementation of a messagebus which stores the messages persistently. Messages which
+ * haven't been fetched before the application terminates can be fetched after a restart.
+ * Only standard messages with serializable content are supported.<br>
+ * <br>
+ * <i>Implementation details:<br>
+ * Every receiver has its own message log within a subdirectory. A log consists of
+ * memory-mapped segment files to which the messages are appended and a consumer offset
+ * which is updated with every fetch. Messages are written to the memory mapping without
+ * forcing them to the storage device, i.e. messages survive a termination of the JVM but
+ * a system crash may lose messages which were sent after the last call of
+ * {@link #flush}. Segments which have been consumed completely are recycled.</i>
+ *
+ * @author Kristian Kutin
+ */
+public class JournalingMessagebus implements Messagebus, Closeable {
+
+    /**
+     * The default capacity of a segment in bytes.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 4 * 1024 * 1024;
+
+    /**
+     * The directory which contains the message logs.
+     */
+    private final File directory;
+
+    /**
+     * The regular capacity of a segment in bytes.
+     */
+    private final int segmentSize;
+
+    /**
+     * The message logs by receiver.
+     */
+    private final ConcurrentMap<String, ReceiverLog> logMap;
+
+    /**
+     * The total count of messages on this message bus.
+     */
+    private final AtomicInteger size;
+
+    /**
+     * A flag which indicates that this messagebus has been closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Creates a new messagebus which stores the messages in the specified directory.
+     *
+     * @param directory
+     *        the directory which contains the message logs
+     */
+    public JournalingMessagebus(File directory) {
+
+        this(directory, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates a new messagebus according to the specified parameters. Existing message
+     * logs within the directory are opened.
+     *
+     * @param directory
+     *        the directory which contains the message logs
+     * @param segmentSize
+     *        the regular capacity of a segment in bytes
+     */
+    public JournalingMessagebus(File directory, int segmentSize) {
+
+        super();
+
+        if (directory == null) {
+
+            throw new IllegalArgumentException("No directory (null) was specified!");
+        }
+
+        if (segmentSize <= LogSegment.HEADER_SIZE) {
+
+            throw new IllegalArgumentException("An invalid segment size (" + segmentSize + ") was specified!");
+        }
+
+        if (!directory.exists() && !directory.mkdirs()) {
+
+            throw new IllegalStateException("The directory " + directory + " couldn't be created!");
+        }
+
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+
+        logMap = new ConcurrentHashMap<>();
+        size = new AtomicInteger();
+        closed = false;
+
+        File[] subdirectories = directory.listFiles();
+
+        if (subdirectories == null) {
+
+            throw new IllegalStateException("The directory " + directory + " couldn't be read!");
+        }
+
+        for (File subdirectory : subdirectories) {
+
+            String receiver = decodeName(subdirectory.getName());
+
+            if (subdirectory.isDirectory() && (receiver != null)) {
+
+                logMap.put(receiver, new ReceiverLog(subdirectory, segmentSize, size));
+            }
+        }
+    }
+
+    /**
+     * Transforms the specified receiver name into a directory name.
+     *
+     * @param receiver
+     *        the name of a receiver
+     *
+     * @return a directory name
+     */
+    private static String encodeName(String receiver) {
+
+        StringBuilder buffer = new StringBuilder();
+
+        for (byte b : receiver.getBytes(StandardCharsets.UTF_8)) {
+
+            buffer.append(String.format("%02x", b & 0xff));
+        }
+
+        return buffer.toString();
+    }
+
+    /**
+     * Transforms the specified directory name into a receiver name.
+     *
+     * @param name
+     *        a directory name
+     *
+     * @return a receiver name or <code>null</code> if the directory name doesn't represent
+     *         a receiver name
+     */
+    private static String decodeName(String name) {
+
+        if (name.isEmpty() || ((name.length() % 2) != 0) || !name.matches("[0-9a-f]+")) {
+
+            return null;
+        }
+
+        byte[] bytes = new byte[name.length() / 2];
+
+        for (int a = 0; a < bytes.length; a++) {
+
+            bytes[a] = (byte) Integer.parseInt(name.substring(2 * a, 2 * a + 2), 16);
+        }
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the message log for the specified receiver. If no such log exists a new log
+     * is created.
+     *
+     * @param receiver
+     *        the name of a receiver
+     *
+     * @return a message log
+     */
+    private ReceiverLog getLog(String receiver) {
+
+        ReceiverLog log = logMap.get(receiver);
+
+        if (log == null) {
+
+            synchronized (logMap) {
+
+                log = logMap.get(receiver);
+
+                if (closed) {
+
+                    throw new IllegalStateException("The messagebus has been closed!");
+                }
+
+                if (log == null) {
+
+                    File subdirectory = new File(directory, encodeName(receiver));
+                    log = new ReceiverLog(subdirectory, segmentSize, size);
+                    logMap.put(receiver, log);
+                }
+            }
+        }
+
+        return log;
+    }
+
+    /**
+     * Sends the specified message. The message is stored until the receiver
+     * picks up the message.
+     *
+     * @param message
+     *        a message for another component
+     */
+    @Override
+    public void send(Message message) {
+
+        if (message == null) {
+
+            throw new IllegalArgumentException("No message (null) was specified!");
+        }
+
+        byte[] payload = MessageCodec.encode(message);
+        getLog(message.receiverName()).append(payload);
+    }
+
+    /**
+     * This method allows a receiver to fetch the latest message.
+     *
+     * @param query
+     *        the actual query (i.e. wrapped query string)
+     *
+     * @return a wrapper containing the query result
+     */
+    @Override
+    public MessageQueryResult fetch(MessageQuery query) {
+
+        ReceiverLog log = logMap.get(query.queryString());
+
+        if (log == null) {
+
+            return new MessageQueryResult();
+        }
+
+        byte[] payload = log.poll();
+
+        if (payload == null) {
+
+            return new MessageQueryResult();
+        }
+
+        return new MessageQueryResult(MessageCodec.decode(payload));
+    }
+
+    /**
+     * Returns the toal count of messages on the message bus.
+     *
+     * @return the total count of messages
+     */
+    @Override
+    public int size() {
+
+        return size.get();
+    }
+
+    /**
+     * Writes all messages and consumer offsets to the storage device.
+     */
+    public void flush() {
+
+        for (ReceiverLog log : logMap.values()) {
+
+            log.flush();
+        }
+    }
+
+    /**
+     * Writes all messages and consumer offsets to the storage device and closes all
+     * message logs.
+     */
+    @Override
+    public void close() {
+
+        synchronized (logMap) {
+
+            closed = true;
+
+            for (ReceiverLog log : logMap.values()) {
+
+                log.close();
+            }
+
+            logMap.clear();
+        }
+    }
+
+}
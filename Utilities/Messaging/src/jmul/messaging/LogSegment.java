@@ -0,0 +1,338 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.messaging;
+
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import java.lang.reflect.Method;
+
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import java.util.zip.CRC32;
+
+
+/**
+ * A segment of a receiver's message log. A segment is a memory-mapped file of a fixed
+ * capacity which contains a sequence of records. Every record consists of a header (i.e.
+ * the payload length and a checksum) and the payload (i.e. an encoded message).<br>
+ * <br>
+ * <i>Implementation details:<br>
+ * The checksum covers the segment number and the payload. Records which were written to
+ * a recycled file under a different segment number are therefore recognized as
+ * invalid.</i>
+ *
+ * @author Kristian Kutin
+ */
+class LogSegment {
+
+    /**
+     * The size of a record header.
+     */
+    static final int HEADER_SIZE = 8;
+
+    /**
+     * The file name suffix of segment files.
+     */
+    static final String SUFFIX = ".log";
+
+    /**
+     * The segment file.
+     */
+    private final File file;
+
+    /**
+     * The number of this segment.
+     */
+    private final long number;
+
+    /**
+     * The channel of the segment file.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The memory-mapped content of the segment file.
+     */
+    private MappedByteBuffer buffer;
+
+    /**
+     * The position where the next record is written.
+     */
+    private int writePosition;
+
+    /**
+     * Opens or creates the specified segment.
+     *
+     * @param file
+     *        the segment file
+     * @param number
+     *        the number of the segment
+     * @param capacity
+     *        the minimum capacity of the segment in bytes
+     */
+    LogSegment(File file, long number, int capacity) {
+
+        this.file = file;
+        this.number = number;
+
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+
+            long size = Math.max(capacity, randomAccessFile.length());
+
+            channel = randomAccessFile.getChannel();
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0L, size);
+
+        } catch (IOException e) {
+
+            throw new IllegalStateException("The segment " + file + " couldn't be opened!", e);
+        }
+
+        writePosition = 0;
+
+        byte[] payload = readRecord(writePosition);
+
+        while (payload != null) {
+
+            writePosition += HEADER_SIZE + payload.length;
+            payload = readRecord(writePosition);
+        }
+    }
+
+    /**
+     * Returns the segment file name for the specified segment number.
+     *
+     * @param number
+     *        a segment number
+     *
+     * @return a file name
+     */
+    static String fileName(long number) {
+
+        return String.format("%016x", number) + SUFFIX;
+    }
+
+    /**
+     * Returns the segment file.
+     *
+     * @return a file
+     */
+    File getFile() {
+
+        return file;
+    }
+
+    /**
+     * Returns the number of this segment.
+     *
+     * @return a segment number
+     */
+    long getNumber() {
+
+        return number;
+    }
+
+    /**
+     * Returns the capacity of this segment.
+     *
+     * @return the capacity in bytes
+     */
+    int capacity() {
+
+        return buffer.capacity();
+    }
+
+    /**
+     * Returns the position after the last record.
+     *
+     * @return a position
+     */
+    int getWritePosition() {
+
+        return writePosition;
+    }
+
+    /**
+     * Calculates the checksum for the specified payload.
+     *
+     * @param payload
+     *        a payload
+     *
+     * @return a checksum
+     */
+    private int checksum(byte[] payload) {
+
+        CRC32 crc = new CRC32();
+
+        for (int shift = 56; shift >= 0; shift -= 8) {
+
+            crc.update((int) (number >>> shift));
+        }
+
+        crc.update(payload);
+
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Appends the specified payload to this segment.
+     *
+     * @param payload
+     *        a payload
+     *
+     * @return <code>true</code> if the record was appended, <code>false</code> if the
+     *         segment doesn't have enough free capacity
+     */
+    boolean append(byte[] payload) {
+
+        int position = writePosition;
+
+        if ((capacity() - position) < (HEADER_SIZE + payload.length)) {
+
+            return false;
+        }
+
+        ByteBuffer view = buffer.duplicate();
+        view.position(position + HEADER_SIZE);
+        view.put(payload);
+
+        buffer.putInt(position + 4, checksum(payload));
+        buffer.putInt(position, payload.length);
+
+        writePosition = position + HEADER_SIZE + payload.length;
+
+        return true;
+    }
+
+    /**
+     * Reads the record which starts at the specified position.
+     *
+     * @param position
+     *        a position within this segment
+     *
+     * @return the payload of the record or <code>null</code> if there is no valid record
+     */
+    byte[] readRecord(int position) {
+
+        if ((capacity() - position) < HEADER_SIZE) {
+
+            return null;
+        }
+
+        int length = buffer.getInt(position);
+
+        if ((length <= 0) || (length > (capacity() - position - HEADER_SIZE))) {
+
+            return null;
+        }
+
+        byte[] payload = new byte[length];
+
+        ByteBuffer view = buffer.duplicate();
+        view.position(position + HEADER_SIZE);
+        view.get(payload);
+
+        if (buffer.getInt(position + 4) != checksum(payload)) {
+
+            return null;
+        }
+
+        return payload;
+    }
+
+    /**
+     * Writes all changes to the storage device.
+     */
+    void force() {
+
+        buffer.force();
+    }
+
+    /**
+     * Closes this segment. Afterwards the segment file can be renamed or deleted.
+     */
+    void close() {
+
+        buffer.force();
+
+        try {
+
+            channel.close();
+
+        } catch (IOException e) {
+
+            throw new IllegalStateException("The segment " + file + " couldn't be closed!", e);
+        }
+
+        unmap(buffer);
+        buffer = null;
+    }
+
+    /**
+     * Releases the memory mapping of the specified buffer. Some operating systems don't
+     * allow renaming or deleting a file while a mapping exists. The release depends on
+     * JVM internals. If these internals are not available the mapping is released by the
+     * garbage collector.
+     *
+     * @param mappedBuffer
+     *        a memory-mapped buffer
+     */
+    static void unmap(MappedByteBuffer mappedBuffer) {
+
+        try {
+
+            Method cleanerMethod = mappedBuffer.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+
+            Object cleaner = cleanerMethod.invoke(mappedBuffer);
+
+            if (cleaner != null) {
+
+                Method cleanMethod = cleaner.getClass().getMethod("clean");
+                cleanMethod.setAccessible(true);
+                cleanMethod.invoke(cleaner);
+            }
+
+        } catch (ReflectiveOperationException | RuntimeException e) {
+
+            // The mapping is released by the garbage collector.
+        }
+    }
+
+}
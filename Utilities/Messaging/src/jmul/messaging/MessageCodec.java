@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.messaging;
+
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * This class transforms messages into a binary representation and vice versa. Only
+ * standard messages with serializable content are supported.
+ *
+ * @author Kristian Kutin
+ */
+final class MessageCodec {
+
+    /**
+     * The default constructor.
+     */
+    private MessageCodec() {
+
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Transforms the specified message into a binary representation.
+     *
+     * @param message
+     *        a message
+     *
+     * @return a binary representation
+     */
+    static byte[] encode(Message message) {
+
+        if (!(message instanceof StandardMessage)) {
+
+            throw new MessageRejectedException("Only standard messages can be stored (" + message + ")!");
+        }
+
+        StandardMessage standardMessage = (StandardMessage) message;
+
+        HashMap<PropertyKey, Object> content = new HashMap<>();
+
+        for (PropertyKey key : standardMessage) {
+
+            content.put(key, standardMessage.get(key));
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream stream = new ObjectOutputStream(buffer)) {
+
+            stream.writeObject(content);
+
+        } catch (NotSerializableException e) {
+
+            throw new MessageRejectedException("The message content is not serializable (" + message + ")!", e);
+
+        } catch (IOException e) {
+
+            throw new MessageRejectedException("The message couldn't be encoded (" + message + ")!", e);
+        }
+
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Restores a message from the specified binary representation.
+     *
+     * @param data
+     *        a binary representation
+     *
+     * @return a message
+     */
+    static Message decode(byte[] data) {
+
+        Object content;
+
+        try (ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(data))) {
+
+            content = stream.readObject();
+
+        } catch (IOException | ClassNotFoundException e) {
+
+            throw new IllegalStateException("A stored message couldn't be decoded!", e);
+        }
+
+        if (!(content instanceof Map)) {
+
+            throw new IllegalStateException("A stored message has an unknown format!");
+        }
+
+        Map<PropertyKey, Object> map = new HashMap<>();
+
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) content).entrySet()) {
+
+            if (!(entry.getKey() instanceof PropertyKey)) {
+
+                throw new IllegalStateException("A stored message has an unknown property key (" + entry.getKey() +
+                                                ")!");
+            }
+
+            map.put((PropertyKey) entry.getKey(), entry.getValue());
+        }
+
+        return new StandardMessage(map);
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.messaging;
+
+
+/**
+ * This enumeration lists the possible reactions of a messagebus when a message is
+ * sent to a receiver whose queue has reached its capacity.
+ *
+ * @author Kristian Kutin
+ */
+public enum OverflowPolicy {
+
+    /**
+     * The sender waits until the receiver has fetched a message.
+     */
+    BLOCK_SENDER,
+
+    /**
+     * The oldest message in the queue is discarded to make room for the new message.
+     */
+    DROP_OLDEST,
+
+    /**
+     * The new message is discarded.
+     */
+    DROP_NEWEST,
+
+    /**
+     * The new message is rejected with an exception.
+     */
+    REJECT;
+
+}
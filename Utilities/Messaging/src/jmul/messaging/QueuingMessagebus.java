@@ -34,43 +34,145 @@
 package jmul.messaging;
 
 
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Map;
-import java.util.Queue;
-import java.util.Set;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 /**
  * An implementation of a messagebus which stores the messages in individual queues by
  * receiver. The messages are not stored persistently. The messagebus must handle multi
- * threaded access.
+ * threaded access.<br>
+ * <br>
+ * <i>Implementation details:<br>
+ * The capacity of every receiver's queue can be limited. An overflow policy defines what
+ * happens if a message is sent to a full queue. Queues which have been empty and unused
+ * for a specified time are removed, i.e. receivers which no longer exist don't occupy
+ * memory. The total count of messages is maintained on every operation.</i>
  *
  * @author Kristian Kutin
  */
 public class QueuingMessagebus implements Messagebus {
 
+    /**
+     * A value which indicates that idle queues are never removed.
+     */
+    public static final long NO_RECLAMATION = 0L;
+
     /**
      * This messagebus implementation puts the messages into individual queues for
      * every receiver. This way the queuing mechanism isn't blocked when one receiver
      * doesn't fetch his messages.
      */
-    private volatile Map<String, Queue<Message>> queueMap;
+    private final ConcurrentMap<String, ReceiverQueue> queueMap;
+
+    /**
+     * The total count of messages on this message bus.
+     */
+    private final AtomicInteger size;
 
     /**
-     * The default constructor.
+     * The maximum number of messages per receiver.
+     */
+    private final int capacity;
+
+    /**
+     * Defines what happens if a message is sent to a full queue.
+     */
+    private final OverflowPolicy overflowPolicy;
+
+    /**
+     * The time in milliseconds after which an empty and unused queue is removed.
+     */
+    private final long idleTime;
+
+    /**
+     * The point in time when idle queues are looked for the next time.
+     */
+    private final AtomicLong nextReclamation;
+
+    /**
+     * The default constructor. The queues are unbounded and are never removed.
      */
     public QueuingMessagebus() {
 
+        this(Integer.MAX_VALUE, OverflowPolicy.BLOCK_SENDER, NO_RECLAMATION);
+    }
+
+    /**
+     * Creates a new messagebus according to the specified parameters.
+     *
+     * @param capacity
+     *        the maximum number of messages per receiver
+     * @param overflowPolicy
+     *        defines what happens if a message is sent to a full queue
+     * @param idleTime
+     *        the time in milliseconds after which an empty and unused queue is removed
+     *        (see {@link #NO_RECLAMATION})
+     */
+    public QueuingMessagebus(int capacity, OverflowPolicy overflowPolicy, long idleTime) {
+
         super();
 
-        queueMap = new HashMap<>();
+        if (capacity < 1) {
+
+            throw new IllegalArgumentException("An invalid capacity (" + capacity + ") was specified!");
+        }
+
+        if (overflowPolicy == null) {
+
+            throw new IllegalArgumentException("No overflow policy (null) was specified!");
+        }
+
+        if (idleTime < 0L) {
+
+            throw new IllegalArgumentException("An invalid idle time (" + idleTime + ") was specified!");
+        }
+
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.idleTime = idleTime;
+
+        queueMap = new ConcurrentHashMap<>();
+        size = new AtomicInteger();
+        nextReclamation = new AtomicLong(System.currentTimeMillis() + idleTime);
+    }
+
+    /**
+     * Returns the queue for the specified receiver. If no such queue exists a new
+     * queue is created.
+     *
+     * @param receiver
+     *        the name of a receiver
+     *
+     * @return a queue
+     */
+    private ReceiverQueue getQueue(String receiver) {
+
+        ReceiverQueue queue = queueMap.get(receiver);
+
+        if (queue == null) {
+
+            ReceiverQueue newQueue = new ReceiverQueue(size);
+            queue = queueMap.putIfAbsent(receiver, newQueue);
+
+            if (queue == null) {
+
+                queue = newQueue;
+            }
+        }
+
+        return queue;
     }
 
     /**
      * Sends the specified message. The message is stored until the receiver
-     * picks up the message.
+     * picks up the message. If the receiver's queue is full the overflow policy
+     * of this messagebus is applied.
      *
      * @param message
      *        a message for another component
@@ -78,21 +180,28 @@ public class QueuingMessagebus implements Messagebus {
     @Override
     public void send(Message message) {
 
+        if (message == null) {
+
+            throw new IllegalArgumentException("No message (null) was specified!");
+        }
+
         String receiver = message.receiverName();
 
-        Queue<Message> queue;
-        synchronized (queueMap) {
+        while (true) {
 
-            queue = queueMap.get(receiver);
+            ReceiverQueue queue = getQueue(receiver);
 
-            if (queue == null) {
+            if (queue.add(message, capacity, overflowPolicy)) {
 
-                queue = new ConcurrentLinkedQueue<>();
-                queueMap.put(receiver, queue);
+                break;
             }
+
+            // The queue has been removed in the meantime.
+
+            queueMap.remove(receiver, queue);
         }
 
-        queue.add(message);
+        reclaimIdleQueuesIfDue();
     }
 
     /**
@@ -106,13 +215,7 @@ public class QueuingMessagebus implements Messagebus {
     @Override
     public MessageQueryResult fetch(MessageQuery query) {
 
-        String receiver = query.queryString();
-
-        Queue<Message> queue;
-        synchronized (queueMap) {
-
-            queue = queueMap.get(receiver);
-        }
+        ReceiverQueue queue = queueMap.get(query.queryString());
 
         if (queue == null) {
 
@@ -133,21 +236,209 @@ public class QueuingMessagebus implements Messagebus {
     @Override
     public int size() {
 
-        int size = 0;
+        return size.get();
+    }
+
+    /**
+     * Looks for idle queues if the idle time has passed since the last check.
+     */
+    private void reclaimIdleQueuesIfDue() {
+
+        if (idleTime == NO_RECLAMATION) {
+
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long due = nextReclamation.get();
+
+        if ((now >= due) && nextReclamation.compareAndSet(due, now + idleTime)) {
+
+            reclaimIdleQueues();
+        }
+    }
+
+    /**
+     * Removes all queues which have been empty and unused for longer than the idle
+     * time of this messagebus.
+     */
+    public void reclaimIdleQueues() {
+
+        long now = System.currentTimeMillis();
+
+        for (Map.Entry<String, ReceiverQueue> entry : queueMap.entrySet()) {
 
-        Set<Map.Entry<String, Queue<Message>>> entries;
-        synchronized (queueMap) {
+            ReceiverQueue queue = entry.getValue();
 
-            entries = new HashSet<>(queueMap.entrySet());
+            if (queue.retireIfIdle(now, idleTime)) {
+
+                queueMap.remove(entry.getKey(), queue);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of receiver queues which currently exist.
+     *
+     * @return the number of receiver queues
+     */
+    public int queueCount() {
+
+        return queueMap.size();
+    }
+
+}
+
+
+/**
+ * The queue of a single receiver. The queue maintains the total count of messages on
+ * the messagebus.
+ *
+ * @author Kristian Kutin
+ */
+class ReceiverQueue {
+
+    /**
+     * The messages for the receiver.
+     */
+    private final Deque<Message> messages;
+
+    /**
+     * The total count of messages on the messagebus.
+     */
+    private final AtomicInteger totalSize;
+
+    /**
+     * The point in time when this queue was used the last time.
+     */
+    private long lastAccess;
+
+    /**
+     * A flag which indicates that this queue has been removed from the messagebus.
+     */
+    private boolean retired;
+
+    /**
+     * Creates a new queue according to the specified parameter.
+     *
+     * @param totalSize
+     *        the total count of messages on the messagebus
+     */
+    ReceiverQueue(AtomicInteger totalSize) {
+
+        this.totalSize = totalSize;
+
+        messages = new ArrayDeque<>();
+        lastAccess = System.currentTimeMillis();
+        retired = false;
+    }
+
+    /**
+     * Adds the specified message to this queue.
+     *
+     * @param message
+     *        a message
+     * @param capacity
+     *        the maximum number of messages in this queue
+     * @param overflowPolicy
+     *        defines what happens if this queue is full
+     *
+     * @return <code>true</code> if the message has been handled according to the
+     *         overflow policy, <code>false</code> if this queue has been removed from
+     *         the messagebus
+     */
+    synchronized boolean add(Message message, int capacity, OverflowPolicy overflowPolicy) {
+
+        if (retired) {
+
+            return false;
+        }
+
+        lastAccess = System.currentTimeMillis();
+
+        while (messages.size() >= capacity) {
+
+            switch (overflowPolicy) {
+            case BLOCK_SENDER:
+                awaitFreeCapacity();
+                break;
+            case DROP_OLDEST:
+                messages.poll();
+                totalSize.decrementAndGet();
+                break;
+            case DROP_NEWEST:
+                return true;
+            case REJECT:
+                throw new MessageRejectedException("The queue of the receiver " + message.receiverName() +
+                                                   " is full!");
+            default:
+                throw new UnsupportedOperationException("Unknown overflow policy (" + overflowPolicy + ")!");
+            }
+        }
+
+        messages.add(message);
+        totalSize.incrementAndGet();
+
+        return true;
+    }
+
+    /**
+     * Waits until a message has been taken from this queue. The caller must hold this
+     * queue's lock.
+     */
+    private void awaitFreeCapacity() {
+
+        try {
+
+            wait();
+
+        } catch (InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+            throw new MessageRejectedException("The sender was interrupted while waiting for free capacity!", e);
         }
+    }
+
+    /**
+     * Takes the oldest message from this queue.
+     *
+     * @return a message or <code>null</code> if this queue is empty
+     */
+    synchronized Message poll() {
+
+        lastAccess = System.currentTimeMillis();
+
+        Message message = messages.poll();
+
+        if (message != null) {
+
+            totalSize.decrementAndGet();
+            notifyAll();
+        }
+
+        return message;
+    }
+
+    /**
+     * Marks this queue as removed if it has been empty and unused for the specified
+     * time.
+     *
+     * @param now
+     *        the current time
+     * @param idleTime
+     *        the time in milliseconds after which an empty and unused queue is removed
+     *
+     * @return <code>true</code> if this queue has been marked as removed, else
+     *         <code>false</code>
+     */
+    synchronized boolean retireIfIdle(long now, long idleTime) {
 
-        for (Map.Entry<String, Queue<Message>> entry : entries) {
+        if (messages.isEmpty() && ((now - lastAccess) >= idleTime)) {
 
-            Queue<Message> queue = entry.getValue();
-            size += queue.size();
+            retired = true;
         }
 
-        return size;
+        return retired;
     }
 
 }
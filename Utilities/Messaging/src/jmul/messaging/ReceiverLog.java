@@ -0,0 +1,462 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.messaging;
+
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * The message log of a single receiver. The log consists of a sequence of segments and a
+ * consumer offset (i.e. the segment number and the position of the next message which is
+ * to be fetched).<br>
+ * <br>
+ * <i>Implementation details:<br>
+ * The consumer offset is kept in a small memory-mapped file and is updated with every
+ * fetch. Segments which have been consumed completely are recycled, i.e. one file is
+ * kept as spare and is reused for the next segment. All other consumed segments are
+ * deleted.</i>
+ *
+ * @author Kristian Kutin
+ */
+class ReceiverLog {
+
+    /**
+     * The name of the file which contains the consumer offset.
+     */
+    private static final String OFFSET_FILE = "consumer.offset";
+
+    /**
+     * The name of a spare segment file.
+     */
+    private static final String SPARE_FILE = "spare.segment";
+
+    /**
+     * The size of the consumer offset.
+     */
+    private static final int OFFSET_SIZE = 12;
+
+    /**
+     * The directory which contains all files of this log.
+     */
+    private final File directory;
+
+    /**
+     * The regular capacity of a segment in bytes.
+     */
+    private final int segmentSize;
+
+    /**
+     * The total count of messages on the messagebus.
+     */
+    private final AtomicInteger totalSize;
+
+    /**
+     * All segments which contain messages which haven't been fetched yet. The first
+     * segment is read, the last segment is written.
+     */
+    private final Deque<LogSegment> segments;
+
+    /**
+     * The channel of the consumer offset file.
+     */
+    private final FileChannel offsetChannel;
+
+    /**
+     * The memory-mapped consumer offset.
+     */
+    private final MappedByteBuffer offsetBuffer;
+
+    /**
+     * The position of the next message within the first segment.
+     */
+    private int readPosition;
+
+    /**
+     * The count of messages which haven't been fetched yet.
+     */
+    private int pendingMessages;
+
+    /**
+     * A flag which indicates that this log has been closed.
+     */
+    private boolean closed;
+
+    /**
+     * Opens or creates the message log in the specified directory.
+     *
+     * @param directory
+     *        the directory which contains all files of this log
+     * @param segmentSize
+     *        the regular capacity of a segment in bytes
+     * @param totalSize
+     *        the total count of messages on the messagebus
+     */
+    ReceiverLog(File directory, int segmentSize, AtomicInteger totalSize) {
+
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.totalSize = totalSize;
+
+        if (!directory.exists() && !directory.mkdirs()) {
+
+            throw new IllegalStateException("The directory " + directory + " couldn't be created!");
+        }
+
+        try (RandomAccessFile file = new RandomAccessFile(new File(directory, OFFSET_FILE), "rw")) {
+
+            offsetChannel = file.getChannel();
+            offsetBuffer = offsetChannel.map(FileChannel.MapMode.READ_WRITE, 0L, OFFSET_SIZE);
+
+        } catch (IOException e) {
+
+            throw new IllegalStateException("The consumer offset in " + directory + " couldn't be opened!", e);
+        }
+
+        long readSegment = Math.max(0L, offsetBuffer.getLong(0));
+        readPosition = offsetBuffer.getInt(8);
+
+        segments = new ArrayDeque<>();
+        openSegments(readSegment);
+
+        if (segments.isEmpty()) {
+
+            segments.add(newSegment(readSegment, segmentSize));
+            readPosition = 0;
+        }
+
+        LogSegment first = segments.getFirst();
+
+        if ((first.getNumber() != readSegment) || (readPosition < 0) ||
+            (readPosition > first.getWritePosition())) {
+
+            readPosition = 0;
+        }
+
+        storeOffset();
+
+        pendingMessages = countPendingMessages();
+        totalSize.addAndGet(pendingMessages);
+
+        closed = false;
+    }
+
+    /**
+     * Opens all existing segments. Segments which precede the specified segment have
+     * already been consumed and are deleted.
+     *
+     * @param readSegment
+     *        the number of the segment which is read
+     */
+    private void openSegments(long readSegment) {
+
+        File[] files = directory.listFiles(new SegmentFileFilter());
+
+        if (files == null) {
+
+            throw new IllegalStateException("The directory " + directory + " couldn't be read!");
+        }
+
+        Arrays.sort(files);
+
+        for (File file : files) {
+
+            String name = file.getName();
+            long number = Long.parseLong(name.substring(0, name.length() - LogSegment.SUFFIX.length()), 16);
+
+            if (number < readSegment) {
+
+                deleteFile(file);
+
+            } else {
+
+                segments.add(new LogSegment(file, number, segmentSize));
+            }
+        }
+    }
+
+    /**
+     * Counts all messages which haven't been fetched yet.
+     *
+     * @return a message count
+     */
+    private int countPendingMessages() {
+
+        int count = 0;
+        int position = readPosition;
+
+        for (LogSegment segment : segments) {
+
+            while (position < segment.getWritePosition()) {
+
+                byte[] payload = segment.readRecord(position);
+
+                // The remainder of a segment which contains no valid record is skipped
+                // (see poll).
+
+                if (payload == null) {
+
+                    break;
+                }
+
+                position += LogSegment.HEADER_SIZE + payload.length;
+                count++;
+            }
+
+            position = 0;
+        }
+
+        return count;
+    }
+
+    /**
+     * Creates a new segment. If a spare file exists it is reused.
+     *
+     * @param number
+     *        the number of the new segment
+     * @param capacity
+     *        the capacity of the new segment
+     *
+     * @return a segment
+     */
+    private LogSegment newSegment(long number, int capacity) {
+
+        File file = new File(directory, LogSegment.fileName(number));
+        File spare = new File(directory, SPARE_FILE);
+
+        if ((capacity == segmentSize) && spare.exists() && !spare.renameTo(file)) {
+
+            deleteFile(spare);
+        }
+
+        return new LogSegment(file, number, capacity);
+    }
+
+    /**
+     * Recycles the specified segment which has been consumed completely.
+     *
+     * @param segment
+     *        a segment
+     */
+    private void recycle(LogSegment segment) {
+
+        int capacity = segment.capacity();
+        segment.close();
+
+        File file = segment.getFile();
+        File spare = new File(directory, SPARE_FILE);
+
+        if ((capacity == segmentSize) && !spare.exists() && file.renameTo(spare)) {
+
+            return;
+        }
+
+        deleteFile(file);
+    }
+
+    /**
+     * Deletes the specified file. If the file cannot be deleted now it is deleted when
+     * the JVM terminates.
+     *
+     * @param file
+     *        a file
+     */
+    private static void deleteFile(File file) {
+
+        if (!file.delete()) {
+
+            file.deleteOnExit();
+        }
+    }
+
+    /**
+     * Saves the current consumer offset.
+     */
+    private void storeOffset() {
+
+        offsetBuffer.putLong(0, segments.getFirst().getNumber());
+        offsetBuffer.putInt(8, readPosition);
+    }
+
+    /**
+     * Checks if this log is still open.
+     */
+    private void checkOpen() {
+
+        if (closed) {
+
+            throw new IllegalStateException("The message log " + directory + " has been closed!");
+        }
+    }
+
+    /**
+     * Appends the specified payload to this log.
+     *
+     * @param payload
+     *        an encoded message
+     */
+    synchronized void append(byte[] payload) {
+
+        checkOpen();
+
+        LogSegment last = segments.getLast();
+
+        if (!last.append(payload)) {
+
+            int capacity = Math.max(segmentSize, LogSegment.HEADER_SIZE + payload.length);
+
+            LogSegment next = newSegment(last.getNumber() + 1L, capacity);
+            segments.add(next);
+            next.append(payload);
+        }
+
+        pendingMessages++;
+        totalSize.incrementAndGet();
+    }
+
+    /**
+     * Takes the oldest message from this log.
+     *
+     * @return an encoded message or <code>null</code> if there are no messages
+     */
+    synchronized byte[] poll() {
+
+        checkOpen();
+
+        while (true) {
+
+            LogSegment first = segments.getFirst();
+
+            if (readPosition < first.getWritePosition()) {
+
+                byte[] payload = first.readRecord(readPosition);
+
+                if (payload != null) {
+
+                    readPosition += LogSegment.HEADER_SIZE + payload.length;
+                    storeOffset();
+
+                    pendingMessages--;
+                    totalSize.decrementAndGet();
+
+                    return payload;
+                }
+
+                readPosition = first.getWritePosition();
+                storeOffset();
+            }
+
+            if (segments.size() == 1) {
+
+                return null;
+            }
+
+            segments.removeFirst();
+            readPosition = 0;
+            storeOffset();
+
+            recycle(first);
+        }
+    }
+
+    /**
+     * Returns the count of messages which haven't been fetched yet.
+     *
+     * @return a message count
+     */
+    synchronized int size() {
+
+        return pendingMessages;
+    }
+
+    /**
+     * Writes all changes to the storage device.
+     */
+    synchronized void flush() {
+
+        checkOpen();
+
+        for (LogSegment segment : segments) {
+
+            segment.force();
+        }
+
+        offsetBuffer.force();
+    }
+
+    /**
+     * Writes all changes to the storage device and closes this log.
+     */
+    synchronized void close() {
+
+        if (closed) {
+
+            return;
+        }
+
+        closed = true;
+
+        for (LogSegment segment : segments) {
+
+            segment.close();
+        }
+
+        offsetBuffer.force();
+
+        try {
+
+            offsetChannel.close();
+
+        } catch (IOException e) {
+
+            throw new IllegalStateException("The consumer offset in " + directory + " couldn't be closed!", e);
+        }
+
+        LogSegment.unmap(offsetBuffer);
+
+        totalSize.addAndGet(-pendingMessages);
+    }
+
+}
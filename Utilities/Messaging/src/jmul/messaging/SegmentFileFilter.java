@@ -0,0 +1,62 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.messaging;
+
+
+import java.io.File;
+import java.io.FileFilter;
+
+
+/**
+ * A file filter which accepts segment files.
+ *
+ * @author Kristian Kutin
+ */
+class SegmentFileFilter implements FileFilter {
+
+    /**
+     * Checks if the specified file is a segment file.
+     *
+     * @param file
+     *        a file
+     *
+     * @return <code>true</code> if the file is a segment file, else <code>false</code>
+     */
+    @Override
+    public boolean accept(File file) {
+
+        return file.isFile() && file.getName().matches("[0-9a-f]{16}\\" + LogSegment.SUFFIX);
+    }
+
+}
@@ -42,10 +42,12 @@ import java.util.Queue;
 
 /**
  * This class represents a sorted message storage. Messages are sorted by their topic.
+ * The message storage doesn't support multi threaded access (see
+ * {@link jmul.messaging.ConcurrentSortedMessageStorage}).
  *
  * @author Kristian Kutin
  */
-public class SortedMessageStorage {
+public class SortedMessageStorage implements MessageStorage {
 
     /**
      * The actual storage container.
@@ -69,6 +71,7 @@ public class SortedMessageStorage {
      * @param message
      *        a message
      */
+    @Override
     public void put(Message message) {
 
         if (message == null) {
@@ -96,6 +99,7 @@ public class SortedMessageStorage {
      *
      * @return a wrapper containing the query result
      */
+    @Override
     public MessageQueryResult fetch(String topic) {
 
         Queue<Message> queue = storageMap.get(topic);
@@ -120,6 +124,7 @@ public class SortedMessageStorage {
      *
      * @return a wrapper containing the query result
      */
+    @Override
     public MessageQueryResult fetch(String... topicsByPriority) {
 
         for (String topic : topicsByPriority) {
@@ -139,6 +144,7 @@ public class SortedMessageStorage {
      *
      * @return the total count of messages
      */
+    @Override
     public int size() {
 
         int size = 0;
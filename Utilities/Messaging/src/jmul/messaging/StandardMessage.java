@@ -130,6 +130,31 @@ public class StandardMessage implements Message, Iterable<PropertyKey> {
         contentMap = Collections.unmodifiableMap(map);
     }
 
+    /**
+     * Creates a new message with the specified content. This constructor is used to
+     * restore a message which was stored before (i.e. the original creation date is
+     * kept).
+     *
+     * @param content
+     *        the complete content of a message
+     */
+    StandardMessage(Map<PropertyKey, Object> content) {
+
+        super();
+
+        checkSender((String) content.get(StandardPropertyKeys.SENDER));
+        checkReceiver((String) content.get(StandardPropertyKeys.RECEIVER));
+        checkTopic((String) content.get(StandardPropertyKeys.TOPIC));
+
+        if (!(content.get(StandardPropertyKeys.CREATION_DATE) instanceof Date)) {
+
+            throw new IllegalArgumentException("No creation date was specified!");
+        }
+
+        Map<PropertyKey, Object> map = new HashMap<>(content);
+        contentMap = Collections.unmodifiableMap(map);
+    }
+
     /**
      * Checks the specified sender.
      *
@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.messaging;
+
+
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * The queue of a single topic. The queue maintains a message count and keeps the topic
+ * within the set of non-empty topics while it has messages.
+ *
+ * @author Kristian Kutin
+ */
+class TopicQueue {
+
+    /**
+     * The topic.
+     */
+    private final String topic;
+
+    /**
+     * All topics which have messages.
+     */
+    private final Set<String> nonEmptyTopics;
+
+    /**
+     * The messages for the topic.
+     */
+    private final Queue<Message> messages;
+
+    /**
+     * The message count for the topic.
+     */
+    private final AtomicInteger count;
+
+    /**
+     * Creates a new queue according to the specified parameters.
+     *
+     * @param topic
+     *        the topic
+     * @param nonEmptyTopics
+     *        all topics which have messages
+     */
+    TopicQueue(String topic, Set<String> nonEmptyTopics) {
+
+        this.topic = topic;
+        this.nonEmptyTopics = nonEmptyTopics;
+
+        messages = new ConcurrentLinkedQueue<>();
+        count = new AtomicInteger();
+    }
+
+    /**
+     * Adds the specified message to this queue. The count is increased before the
+     * message is added, i.e. a message is never skipped.
+     *
+     * @param message
+     *        a message
+     */
+    void add(Message message) {
+
+        count.incrementAndGet();
+        messages.add(message);
+        nonEmptyTopics.add(topic);
+    }
+
+    /**
+     * Takes the oldest message from this queue.
+     *
+     * @return a message or <code>null</code> if this queue is empty
+     */
+    Message poll() {
+
+        if (count.get() <= 0) {
+
+            return null;
+        }
+
+        Message message = messages.poll();
+
+        if ((message != null) && (count.decrementAndGet() == 0)) {
+
+            // A concurrent add may have increased the count before the topic is removed,
+            // i.e. the topic is added again.
+            nonEmptyTopics.remove(topic);
+
+            if (count.get() > 0) {
+
+                nonEmptyTopics.add(topic);
+            }
+        }
+
+        return message;
+    }
+
+}
@@ -0,0 +1,332 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2019  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.misc.table;
+
+
+import java.util.Arrays;
+
+import jmul.misc.table.ColumnType;
+import jmul.misc.table.ColumnarTable;
+import jmul.misc.table.ColumnarTableBuilder;
+import jmul.misc.table.ModifiableTableImpl;
+import jmul.misc.table.Table;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * A collection of tests for columnar tables.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class ColumnarTableTest {
+
+    /**
+     * A table builder.
+     */
+    private ColumnarTableBuilder builder;
+
+    /**
+     * Steps which have to be performed before a test.
+     */
+    @Before
+    public void setUp() {
+
+        builder = new ColumnarTableBuilder();
+        builder.setColumnNames(Arrays.asList("int", "long", "double", "string", "zip"));
+        builder.addRow(Arrays.asList("1", "10000000000", "1.5", "a", "01234"));
+        builder.addRow(Arrays.asList("-2", "3", "2", "b", "12345"));
+        builder.addRow(Arrays.asList(null, null, "-1.25e2", "a", null));
+    }
+
+    /**
+     * Tests the inferred column types.
+     */
+    @Test
+    public void testInferredTypes() {
+
+        ColumnarTable table = builder.build();
+
+        assertEquals(5, table.columns());
+        assertEquals(3, table.rows());
+        assertEquals(15, table.cells());
+
+        assertEquals(ColumnType.INT, table.getColumnType(0));
+        assertEquals(ColumnType.LONG, table.getColumnType(1));
+        assertEquals(ColumnType.DOUBLE, table.getColumnType(2));
+        assertEquals(ColumnType.STRING, table.getColumnType(3));
+        assertEquals(ColumnType.STRING, table.getColumnType(4));
+    }
+
+    /**
+     * Tests reading typed values.
+     */
+    @Test
+    public void testTypedValues() {
+
+        ColumnarTable table = builder.build();
+
+        assertEquals(1, table.getInt(0, 0));
+        assertEquals(-2, table.getInt(0, 1));
+        assertEquals(10000000000L, table.getLong(1, 0));
+        assertEquals(3L, table.getLong(1, 1));
+        assertEquals(-2L, table.getLong(0, 1));
+        assertEquals(-125.0, table.getDouble(2, 2), 0.0);
+        assertEquals(10000000000.0, table.getDouble(1, 0), 0.0);
+        assertEquals("a", table.getString(3, 2));
+        assertEquals("01234", table.getString(4, 0));
+        assertEquals("1.5", table.getString(2, 0));
+    }
+
+    /**
+     * Tests boxed cell values.
+     */
+    @Test
+    public void testCells() {
+
+        ColumnarTable table = builder.build();
+
+        assertEquals(Integer.valueOf(1), table.getCell(0, 0));
+        assertEquals(Long.valueOf(10000000000L), table.getCell(1, 0));
+        assertEquals(Double.valueOf(2.0), table.getCell(2, 1));
+        assertEquals("b", table.getCell(3, 1));
+        assertEquals(Arrays.asList(1, -2, null), table.getColumn(0));
+        assertEquals(Arrays.<Object>asList(-2, 3L, 2.0, "b", "12345"), table.getRow(1));
+    }
+
+    /**
+     * Tests empty cells.
+     */
+    @Test
+    public void testEmptyCells() {
+
+        ColumnarTable table = builder.build();
+
+        assertTrue(table.isEmptyCell(0, 2));
+        assertTrue(table.isEmptyCell(1, 2));
+        assertTrue(table.isEmptyCell(4, 2));
+        assertFalse(table.isEmptyCell(2, 2));
+
+        assertNull(table.getCell(0, 2));
+        assertNull(table.getString(4, 2));
+        assertEquals(0, table.getInt(0, 2));
+    }
+
+    /**
+     * Tests specifying the column types.
+     */
+    @Test
+    public void testSpecifiedTypes() {
+
+        ColumnarTable table =
+            builder.build(ColumnType.LONG, ColumnType.STRING, ColumnType.STRING, ColumnType.STRING, ColumnType.STRING);
+
+        assertEquals(ColumnType.LONG, table.getColumnType(0));
+        assertEquals(1L, table.getLong(0, 0));
+        assertEquals("10000000000", table.getString(1, 0));
+        assertEquals("-1.25e2", table.getCell(2, 2));
+    }
+
+    /**
+     * Tests specifying a column type which doesn't match the content.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSpecifiedType() {
+
+        builder.build(ColumnType.INT, ColumnType.INT, ColumnType.DOUBLE, ColumnType.STRING, ColumnType.STRING);
+    }
+
+    /**
+     * Tests reading a value with an incompatible type.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testIncompatibleType() {
+
+        ColumnarTable table = builder.build();
+        table.getInt(1, 0);
+    }
+
+    /**
+     * Tests an invalid row index.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testInvalidRowIndex() {
+
+        ColumnarTable table = builder.build();
+        table.getInt(0, 3);
+    }
+
+    /**
+     * Tests adding rows with different lengths.
+     */
+    @Test
+    public void testRaggedRows() {
+
+        ColumnarTableBuilder raggedBuilder = new ColumnarTableBuilder();
+        raggedBuilder.addRow(Arrays.asList("1"));
+        raggedBuilder.addRow(Arrays.asList("2", "x"));
+
+        ColumnarTable table = raggedBuilder.build();
+
+        assertEquals(2, table.columns());
+        assertEquals(Arrays.asList("column0", "column1"), table.getColumnNames());
+        assertTrue(table.isEmptyCell(1, 0));
+        assertEquals("x", table.getString(1, 1));
+    }
+
+    /**
+     * Tests creating a columnar table from another table.
+     */
+    @Test
+    public void testFromTable() {
+
+        Table<String> source =
+            new ModifiableTableImpl<String>(new String[] { "A", "B" },
+                                            new String[][] { { "1", "x" }, { "2", "y" }, { "3", "x" } });
+
+        ColumnarTable table = new ColumnarTableBuilder(source).build();
+
+        assertEquals(Arrays.asList("A", "B"), table.getColumnNames());
+        assertEquals(ColumnType.INT, table.getColumnType(0));
+        assertEquals(ColumnType.STRING, table.getColumnType(1));
+
+        long sum = 0L;
+        for (int a = 0; a < table.rows(); a++) {
+
+            sum += table.getInt(0, a);
+        }
+
+        assertEquals(6L, sum);
+        assertEquals("x", table.getString(1, 2));
+    }
+
+    /**
+     * Tests a numeric column with many distinct values.
+     */
+    @Test
+    public void testManyDistinctValues() {
+
+        ColumnarTableBuilder largeBuilder = createLargeBuilder(4000, 5000000000L);
+        ColumnarTable table = largeBuilder.build();
+
+        assertEquals(ColumnType.INT, table.getColumnType(0));
+        assertEquals(ColumnType.DOUBLE, table.getColumnType(1));
+        assertEquals(ColumnType.LONG, table.getColumnType(2));
+        assertTrue(table.isEmptyCell(0, 10));
+        assertEquals(11, table.getInt(0, 11));
+        assertEquals(3999, table.getInt(0, 3999));
+        assertEquals(3999.5, table.getDouble(1, 3999), 0.0);
+        assertEquals(5000003999L, table.getLong(2, 3999));
+        assertEquals("5000003999", table.getString(2, 3999));
+
+        table = largeBuilder.build(ColumnType.LONG, ColumnType.STRING, ColumnType.DOUBLE);
+
+        assertEquals(11L, table.getLong(0, 11));
+        assertEquals("1", table.getString(1, 1));
+        assertEquals("3999.50", table.getString(1, 3999));
+        assertEquals(5000003999.0, table.getDouble(2, 3999), 0.0);
+    }
+
+    /**
+     * Tests a numeric column with many distinct values which contains a value
+     * which is no number.
+     */
+    @Test
+    public void testManyDistinctValuesWithString() {
+
+        ColumnarTableBuilder largeBuilder = createLargeBuilder(4000, 5000000000L);
+        largeBuilder.addRow(Arrays.asList("x", "y", "00042"));
+
+        ColumnarTable table = largeBuilder.build();
+
+        assertEquals(ColumnType.STRING, table.getColumnType(0));
+        assertEquals(ColumnType.STRING, table.getColumnType(1));
+        assertEquals(ColumnType.STRING, table.getColumnType(2));
+        assertTrue(table.isEmptyCell(0, 10));
+        assertEquals("11", table.getString(0, 11));
+        assertEquals("3999.50", table.getString(1, 3999));
+        assertEquals("5000003999", table.getString(2, 3999));
+        assertEquals("x", table.getString(0, 4000));
+        assertEquals("y", table.getString(1, 4000));
+        assertEquals("00042", table.getString(2, 4000));
+    }
+
+    /**
+     * Tests converting a numeric column with many distinct values into an
+     * incompatible type.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testManyDistinctValuesIncompatibleType() {
+
+        ColumnarTableBuilder largeBuilder = createLargeBuilder(4000, 5000000000L);
+        largeBuilder.build(ColumnType.INT, ColumnType.INT, ColumnType.INT);
+    }
+
+    /**
+     * Creates a builder with three numeric columns. The first column contains
+     * integer values and an empty cell, the second column starts with integer
+     * values and continues with decimal values, the third column contains
+     * integer values which are offset by the specified value.
+     *
+     * @param aRowCount
+     *        the number of rows
+     * @param anOffset
+     *        an offset for the values of the third column
+     *
+     * @return a builder
+     */
+    private static ColumnarTableBuilder createLargeBuilder(int aRowCount, long anOffset) {
+
+        ColumnarTableBuilder largeBuilder = new ColumnarTableBuilder();
+
+        for (int a = 0; a < aRowCount; a++) {
+
+            String first = (a == 10) ? null : String.valueOf(a);
+            String second = (a < 2000) ? String.valueOf(a) : (a + ".50");
+
+            largeBuilder.addRow(Arrays.asList(first, second, String.valueOf(a + anOffset)));
+        }
+
+        return largeBuilder;
+    }
+
+}
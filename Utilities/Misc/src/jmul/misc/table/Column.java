@@ -0,0 +1,172 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.misc.table;
+
+
+/**
+ * A base implementation for the columns of a columnar table.
+ *
+ * @author Kristian Kutin
+ */
+abstract class Column {
+
+    /**
+     * The number of cells.
+     */
+    private final int size;
+
+    /**
+     * Creates a new column according to the specified parameters.
+     *
+     * @param aSize
+     *        the number of cells
+     */
+    protected Column(int aSize) {
+
+        super();
+
+        size = aSize;
+    }
+
+    /**
+     * Returns the number of cells.
+     *
+     * @return a cell count
+     */
+    int size() {
+
+        return size;
+    }
+
+    /**
+     * Returns the type of this column.
+     *
+     * @return a column type
+     */
+    abstract ColumnType getType();
+
+    /**
+     * Checks if the specified cell is empty.
+     *
+     * @param aRowIndex
+     *        the row index of a cell
+     *
+     * @return <code>true</code> if the cell is empty, else <code>false</code>
+     */
+    abstract boolean isEmpty(int aRowIndex);
+
+    /**
+     * Returns the value of the specified cell.
+     *
+     * @param aRowIndex
+     *        the row index of a cell
+     *
+     * @return a cell value or <code>null</code> if the cell is empty
+     */
+    abstract Object getValue(int aRowIndex);
+
+    /**
+     * Returns the value of the specified cell.
+     *
+     * @param aRowIndex
+     *        the row index of a cell
+     *
+     * @return a cell value
+     */
+    int getInt(int aRowIndex) {
+
+        throw createTypeMismatchException(ColumnType.INT);
+    }
+
+    /**
+     * Returns the value of the specified cell.
+     *
+     * @param aRowIndex
+     *        the row index of a cell
+     *
+     * @return a cell value
+     */
+    long getLong(int aRowIndex) {
+
+        throw createTypeMismatchException(ColumnType.LONG);
+    }
+
+    /**
+     * Returns the value of the specified cell.
+     *
+     * @param aRowIndex
+     *        the row index of a cell
+     *
+     * @return a cell value
+     */
+    double getDouble(int aRowIndex) {
+
+        throw createTypeMismatchException(ColumnType.DOUBLE);
+    }
+
+    /**
+     * Returns a string representation of the specified cell.
+     *
+     * @param aRowIndex
+     *        the row index of a cell
+     *
+     * @return a cell value or <code>null</code> if the cell is empty
+     */
+    String getString(int aRowIndex) {
+
+        Object value = getValue(aRowIndex);
+
+        if (value == null) {
+
+            return null;
+        }
+
+        return String.valueOf(value);
+    }
+
+    /**
+     * Creates an exception according to the specified parameters.
+     *
+     * @param aRequestedType
+     *        the requested type
+     *
+     * @return an exception
+     */
+    private IllegalArgumentException createTypeMismatchException(ColumnType aRequestedType) {
+
+        String message = "A column of type " + getType() + " can't be read as " + aRequestedType + "!";
+        return new IllegalArgumentException(message);
+    }
+
+}
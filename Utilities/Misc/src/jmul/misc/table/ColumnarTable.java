@@ -0,0 +1,112 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.misc.table;
+
+
+/**
+ * This interface defines the functionalities of a table which stores its
+ * data column by column. Every column has a type and numeric cells can be
+ * read without boxing.<br>
+ * <br>
+ * <i>Note:<br>
+ * An empty numeric cell is read as <code>0</code>. Use
+ * {@link #isEmptyCell(int, int)} to distinguish empty cells.</i>
+ *
+ * @author Kristian Kutin
+ */
+public interface ColumnarTable extends Table<Object> {
+
+    /**
+     * Returns the type of the specified column.
+     *
+     * @param aColumnIndex
+     *        the column index of a column
+     *
+     * @return a column type
+     */
+    ColumnType getColumnType(int aColumnIndex);
+
+    /**
+     * Returns the value of the specified cell. The cell must belong to a
+     * column of type {@link ColumnType#INT}.
+     *
+     * @param aColumnIndex
+     *        the column index of a cell
+     * @param aRowIndex
+     *        the row index of a cell
+     *
+     * @return a cell value
+     */
+    int getInt(int aColumnIndex, int aRowIndex);
+
+    /**
+     * Returns the value of the specified cell. The cell must belong to a
+     * column of type {@link ColumnType#INT} or {@link ColumnType#LONG}.
+     *
+     * @param aColumnIndex
+     *        the column index of a cell
+     * @param aRowIndex
+     *        the row index of a cell
+     *
+     * @return a cell value
+     */
+    long getLong(int aColumnIndex, int aRowIndex);
+
+    /**
+     * Returns the value of the specified cell. The cell must belong to a
+     * numeric column.
+     *
+     * @param aColumnIndex
+     *        the column index of a cell
+     * @param aRowIndex
+     *        the row index of a cell
+     *
+     * @return a cell value
+     */
+    double getDouble(int aColumnIndex, int aRowIndex);
+
+    /**
+     * Returns a string representation of the specified cell. If the cell is
+     * empty then <code>null</code> is returned.
+     *
+     * @param aColumnIndex
+     *        the column index of a cell
+     * @param aRowIndex
+     *        the row index of a cell
+     *
+     * @return a cell value or <code>null</code> if the cell is empty
+     */
+    String getString(int aColumnIndex, int aRowIndex);
+
+}
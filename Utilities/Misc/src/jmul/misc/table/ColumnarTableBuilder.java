@@ -0,0 +1,230 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.misc.table;
+
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jmul.checks.ParameterCheckHelper;
+
+
+/**
+ * This class builds a columnar table from string values which are added row
+ * by row (e.g. the content of a CSV file). The values are dictionary-encoded
+ * column by column while they are added. A numeric column with many distinct
+ * values is switched to a primitive buffer instead, and falls back to
+ * dictionary encoding only if a value is added which is no number. The column
+ * types are either specified or inferred from the values of every column when
+ * the table is built.<br>
+ * <br>
+ * A column is inferred as numeric if all of its values are plain decimal
+ * numbers (e.g. <code>-12</code> or <code>1.5e3</code>). Integer values with
+ * leading zeros or a plus sign stay strings, so that identifiers like zip
+ * codes are preserved.
+ *
+ * @author Kristian Kutin
+ */
+public class ColumnarTableBuilder {
+
+    /**
+     * A name component.
+     */
+    private static final String COLUMN_NAME_PREFIX = "column";
+
+    /**
+     * The column names.
+     */
+    private final List<String> columnNames;
+
+    /**
+     * The columns.
+     */
+    private final List<EncodedColumn> columns;
+
+    /**
+     * The number of rows.
+     */
+    private int rows;
+
+    /**
+     * The default constructor.
+     */
+    public ColumnarTableBuilder() {
+
+        super();
+
+        columnNames = new ArrayList<>();
+        columns = new ArrayList<>();
+        rows = 0;
+    }
+
+    /**
+     * Creates a new builder which contains the column names and rows of the
+     * specified table.
+     *
+     * @param aTable
+     *        a table with initial values
+     */
+    public ColumnarTableBuilder(Table<String> aTable) {
+
+        this();
+
+        ParameterCheckHelper.checkObjectParameter(aTable);
+
+        setColumnNames(aTable.getColumnNames());
+
+        for (int a = 0; a < aTable.rows(); a++) {
+
+            addRow(aTable.getRow(a));
+        }
+    }
+
+    /**
+     * Sets the column names. Columns without a name get a default name.
+     *
+     * @param someColumnNames
+     *        the column names
+     */
+    public void setColumnNames(List<String> someColumnNames) {
+
+        ParameterCheckHelper.checkObjectParameter(someColumnNames);
+
+        columnNames.clear();
+        columnNames.addAll(someColumnNames);
+
+        while (columns.size() < columnNames.size()) {
+
+            columns.add(new EncodedColumn(rows));
+        }
+    }
+
+    /**
+     * Adds a row. A row with fewer cells than the table has columns is
+     * filled with empty cells.
+     *
+     * @param aRow
+     *        the cell values of a row (<code>null</code> stands for an empty
+     *        cell)
+     */
+    public void addRow(List<String> aRow) {
+
+        ParameterCheckHelper.checkObjectParameter(aRow);
+
+        while (columns.size() < aRow.size()) {
+
+            columns.add(new EncodedColumn(rows));
+        }
+
+        for (int a = 0; a < columns.size(); a++) {
+
+            String value = (a < aRow.size()) ? aRow.get(a) : null;
+            columns.get(a).add(value);
+        }
+
+        rows++;
+    }
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return the number of columns
+     */
+    public int columns() {
+
+        return columns.size();
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return the number of rows
+     */
+    public int rows() {
+
+        return rows;
+    }
+
+    /**
+     * Builds a table. The column types are inferred from the column values.
+     *
+     * @return a table
+     */
+    public ColumnarTable build() {
+
+        ColumnType[] types = new ColumnType[columns.size()];
+
+        for (int a = 0; a < types.length; a++) {
+
+            types[a] = columns.get(a).inferType();
+        }
+
+        return build(types);
+    }
+
+    /**
+     * Builds a table with the specified column types.
+     *
+     * @param someColumnTypes
+     *        the types of all columns
+     *
+     * @return a table
+     */
+    public ColumnarTable build(ColumnType... someColumnTypes) {
+
+        ParameterCheckHelper.checkObjectParameter(someColumnTypes);
+
+        if (someColumnTypes.length != columns.size()) {
+
+            String message =
+                "The number of column types (" + someColumnTypes.length + ") doesn't match the number of columns (" +
+                columns.size() + ")!";
+            throw new IllegalArgumentException(message);
+        }
+
+        List<String> names = new ArrayList<>(columns.size());
+        Column[] builtColumns = new Column[columns.size()];
+
+        for (int a = 0; a < builtColumns.length; a++) {
+
+            String name = (a < columnNames.size()) ? columnNames.get(a) : COLUMN_NAME_PREFIX + a;
+            names.add(name);
+
+            builtColumns[a] = columns.get(a).toColumn(someColumnTypes[a]);
+        }
+
+        return new ColumnarTableImpl(names, builtColumns, rows);
+    }
+
+}
@@ -0,0 +1,353 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.misc.table;
+
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static jmul.checks.ParameterCheckHelper.checkIndex;
+
+
+/**
+ * An implementation of an unmodifiable columnar table. Every column is
+ * stored in a primitive array (or as dictionary-encoded strings), so that
+ * scanning a single column touches only the memory of that column.<br>
+ * <br>
+ * <i>Note:<br>
+ * Instances are created with a {@link ColumnarTableBuilder}.</i>
+ *
+ * @author Kristian Kutin
+ */
+public class ColumnarTableImpl implements ColumnarTable {
+
+    /**
+     * The number of rows;
+     */
+    private final int rows;
+
+    /**
+     * The columns.
+     */
+    private final Column[] columns;
+
+    /**
+     * The table header.
+     */
+    private final List<String> header;
+
+    /**
+     * Creates a new table according to the specified parameters.
+     *
+     * @param someColumnNames
+     *        the column names
+     * @param someColumns
+     *        the columns
+     * @param aRowCount
+     *        the number of rows
+     */
+    ColumnarTableImpl(List<String> someColumnNames, Column[] someColumns, int aRowCount) {
+
+        super();
+
+        header = Collections.unmodifiableList(new ArrayList<>(someColumnNames));
+        columns = someColumns;
+        rows = aRowCount;
+    }
+
+    /**
+     * Returns the number of columns of this table.
+     *
+     * @return the number of columns
+     */
+    @Override
+    public int columns() {
+
+        return columns.length;
+    }
+
+    /**
+     * Returns the number of rows of this table.
+     *
+     * @return the number of rows
+     */
+    @Override
+    public int rows() {
+
+        return rows;
+    }
+
+    /**
+     * Returns the total number of cells within the table.
+     *
+     * @return a cell count
+     */
+    @Override
+    public int cells() {
+
+        return rows * columns.length;
+    }
+
+    /**
+     * Returns the type of the specified column.
+     *
+     * @param aColumnIndex
+     *        the column index of a column
+     *
+     * @return a column type
+     */
+    @Override
+    public ColumnType getColumnType(int aColumnIndex) {
+
+        checkIndex(0, aColumnIndex, columns.length - 1);
+
+        return columns[aColumnIndex].getType();
+    }
+
+    /**
+     * Returns the cell at the specified position. If the cell is empty
+     * then <code>null</code> is returned. Numeric values are boxed.
+     *
+     * @param aColumnIndex
+     *        the column index of a cell
+     * @param aRowIndex
+     *        the row index of a cell
+     *
+     * @return a cell or <code>null</code> if the cell is empty
+     */
+    @Override
+    public Object getCell(int aColumnIndex, int aRowIndex) {
+
+        return getColumn(aColumnIndex, aRowIndex).getValue(aRowIndex);
+    }
+
+    /**
+     * Checks if the specified cell is empty.
+     *
+     * @param aColumnIndex
+     *        the column index of a cell
+     * @param aRowIndex
+     *        the row index of a cell
+     *
+     * @return <code>true</code> if the cell is empty, else <code>false</code>
+     */
+    @Override
+    public boolean isEmptyCell(int aColumnIndex, int aRowIndex) {
+
+        return getColumn(aColumnIndex, aRowIndex).isEmpty(aRowIndex);
+    }
+
+    /**
+     * Returns the value of the specified cell. The cell must belong to a
+     * column of type {@link ColumnType#INT}.
+     *
+     * @param aColumnIndex
+     *        the column index of a cell
+     * @param aRowIndex
+     *        the row index of a cell
+     *
+     * @return a cell value
+     */
+    @Override
+    public int getInt(int aColumnIndex, int aRowIndex) {
+
+        return getColumn(aColumnIndex, aRowIndex).getInt(aRowIndex);
+    }
+
+    /**
+     * Returns the value of the specified cell. The cell must belong to a
+     * column of type {@link ColumnType#INT} or {@link ColumnType#LONG}.
+     *
+     * @param aColumnIndex
+     *        the column index of a cell
+     * @param aRowIndex
+     *        the row index of a cell
+     *
+     * @return a cell value
+     */
+    @Override
+    public long getLong(int aColumnIndex, int aRowIndex) {
+
+        return getColumn(aColumnIndex, aRowIndex).getLong(aRowIndex);
+    }
+
+    /**
+     * Returns the value of the specified cell. The cell must belong to a
+     * numeric column.
+     *
+     * @param aColumnIndex
+     *        the column index of a cell
+     * @param aRowIndex
+     *        the row index of a cell
+     *
+     * @return a cell value
+     */
+    @Override
+    public double getDouble(int aColumnIndex, int aRowIndex) {
+
+        return getColumn(aColumnIndex, aRowIndex).getDouble(aRowIndex);
+    }
+
+    /**
+     * Returns a string representation of the specified cell. If the cell is
+     * empty then <code>null</code> is returned.
+     *
+     * @param aColumnIndex
+     *        the column index of a cell
+     * @param aRowIndex
+     *        the row index of a cell
+     *
+     * @return a cell value or <code>null</code> if the cell is empty
+     */
+    @Override
+    public String getString(int aColumnIndex, int aRowIndex) {
+
+        return getColumn(aColumnIndex, aRowIndex).getString(aRowIndex);
+    }
+
+    /**
+     * Checks the specified cell position and returns the corresponding
+     * column.
+     *
+     * @param aColumnIndex
+     *        the column index of a cell
+     * @param aRowIndex
+     *        the row index of a cell
+     *
+     * @return a column
+     */
+    private Column getColumn(int aColumnIndex, int aRowIndex) {
+
+        checkIndex(0, aColumnIndex, columns.length - 1);
+        checkIndex(0, aRowIndex, rows - 1);
+
+        return columns[aColumnIndex];
+    }
+
+    /**
+     * Returns a list of all values of the specified row. Modifications to
+     * the returned list don't affect the actual table.
+     *
+     * @param aRowIndex
+     *        the row index of a row
+     *
+     * @return all row values
+     */
+    @Override
+    public List<Object> getRow(int aRowIndex) {
+
+        checkIndex(0, aRowIndex, rows - 1);
+
+        List<Object> result = new ArrayList<>(columns.length);
+
+        for (Column column : columns) {
+
+            result.add(column.getValue(aRowIndex));
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a list of all values of the specified column. Modifications to
+     * the returned list don't affect the actual table.
+     *
+     * @param aColumnIndex
+     *        the column index of a column
+     *
+     * @return all column values
+     */
+    @Override
+    public List<Object> getColumn(int aColumnIndex) {
+
+        checkIndex(0, aColumnIndex, columns.length - 1);
+
+        Column column = columns[aColumnIndex];
+        List<Object> result = new ArrayList<>(rows);
+
+        for (int a = 0; a < rows; a++) {
+
+            result.add(column.getValue(a));
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the name of the specified column.
+     *
+     * @param aColumnIndex
+     *        the column index of the requested column
+     *
+     * @return a column name
+     */
+    @Override
+    public String getColumnName(int aColumnIndex) {
+
+        checkIndex(0, aColumnIndex, columns.length - 1);
+
+        return header.get(aColumnIndex);
+    }
+
+    /**
+     * Changes the name of the specified column.<br>
+     * <br>
+     * <i>Note:<br>
+     * This operation is not supported with in implementation.</i>
+     *
+     * @param aColumnIndex
+     *        the column index
+     * @param aColumnName
+     *        the new column name
+     */
+    @Override
+    public void setColumnName(int aColumnIndex, String aColumnName) {
+
+        throw new UnsupportedOperationException("Table cannot be modified!");
+    }
+
+    /**
+     * Returns all column names as a list. The list preserves the order of
+     * the columns according to the individual column index.
+     *
+     * @return a list containing all column names
+     */
+    @Override
+    public List<String> getColumnNames() {
+
+        return header;
+    }
+
+}
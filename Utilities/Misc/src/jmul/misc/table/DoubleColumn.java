@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.misc.table;
+
+
+import java.util.BitSet;
+
+
+/**
+ * A column which contains <code>double</code> values.
+ *
+ * @author Kristian Kutin
+ */
+class DoubleColumn extends Column {
+
+    /**
+     * The cell values.
+     */
+    private final double[] values;
+
+    /**
+     * Marks the empty cells.
+     */
+    private final BitSet emptyCells;
+
+    /**
+     * Creates a new column according to the specified parameters.
+     *
+     * @param someValues
+     *        the cell values
+     * @param someEmptyCells
+     *        marks the empty cells
+     */
+    DoubleColumn(double[] someValues, BitSet someEmptyCells) {
+
+        super(someValues.length);
+
+        values = someValues;
+        emptyCells = someEmptyCells;
+    }
+
+    /**
+     * Returns the type of this column.
+     *
+     * @return a column type
+     */
+    @Override
+    ColumnType getType() {
+
+        return ColumnType.DOUBLE;
+    }
+
+    /**
+     * Checks if the specified cell is empty.
+     *
+     * @param aRowIndex
+     *        the row index of a cell
+     *
+     * @return <code>true</code> if the cell is empty, else <code>false</code>
+     */
+    @Override
+    boolean isEmpty(int aRowIndex) {
+
+        return emptyCells.get(aRowIndex);
+    }
+
+    /**
+     * Returns the value of the specified cell.
+     *
+     * @param aRowIndex
+     *        the row index of a cell
+     *
+     * @return a cell value or <code>null</code> if the cell is empty
+     */
+    @Override
+    Object getValue(int aRowIndex) {
+
+        if (isEmpty(aRowIndex)) {
+
+            return null;
+        }
+
+        return values[aRowIndex];
+    }
+
+    /**
+     * Returns the value of the specified cell.
+     *
+     * @param aRowIndex
+     *        the row index of a cell
+     *
+     * @return a cell value
+     */
+    @Override
+    double getDouble(int aRowIndex) {
+
+        return values[aRowIndex];
+    }
+
+}
@@ -0,0 +1,888 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.misc.table;
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * A column which collects the values of a columnar table while the table is
+ * built.<br>
+ * <br>
+ * The values are dictionary-encoded at first. If the number of distinct
+ * values exceeds a limit and all values are numbers, the column switches to a
+ * numeric encoding. Integer values are parsed into a <code>long</code> buffer
+ * and decimal values are kept in a character buffer, so that no string object
+ * and no dictionary entry is kept per value. If a value is added later which
+ * is no number, the column falls back to dictionary encoding.
+ *
+ * @author Kristian Kutin
+ */
+class EncodedColumn {
+
+    /**
+     * The maximum number of distinct values of a dictionary-encoded numeric
+     * column.
+     */
+    private static final int DICTIONARY_LIMIT;
+
+    /**
+     * The initial capacity.
+     */
+    private static final int INITIAL_CAPACITY;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        DICTIONARY_LIMIT = 1024;
+        INITIAL_CAPACITY = 16;
+    }
+
+    /**
+     * The number of cells.
+     */
+    private int size;
+
+    /**
+     * The dictionary indices of all cells (dictionary encoding only).
+     */
+    private int[] codes;
+
+    /**
+     * All distinct values (dictionary encoding only).
+     */
+    private List<String> dictionary;
+
+    /**
+     * The dictionary indices of all distinct values (dictionary encoding
+     * only).
+     */
+    private Map<String, Integer> index;
+
+    /**
+     * A flag which indicates that the column contains values which are no
+     * numbers, i.e. the column remains dictionary-encoded.
+     */
+    private boolean containsStrings;
+
+    /**
+     * The narrowest type which can hold all values (numeric encoding only,
+     * <code>null</code> if the column is dictionary-encoded).
+     */
+    private ColumnType numericType;
+
+    /**
+     * The values of all cells (numeric encoding of integer values only).
+     */
+    private long[] longValues;
+
+    /**
+     * The characters of all values (numeric encoding of decimal values only).
+     */
+    private char[] text;
+
+    /**
+     * The number of characters within the character buffer.
+     */
+    private int textLength;
+
+    /**
+     * The end offsets of all values within the character buffer.
+     */
+    private int[] textEnds;
+
+    /**
+     * Marks the empty cells (numeric encoding only).
+     */
+    private BitSet emptyCells;
+
+    /**
+     * Creates a new column according to the specified parameters.
+     *
+     * @param anEmptyCellCount
+     *        the number of leading empty cells
+     */
+    EncodedColumn(int anEmptyCellCount) {
+
+        super();
+
+        codes = new int[Math.max(INITIAL_CAPACITY, anEmptyCellCount)];
+        Arrays.fill(codes, 0, anEmptyCellCount, StringColumn.EMPTY_CELL);
+        size = anEmptyCellCount;
+
+        dictionary = new ArrayList<>();
+        index = new HashMap<>();
+        containsStrings = false;
+        numericType = null;
+    }
+
+    /**
+     * Adds a cell.
+     *
+     * @param aValue
+     *        a cell value or <code>null</code> for an empty cell
+     */
+    void add(String aValue) {
+
+        if (numericType == null) {
+
+            if (size == codes.length) {
+
+                codes = Arrays.copyOf(codes, size * 2);
+            }
+
+            codes[size] = encode(aValue);
+            size++;
+
+            if (!containsStrings && (dictionary.size() > DICTIONARY_LIMIT)) {
+
+                switchToNumericEncoding();
+            }
+
+            return;
+        }
+
+        if (aValue == null) {
+
+            emptyCells.set(size);
+            addNumericValue(null);
+            return;
+        }
+
+        ColumnType valueType = inferType(aValue);
+
+        if (valueType == ColumnType.STRING) {
+
+            switchToDictionaryEncoding();
+            add(aValue);
+            return;
+        }
+
+        if ((valueType == ColumnType.DOUBLE) && (numericType != ColumnType.DOUBLE)) {
+
+            switchToTextBuffer();
+        }
+
+        if ((valueType == ColumnType.LONG) && (numericType == ColumnType.INT)) {
+
+            numericType = ColumnType.LONG;
+        }
+
+        addNumericValue(aValue);
+    }
+
+    /**
+     * Adds a cell to a numeric column.
+     *
+     * @param aValue
+     *        a number or <code>null</code> for an empty cell
+     */
+    private void addNumericValue(String aValue) {
+
+        if (numericType == ColumnType.DOUBLE) {
+
+            if (size == textEnds.length) {
+
+                textEnds = Arrays.copyOf(textEnds, size * 2);
+            }
+
+            appendText(size, aValue);
+
+        } else {
+
+            if (size == longValues.length) {
+
+                longValues = Arrays.copyOf(longValues, size * 2);
+            }
+
+            longValues[size] = (aValue == null) ? 0L : Long.parseLong(aValue);
+        }
+
+        size++;
+    }
+
+    /**
+     * Returns the dictionary index of the specified value. A new value is
+     * added to the dictionary.
+     *
+     * @param aValue
+     *        a value or <code>null</code> for an empty cell
+     *
+     * @return a dictionary index
+     */
+    private int encode(String aValue) {
+
+        if (aValue == null) {
+
+            return StringColumn.EMPTY_CELL;
+        }
+
+        Integer existingCode = index.get(aValue);
+
+        if (existingCode != null) {
+
+            return existingCode;
+        }
+
+        int code = dictionary.size();
+        dictionary.add(aValue);
+        index.put(aValue, code);
+
+        return code;
+    }
+
+    /**
+     * Appends the specified value to the character buffer.
+     *
+     * @param aRowIndex
+     *        the row index of the value
+     * @param aValue
+     *        a value or <code>null</code> for an empty cell
+     */
+    private void appendText(int aRowIndex, String aValue) {
+
+        if (aValue != null) {
+
+            int length = aValue.length();
+
+            if (textLength + length > text.length) {
+
+                text = Arrays.copyOf(text, Math.max(text.length * 2, textLength + length));
+            }
+
+            aValue.getChars(0, length, text, textLength);
+            textLength += length;
+        }
+
+        textEnds[aRowIndex] = textLength;
+    }
+
+    /**
+     * Switches from dictionary encoding to numeric encoding if all values are
+     * numbers.
+     */
+    private void switchToNumericEncoding() {
+
+        ColumnType type = inferType();
+
+        if (type == ColumnType.STRING) {
+
+            containsStrings = true;
+            return;
+        }
+
+        int capacity = codes.length;
+        emptyCells = new BitSet(capacity);
+
+        for (int a = 0; a < size; a++) {
+
+            if (codes[a] == StringColumn.EMPTY_CELL) {
+
+                emptyCells.set(a);
+            }
+        }
+
+        if (type == ColumnType.DOUBLE) {
+
+            text = new char[capacity];
+            textLength = 0;
+            textEnds = new int[capacity];
+
+            for (int a = 0; a < size; a++) {
+
+                appendText(a, getText(a));
+            }
+
+        } else {
+
+            long[] parsedValues = new long[dictionary.size()];
+
+            for (int a = 0; a < parsedValues.length; a++) {
+
+                parsedValues[a] = Long.parseLong(dictionary.get(a));
+            }
+
+            longValues = new long[capacity];
+
+            for (int a = 0; a < size; a++) {
+
+                if (codes[a] != StringColumn.EMPTY_CELL) {
+
+                    longValues[a] = parsedValues[codes[a]];
+                }
+            }
+        }
+
+        numericType = type;
+        codes = null;
+        dictionary = null;
+        index = null;
+    }
+
+    /**
+     * Moves the integer values of a numeric column into the character buffer.
+     */
+    private void switchToTextBuffer() {
+
+        int capacity = longValues.length;
+
+        text = new char[capacity];
+        textLength = 0;
+        textEnds = new int[capacity];
+
+        for (int a = 0; a < size; a++) {
+
+            appendText(a, getText(a));
+        }
+
+        numericType = ColumnType.DOUBLE;
+        longValues = null;
+    }
+
+    /**
+     * Switches from numeric encoding back to dictionary encoding. The column
+     * stays dictionary-encoded.
+     */
+    private void switchToDictionaryEncoding() {
+
+        int[] newCodes = new int[Math.max(INITIAL_CAPACITY, size)];
+        dictionary = new ArrayList<>();
+        index = new HashMap<>();
+
+        for (int a = 0; a < size; a++) {
+
+            newCodes[a] = encode(getText(a));
+        }
+
+        codes = newCodes;
+        containsStrings = true;
+
+        numericType = null;
+        longValues = null;
+        text = null;
+        textEnds = null;
+        emptyCells = null;
+    }
+
+    /**
+     * Checks if the specified cell is empty.
+     *
+     * @param aRowIndex
+     *        the row index of a cell
+     *
+     * @return <code>true</code> if the cell is empty, else <code>false</code>
+     */
+    private boolean isEmpty(int aRowIndex) {
+
+        if (numericType == null) {
+
+            return codes[aRowIndex] == StringColumn.EMPTY_CELL;
+        }
+
+        return emptyCells.get(aRowIndex);
+    }
+
+    /**
+     * Returns the value of the specified cell as it was added.
+     *
+     * @param aRowIndex
+     *        the row index of a cell
+     *
+     * @return a value or <code>null</code> if the cell is empty
+     */
+    private String getText(int aRowIndex) {
+
+        if (isEmpty(aRowIndex)) {
+
+            return null;
+        }
+
+        if (numericType == null) {
+
+            return dictionary.get(codes[aRowIndex]);
+        }
+
+        if (numericType == ColumnType.DOUBLE) {
+
+            int start = (aRowIndex == 0) ? 0 : textEnds[aRowIndex - 1];
+            return new String(text, start, textEnds[aRowIndex] - start);
+        }
+
+        // Integer values are only encoded numerically if they have a
+        // canonical representation.
+        return Long.toString(longValues[aRowIndex]);
+    }
+
+    /**
+     * Determines the narrowest column type which can hold all values.
+     *
+     * @return a column type
+     */
+    ColumnType inferType() {
+
+        if (numericType != null) {
+
+            return numericType;
+        }
+
+        ColumnType type = ColumnType.INT;
+
+        for (String value : dictionary) {
+
+            ColumnType valueType = inferType(value);
+
+            if (valueType.ordinal() > type.ordinal()) {
+
+                type = valueType;
+            }
+
+            if (type == ColumnType.STRING) {
+
+                break;
+            }
+        }
+
+        return type;
+    }
+
+
+    /**
+     * Determines the narrowest column type which can hold the specified
+     * value.
+     *
+     * @param aValue
+     *        a value
+     *
+     * @return a column type
+     */
+    private static ColumnType inferType(String aValue) {
+
+        int length = aValue.length();
+        int position = 0;
+
+        if ((position < length) && (aValue.charAt(position) == '-')) {
+
+            position++;
+        }
+
+        int integerStart = position;
+        position = skipDigits(aValue, position);
+        int integerDigits = position - integerStart;
+
+        if (integerDigits == 0) {
+
+            return ColumnType.STRING;
+        }
+
+        if (position == length) {
+
+            boolean leadingZero = (aValue.charAt(integerStart) == '0') && (integerDigits > 1);
+            boolean negativeZero = (integerStart > 0) && (aValue.charAt(integerStart) == '0');
+
+            if (leadingZero || negativeZero) {
+
+                return ColumnType.STRING;
+            }
+
+            try {
+
+                long value = Long.parseLong(aValue);
+
+                if ((value >= Integer.MIN_VALUE) && (value <= Integer.MAX_VALUE)) {
+
+                    return ColumnType.INT;
+                }
+
+                return ColumnType.LONG;
+
+            } catch (NumberFormatException e) {
+
+                // The value exceeds the range of long values.
+                return ColumnType.STRING;
+            }
+        }
+
+        if (aValue.charAt(position) == '.') {
+
+            int fractionStart = position + 1;
+            position = skipDigits(aValue, fractionStart);
+
+            if (position == fractionStart) {
+
+                return ColumnType.STRING;
+            }
+        }
+
+        if ((position < length) && ((aValue.charAt(position) == 'e') || (aValue.charAt(position) == 'E'))) {
+
+            position++;
+
+            if ((position < length) && ((aValue.charAt(position) == '+') || (aValue.charAt(position) == '-'))) {
+
+                position++;
+            }
+
+            int exponentStart = position;
+            position = skipDigits(aValue, exponentStart);
+
+            if (position == exponentStart) {
+
+                return ColumnType.STRING;
+            }
+        }
+
+        if (position == length) {
+
+            return ColumnType.DOUBLE;
+        }
+
+        return ColumnType.STRING;
+    }
+
+    /**
+     * Skips all digits starting with the specified position.
+     *
+     * @param aValue
+     *        a value
+     * @param aPosition
+     *        a start position
+     *
+     * @return the position of the first character which is not a digit
+     */
+    private static int skipDigits(String aValue, int aPosition) {
+
+        int position = aPosition;
+
+        while ((position < aValue.length()) && (aValue.charAt(position) >= '0') &&
+               (aValue.charAt(position) <= '9')) {
+
+            position++;
+        }
+
+        return position;
+    }
+
+    /**
+     * Converts this column into a column of the specified type.
+     *
+     * @param aType
+     *        a column type
+     *
+     * @return a column
+     */
+    Column toColumn(ColumnType aType) {
+
+        switch (aType) {
+        case INT:
+            return toIntColumn();
+        case LONG:
+            return toLongColumn();
+        case DOUBLE:
+            return toDoubleColumn();
+        case STRING:
+            return toStringColumn();
+        default:
+            String message = "Unknown column type (" + aType + ")!";
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    /**
+     * Converts this column into a column with <code>int</code> values. Every
+     * distinct value of a dictionary-encoded column is parsed only once.
+     *
+     * @return a column
+     */
+    private Column toIntColumn() {
+
+        int[] parsedValues = null;
+
+        if (numericType == null) {
+
+            parsedValues = new int[dictionary.size()];
+
+            for (int a = 0; a < parsedValues.length; a++) {
+
+                parsedValues[a] = parseInt(dictionary.get(a));
+            }
+        }
+
+        int[] values = new int[size];
+        BitSet emptyCells = new BitSet(size);
+
+        for (int a = 0; a < size; a++) {
+
+            if (isEmpty(a)) {
+
+                emptyCells.set(a);
+
+            } else if (numericType == null) {
+
+                values[a] = parsedValues[codes[a]];
+
+            } else if (numericType == ColumnType.INT) {
+
+                values[a] = (int) longValues[a];
+
+            } else {
+
+                values[a] = parseInt(getText(a));
+            }
+        }
+
+        return new IntColumn(values, emptyCells);
+    }
+
+    /**
+     * Converts this column into a column with <code>long</code> values. Every
+     * distinct value of a dictionary-encoded column is parsed only once.
+     *
+     * @return a column
+     */
+    private Column toLongColumn() {
+
+        long[] parsedValues = null;
+
+        if (numericType == null) {
+
+            parsedValues = new long[dictionary.size()];
+
+            for (int a = 0; a < parsedValues.length; a++) {
+
+                parsedValues[a] = parseLong(dictionary.get(a));
+            }
+        }
+
+        long[] values = new long[size];
+        BitSet emptyCells = new BitSet(size);
+
+        for (int a = 0; a < size; a++) {
+
+            if (isEmpty(a)) {
+
+                emptyCells.set(a);
+
+            } else if (numericType == null) {
+
+                values[a] = parsedValues[codes[a]];
+
+            } else if (numericType == ColumnType.DOUBLE) {
+
+                values[a] = parseLong(getText(a));
+
+            } else {
+
+                values[a] = longValues[a];
+            }
+        }
+
+        return new LongColumn(values, emptyCells);
+    }
+
+    /**
+     * Converts this column into a column with <code>double</code> values.
+     * Every distinct value of a dictionary-encoded column is parsed only
+     * once.
+     *
+     * @return a column
+     */
+    private Column toDoubleColumn() {
+
+        double[] parsedValues = null;
+
+        if (numericType == null) {
+
+            parsedValues = new double[dictionary.size()];
+
+            for (int a = 0; a < parsedValues.length; a++) {
+
+                parsedValues[a] = parseDouble(dictionary.get(a));
+            }
+        }
+
+        double[] values = new double[size];
+        BitSet emptyCells = new BitSet(size);
+
+        for (int a = 0; a < size; a++) {
+
+            if (isEmpty(a)) {
+
+                emptyCells.set(a);
+
+            } else if (numericType == null) {
+
+                values[a] = parsedValues[codes[a]];
+
+            } else if (numericType == ColumnType.DOUBLE) {
+
+                values[a] = parseDouble(getText(a));
+
+            } else {
+
+                values[a] = longValues[a];
+            }
+        }
+
+        return new DoubleColumn(values, emptyCells);
+    }
+
+    /**
+     * Converts this column into a column with string values.
+     *
+     * @return a column
+     */
+    private Column toStringColumn() {
+
+        if (numericType == null) {
+
+            return new StringColumn(Arrays.copyOf(codes, size), dictionary.toArray(new String[dictionary.size()]));
+        }
+
+        int[] newCodes = new int[size];
+        List<String> newDictionary = new ArrayList<>();
+        Map<String, Integer> newIndex = new HashMap<>();
+
+        for (int a = 0; a < size; a++) {
+
+            String value = getText(a);
+
+            if (value == null) {
+
+                newCodes[a] = StringColumn.EMPTY_CELL;
+                continue;
+            }
+
+            Integer code = newIndex.get(value);
+
+            if (code == null) {
+
+                code = newDictionary.size();
+                newDictionary.add(value);
+                newIndex.put(value, code);
+            }
+
+            newCodes[a] = code;
+        }
+
+        return new StringColumn(newCodes, newDictionary.toArray(new String[newDictionary.size()]));
+    }
+
+    /**
+     * Parses the specified value.
+     *
+     * @param aValue
+     *        a value
+     *
+     * @return an <code>int</code> value
+     */
+    private static int parseInt(String aValue) {
+
+        try {
+
+            return Integer.parseInt(aValue);
+
+        } catch (NumberFormatException e) {
+
+            throw createConversionException(aValue, ColumnType.INT, e);
+        }
+    }
+
+    /**
+     * Parses the specified value.
+     *
+     * @param aValue
+     *        a value
+     *
+     * @return a <code>long</code> value
+     */
+    private static long parseLong(String aValue) {
+
+        try {
+
+            return Long.parseLong(aValue);
+
+        } catch (NumberFormatException e) {
+
+            throw createConversionException(aValue, ColumnType.LONG, e);
+        }
+    }
+
+    /**
+     * Parses the specified value.
+     *
+     * @param aValue
+     *        a value
+     *
+     * @return a <code>double</code> value
+     */
+    private static double parseDouble(String aValue) {
+
+        try {
+
+            return Double.parseDouble(aValue);
+
+        } catch (NumberFormatException e) {
+
+            throw createConversionException(aValue, ColumnType.DOUBLE, e);
+        }
+    }
+
+    /**
+     * Creates an exception according to the specified parameters.
+     *
+     * @param aValue
+     *        the value which cannot be converted
+     * @param aType
+     *        the requested column type
+     * @param aCause
+     *        the cause
+     *
+     * @return an exception
+     */
+    private static IllegalArgumentException createConversionException(String aValue, ColumnType aType,
+                                                                      NumberFormatException aCause) {
+
+        String message = "The value \"" + aValue + "\" can't be converted to " + aType + "!";
+        return new IllegalArgumentException(message, aCause);
+    }
+
+}
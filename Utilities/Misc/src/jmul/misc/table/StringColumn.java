@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.misc.table;
+
+
+/**
+ * A column which contains strings. Every distinct string is stored once in a
+ * dictionary and the cells refer to dictionary entries.
+ *
+ * @author Kristian Kutin
+ */
+class StringColumn extends Column {
+
+    /**
+     * The code of an empty cell.
+     */
+    static final int EMPTY_CELL = -1;
+
+    /**
+     * The dictionary indices of all cells.
+     */
+    private final int[] codes;
+
+    /**
+     * All distinct strings.
+     */
+    private final String[] dictionary;
+
+    /**
+     * Creates a new column according to the specified parameters.
+     *
+     * @param someCodes
+     *        the dictionary indices of all cells
+     * @param aDictionary
+     *        all distinct strings
+     */
+    StringColumn(int[] someCodes, String[] aDictionary) {
+
+        super(someCodes.length);
+
+        codes = someCodes;
+        dictionary = aDictionary;
+    }
+
+    /**
+     * Returns the type of this column.
+     *
+     * @return a column type
+     */
+    @Override
+    ColumnType getType() {
+
+        return ColumnType.STRING;
+    }
+
+    /**
+     * Checks if the specified cell is empty.
+     *
+     * @param aRowIndex
+     *        the row index of a cell
+     *
+     * @return <code>true</code> if the cell is empty, else <code>false</code>
+     */
+    @Override
+    boolean isEmpty(int aRowIndex) {
+
+        return codes[aRowIndex] == EMPTY_CELL;
+    }
+
+    /**
+     * Returns the value of the specified cell.
+     *
+     * @param aRowIndex
+     *        the row index of a cell
+     *
+     * @return a cell value or <code>null</code> if the cell is empty
+     */
+    @Override
+    Object getValue(int aRowIndex) {
+
+        return getString(aRowIndex);
+    }
+
+    /**
+     * Returns the value of the specified cell.
+     *
+     * @param aRowIndex
+     *        the row index of a cell
+     *
+     * @return a cell value or <code>null</code> if the cell is empty
+     */
+    @Override
+    String getString(int aRowIndex) {
+
+        int code = codes[aRowIndex];
+
+        if (code == EMPTY_CELL) {
+
+            return null;
+        }
+
+        return dictionary[code];
+    }
+
+}
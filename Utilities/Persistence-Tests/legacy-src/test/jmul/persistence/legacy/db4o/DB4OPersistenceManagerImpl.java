@@ -466,4 +466,15 @@ public class DB4OPersistenceManagerImpl<T> implements PersistenceContainer<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * This index operation is not implemented!
+     *
+     * @param anXpathExpression
+     */
+    @Override
+    public void declareIndex(String anXpathExpression) {
+
+        throw new UnsupportedOperationException();
+    }
+
 }
@@ -0,0 +1,234 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package test.jmul.persistence;
+
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import jmul.persistence.binary.BinaryDocumentReader;
+import jmul.persistence.binary.BinaryDocumentWriter;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+
+/**
+ * This class contains tests to check the binary representation of xml
+ * documents.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class BinaryDocumentTest {
+
+    /**
+     * Tests writing and reading a document with nested elements, attributes,
+     * text nodes and repeated strings.
+     */
+    @Test
+    public void testRoundTrip() {
+
+        Document document = newDocument();
+
+        Element root = document.createElement("object");
+        root.setAttribute("type", "java.lang.String");
+        root.setAttribute("value", "\u00e4\u00f6\u00fc \u20ac");
+        document.appendChild(root);
+
+        for (int a = 0; a < 3; a++) {
+
+            Element child = document.createElement("object");
+            child.setAttribute("type", "java.lang.String");
+            child.setAttribute("value", "value " + a);
+            child.appendChild(document.createTextNode("text"));
+            root.appendChild(child);
+        }
+
+        Document copy = readDocument(writeDocument(document));
+
+        compareNodes(document.getDocumentElement(), copy.getDocumentElement());
+    }
+
+    /**
+     * Tests if the repeated strings of a document are written only once.
+     */
+    @Test
+    public void testStringTable() {
+
+        Document document = newDocument();
+
+        Element root = document.createElement("root");
+        document.appendChild(root);
+
+        String value = "a rather long attribute value which is repeated";
+
+        for (int a = 0; a < 100; a++) {
+
+            Element child = document.createElement("child");
+            child.setAttribute("attribute", value);
+            root.appendChild(child);
+        }
+
+        byte[] bytes = writeDocument(document);
+
+        assertTrue("The repeated strings were not compressed (" + bytes.length + " bytes)!",
+                   bytes.length < 100 * 8 + value.length() * 2);
+    }
+
+    /**
+     * Tests reading a stream which is no binary document.
+     */
+    @Test(expected = IOException.class)
+    public void testInvalidInput() throws IOException {
+
+        BinaryDocumentReader reader = new BinaryDocumentReader();
+        reader.readFrom(new ByteArrayInputStream("<?xml version=\"1.0\"?><root/>".getBytes()));
+    }
+
+    /**
+     * Creates a new empty document.
+     *
+     * @return a document
+     */
+    private static Document newDocument() {
+
+        try {
+
+            return DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+
+        } catch (ParserConfigurationException e) {
+
+            fail(e.getMessage());
+        }
+
+        return null;
+    }
+
+    /**
+     * Writes the specified document.
+     *
+     * @param aDocument
+     *
+     * @return the binary representation
+     */
+    private static byte[] writeDocument(Document aDocument) {
+
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+        try {
+
+            new BinaryDocumentWriter().writeTo(stream, aDocument);
+
+        } catch (IOException e) {
+
+            fail(e.getMessage());
+        }
+
+        return stream.toByteArray();
+    }
+
+    /**
+     * Reads a document.
+     *
+     * @param someBytes
+     *
+     * @return a document
+     */
+    private static Document readDocument(byte[] someBytes) {
+
+        try {
+
+            return new BinaryDocumentReader().readFrom(new ByteArrayInputStream(someBytes));
+
+        } catch (IOException e) {
+
+            fail(e.getMessage());
+        }
+
+        return null;
+    }
+
+    /**
+     * Compares two nodes and their child nodes via assertions.
+     *
+     * @param anExpectedNode
+     * @param aFoundNode
+     */
+    private static void compareNodes(Node anExpectedNode, Node aFoundNode) {
+
+        assertEquals(anExpectedNode.getNodeType(), aFoundNode.getNodeType());
+        assertEquals(anExpectedNode.getNodeName(), aFoundNode.getNodeName());
+        assertEquals(anExpectedNode.getNodeValue(), aFoundNode.getNodeValue());
+
+        if (anExpectedNode instanceof Element) {
+
+            Element expectedElement = (Element) anExpectedNode;
+            Element foundElement = (Element) aFoundNode;
+
+            assertEquals(expectedElement.getAttributes().getLength(), foundElement.getAttributes().getLength());
+
+            for (int a = 0; a < expectedElement.getAttributes().getLength(); a++) {
+
+                String name = expectedElement.getAttributes().item(a).getNodeName();
+                assertEquals(expectedElement.getAttribute(name), foundElement.getAttribute(name));
+            }
+        }
+
+        NodeList expectedChildren = anExpectedNode.getChildNodes();
+        NodeList foundChildren = aFoundNode.getChildNodes();
+
+        assertEquals(expectedChildren.getLength(), foundChildren.getLength());
+
+        for (int a = 0; a < expectedChildren.getLength(); a++) {
+
+            compareNodes(expectedChildren.item(a), foundChildren.item(a));
+        }
+    }
+
+}
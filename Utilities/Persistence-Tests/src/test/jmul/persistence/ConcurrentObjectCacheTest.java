@@ -0,0 +1,462 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package test.jmul.persistence;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jmul.misc.id.ID;
+import jmul.misc.id.StringID;
+
+import jmul.persistence.cache.ConcurrentObjectCacheImpl;
+import jmul.persistence.cache.LeastRecentlyUsedPolicy;
+import jmul.persistence.cache.ObjectLoader;
+import jmul.persistence.cache.ObjectLoadingException;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+
+/**
+ * This class contains tests to check the concurrent object cache.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class ConcurrentObjectCacheTest {
+
+    /**
+     * Tests if concurrent requests for the same object load the object only
+     * once.
+     *
+     * @throws InterruptedException
+     *         is thrown if the test is interrupted
+     */
+    @Test
+    public void testSingleLoad() throws InterruptedException {
+
+        ConcurrentObjectCacheImpl<String> cache = new ConcurrentObjectCacheImpl<>();
+        ID id = new StringID("id");
+        CountingLoader loader = new CountingLoader();
+        CountDownLatch startSignal = new CountDownLatch(1);
+
+        Collection<LoadingThread> threads = new ArrayList<>();
+
+        for (int a = 0; a < 16; a++) {
+
+            LoadingThread thread = new LoadingThread(cache, id, loader, startSignal);
+            threads.add(thread);
+            thread.start();
+        }
+
+        startSignal.countDown();
+
+        for (LoadingThread thread : threads) {
+
+            thread.join();
+        }
+
+        assertEquals(1, loader.getInvocations());
+
+        Object expectedObject = cache.getObject(id);
+
+        for (LoadingThread thread : threads) {
+
+            assertSame(expectedObject, thread.getResult());
+        }
+
+        cache.clear();
+    }
+
+    /**
+     * Tests if a failed load is reported and not cached.
+     */
+    @Test
+    public void testFailedLoad() {
+
+        ConcurrentObjectCacheImpl<String> cache = new ConcurrentObjectCacheImpl<>();
+        ID id = new StringID("failure");
+
+        try {
+
+            cache.getObject(id, new CountingLoader());
+            fail("Loading the object should have failed!");
+
+        } catch (ObjectLoadingException e) {
+
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+
+        assertFalse(cache.existsID(id));
+    }
+
+    /**
+     * Tests the methods with declared types.
+     */
+    @Test
+    public void testDeclaredTypes() {
+
+        ConcurrentObjectCacheImpl<Object> cache = new ConcurrentObjectCacheImpl<>();
+        ID id = new StringID("id");
+        String object = "object";
+
+        cache.addObject(id, object, CharSequence.class);
+
+        assertEquals(CharSequence.class, cache.getDeclaredType(id));
+        assertEquals(id, cache.getID(object, CharSequence.class));
+        assertNull(cache.getID(object, String.class));
+        assertTrue(cache.existsObject(object, CharSequence.class));
+        assertFalse(cache.existsObject(object, String.class));
+
+        cache.removeObject(id);
+
+        assertNull(cache.getDeclaredType(id));
+        assertFalse(cache.existsObject(object));
+    }
+
+    /**
+     * Tests removing objects while they are added. A removed object must not
+     * leave its ID behind.
+     *
+     * @throws InterruptedException
+     *         is thrown if the test is interrupted
+     */
+    @Test
+    public void testRemovalDuringAdd() throws InterruptedException {
+
+        final ConcurrentObjectCacheImpl<String> cache = new ConcurrentObjectCacheImpl<>();
+        final int count = 20000;
+
+        Thread adder = new Thread() {
+
+            @Override
+            public void run() {
+
+                for (int a = 0; a < count; a++) {
+
+                    cache.addObject(new StringID("id" + a), "object" + a);
+                }
+            }
+        };
+
+        Thread remover = new Thread() {
+
+            @Override
+            public void run() {
+
+                for (int a = 0; a < count; a++) {
+
+                    ID id = new StringID("id" + a);
+
+                    while (!cache.existsID(id)) {
+
+                        Thread.yield();
+                    }
+
+                    cache.removeObject(id);
+                }
+            }
+        };
+
+        adder.start();
+        remover.start();
+        adder.join();
+        remover.join();
+
+        assertEquals(0, cache.size());
+
+        for (int a = 0; a < count; a++) {
+
+            assertFalse(cache.existsObject("object" + a));
+        }
+    }
+
+    /**
+     * Tests the eviction of the least recently used object.
+     */
+    @Test
+    public void testLeastRecentlyUsedEviction() {
+
+        ConcurrentObjectCacheImpl<String> cache = new ConcurrentObjectCacheImpl<>(3, new LeastRecentlyUsedPolicy());
+
+        ID id1 = new StringID("id1");
+        ID id2 = new StringID("id2");
+        ID id3 = new StringID("id3");
+        ID id4 = new StringID("id4");
+
+        cache.addObject(id1, "object1");
+        cache.addObject(id2, "object2");
+        cache.addObject(id3, "object3");
+
+        cache.getObject(id1);
+
+        cache.addObject(id4, "object4");
+
+        assertEquals(3, cache.size());
+        assertTrue(cache.existsID(id1));
+        assertFalse(cache.existsID(id2));
+        assertFalse(cache.existsObject("object2"));
+        assertTrue(cache.existsID(id3));
+        assertTrue(cache.existsID(id4));
+
+
+        // A removed object is not selected for eviction any more.
+
+        cache.removeObject(id3);
+        cache.addObject(id2, "object2");
+        cache.addObject(new StringID("id5"), "object5");
+
+        assertEquals(3, cache.size());
+        assertFalse(cache.existsID(id1));
+        assertTrue(cache.existsID(id2));
+        assertTrue(cache.existsID(id4));
+
+        cache.clear();
+    }
+
+    /**
+     * Tests the eviction while several threads add objects concurrently.
+     *
+     * @throws InterruptedException
+     *         is thrown if the test is interrupted
+     */
+    @Test
+    public void testConcurrentEviction() throws InterruptedException {
+
+        final ConcurrentObjectCacheImpl<String> cache =
+            new ConcurrentObjectCacheImpl<>(10, new LeastRecentlyUsedPolicy());
+        Collection<Thread> threads = new ArrayList<>();
+
+        for (int a = 0; a < 4; a++) {
+
+            final int offset = a * 1000;
+
+            Thread thread = new Thread() {
+
+                @Override
+                public void run() {
+
+                    for (int b = 0; b < 1000; b++) {
+
+                        cache.addObject(new StringID("id" + (offset + b)), "object" + (offset + b));
+                    }
+                }
+            };
+
+            threads.add(thread);
+            thread.start();
+        }
+
+        for (Thread thread : threads) {
+
+            thread.join();
+        }
+
+        assertEquals(10, cache.size());
+
+        cache.clear();
+    }
+
+    /**
+     * Tests adding an object with an ID which is already in use.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicateID() {
+
+        ConcurrentObjectCacheImpl<String> cache = new ConcurrentObjectCacheImpl<>();
+        ID id = new StringID("id");
+
+        try {
+
+            cache.addObject(id, "object1");
+            cache.addObject(id, "object2");
+
+        } finally {
+
+            cache.clear();
+        }
+    }
+
+}
+
+
+/**
+ * A loader which counts its invocations. The ID <code>failure</code> causes an
+ * exception.
+ *
+ * @author Kristian Kutin
+ */
+class CountingLoader implements ObjectLoader<String> {
+
+    /**
+     * The number of invocations.
+     */
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    /**
+     * Loads the object which is associated with the specified ID.
+     *
+     * @param anID
+     *        an ID
+     *
+     * @return the loaded object
+     *
+     * @throws InterruptedException
+     *         is thrown if the loader is interrupted
+     */
+    @Override
+    public String loadObject(ID anID) throws InterruptedException {
+
+        invocations.incrementAndGet();
+
+        if ("failure".equals(anID.toString())) {
+
+            throw new IllegalStateException();
+        }
+
+        // Simulate a slow load.
+        Thread.sleep(100L);
+
+        return new String("object " + anID);
+    }
+
+    /**
+     * Returns the number of invocations.
+     *
+     * @return the number of invocations
+     */
+    public int getInvocations() {
+
+        return invocations.get();
+    }
+
+}
+
+
+/**
+ * A thread which requests an object from a cache.
+ *
+ * @author Kristian Kutin
+ */
+class LoadingThread extends Thread {
+
+    /**
+     * A cache.
+     */
+    private final ConcurrentObjectCacheImpl<String> cache;
+
+    /**
+     * The id of the requested object.
+     */
+    private final ID id;
+
+    /**
+     * A loader.
+     */
+    private final ObjectLoader<String> loader;
+
+    /**
+     * A signal to start all threads at the same time.
+     */
+    private final CountDownLatch startSignal;
+
+    /**
+     * The requested object.
+     */
+    private volatile String result;
+
+    /**
+     * Constructs a thread.
+     *
+     * @param aCache
+     *        a cache
+     * @param anID
+     *        the id of the requested object
+     * @param aLoader
+     *        a loader
+     * @param aStartSignal
+     *        a signal to start all threads at the same time
+     */
+    LoadingThread(ConcurrentObjectCacheImpl<String> aCache, ID anID, ObjectLoader<String> aLoader,
+                  CountDownLatch aStartSignal) {
+
+        cache = aCache;
+        id = anID;
+        loader = aLoader;
+        startSignal = aStartSignal;
+    }
+
+    /**
+     * The method implements the thread logic.
+     */
+    @Override
+    public void run() {
+
+        try {
+
+            startSignal.await();
+            result = cache.getObject(id, loader);
+
+        } catch (InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+
+        } catch (ObjectLoadingException e) {
+
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the requested object.
+     *
+     * @return an object
+     */
+    public String getResult() {
+
+        return result;
+    }
+
+}
@@ -0,0 +1,210 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package test.jmul.persistence;
+
+
+import java.io.File;
+import java.io.IOException;
+
+import jmul.persistence.file.FileManager;
+
+import jmul.test.classification.ModuleTest;
+
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * This class contains tests to check the index of a file manager.
+ *
+ * @author Kristian Kutin
+ */
+@ModuleTest
+public class FileManagerIndexTest extends FileManagerTestBase {
+
+    /**
+     * A base directory for tests.
+     */
+    private static final String BASEDIR = ROOT_DIRECTORY + "File-Manager5";
+
+    /**
+     * A file manager.
+     */
+    private FileManager fileManager;
+
+    /**
+     * Preparations before a test.
+     */
+    @Before
+    public void setUp() {
+
+        initBaseDirectory(BASEDIR);
+        fileManager = initFileManager(BASEDIR);
+    }
+
+    /**
+     * Cleanup after a test.
+     */
+    @After
+    public void tearDown() {
+
+        fileManager.shutdown();
+        fileManager = null;
+    }
+
+    /**
+     * Tests creating, looking up and deleting a file.
+     *
+     * @throws IOException
+     *         is thrown if a file cannot be created
+     */
+    @Test
+    public void testFileLifecycle() throws IOException {
+
+        assertFalse(fileManager.existsFile("Test"));
+
+        File file = fileManager.newFile("Test");
+        assertTrue(fileManager.existsFile("Test"));
+
+        assertTrue(file.createNewFile());
+        assertTrue(fileManager.existsFile("Test"));
+        assertEquals(file.getCanonicalPath(), fileManager.getFile("Test").getCanonicalPath());
+
+        fileManager.deleteFile("Test");
+        assertFalse(file.exists());
+        assertFalse(fileManager.existsFile("Test"));
+        assertNull(fileManager.getFile("Test"));
+    }
+
+    /**
+     * Tests if the index is built from existing files.
+     *
+     * @throws IOException
+     *         is thrown if a file cannot be created
+     */
+    @Test
+    public void testExistingFiles() throws IOException {
+
+        File file = fileManager.newFile("Test");
+        assertTrue(file.createNewFile());
+
+        FileManager secondFileManager = initFileManager(BASEDIR);
+
+        try {
+
+            assertTrue(secondFileManager.existsFile("Test"));
+            assertNotNull(secondFileManager.getFile("Test"));
+
+        } finally {
+
+            secondFileManager.shutdown();
+        }
+    }
+
+    /**
+     * Tests if a stale index is rebuilt.
+     *
+     * @throws IOException
+     *         is thrown if a file cannot be created
+     */
+    @Test
+    public void testStaleIndex() throws IOException {
+
+        File file = fileManager.newFile("Test");
+        assertTrue(file.createNewFile());
+        assertTrue(fileManager.existsFile("Test"));
+
+        FileManager secondFileManager = initFileManager(BASEDIR);
+
+        try {
+
+            // A file which was deleted by someone else.
+            secondFileManager.deleteFile("Test");
+            assertFalse(fileManager.existsFile("Test"));
+
+            // A file which was created by someone else.
+            File otherFile = secondFileManager.newFile("Other");
+            assertTrue(otherFile.createNewFile());
+            assertNotNull(fileManager.getFile("Other"));
+            assertTrue(fileManager.existsFile("Other"));
+
+        } finally {
+
+            secondFileManager.shutdown();
+        }
+    }
+
+    /**
+     * Tests if a stale index is detected when the existence of a file is
+     * checked before the file is looked up.
+     *
+     * @throws IOException
+     *         is thrown if a file cannot be created
+     */
+    @Test
+    public void testStaleIndexExistsFirst() throws IOException {
+
+        File file = fileManager.newFile("Test");
+        assertTrue(file.createNewFile());
+        assertNotNull(fileManager.getFile("Test"));
+
+        FileManager secondFileManager = initFileManager(BASEDIR);
+
+        try {
+
+            // A file which was deleted by someone else.
+            secondFileManager.deleteFile("Test");
+            assertFalse(fileManager.existsFile("Test"));
+            assertNull(fileManager.getFile("Test"));
+
+            // A file which was created by someone else.
+            File otherFile = secondFileManager.newFile("Other");
+            assertTrue(otherFile.createNewFile());
+            assertTrue(fileManager.existsFile("Other"));
+            assertEquals(otherFile.getCanonicalPath(), fileManager.getFile("Other").getCanonicalPath());
+
+        } finally {
+
+            secondFileManager.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,391 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package test.jmul.persistence;
+
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jmul.concurrent.threads.ThreadHelper;
+
+import jmul.misc.id.ID;
+import jmul.misc.id.StringID;
+
+import jmul.persistence.cache.ExpirationListener;
+import jmul.persistence.cache.ExpirationMonitor;
+import jmul.persistence.cache.ExpirationScheduler;
+import jmul.persistence.cache.LeastFrequentlyUsedPolicy;
+import jmul.persistence.cache.LeastRecentlyUsedPolicy;
+import jmul.persistence.cache.ObjectCacheImpl;
+import jmul.persistence.cache.TimerWheelImpl;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+
+/**
+ * This class contains tests to check the expiration and eviction of cached
+ * objects.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class ObjectCacheTest {
+
+    /**
+     * The tick duration of the timer wheel (in milliseconds).
+     */
+    private static final long TICK_DURATION = 50L;
+
+    /**
+     * The expiration interval (in milliseconds).
+     */
+    private static final long EXPIRATION_INTERVAL = 300L;
+
+    /**
+     * A time after which an object is expected to be expired (in milliseconds).
+     */
+    private static final long WAIT_TIME = EXPIRATION_INTERVAL + 4 * TICK_DURATION;
+
+    /**
+     * Tests if cached objects expire and if the timer wheel stops when no
+     * objects are left.
+     */
+    @Test
+    public void testExpiration() {
+
+        ExpirationScheduler scheduler = new TimerWheelImpl(TICK_DURATION, EXPIRATION_INTERVAL);
+        ObjectCacheImpl<String> cache = new ObjectCacheImpl<>(scheduler, ObjectCacheImpl.UNLIMITED, null);
+
+        for (int a = 0; a < 100; a++) {
+
+            cache.addObject(new StringID("id" + a), "object" + a);
+        }
+
+        assertEquals(100, cache.size());
+        assertEquals(100, scheduler.size());
+
+        ThreadHelper.sleep(WAIT_TIME);
+
+        assertEquals(0, cache.size());
+        assertEquals(0, scheduler.size());
+
+        // The timer wheel must restart after it became idle.
+        cache.addObject(new StringID("late"), "late object");
+        assertTrue(cache.existsID(new StringID("late")));
+
+        ThreadHelper.sleep(WAIT_TIME);
+
+        assertFalse(cache.existsID(new StringID("late")));
+    }
+
+    /**
+     * Tests if delaying an expiration keeps an object in the cache.
+     */
+    @Test
+    public void testDelayExpiration() {
+
+        ExpirationScheduler scheduler = new TimerWheelImpl(TICK_DURATION, EXPIRATION_INTERVAL);
+        ObjectCacheImpl<String> cache = new ObjectCacheImpl<>(scheduler, ObjectCacheImpl.UNLIMITED, null);
+
+        ID id = new StringID("id");
+        cache.addObject(id, "object");
+
+        ExpirationListenerStub listener = new ExpirationListenerStub();
+        ExpirationMonitor monitor = scheduler.schedule(new StringID("monitored"), listener);
+
+        for (int a = 0; a < 6; a++) {
+
+            ThreadHelper.sleep(EXPIRATION_INTERVAL / 2);
+            monitor.delayExpiration();
+        }
+
+        assertFalse(cache.existsID(id));
+        assertEquals(0, listener.getNotifications());
+
+        ThreadHelper.sleep(WAIT_TIME);
+
+        assertEquals(1, listener.getNotifications());
+    }
+
+    /**
+     * Tests if removing an object cancels its expiration monitor.
+     */
+    @Test
+    public void testRemoveObject() {
+
+        ExpirationScheduler scheduler = new TimerWheelImpl(TICK_DURATION, EXPIRATION_INTERVAL);
+        ObjectCacheImpl<String> cache = new ObjectCacheImpl<>(scheduler, ObjectCacheImpl.UNLIMITED, null);
+
+        ID id = new StringID("id");
+        cache.addObject(id, "object");
+        cache.removeObject(id);
+
+        assertFalse(cache.existsID(id));
+        assertFalse(cache.existsObject("object"));
+        assertEquals(0, scheduler.size());
+    }
+
+    /**
+     * Tests the eviction of the least recently used object.
+     */
+    @Test
+    public void testLeastRecentlyUsedEviction() {
+
+        ObjectCacheImpl<String> cache = new ObjectCacheImpl<>(3, new LeastRecentlyUsedPolicy());
+
+        ID id1 = new StringID("id1");
+        ID id2 = new StringID("id2");
+        ID id3 = new StringID("id3");
+        ID id4 = new StringID("id4");
+
+        cache.addObject(id1, "object1");
+        cache.addObject(id2, "object2");
+        cache.addObject(id3, "object3");
+
+        cache.getObject(id1);
+
+        cache.addObject(id4, "object4");
+
+        assertEquals(3, cache.size());
+        assertTrue(cache.existsID(id1));
+        assertFalse(cache.existsID(id2));
+        assertFalse(cache.existsObject("object2"));
+        assertTrue(cache.existsID(id3));
+        assertTrue(cache.existsID(id4));
+
+        cache.clear();
+    }
+
+    /**
+     * Tests the eviction of the least frequently used object.
+     */
+    @Test
+    public void testLeastFrequentlyUsedEviction() {
+
+        ObjectCacheImpl<String> cache = new ObjectCacheImpl<>(3, new LeastFrequentlyUsedPolicy());
+
+        ID id1 = new StringID("id1");
+        ID id2 = new StringID("id2");
+        ID id3 = new StringID("id3");
+        ID id4 = new StringID("id4");
+
+        cache.addObject(id1, "object1");
+        cache.addObject(id2, "object2");
+        cache.addObject(id3, "object3");
+
+        cache.getObject(id1);
+        cache.getObject(id1);
+        cache.getObject(id2);
+        cache.getObject(id3);
+        cache.getObject(id3);
+
+        cache.addObject(id4, "object4");
+
+        assertEquals(3, cache.size());
+        assertTrue(cache.existsID(id1));
+        assertFalse(cache.existsID(id2));
+        assertTrue(cache.existsID(id3));
+        assertTrue(cache.existsID(id4));
+
+        cache.clear();
+
+        assertEquals(0, cache.size());
+    }
+
+    /**
+     * Tests if a late expiration notification doesn't remove an object which
+     * was added again with the same ID.
+     */
+    @Test
+    public void testLateExpiration() {
+
+        ExpirationSchedulerStub scheduler = new ExpirationSchedulerStub();
+        ObjectCacheImpl<String> cache = new ObjectCacheImpl<>(scheduler, ObjectCacheImpl.UNLIMITED, null);
+
+        ID id = new StringID("id");
+
+        cache.addObject(id, "object1");
+        cache.removeObject(id);
+        cache.addObject(id, "object2");
+
+        scheduler.getListener(0).expirationNotification(id);
+
+        assertTrue(cache.existsID(id));
+        assertTrue(cache.existsObject("object2"));
+
+        scheduler.getListener(1).expirationNotification(id);
+
+        assertFalse(cache.existsID(id));
+        assertFalse(cache.existsObject("object2"));
+
+        cache.clear();
+    }
+
+    /**
+     * Tests the cache with an invalid maximum size.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMaximumSize() {
+
+        new ObjectCacheImpl<String>(0, new LeastRecentlyUsedPolicy());
+    }
+
+}
+
+
+/**
+ * A listener which counts expiration notifications.
+ *
+ * @author Kristian Kutin
+ */
+class ExpirationListenerStub implements ExpirationListener {
+
+    /**
+     * The number of received notifications.
+     */
+    private int notifications;
+
+    /**
+     * With this method the listener is informed about an expiration.
+     *
+     * @param id
+     *        the id of the object which has expired
+     */
+    @Override
+    public synchronized void expirationNotification(ID id) {
+
+        notifications++;
+    }
+
+    /**
+     * Returns the number of received notifications.
+     *
+     * @return the number of notifications
+     */
+    public synchronized int getNotifications() {
+
+        return notifications;
+    }
+
+}
+
+
+/**
+ * A scheduler which records the scheduled listeners. The expiration interval
+ * is long enough that expirations are only triggered by the test.
+ *
+ * @author Kristian Kutin
+ */
+class ExpirationSchedulerStub implements ExpirationScheduler {
+
+    /**
+     * The actual scheduler.
+     */
+    private final ExpirationScheduler scheduler;
+
+    /**
+     * All scheduled listeners.
+     */
+    private final List<ExpirationListener> listeners;
+
+    /**
+     * The default constructor.
+     */
+    ExpirationSchedulerStub() {
+
+        scheduler = new TimerWheelImpl(50L, 600000L);
+        listeners = new ArrayList<>();
+    }
+
+    /**
+     * Records the specified listener.
+     *
+     * @param anID
+     *        the id of the monitored object
+     * @param aListener
+     *        an expiration listener
+     *
+     * @return a new expiration monitor
+     */
+    @Override
+    public synchronized ExpirationMonitor schedule(ID anID, ExpirationListener aListener) {
+
+        listeners.add(aListener);
+
+        return scheduler.schedule(anID, aListener);
+    }
+
+    /**
+     * Cancels the specified expiration monitor.
+     *
+     * @param aMonitor
+     *        an expiration monitor
+     */
+    @Override
+    public void cancel(ExpirationMonitor aMonitor) {
+
+        scheduler.cancel(aMonitor);
+    }
+
+    /**
+     * Returns the number of currently scheduled expiration monitors.
+     *
+     * @return the number of scheduled monitors
+     */
+    @Override
+    public int size() {
+
+        return scheduler.size();
+    }
+
+    /**
+     * Returns the listener which was scheduled at the specified position.
+     *
+     * @param anIndex
+     *        the position of a listener
+     *
+     * @return a listener
+     */
+    public synchronized ExpirationListener getListener(int anIndex) {
+
+        return listeners.get(anIndex);
+    }
+
+}
@@ -0,0 +1,375 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package test.jmul.persistence;
+
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import jmul.misc.id.ID;
+import jmul.misc.id.IDGenerator;
+
+import jmul.persistence.id.StringIDBlockGenerator;
+import jmul.persistence.id.StringIDGenerator;
+
+import static jmul.string.Constants.FILE_SEPARATOR;
+
+import jmul.test.classification.ModuleTest;
+
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * This class contains tests to check the block reserving ID generator.
+ *
+ * @author Kristian Kutin
+ */
+@ModuleTest
+public class StringIDBlockGeneratorTest extends TestBase {
+
+    /**
+     * A base directory for tests.
+     */
+    private static final String BASEDIR = ROOT_DIRECTORY + "ID-Generators2";
+
+    /**
+     * The file where the generated IDs are persisted.
+     */
+    private static final String ID_FILE = BASEDIR + FILE_SEPARATOR + "idtest";
+
+    /**
+     * The file where the IDs of a markov algorithm are persisted.
+     */
+    private static final String MARKOV_ID_FILE = BASEDIR + FILE_SEPARATOR + "markov";
+
+    /**
+     * The number of IDs which are compared.
+     */
+    private static final int ITERATIONS = 3000;
+
+    /**
+     * Preparations before a test.
+     */
+    @Before
+    public void setUp() {
+
+        initBaseDirectory(BASEDIR);
+    }
+
+    /**
+     * Cleanup after a test.
+     */
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Tests if the generator creates the same IDs as the default markov
+     * algorithm (apart from intermediate states).
+     */
+    @Test
+    public void testDefaultSequence() {
+
+        compareSequences(StringIDGenerator.getDefaultGenerator(MARKOV_ID_FILE));
+    }
+
+    /**
+     * Tests if the generator creates the same IDs as the alternative markov
+     * algorithm (apart from intermediate states).
+     */
+    @Test
+    public void testAlternativeSequence() {
+
+        compareSequences(StringIDGenerator.getAlternativeGenerator(MARKOV_ID_FILE));
+    }
+
+    /**
+     * Tests if the generator continues with the correct ID if the ID file was
+     * written by a markov algorithm (i.e. the file may contain an intermediate
+     * state).
+     */
+    @Test
+    public void testContinueMarkovSequence() {
+
+        List<String> markovIDs = generateIDs(StringIDGenerator.getAlternativeGenerator(MARKOV_ID_FILE), ITERATIONS);
+
+        CharsetEncoder encoder = Charset.defaultCharset().newEncoder();
+
+        for (int a = 0; a < markovIDs.size(); a++) {
+
+            // ID files are written with the platform charset, i.e. an intermediate state
+            // which can't be encoded is never persisted.
+            if (!encoder.canEncode(markovIDs.get(a))) {
+
+                continue;
+            }
+
+            String expectedID = null;
+
+            for (int b = a; b < markovIDs.size(); b++) {
+
+                if (isRegularID(markovIDs.get(b))) {
+
+                    expectedID = markovIDs.get(b);
+                    break;
+                }
+            }
+
+            if (expectedID == null) {
+
+                break;
+            }
+
+            writeIDFile(markovIDs.get(a));
+
+            IDGenerator generator = new StringIDBlockGenerator(ID_FILE, 1);
+            String message = "The generator didn't continue correctly after " + markovIDs.get(a) + "!";
+            assertEquals(message, expectedID, generator.generateID().toString());
+        }
+    }
+
+    /**
+     * Tests if a new generator skips all IDs which were reserved by a previous
+     * generator.
+     */
+    @Test
+    public void testReservedBlocks() {
+
+        IDGenerator generator = new StringIDBlockGenerator(ID_FILE, 10);
+        List<String> ids = generateIDs(generator, 15);
+
+        assertEquals("_a0_", ids.get(0));
+        assertEquals("_o0_", ids.get(14));
+
+        generator = new StringIDBlockGenerator(ID_FILE, 10);
+        assertEquals("_u0_", generator.generateID().toString());
+    }
+
+    /**
+     * Tests the generator for ID collisions when IDs are generated
+     * concurrently.
+     */
+    @Test
+    public void testConcurrentGeneration() {
+
+        IDGenerator generator = new StringIDBlockGenerator(ID_FILE, 7);
+
+        int threadCount = 8;
+        int iterations = 1000;
+
+        Collection<GeneratorThread> threads = new ArrayList<>();
+
+        for (int a = 0; a < threadCount; a++) {
+
+            threads.add(new GeneratorThread(generator, iterations));
+        }
+
+        for (GeneratorThread thread : threads) {
+
+            thread.start();
+        }
+
+        Set<ID> allIDs = new HashSet<>();
+
+        for (GeneratorThread thread : threads) {
+
+            try {
+
+                thread.join();
+
+            } catch (InterruptedException e) {
+
+                fail(e.getMessage());
+            }
+
+            allIDs.addAll(thread.getIDs());
+        }
+
+        assertEquals("There were ID collisions!", threadCount * iterations, allIDs.size());
+    }
+
+    /**
+     * Compares the IDs of the specified markov generator and the block
+     * reserving generator.
+     *
+     * @param aMarkovGenerator
+     */
+    private static void compareSequences(IDGenerator aMarkovGenerator) {
+
+        List<String> markovIDs = generateIDs(aMarkovGenerator, ITERATIONS);
+        List<String> expectedIDs = new ArrayList<>();
+
+        for (String id : markovIDs) {
+
+            if (isRegularID(id)) {
+
+                expectedIDs.add(id);
+            }
+        }
+
+        List<String> foundIDs = generateIDs(new StringIDBlockGenerator(ID_FILE), expectedIDs.size());
+
+        assertTrue("The markov algorithm created too few IDs!", expectedIDs.size() > ITERATIONS / 2);
+        assertEquals(expectedIDs, foundIDs);
+    }
+
+    /**
+     * Generates the specified number of IDs.
+     *
+     * @param aGenerator
+     * @param iterations
+     *
+     * @return all generated IDs
+     */
+    private static List<String> generateIDs(IDGenerator aGenerator, int iterations) {
+
+        List<String> ids = new ArrayList<>();
+
+        for (int a = 0; a < iterations; a++) {
+
+            ids.add(aGenerator.generateID().toString());
+        }
+
+        return ids;
+    }
+
+    /**
+     * Checks if the specified ID is no intermediate state of a markov
+     * algorithm.
+     *
+     * @param anID
+     *
+     * @return <code>true</code> if the ID is no intermediate state, else
+     *         <code>false</code>
+     */
+    private static boolean isRegularID(String anID) {
+
+        return anID.matches("_[a-z]?(0|z[0-9]+)_");
+    }
+
+    /**
+     * Writes the specified ID to the ID file.
+     *
+     * @param anID
+     */
+    private static void writeIDFile(String anID) {
+
+        try (BufferedWriter bufferedWriter = new BufferedWriter(new FileWriter(ID_FILE))) {
+
+            bufferedWriter.write(anID);
+            bufferedWriter.newLine();
+
+        } catch (IOException e) {
+
+            fail(e.getMessage());
+        }
+    }
+
+}
+
+
+/**
+ * A thread which generates IDs.
+ *
+ * @author Kristian Kutin
+ */
+class GeneratorThread extends Thread {
+
+    /**
+     * An ID generator.
+     */
+    private final IDGenerator generator;
+
+    /**
+     * The number of IDs which are to be generated.
+     */
+    private final int iterations;
+
+    /**
+     * All generated IDs.
+     */
+    private final Collection<ID> ids;
+
+    /**
+     * Constructs a thread.
+     *
+     * @param aGenerator
+     * @param someIterations
+     */
+    GeneratorThread(IDGenerator aGenerator, int someIterations) {
+
+        generator = aGenerator;
+        iterations = someIterations;
+        ids = new ArrayList<>();
+    }
+
+    /**
+     * Generates IDs.
+     */
+    @Override
+    public void run() {
+
+        for (int a = 0; a < iterations; a++) {
+
+            ids.add(generator.generateID());
+        }
+    }
+
+    /**
+     * Returns all generated IDs.
+     *
+     * @return all generated IDs
+     */
+    public Collection<ID> getIDs() {
+
+        return ids;
+    }
+
+}
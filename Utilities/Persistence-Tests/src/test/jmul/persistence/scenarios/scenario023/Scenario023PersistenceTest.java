@@ -0,0 +1,315 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package test.jmul.persistence.scenarios.scenario023;
+
+
+import java.util.Collection;
+
+import jmul.misc.id.ID;
+
+import jmul.persistence.InvalidIDException;
+import jmul.persistence.InvalidRootNodeException;
+import jmul.persistence.PersistenceContainer;
+import jmul.persistence.PersistenceContainerImpl;
+import jmul.persistence.PersistenceException;
+
+import jmul.test.classification.ModuleTest;
+
+import jmul.xml.query.XPathQuery;
+import jmul.xml.query.XPathRangeQuery;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import test.jmul.datatypes.scenarios.scenario001.Person;
+import test.jmul.persistence.PersistenceTestBase;
+
+
+/**
+ * This class contains tests to check queries which are answered by a secondary
+ * index.
+ *
+ * @author Kristian Kutin
+ */
+@ModuleTest
+public class Scenario023PersistenceTest extends PersistenceTestBase {
+
+    /**
+     * A base directory for tests.
+     */
+    private static final String BASEDIR = ROOT_DIRECTORY + "Serialization\\Scenario-023";
+
+    /**
+     * A base directory for tests with outdated index files.
+     */
+    private static final String BASEDIR2 = ROOT_DIRECTORY + "Serialization\\Scenario-023-2";
+
+    /**
+     * The XPath expression which is indexed.
+     */
+    private static final String XPATH_EXPRESSION = "//object/@value";
+
+    /**
+     * Preparations before this test suite.
+     */
+    @BeforeClass
+    public static void setUp() {
+
+        initBaseDirectory(BASEDIR);
+        initBaseDirectory(BASEDIR2);
+    }
+
+    /**
+     * Cleanup after this test suite.
+     */
+    @AfterClass
+    public static void tearDown() {
+
+    }
+
+    /**
+     * Preparations before a test.
+     */
+    @Before
+    public void setUpTest() {
+
+    }
+
+    /**
+     * Cleanup after a test.
+     */
+    @After
+    public void tearDownTest() {
+
+    }
+
+    /**
+     * Tests querying objects with an index which is built from existing
+     * objects, updated on store, restored after shutdown and updated on
+     * delete.
+     */
+    @Test
+    public void testIndexedQueries() {
+
+        PersistenceContainer<Person> container = new PersistenceContainerImpl<Person>(Person.class, BASEDIR);
+
+        ID johnID = store(container, newPerson("John", "Doe", "1.1.2000", "male"));
+        ID jamesID = store(container, newPerson("James", "Doe", "1.1.2000", "male"));
+
+        container.declareIndex(XPATH_EXPRESSION);
+
+        ID janeID = store(container, newPerson("Jane", "Roe", "1.1.2000", "female"));
+
+        Collection<ID> results = container.findByXpathExpression(new XPathQuery(XPATH_EXPRESSION, "James"));
+        checkResult(results, jamesID);
+
+        results = container.findByXpathExpression(new XPathQuery(XPATH_EXPRESSION, "Jane"));
+        checkResult(results, janeID);
+
+        results = container.findByXpathExpression(new XPathRangeQuery(XPATH_EXPRESSION, "James", "John"));
+        checkResult(results, jamesID, janeID, johnID);
+
+        results = container.findByXpathExpression(new XPathRangeQuery(XPATH_EXPRESSION, "John", "James"));
+        checkResult(results);
+
+        results =
+            container.findByXpathExpression(new XPathQuery(XPATH_EXPRESSION, "Doe"),
+                                            new XPathQuery("//object/@value", "John"));
+        checkResult(results, johnID);
+
+        container.shutdown();
+
+
+        container = new PersistenceContainerImpl<Person>(Person.class, BASEDIR);
+        container.declareIndex(XPATH_EXPRESSION);
+
+        results = container.findByXpathExpression(new XPathQuery(XPATH_EXPRESSION, "Doe"));
+        checkResult(results, jamesID, johnID);
+
+        try {
+
+            container.delete(jamesID);
+
+        } catch (PersistenceException e) {
+
+            fail(e.getMessage());
+
+        } catch (InvalidIDException e) {
+
+            fail(e.getMessage());
+        }
+
+        results = container.findByXpathExpression(new XPathQuery(XPATH_EXPRESSION, "Doe"));
+        checkResult(results, johnID);
+
+        container.shutdown();
+    }
+
+    /**
+     * Tests that an index file is not used if the persisted objects were
+     * modified by a session which didn't declare the index.
+     */
+    @Test
+    public void testOutdatedIndexFile() {
+
+        // The first session declares the index and saves the index file.
+
+        PersistenceContainer<Person> container = new PersistenceContainerImpl<Person>(Person.class, BASEDIR2);
+        container.declareIndex(XPATH_EXPRESSION);
+
+        ID johnID = store(container, newPerson("John", "Doe", "1.1.2000", "male"));
+        ID jamesID = store(container, newPerson("James", "Doe", "1.1.2000", "male"));
+
+        container.shutdown();
+
+
+        // The second session doesn't declare the index and modifies the
+        // persisted objects.
+
+        container = new PersistenceContainerImpl<Person>(Person.class, BASEDIR2);
+
+        ID jackID = store(container, newPerson("Jack", "Doe", "1.1.2000", "male"));
+
+        try {
+
+            container.delete(johnID);
+
+        } catch (PersistenceException e) {
+
+            fail(e.getMessage());
+
+        } catch (InvalidIDException e) {
+
+            fail(e.getMessage());
+        }
+
+        container.shutdown();
+
+
+        // The third session declares the index again.
+
+        container = new PersistenceContainerImpl<Person>(Person.class, BASEDIR2);
+        container.declareIndex(XPATH_EXPRESSION);
+
+        Collection<ID> results = container.findByXpathExpression(new XPathQuery(XPATH_EXPRESSION, "Doe"));
+        checkResult(results, jackID, jamesID);
+
+        container.shutdown();
+
+
+        // The index file of the third session is current.
+
+        container = new PersistenceContainerImpl<Person>(Person.class, BASEDIR2);
+        container.declareIndex(XPATH_EXPRESSION);
+
+        results = container.findByXpathExpression(new XPathQuery(XPATH_EXPRESSION, "Doe"));
+        checkResult(results, jackID, jamesID);
+
+        container.shutdown();
+    }
+
+    /**
+     * Stores the specified person.
+     *
+     * @param aContainer
+     * @param aPerson
+     *
+     * @return the ID of the stored person
+     */
+    private static ID store(PersistenceContainer<Person> aContainer, Person aPerson) {
+
+        try {
+
+            return aContainer.store(aPerson);
+
+        } catch (PersistenceException e) {
+
+            fail(e.getMessage());
+
+        } catch (InvalidRootNodeException e) {
+
+            fail(e.getMessage());
+        }
+
+        return null;
+    }
+
+    /**
+     * Creates a new person according to the specified parameters.
+     *
+     * @param aFirstName
+     * @param aLastName
+     * @param aBirthDate
+     * @param aGender
+     *
+     * @return a new person
+     */
+    private static Person newPerson(String aFirstName, String aLastName, String aBirthDate, String aGender) {
+
+        Person p = new Person();
+        p.setFirstName(aFirstName);
+        p.setLastName(aLastName);
+        p.setBirthDate(aBirthDate);
+        p.setGender(aGender);
+
+        return p;
+    }
+
+    /**
+     * Checks if the specified result collection contains exactly the specified
+     * target IDs.
+     *
+     * @param allResults
+     * @param someTargetIDs
+     */
+    private static void checkResult(Collection<ID> allResults, ID... someTargetIDs) {
+
+        assertTrue("No result collection was specified (null)!", allResults != null);
+        assertEquals("The query didn't return the expected results!", someTargetIDs.length, allResults.size());
+
+        for (ID targetID : someTargetIDs) {
+
+            assertTrue("The result collection doesn't contain the expected target ID",
+                       allResults.contains(targetID));
+        }
+    }
+
+}
@@ -0,0 +1,338 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package test.jmul.persistence.scenarios.scenario024;
+
+
+import java.io.File;
+import java.io.IOException;
+
+import java.util.Collection;
+
+import jmul.misc.id.ID;
+
+import jmul.persistence.InvalidRootNodeException;
+import jmul.persistence.PersistenceContainer;
+import jmul.persistence.PersistenceContainerImpl;
+import jmul.persistence.PersistenceException;
+import jmul.persistence.binary.BinaryDeserializerImpl;
+import jmul.persistence.binary.BinaryDocumentReader;
+import jmul.persistence.binary.BinarySerializerImpl;
+
+import static jmul.string.Constants.FILE_SEPARATOR;
+
+import jmul.test.classification.ModuleTest;
+
+import jmul.xml.query.XPathQuery;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import test.jmul.datatypes.scenarios.scenario001.Person;
+import test.jmul.persistence.PersistenceTestBase;
+
+
+/**
+ * This class contains tests to check the binary serialization of objects and
+ * the migration of existing xml files.
+ *
+ * @author Kristian Kutin
+ */
+@ModuleTest
+public class Scenario024PersistenceTest extends PersistenceTestBase {
+
+    /**
+     * A base directory for tests.
+     */
+    private static final String BASEDIR = ROOT_DIRECTORY + "Serialization\\Scenario-024";
+
+    /**
+     * Preparations before this test suite.
+     */
+    @BeforeClass
+    public static void setUp() {
+
+        initBaseDirectory(BASEDIR);
+    }
+
+    /**
+     * Cleanup after this test suite.
+     */
+    @AfterClass
+    public static void tearDown() {
+
+    }
+
+    /**
+     * Preparations before a test.
+     */
+    @Before
+    public void setUpTest() {
+
+    }
+
+    /**
+     * Cleanup after a test.
+     */
+    @After
+    public void tearDownTest() {
+
+    }
+
+    /**
+     * Tests storing, loading and querying objects in the binary representation
+     * and the migration of an object which was stored as xml.
+     */
+    @Test
+    public void testBinarySerialization() {
+
+        PersistenceContainer<Person> container = new PersistenceContainerImpl<Person>(Person.class, BASEDIR);
+
+        Person legacyPerson = newPerson("John", "Doe", "1.1.2000", "male");
+        ID legacyID = store(container, legacyPerson);
+
+        container.shutdown();
+
+        File legacyFile = findFile(legacyID);
+        assertFalse("The file was not written as xml!", isBinaryFile(legacyFile));
+
+
+        container =
+            new PersistenceContainerImpl<Person>(Person.class, BASEDIR, new BinarySerializerImpl(),
+                                                 new BinaryDeserializerImpl());
+
+        Person person = newPerson("James", "Doe", "2.2.2002", "male");
+        ID id = store(container, person);
+        assertTrue("The file was not written in the binary representation!", isBinaryFile(findFile(id)));
+
+        Person legacyCopy = get(container, legacyID);
+        comparePersons(legacyPerson, legacyCopy);
+
+        legacyCopy.setLastName("Roe");
+
+        try {
+
+            container.commit(legacyCopy);
+
+        } catch (PersistenceException e) {
+
+            fail(e.getMessage());
+
+        } catch (InvalidRootNodeException e) {
+
+            fail(e.getMessage());
+        }
+
+        assertTrue("The xml file was not migrated!", isBinaryFile(legacyFile));
+
+
+        waitForEmptyCache();
+
+        comparePersons(person, get(container, id));
+        comparePersons(legacyCopy, get(container, legacyID));
+
+        Collection<ID> results = container.findByXpathExpression(new XPathQuery("//object/@value", "James"));
+        assertEquals("The query didn't return the expected results!", 1, results.size());
+        assertTrue("The result collection doesn't contain the expected target ID", results.contains(id));
+
+        container.shutdown();
+    }
+
+    /**
+     * Stores the specified person.
+     *
+     * @param aContainer
+     * @param aPerson
+     *
+     * @return the ID of the stored person
+     */
+    private static ID store(PersistenceContainer<Person> aContainer, Person aPerson) {
+
+        try {
+
+            return aContainer.store(aPerson);
+
+        } catch (PersistenceException e) {
+
+            fail(e.getMessage());
+
+        } catch (InvalidRootNodeException e) {
+
+            fail(e.getMessage());
+        }
+
+        return null;
+    }
+
+    /**
+     * Loads the person with the specified ID.
+     *
+     * @param aContainer
+     * @param anID
+     *
+     * @return a person
+     */
+    private static Person get(PersistenceContainer<Person> aContainer, ID anID) {
+
+        try {
+
+            return aContainer.get(anID);
+
+        } catch (PersistenceException e) {
+
+            fail(e.getMessage());
+        }
+
+        return null;
+    }
+
+    /**
+     * Looks up the file of the persisted object with the specified ID.
+     *
+     * @param anID
+     *
+     * @return a file
+     */
+    private static File findFile(ID anID) {
+
+        File directory = new File(BASEDIR + FILE_SEPARATOR + Person.class.getName());
+        File file = findFile(directory, anID.toString() + ".");
+
+        assertTrue("The file of the persisted object couldn't be found!", file != null);
+
+        return file;
+    }
+
+    /**
+     * Looks up a file which starts with the specified prefix.
+     *
+     * @param aDirectory
+     * @param aPrefix
+     *
+     * @return a file or <code>null</code> if no such file exists
+     */
+    private static File findFile(File aDirectory, String aPrefix) {
+
+        File[] files = aDirectory.listFiles();
+
+        if (files == null) {
+
+            return null;
+        }
+
+        for (File file : files) {
+
+            if (file.isDirectory()) {
+
+                File result = findFile(file, aPrefix);
+
+                if (result != null) {
+
+                    return result;
+                }
+
+            } else if (file.getName().startsWith(aPrefix)) {
+
+                return file;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Checks if the specified file contains a binary representation.
+     *
+     * @param aFile
+     *
+     * @return <code>true</code> if the file contains a binary representation,
+     *         else <code>false</code>
+     */
+    private static boolean isBinaryFile(File aFile) {
+
+        try {
+
+            return BinaryDocumentReader.isBinaryFile(aFile);
+
+        } catch (IOException e) {
+
+            fail(e.getMessage());
+        }
+
+        return false;
+    }
+
+    /**
+     * Creates a new person according to the specified parameters.
+     *
+     * @param aFirstName
+     * @param aLastName
+     * @param aBirthDate
+     * @param aGender
+     *
+     * @return a new person
+     */
+    private static Person newPerson(String aFirstName, String aLastName, String aBirthDate, String aGender) {
+
+        Person p = new Person();
+        p.setFirstName(aFirstName);
+        p.setLastName(aLastName);
+        p.setBirthDate(aBirthDate);
+        p.setGender(aGender);
+
+        return p;
+    }
+
+    /**
+     * Compares two persons via assertions.
+     *
+     * @param p1
+     * @param p2
+     */
+    private static void comparePersons(Person p1, Person p2) {
+
+        assertEquals("The persons' first names don't match!", p1.getFirstName(), p2.getFirstName());
+        assertEquals("The persons' last names don't match!", p1.getLastName(), p2.getLastName());
+        assertEquals("The persons' birthdates don't match!", p1.getBirthDate(), p2.getBirthDate());
+        assertEquals("The persons' genders don't match!", p1.getGender(), p2.getGender());
+    }
+
+}
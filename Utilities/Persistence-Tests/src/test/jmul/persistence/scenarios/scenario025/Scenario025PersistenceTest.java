@@ -0,0 +1,591 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package test.jmul.persistence.scenarios.scenario025;
+
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import java.nio.file.Files;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jmul.misc.id.ID;
+import jmul.misc.id.StringID;
+
+import jmul.persistence.InvalidRootNodeException;
+import jmul.persistence.PersistenceContainer;
+import jmul.persistence.PersistenceContainerImpl;
+import jmul.persistence.PersistenceException;
+import jmul.persistence.binary.BinaryDocumentWriter;
+import jmul.persistence.journal.CommitJournal;
+import jmul.persistence.journal.JournalEntry;
+import jmul.persistence.xml.XmlDeserializerImpl;
+import jmul.persistence.xml.XmlSerializerImpl;
+
+import static jmul.string.Constants.FILE_SEPARATOR;
+
+import jmul.test.classification.ModuleTest;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import test.jmul.datatypes.scenarios.scenario001.Person;
+import test.jmul.persistence.PersistenceTestBase;
+
+
+/**
+ * This class contains tests to check the write behind mode and the recovery of
+ * the commit journal.
+ *
+ * @author Kristian Kutin
+ */
+@ModuleTest
+public class Scenario025PersistenceTest extends PersistenceTestBase {
+
+    /**
+     * A base directory for tests.
+     */
+    private static final String BASEDIR = ROOT_DIRECTORY + "Serialization\\Scenario-025";
+
+    /**
+     * The directory of the persistence container.
+     */
+    private static final String CONTAINER_DIRECTORY = BASEDIR + FILE_SEPARATOR + Person.class.getName();
+
+    /**
+     * A flush interval which is long enough that no flush happens during a
+     * test.
+     */
+    private static final long FLUSH_INTERVAL = 600000L;
+
+    /**
+     * Preparations before this test suite.
+     */
+    @BeforeClass
+    public static void setUp() {
+
+        initBaseDirectory(BASEDIR);
+    }
+
+    /**
+     * Cleanup after this test suite.
+     */
+    @AfterClass
+    public static void tearDown() {
+
+    }
+
+    /**
+     * Preparations before a test.
+     */
+    @Before
+    public void setUpTest() {
+
+    }
+
+    /**
+     * Cleanup after a test.
+     */
+    @After
+    public void tearDownTest() {
+
+    }
+
+    /**
+     * Tests if commits are written on flush and on shutdown.
+     */
+    @Test
+    public void testWriteBehind() {
+
+        PersistenceContainerImpl<Person> container = new PersistenceContainerImpl<Person>(Person.class, BASEDIR);
+
+        try {
+
+            container.enableWriteBehind(FLUSH_INTERVAL);
+
+        } catch (PersistenceException e) {
+
+            fail(e.getMessage());
+        }
+
+        Person person = newPerson("John", "Doe", "1.1.2000", "male");
+        ID id = store(container, person);
+        File file = findFile(id);
+
+        person.setLastName("Roe");
+        commit(container, person);
+        person.setLastName("Poe");
+        commit(container, person);
+
+        assertEquals("The commit was written immediately!", "Doe", readPerson(file).getLastName());
+        assertEquals("The pending commit was not returned!", "Poe", get(container, id).getLastName());
+
+        try {
+
+            container.flush();
+
+        } catch (PersistenceException e) {
+
+            fail(e.getMessage());
+        }
+
+        assertEquals("The commit was not written on flush!", "Poe", readPerson(file).getLastName());
+
+        person.setFirstName("Jane");
+        commit(container, person);
+
+        container.shutdown();
+
+        assertEquals("The commit was not written on shutdown!", "Jane", readPerson(file).getFirstName());
+        assertFalse("The commit journal was not removed!", getJournalFile().exists());
+    }
+
+    /**
+     * Tests if commits which happen concurrently to a shutdown are not lost.
+     */
+    @Test
+    public void testCommitDuringShutdown() {
+
+        final PersistenceContainerImpl<Person> container =
+            new PersistenceContainerImpl<Person>(Person.class, BASEDIR);
+
+        try {
+
+            container.enableWriteBehind(FLUSH_INTERVAL);
+
+        } catch (PersistenceException e) {
+
+            fail(e.getMessage());
+        }
+
+        final ID id = store(container, newPerson("Jack", "Doe", "3.3.2003", "male"));
+        File file = findFile(id);
+
+        final AtomicBoolean stopped = new AtomicBoolean(false);
+        final AtomicReference<String> lastCommittedName = new AtomicReference<>();
+        final AtomicReference<Exception> failure = new AtomicReference<>();
+
+        Thread committer = new Thread() {
+
+            @Override
+            public void run() {
+
+                int counter = 0;
+
+                while (!stopped.get()) {
+
+                    String lastName = "Doe-" + counter;
+                    counter++;
+
+                    try {
+
+                        container.commit(id, newPerson("Jack", lastName, "3.3.2003", "male"));
+                        lastCommittedName.set(lastName);
+
+                    } catch (PersistenceException | InvalidRootNodeException e) {
+
+                        failure.set(e);
+                        return;
+                    }
+                }
+            }
+        };
+
+        committer.start();
+
+        while (lastCommittedName.get() == null) {
+
+            Thread.yield();
+        }
+
+        container.shutdown();
+
+        stopped.set(true);
+
+        try {
+
+            committer.join();
+
+        } catch (InterruptedException e) {
+
+            fail(e.getMessage());
+        }
+
+        assertNull("A commit failed!", failure.get());
+        assertEquals("A commit was lost!", lastCommittedName.get(), readPerson(file).getLastName());
+    }
+
+    /**
+     * Tests if a journaled commit is written on the next startup.
+     */
+    @Test
+    public void testJournalRecovery() {
+
+        PersistenceContainer<Person> container = new PersistenceContainerImpl<Person>(Person.class, BASEDIR);
+
+        Person person = newPerson("James", "Doe", "2.2.2002", "male");
+        ID id = store(container, person);
+
+        container.shutdown();
+
+
+        // Simulate a crash after a batch was journaled. The last entry was
+        // not written completely.
+
+        Person journaledPerson = newPerson("James", "Roe", "2.2.2002", "male");
+
+        try {
+
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            new BinaryDocumentWriter().writeTo(buffer, new XmlSerializerImpl().toDocument(journaledPerson));
+
+            CommitJournal journal = new CommitJournal(getJournalFile());
+            journal.append(new JournalEntry(id.toString(), buffer.toByteArray()));
+            journal.sync();
+            journal.close();
+
+            try (FileOutputStream stream = new FileOutputStream(getJournalFile(), true)) {
+
+                stream.write(new byte[] { 0, 0, 0, 5, 1, 2 });
+            }
+
+        } catch (IOException e) {
+
+            fail(e.getMessage());
+        }
+
+
+        container = new PersistenceContainerImpl<Person>(Person.class, BASEDIR);
+
+        assertFalse("The commit journal was not removed!", getJournalFile().exists());
+        assertEquals("The journaled commit was not recovered!", "Roe", readPerson(findFile(id)).getLastName());
+        assertEquals("The journaled commit was not recovered!", "Roe", get(container, id).getLastName());
+
+        container.shutdown();
+    }
+
+    /**
+     * Tests if a commit which returned is recovered on the next startup even
+     * if it was never flushed.
+     */
+    @Test
+    public void testUnflushedCommitRecovery() {
+
+        PersistenceContainerImpl<Person> container = new PersistenceContainerImpl<Person>(Person.class, BASEDIR);
+
+        try {
+
+            container.enableWriteBehind(FLUSH_INTERVAL);
+
+        } catch (PersistenceException e) {
+
+            fail(e.getMessage());
+        }
+
+        Person person = newPerson("Joan", "Doe", "4.4.2004", "female");
+        ID id = store(container, person);
+        File file = findFile(id);
+
+        person.setLastName("Roe");
+        commit(container, person);
+
+
+        // Take a snapshot of the files as they are after the commit returned, i.e.
+        // before the commit was flushed.
+
+        byte[] unflushedFile = null;
+        byte[] journal = null;
+
+        try {
+
+            unflushedFile = Files.readAllBytes(file.toPath());
+            journal = Files.readAllBytes(getJournalFile().toPath());
+
+        } catch (IOException e) {
+
+            fail(e.getMessage());
+        }
+
+        assertEquals("The commit was written immediately!", "Doe", readPerson(file).getLastName());
+
+        container.shutdown();
+
+
+        // Simulate a crash right after the commit returned by restoring the snapshot.
+
+        try {
+
+            Files.write(file.toPath(), unflushedFile);
+            Files.write(getJournalFile().toPath(), journal);
+
+        } catch (IOException e) {
+
+            fail(e.getMessage());
+        }
+
+
+        container = new PersistenceContainerImpl<Person>(Person.class, BASEDIR);
+
+        assertFalse("The commit journal was not removed!", getJournalFile().exists());
+        assertEquals("The unflushed commit was not recovered!", "Roe", readPerson(file).getLastName());
+        assertEquals("The unflushed commit was not recovered!", "Roe", get(container, id).getLastName());
+
+        container.shutdown();
+    }
+
+    /**
+     * Tests if a commit with an unknown ID is rejected in write behind mode.
+     */
+    @Test
+    public void testCommitUnknownID() {
+
+        PersistenceContainerImpl<Person> container = new PersistenceContainerImpl<Person>(Person.class, BASEDIR);
+
+        try {
+
+            container.enableWriteBehind(FLUSH_INTERVAL);
+
+        } catch (PersistenceException e) {
+
+            fail(e.getMessage());
+        }
+
+        try {
+
+            container.commit(new StringID("unknown"), newPerson("Jim", "Doe", "5.5.2005", "male"));
+            fail("A commit with an unknown ID was accepted!");
+
+        } catch (PersistenceException e) {
+
+            // The commit is expected to be rejected.
+
+        } catch (InvalidRootNodeException e) {
+
+            fail(e.getMessage());
+
+        } finally {
+
+            container.shutdown();
+        }
+    }
+
+    /**
+     * Returns the commit journal file.
+     *
+     * @return a file
+     */
+    private static File getJournalFile() {
+
+        return new File(CONTAINER_DIRECTORY + FILE_SEPARATOR + CommitJournal.FILENAME);
+    }
+
+    /**
+     * Stores the specified person.
+     *
+     * @param aContainer
+     * @param aPerson
+     *
+     * @return the ID of the stored person
+     */
+    private static ID store(PersistenceContainer<Person> aContainer, Person aPerson) {
+
+        try {
+
+            return aContainer.store(aPerson);
+
+        } catch (PersistenceException e) {
+
+            fail(e.getMessage());
+
+        } catch (InvalidRootNodeException e) {
+
+            fail(e.getMessage());
+        }
+
+        return null;
+    }
+
+    /**
+     * Commits the specified person.
+     *
+     * @param aContainer
+     * @param aPerson
+     */
+    private static void commit(PersistenceContainer<Person> aContainer, Person aPerson) {
+
+        try {
+
+            aContainer.commit(aPerson);
+
+        } catch (PersistenceException e) {
+
+            fail(e.getMessage());
+
+        } catch (InvalidRootNodeException e) {
+
+            fail(e.getMessage());
+        }
+    }
+
+    /**
+     * Loads the person with the specified ID.
+     *
+     * @param aContainer
+     * @param anID
+     *
+     * @return a person
+     */
+    private static Person get(PersistenceContainer<Person> aContainer, ID anID) {
+
+        try {
+
+            return aContainer.get(anID);
+
+        } catch (PersistenceException e) {
+
+            fail(e.getMessage());
+        }
+
+        return null;
+    }
+
+    /**
+     * Reads a person directly from the specified file.
+     *
+     * @param aFile
+     *
+     * @return a person
+     */
+    private static Person readPerson(File aFile) {
+
+        try {
+
+            return (Person) new XmlDeserializerImpl().deserialize(aFile);
+
+        } catch (IOException e) {
+
+            fail(e.getMessage());
+        }
+
+        return null;
+    }
+
+    /**
+     * Looks up the file of the persisted object with the specified ID.
+     *
+     * @param anID
+     *
+     * @return a file
+     */
+    private static File findFile(ID anID) {
+
+        File file = findFile(new File(CONTAINER_DIRECTORY), anID.toString() + ".");
+
+        assertTrue("The file of the persisted object couldn't be found!", file != null);
+
+        return file;
+    }
+
+    /**
+     * Looks up a file which starts with the specified prefix.
+     *
+     * @param aDirectory
+     * @param aPrefix
+     *
+     * @return a file or <code>null</code> if no such file exists
+     */
+    private static File findFile(File aDirectory, String aPrefix) {
+
+        File[] files = aDirectory.listFiles();
+
+        if (files == null) {
+
+            return null;
+        }
+
+        for (File file : files) {
+
+            if (file.isDirectory()) {
+
+                File result = findFile(file, aPrefix);
+
+                if (result != null) {
+
+                    return result;
+                }
+
+            } else if (file.getName().startsWith(aPrefix)) {
+
+                return file;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Creates a new person according to the specified parameters.
+     *
+     * @param aFirstName
+     * @param aLastName
+     * @param aBirthDate
+     * @param aGender
+     *
+     * @return a new person
+     */
+    private static Person newPerson(String aFirstName, String aLastName, String aBirthDate, String aGender) {
+
+        Person p = new Person();
+        p.setFirstName(aFirstName);
+        p.setLastName(aLastName);
+        p.setBirthDate(aBirthDate);
+        p.setGender(aGender);
+
+        return p;
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.persistence;
+
+
+import jmul.misc.id.ID;
+
+import jmul.persistence.journal.JournalEntry;
+
+import org.w3c.dom.Document;
+
+
+/**
+ * This class represents a commit which has not been written yet (see write
+ * behind mode of {@link PersistenceContainerImpl}). Every commit creates a new
+ * instance, thus a writer can detect if an object was committed again while
+ * its file was written. The state of the object at the time of the commit is
+ * kept as document and in its journaled form.
+ *
+ * @param <T>
+ *        the type of the committed object
+ *
+ * @author Kristian Kutin
+ */
+class PendingCommit<T> {
+
+    /**
+     * The ID of the committed object.
+     */
+    private final ID id;
+
+    /**
+     * The committed object.
+     */
+    private final T object;
+
+    /**
+     * The state of the committed object.
+     */
+    private final Document document;
+
+    /**
+     * The journal entry of the commit.
+     */
+    private final JournalEntry journalEntry;
+
+    /**
+     * Constructs a pending commit.
+     *
+     * @param anID
+     *        the ID of the committed object
+     * @param anObject
+     *        the committed object
+     * @param aDocument
+     *        the state of the committed object
+     * @param aJournalEntry
+     *        the journal entry of the commit
+     */
+    PendingCommit(ID anID, T anObject, Document aDocument, JournalEntry aJournalEntry) {
+
+        id = anID;
+        object = anObject;
+        document = aDocument;
+        journalEntry = aJournalEntry;
+    }
+
+    /**
+     * Returns the ID of the committed object.
+     *
+     * @return an ID
+     */
+    public ID getID() {
+
+        return id;
+    }
+
+    /**
+     * Returns the committed object.
+     *
+     * @return the committed object
+     */
+    public T getObject() {
+
+        return object;
+    }
+
+    /**
+     * Returns the state of the committed object.
+     *
+     * @return a document
+     */
+    public Document getDocument() {
+
+        return document;
+    }
+
+    /**
+     * Returns the journal entry of the commit.
+     *
+     * @return a journal entry
+     */
+    public JournalEntry getJournalEntry() {
+
+        return journalEntry;
+    }
+
+}
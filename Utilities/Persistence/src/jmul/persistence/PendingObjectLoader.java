@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.persistence;
+
+
+import java.util.Map;
+
+import jmul.misc.id.ID;
+
+import jmul.persistence.cache.ObjectLoader;
+
+
+/**
+ * An implementation of an object loader which returns committed objects which
+ * have not been written yet (see write behind mode of
+ * {@link PersistenceContainerImpl}) instead of loading an outdated state from
+ * a file.
+ *
+ * @param <T>
+ *        the type of the loaded objects
+ *
+ * @author Kristian Kutin
+ */
+class PendingObjectLoader<T> implements ObjectLoader<T> {
+
+    /**
+     * All commits which have not been written yet according to the unique
+     * identifiers of the committed objects.
+     */
+    private final Map<String, PendingCommit<T>> pendingCommits;
+
+    /**
+     * The object loader which loads objects from files.
+     */
+    private final ObjectLoader<T> loader;
+
+    /**
+     * Constructs an object loader.
+     *
+     * @param somePendingCommits
+     *        all commits which have not been written yet
+     * @param aLoader
+     *        the object loader which loads objects from files
+     */
+    PendingObjectLoader(Map<String, PendingCommit<T>> somePendingCommits, ObjectLoader<T> aLoader) {
+
+        pendingCommits = somePendingCommits;
+        loader = aLoader;
+    }
+
+    /**
+     * Loads the object which is associated with the specified ID.
+     *
+     * @param anID
+     *        the ID of a persisted object
+     *
+     * @return the loaded object
+     *
+     * @throws Exception
+     *         the exception is thrown if the object cannot be loaded
+     */
+    @Override
+    public T loadObject(ID anID) throws Exception {
+
+        PendingCommit<T> commit = pendingCommits.get(anID.toString());
+
+        if (commit != null) {
+
+            return commit.getObject();
+        }
+
+        return loader.loadObject(anID);
+    }
+
+}
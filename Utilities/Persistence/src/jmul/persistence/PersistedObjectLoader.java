@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.persistence;
+
+
+import java.io.File;
+import java.io.IOException;
+
+import jmul.io.deserialization.Deserializer;
+
+import jmul.misc.id.ID;
+
+import jmul.persistence.cache.ObjectLoader;
+import jmul.persistence.file.FileManager;
+
+import jmul.string.TextHelper;
+
+
+/**
+ * An implementation of an object loader which deserializes persisted objects
+ * from the files of a persistence container.
+ *
+ * @param <T>
+ *        the type of the loaded objects
+ *
+ * @author Kristian Kutin
+ */
+public class PersistedObjectLoader<T> implements ObjectLoader<T> {
+
+    /**
+     * The type of the loaded objects.
+     */
+    private final Class<T> type;
+
+    /**
+     * The file manager which knows where an object is stored.
+     */
+    private final FileManager fileManager;
+
+    /**
+     * The deserializer which reads the persisted objects.
+     */
+    private final Deserializer deserializer;
+
+    /**
+     * Constructs an object loader.
+     *
+     * @param aType
+     *        the type of the loaded objects
+     * @param aFileManager
+     *        the file manager which knows where an object is stored
+     * @param aDeserializer
+     *        the deserializer which reads the persisted objects
+     */
+    public PersistedObjectLoader(Class<T> aType, FileManager aFileManager, Deserializer aDeserializer) {
+
+        type = aType;
+        fileManager = aFileManager;
+        deserializer = aDeserializer;
+    }
+
+    /**
+     * Loads the object which is associated with the specified ID.
+     *
+     * @param anID
+     *        an ID
+     *
+     * @return the loaded object
+     *
+     * @throws PersistenceException
+     *         the exception is thrown if no object is associated with the
+     *         specified ID, if the deserialization failed or if the persisted
+     *         object has an unexpected type
+     */
+    @Override
+    public T loadObject(ID anID) throws PersistenceException {
+
+        if (!fileManager.existsFile(anID.toString())) {
+
+            String message = "There is not object associated with the specified ID!";
+            throw new PersistenceException(message);
+        }
+
+
+        // Deserialize the object now.
+
+        File file = fileManager.getFile(anID.toString());
+
+        Object object;
+
+        try {
+
+            object = deserializer.deserialize(file);
+
+        } catch (IOException e) {
+
+            String message =
+                TextHelper.concatenateStrings("Deserialization of an object (", file.getName(),
+                                              " -> X) was not successful!");
+            throw new PersistenceException(message, e);
+        }
+
+        if (!type.isInstance(object)) {
+
+            String message =
+                TextHelper.concatenateStrings("The persisted object (", file.getName(), ") is no instance of ",
+                                              type.getName(), "!");
+            throw new PersistenceException(message);
+        }
+
+        return type.cast(object);
+    }
+
+}
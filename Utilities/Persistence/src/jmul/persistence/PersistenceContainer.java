@@ -165,4 +165,14 @@ public interface PersistenceContainer<T> {
      */
     Collection<ID> findByXpathExpression(XPathQuery... someQueries);
 
+    /**
+     * Declares a secondary index on the specified XPath expression. Queries on
+     * this XPath expression (see {@link #findByXpathExpression}) will be
+     * answered by the index without reading all datafiles.
+     *
+     * @param anXpathExpression
+     *        an XPath expression
+     */
+    void declareIndex(String anXpathExpression);
+
 }
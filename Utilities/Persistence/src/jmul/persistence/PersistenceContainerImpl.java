@@ -34,13 +34,25 @@
 package jmul.persistence;
 
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
-import jmul.io.FileDeletionHelper;
 import jmul.io.deserialization.Deserializer;
 import jmul.io.serialization.Serializer;
 
@@ -48,11 +60,22 @@ import jmul.misc.id.ID;
 import jmul.misc.id.IDGenerator;
 import jmul.misc.id.StringID;
 
+import jmul.persistence.binary.BinaryDocumentReader;
+import jmul.persistence.binary.BinaryDocumentWriter;
+import jmul.persistence.binary.PersistedDocumentReader;
+import jmul.persistence.cache.ConcurrentObjectCacheImpl;
 import jmul.persistence.cache.ObjectCache;
-import jmul.persistence.cache.ObjectCacheImpl;
+import jmul.persistence.cache.ObjectLoader;
+import jmul.persistence.cache.ObjectLoadingException;
 import jmul.persistence.file.FileManager;
 import jmul.persistence.file.FileManagerImpl;
-import jmul.persistence.id.StringIDGenerator;
+import jmul.persistence.file.XPathFilter;
+import jmul.persistence.id.StringIDBlockGenerator;
+import jmul.persistence.index.XPathIndex;
+import jmul.persistence.index.XPathIndexImpl;
+import jmul.persistence.journal.CommitJournal;
+import jmul.persistence.journal.JournalEntry;
+import jmul.persistence.xml.DocumentSerializer;
 import jmul.persistence.xml.XmlDeserializerImpl;
 import jmul.persistence.xml.XmlSerializerImpl;
 
@@ -61,6 +84,11 @@ import jmul.string.TextHelper;
 import jmul.transformation.xml.annotations.RootNode;
 
 import jmul.xml.query.XPathQuery;
+import jmul.xml.reader.XmlDocumentReader;
+
+import org.w3c.dom.Document;
+
+import org.xml.sax.SAXException;
 
 
 /**
@@ -71,11 +99,20 @@ import jmul.xml.query.XPathQuery;
  *   <li>The persistance manager only handles one type of objects.</li>
  *   <li>The persistence manager stores all persisted objects within a specified
  *     directory.</li>
- *   <li>Every persisted object is saved in an xml file.</li>
+ *   <li>Every persisted object is saved in a file. By default the file
+ *     contains xml. Another format can be specified with a serializer and
+ *     deserializer (e.g. {@link jmul.persistence.binary.BinarySerializerImpl}
+ *     and {@link jmul.persistence.binary.BinaryDeserializerImpl}).</li>
  *   <li>The id of a persisted object is used as filename</li>
  * </ul>
  * Thus searching, loading and storing specific objects is partly delegated to
- * the filesystem.<br>
+ * the filesystem. Searches on XPath expressions which are frequently queried
+ * can be accelerated by declaring a secondary index (see
+ * {@link #declareIndex}).<br>
+ * <br>
+ * Objects which are committed frequently can be written in the background
+ * (see {@link #enableWriteBehind}). Repeated commits of an object are
+ * coalesced and only the last state is written.<br>
  * <br>
  * <i>More informations:</i><br>
  * <ul>
@@ -94,11 +131,32 @@ public class PersistenceContainerImpl<T> implements PersistenceContainer<T> {
      */
     private static final String FILE_SEPARATOR = System.getProperty("file.separator");
 
+    /**
+     * The prefix of an index file.
+     */
+    private static final String INDEX_FILE_PREFIX = "xpath-index-";
+
+    /**
+     * The suffix of an index file.
+     */
+    private static final String INDEX_FILE_SUFFIX = ".idx";
+
+    /**
+     * The name of the file which contains the store stamp.
+     */
+    private static final String STORE_STAMP_FILENAME = "xpath-index.stamp";
+
     /**
      * The expected type.
      */
     private final Class<T> expectedType;
 
+    /**
+     * The base directory where the persisted objects of this container are
+     * stored.
+     */
+    private final String baseDirectory;
+
     /**
      * An id generator.
      */
@@ -115,7 +173,77 @@ public class PersistenceContainerImpl<T> implements PersistenceContainer<T> {
     private FileManager fileManager;
 
     /**
-     * Constructs a persistence manager.
+     * Loads objects which don't reside in the cache.
+     */
+    private ObjectLoader<T> objectLoader;
+
+    /**
+     * The serializer which writes persisted objects.
+     */
+    private final Serializer serializer;
+
+    /**
+     * All declared secondary indexes according to their XPath expressions.
+     */
+    private final Map<String, XPathIndex> indexes;
+
+    /**
+     * A stamp which identifies the current state of the persisted objects. The
+     * stamp is changed once per session before the first modification. Index
+     * files are saved with the stamp and are only loaded if the stamp is still
+     * the same.
+     */
+    private long storeStamp;
+
+    /**
+     * A flag which indicates whether the store stamp has been changed during
+     * this session.
+     */
+    private volatile boolean storeStampChanged;
+
+    /**
+     * All commits which have not been written yet according to the unique
+     * identifiers of the committed objects (write behind mode only).
+     */
+    private final Map<String, PendingCommit<T>> pendingCommits;
+
+    /**
+     * A monitor which synchronizes writing pending commits with deletions.
+     */
+    private final Object flushLock;
+
+    /**
+     * A journal which records pending commits before the commits return
+     * (write behind mode only).
+     */
+    private CommitJournal journal;
+
+    /**
+     * A monitor which makes sure that the order of the journal entries matches
+     * the order of the pending commits and that the journal is rewritten
+     * consistently.
+     */
+    private final Object journalLock;
+
+    /**
+     * A thread which writes pending commits periodically (write behind mode
+     * only).
+     */
+    private volatile WriteBehindThread writeBehindThread;
+
+    /**
+     * A lock which makes sure that no commit becomes pending after the write
+     * behind mode has been disabled (i.e. commits hold the read lock while
+     * they add a pending commit, shutdown holds the write lock while it
+     * disables the write behind mode and writes the remaining commits).
+     */
+    private final ReadWriteLock writeBehindLock;
+
+    /**
+     * Constructs a persistence manager. The number of cached objects is not
+     * limited, i.e. loaded objects are only removed from the cache when they
+     * expire (see {@link ConcurrentObjectCacheImpl} for a cache with an
+     * eviction policy).
      *
      * @param aType
      *        this persistence manager will only handle objects of this
@@ -125,20 +253,408 @@ public class PersistenceContainerImpl<T> implements PersistenceContainer<T> {
      */
     public PersistenceContainerImpl(Class<T> aType, String aBaseDirectory) {
 
+        this(aType, aBaseDirectory, new ConcurrentObjectCacheImpl<T>());
+    }
+
+    /**
+     * Constructs a persistence manager.
+     *
+     * @param aType
+     *        this persistence manager will only handle objects of this
+     *        specified type
+     * @param aBaseDirectory
+     *        the base directory where data is stored
+     * @param aCache
+     *        a cache for loaded objects
+     */
+    public PersistenceContainerImpl(Class<T> aType, String aBaseDirectory, ObjectCache<T> aCache) {
+
+        this(aType, aBaseDirectory, aCache, new XmlSerializerImpl(), new XmlDeserializerImpl());
+    }
+
+    /**
+     * Constructs a persistence manager.
+     *
+     * @param aType
+     *        this persistence manager will only handle objects of this
+     *        specified type
+     * @param aBaseDirectory
+     *        the base directory where data is stored
+     * @param aSerializer
+     *        a serializer which writes persisted objects
+     * @param aDeserializer
+     *        a deserializer which reads persisted objects
+     */
+    public PersistenceContainerImpl(Class<T> aType, String aBaseDirectory, Serializer aSerializer,
+                                    Deserializer aDeserializer) {
+
+        this(aType, aBaseDirectory, new ConcurrentObjectCacheImpl<T>(), aSerializer, aDeserializer);
+    }
+
+    /**
+     * Constructs a persistence manager. The specified serializer and
+     * deserializer are shared by concurrent operations, thus they must be
+     * thread safe.<br>
+     * <br>
+     * <i>XPath queries and secondary indexes require the persisted objects to
+     * be readable as documents, i.e. the serializer should be a
+     * {@link DocumentSerializer}.</i>
+     *
+     * @param aType
+     *        this persistence manager will only handle objects of this
+     *        specified type
+     * @param aBaseDirectory
+     *        the base directory where data is stored
+     * @param aCache
+     *        a cache for loaded objects
+     * @param aSerializer
+     *        a serializer which writes persisted objects
+     * @param aDeserializer
+     *        a deserializer which reads persisted objects
+     */
+    public PersistenceContainerImpl(Class<T> aType, String aBaseDirectory, ObjectCache<T> aCache,
+                                    Serializer aSerializer, Deserializer aDeserializer) {
+
+        if (aSerializer == null) {
+
+            String message = "No serializer has been specified (null)!";
+            throw new IllegalArgumentException(message);
+        }
+
+        if (aDeserializer == null) {
+
+            String message = "No deserializer has been specified (null)!";
+            throw new IllegalArgumentException(message);
+        }
+
+        if (aCache == null) {
+
+            String message = "No object cache has been specified (null)!";
+            throw new IllegalArgumentException(message);
+        }
+
         expectedType = aType;
 
-        String baseDirectory = aBaseDirectory + FILE_SEPARATOR + expectedType.getName();
+        baseDirectory = aBaseDirectory + FILE_SEPARATOR + expectedType.getName();
 
         // Prepare the directory if it doesn't exist yet.
         File directory = new File(baseDirectory);
         directory.mkdirs();
 
         String idFile = baseDirectory + FILE_SEPARATOR + expectedType.getName();
-        idGenerator = StringIDGenerator.getAlternativeGenerator(idFile);
+        idGenerator = new StringIDBlockGenerator(idFile);
 
-        cache = new ObjectCacheImpl<>();
+        cache = aCache;
 
         fileManager = new FileManagerImpl(baseDirectory);
+        serializer = aSerializer;
+
+        indexes = new ConcurrentHashMap<>();
+        storeStamp = readStoreStamp();
+        storeStampChanged = false;
+
+        pendingCommits = new ConcurrentHashMap<>();
+        flushLock = new Object();
+        journalLock = new Object();
+        writeBehindLock = new ReentrantReadWriteLock();
+
+        ObjectLoader<T> persistedObjectLoader = new PersistedObjectLoader<>(aType, fileManager, aDeserializer);
+        objectLoader = new PendingObjectLoader<>(pendingCommits, persistedObjectLoader);
+
+        recoverJournal();
+    }
+
+    /**
+     * Writes all commits which were recorded in the commit journal before the
+     * application terminated. Objects which were deleted in the meantime are
+     * not restored.
+     */
+    private void recoverJournal() {
+
+        File journalFile = getJournalFile();
+
+        // A journal file which replaces the journal is incomplete until it has been renamed.
+        CommitJournal.getTemporaryFile(journalFile).delete();
+
+        if (!journalFile.exists()) {
+
+            return;
+        }
+
+        try {
+
+            // Only the last state of an object is written.
+
+            Map<String, JournalEntry> latestEntries = new LinkedHashMap<>();
+
+            for (JournalEntry entry : CommitJournal.read(journalFile)) {
+
+                latestEntries.put(entry.getUniqueIdentifier(), entry);
+            }
+
+            BinaryDocumentReader reader = new BinaryDocumentReader();
+
+            if (!latestEntries.isEmpty()) {
+
+                markModified();
+            }
+
+            for (JournalEntry entry : latestEntries.values()) {
+
+                File file = fileManager.getFile(entry.getUniqueIdentifier());
+
+                if (file == null) {
+
+                    continue;
+                }
+
+                Document document = reader.readFrom(new ByteArrayInputStream(entry.getData()));
+
+                if (serializer instanceof DocumentSerializer) {
+
+                    ((DocumentSerializer) serializer).writeDocument(file, document);
+
+                } else {
+
+                    serializer.serialize(file, new XmlDeserializerImpl().toObject(document));
+                }
+            }
+
+        } catch (IOException e) {
+
+            String message =
+                TextHelper.concatenateStrings("The commit journal (", journalFile, ") couldn't be recovered!");
+            throw new IllegalStateException(message, e);
+        }
+
+        journalFile.delete();
+    }
+
+    /**
+     * Reads the store stamp. If the stamp file cannot be read all index files
+     * are deleted, since they cannot be validated.
+     *
+     * @return a store stamp
+     */
+    private long readStoreStamp() {
+
+        File stampFile = getStoreStampFile();
+
+        if (!stampFile.exists()) {
+
+            deleteIndexFiles();
+            return 0L;
+        }
+
+        try (DataInputStream in = new DataInputStream(new FileInputStream(stampFile))) {
+
+            return in.readLong();
+
+        } catch (IOException e) {
+
+            deleteIndexFiles();
+            return 0L;
+        }
+    }
+
+    /**
+     * Changes the store stamp before the persisted objects are modified for
+     * the first time during this session. Thus index files which were saved
+     * earlier (e.g. of indexes which are not declared during this session)
+     * become outdated.
+     */
+    private void markModified() {
+
+        if (storeStampChanged) {
+
+            return;
+        }
+
+        synchronized (indexes) {
+
+            if (storeStampChanged) {
+
+                return;
+            }
+
+            storeStamp++;
+
+            try (FileOutputStream out = new FileOutputStream(getStoreStampFile())) {
+
+                new DataOutputStream(out).writeLong(storeStamp);
+                out.getFD().sync();
+
+            } catch (IOException e) {
+
+                // The index files cannot be validated on the next startup and
+                // are deleted. Declared indexes are saved again on shutdown.
+
+                getStoreStampFile().delete();
+                deleteIndexFiles();
+            }
+
+            storeStampChanged = true;
+        }
+    }
+
+    /**
+     * Returns the file which contains the store stamp.
+     *
+     * @return a stamp file
+     */
+    private File getStoreStampFile() {
+
+        return new File(baseDirectory + FILE_SEPARATOR + STORE_STAMP_FILENAME);
+    }
+
+    /**
+     * Deletes all index files.
+     */
+    private void deleteIndexFiles() {
+
+        File[] files = new File(baseDirectory).listFiles();
+
+        if (files == null) {
+
+            return;
+        }
+
+        for (File file : files) {
+
+            String name = file.getName();
+
+            if (name.startsWith(INDEX_FILE_PREFIX) && name.endsWith(INDEX_FILE_SUFFIX)) {
+
+                file.delete();
+            }
+        }
+    }
+
+    /**
+     * Returns the commit journal file.
+     *
+     * @return a journal file
+     */
+    private File getJournalFile() {
+
+        return new File(baseDirectory + FILE_SEPARATOR + CommitJournal.FILENAME);
+    }
+
+    /**
+     * Enables the write behind mode. Commits (see {@link #commit(Object)} and
+     * {@link #commit(ID, Object)}) return immediately and the committed objects
+     * are written periodically by a background thread. If an object is
+     * committed repeatedly before it is written, only the last state is
+     * written.<br>
+     * <br>
+     * <i>Every commit is recorded in a journal before it returns, i.e. the
+     * object is serialized by the committing thread. Concurrent commits share
+     * a single force of the journal to the storage device. If the application
+     * terminates before a commit was flushed (see {@link #flush}), the commit
+     * is written on the next startup. Queries (see
+     * {@link #findByXpathExpression}) only see flushed commits.</i>
+     *
+     * @param aFlushInterval
+     *        the time in milliseconds between two flushes
+     *
+     * @throws PersistenceException
+     *         the exception is thrown if the commit journal cannot be opened
+     */
+    public void enableWriteBehind(long aFlushInterval) throws PersistenceException {
+
+        if (aFlushInterval <= 0L) {
+
+            String message = TextHelper.concatenateStrings("Invalid flush interval (", aFlushInterval, ")!");
+            throw new IllegalArgumentException(message);
+        }
+
+        synchronized (flushLock) {
+
+            if (writeBehindThread != null) {
+
+                String message = "The write behind mode is already enabled!";
+                throw new IllegalStateException(message);
+            }
+
+            try {
+
+                journal = new CommitJournal(getJournalFile());
+
+            } catch (IOException e) {
+
+                String message = "The commit journal couldn't be opened!";
+                throw new PersistenceException(message, e);
+            }
+
+            writeBehindThread = new WriteBehindThread(this, aFlushInterval);
+            writeBehindThread.start();
+        }
+    }
+
+    /**
+     * Writes all pending commits (write behind mode only, see
+     * {@link #enableWriteBehind}).
+     *
+     * @throws PersistenceException
+     *         the exception is thrown if the commits couldn't be written. The
+     *         commits remain pending.
+     */
+    public void flush() throws PersistenceException {
+
+        synchronized (flushLock) {
+
+            if ((journal == null) || pendingCommits.isEmpty()) {
+
+                return;
+            }
+
+            List<PendingCommit<T>> batch = new ArrayList<>(pendingCommits.values());
+
+            try {
+
+                // The commits were journaled before they returned, i.e. the files can be
+                // written right away.
+
+                for (PendingCommit<T> commit : batch) {
+
+                    File file = fileManager.getFile(commit.getID().toString());
+
+                    // Commits with unknown IDs are rejected, i.e. the object was deleted
+                    // while it was committed and the commit is obsolete.
+
+                    if (file != null) {
+
+                        write(commit.getID(), file, commit.getObject(), commit.getDocument());
+                    }
+                }
+
+
+                // Only the commits which are still pending remain in the journal. A
+                // commit which was repeated in the meantime remains pending.
+
+                synchronized (journalLock) {
+
+                    for (PendingCommit<T> commit : batch) {
+
+                        pendingCommits.remove(commit.getID().toString(), commit);
+                    }
+
+                    List<JournalEntry> entries = new ArrayList<>();
+
+                    for (PendingCommit<T> commit : pendingCommits.values()) {
+
+                        entries.add(commit.getJournalEntry());
+                    }
+
+                    journal.rewrite(entries);
+                }
+
+            } catch (IOException e) {
+
+                String message = "The pending commits couldn't be written!";
+                throw new PersistenceException(message, e);
+            }
+        }
     }
 
     /**
@@ -171,18 +687,15 @@ public class PersistenceContainerImpl<T> implements PersistenceContainer<T> {
 
         // Get the next available ID. Under normal circumstances this case
         // should not occur since all IDs are supposed to be unique and the next
-        // available ID is persistently stored in a file.
+        // available ID is persistently stored in a file. The ID generator is
+        // thread safe.
 
         ID id = null;
         boolean loop = true;
 
         while (loop) {
 
-            synchronized (idGenerator) {
-
-                id = idGenerator.generateID();
-            }
-
+            id = idGenerator.generateID();
             loop = fileManager.existsFile(id.toString());
         }
 
@@ -205,16 +718,7 @@ public class PersistenceContainerImpl<T> implements PersistenceContainer<T> {
 
         // Serialize the object now.
 
-        Serializer serializer = new XmlSerializerImpl();
-
-        try {
-
-            serializer.serialize(file, anObject);
-
-        } catch (IOException e) {
-
-            throw createUnsuccessfulSerializationException(e, anObject, file);
-        }
+        serialize(id, file, anObject);
 
 
         return id;
@@ -253,21 +757,20 @@ public class PersistenceContainerImpl<T> implements PersistenceContainer<T> {
         // Retrieve the object's ID first.
 
         ID id = cache.getID(anObject);
+        File file = getExistingFile(id);
 
 
-        // Serialize the object now.
+        // In write behind mode the object is written later.
 
-        File file = fileManager.getFile(id.toString());
-        Serializer serializer = new XmlSerializerImpl();
+        if (addPendingCommit(id, anObject)) {
 
-        try {
+            return id;
+        }
 
-            serializer.serialize(file, anObject);
 
-        } catch (IOException e) {
+        // Serialize the object now.
 
-            throw createUnsuccessfulSerializationException(e, anObject, file);
-        }
+        serialize(id, file, anObject);
 
 
         return id;
@@ -307,23 +810,118 @@ public class PersistenceContainerImpl<T> implements PersistenceContainer<T> {
 
         checkParameter(anObject);
 
+        File file = getExistingFile(anID);
+
+
+        // In write behind mode the object is written later.
+
+        if (addPendingCommit(anID, anObject)) {
+
+            return anID;
+        }
+
 
         // Serialize the object now.
 
+        serialize(anID, file, anObject);
+
+
+        return anID;
+    }
+
+    /**
+     * Returns the file of the object with the specified ID.
+     *
+     * @param anID
+     *        the ID of a persisted object
+     *
+     * @return a file
+     *
+     * @throws PersistenceException
+     *         the exception is thrown if no object with the specified ID is
+     *         persisted
+     */
+    private File getExistingFile(ID anID) throws PersistenceException {
+
+        if (anID == null) {
+
+            String message = "No valid ID has been specified (null)!";
+            throw new IllegalArgumentException(message);
+        }
+
         File file = fileManager.getFile(anID.toString());
-        Serializer serializer = new XmlSerializerImpl();
+
+        if (file == null) {
+
+            String message = TextHelper.concatenateStrings("No object with the ID ", anID, " is persisted!");
+            throw new PersistenceException(message);
+        }
+
+        return file;
+    }
+
+    /**
+     * Adds a pending commit if the write behind mode is enabled. The commit is
+     * recorded in the journal before the method returns.
+     *
+     * @param anID
+     *        the ID of the specified object
+     * @param anObject
+     *        the object which is to be persisted
+     *
+     * @return <code>true</code> if the commit is pending, <code>false</code>
+     *         if the object has to be written immediately
+     *
+     * @throws PersistenceException
+     *         the exception is thrown if the commit couldn't be journaled
+     */
+    private boolean addPendingCommit(ID anID, T anObject) throws PersistenceException {
+
+        writeBehindLock.readLock().lock();
 
         try {
 
-            serializer.serialize(file, anObject);
+            if (writeBehindThread == null) {
+
+                return false;
+            }
+
+            Document document = toDocument(anObject);
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            new BinaryDocumentWriter().writeTo(buffer, document);
+
+            JournalEntry entry = new JournalEntry(anID.toString(), buffer.toByteArray());
+            PendingCommit<T> commit = new PendingCommit<>(anID, anObject, document, entry);
+            long sequenceNumber;
+
+            synchronized (journalLock) {
+
+                sequenceNumber = journal.append(entry);
+                pendingCommits.put(anID.toString(), commit);
+            }
+
+            try {
+
+                journal.sync(sequenceNumber);
+
+            } catch (IOException e) {
+
+                pendingCommits.remove(anID.toString(), commit);
+                throw e;
+            }
+
+            return true;
 
         } catch (IOException e) {
 
-            throw createUnsuccessfulSerializationException(e, anObject, file);
-        }
+            String message = TextHelper.concatenateStrings("The commit of the object with the ID ", anID,
+                                                           " couldn't be journaled!");
+            throw new PersistenceException(message, e);
 
+        } finally {
 
-        return anID;
+            writeBehindLock.readLock().unlock();
+        }
     }
 
     /**
@@ -351,14 +949,20 @@ public class PersistenceContainerImpl<T> implements PersistenceContainer<T> {
         }
 
 
-        // Delete the file if it exists.
+        // Delete the file if it exists. It may happen that a concurring deletion
+        // already deleted the file. A pending commit must not recreate the file.
+
+        markModified();
+
+        synchronized (flushLock) {
 
-        if (fileManager.existsFile(anID.toString())) {
+            pendingCommits.remove(anID.toString());
+            fileManager.deleteFile(anID.toString());
+        }
 
-            // It may happen that a concurring deletion already deleted the file.
+        for (XPathIndex index : indexes.values()) {
 
-            File file = fileManager.getFile(anID.toString());
-            FileDeletionHelper.delete(file);
+            index.remove(anID.toString());
         }
 
 
@@ -398,63 +1002,211 @@ public class PersistenceContainerImpl<T> implements PersistenceContainer<T> {
 
 
         // Check if the object which is associated with the specified ID resides
-        // in memory already (i.e. known to cache).
+        // in memory already (i.e. known to cache). If it doesn't reside in
+        // memory then it must be loaded from disk. The cache makes sure that
+        // concurrent requests load the object only once.
 
-        if (cache.existsID(anID)) {
+        T restoredObject;
 
-            return cache.getObject(anID);
-        }
+        try {
 
+            restoredObject = cache.getObject(anID, objectLoader);
 
-        // If it doesn't reside in memory then it must be loaded from disk.
+        } catch (ObjectLoadingException e) {
 
-        if (!fileManager.existsFile(anID.toString())) {
+            Throwable cause = e.getCause();
 
-            String message = "There is not object associated with the specified ID!";
-            throw new PersistenceException(message);
+            if (cause instanceof PersistenceException) {
+
+                throw (PersistenceException) cause;
+            }
+
+            throw new PersistenceException(e.getMessage(), cause);
         }
 
 
-        // Deserialize the object now.
+        return restoredObject;
+    }
 
-        File file = fileManager.getFile(anID.toString());
-        Deserializer deserializer = new XmlDeserializerImpl();
-        T restoredObject = null;
+    /**
+     * Prepares the persistence manager for shutdown (i.e. running threads will
+     * be stopped).
+     */
+    @Override
+    public void shutdown() {
+
+        // Commits which are just becoming pending are completed before the
+        // write behind mode is disabled. Further commits wait until the last
+        // flush is finished and are written immediately afterwards, so that
+        // they cannot be overwritten by an older pending commit.
+
+        writeBehindLock.writeLock().lock();
 
         try {
 
-            restoredObject = (T) deserializer.deserialize(file);
+            WriteBehindThread thread = writeBehindThread;
+            writeBehindThread = null;
 
-        } catch (IOException e) {
+            if (thread != null) {
 
-            String message =
-                TextHelper.concatenateStrings("Deserialization of an object (", file.getName(),
-                                              " -> X) was not successful!");
-            throw new PersistenceException(message, e);
-        }
+                // The thread performs a last flush before it terminates.
+
+                thread.stopThread();
 
+                synchronized (flushLock) {
 
-        // Associate the specified object with an ID. Consider that another
-        // thread might have already added the same object.
+                    try {
 
-        if (!cache.existsID(anID)) {
+                        flush();
+                        journal.close();
 
-            cache.addObject(anID, restoredObject);
+                    } catch (PersistenceException | IOException e) {
+
+                        // The journal is kept and recovered on the next startup.
+                    }
+
+                    journal = null;
+                }
+            }
+
+        } finally {
+
+            writeBehindLock.writeLock().unlock();
         }
 
+        for (XPathIndex index : indexes.values()) {
 
-        return restoredObject;
+            File indexFile = getIndexFile(index.getXpathExpression());
+
+            try {
+
+                index.save(indexFile, storeStamp);
+
+            } catch (IOException e) {
+
+                // The index file is incomplete and is deleted. The index will
+                // be rebuilt when it is declared the next time.
+
+                indexFile.delete();
+            }
+        }
+
+        fileManager.shutdown();
+        cache.clear();
     }
 
     /**
-     * Prepares the persistence manager for shutdown (i.e. running threads will
-     * be stopped).
+     * Declares a secondary index on the specified XPath expression. Queries
+     * on this XPath expression (see {@link #findByXpathExpression}) will be
+     * answered by the index without reading any persisted objects. The index
+     * is loaded from its index file if possible, otherwise it is built by
+     * reading all persisted objects once.<br>
+     * <br>
+     * <i>The index file is deleted while the index is in use and is written
+     * again on shutdown. If the application terminates unexpectedly the index
+     * is rebuilt when it is declared the next time. The index is also rebuilt
+     * if the persisted objects were modified while the index wasn't
+     * declared.</i>
+     *
+     * @param anXpathExpression
+     *        an XPath expression
      */
     @Override
-    public void shutdown() {
+    public void declareIndex(String anXpathExpression) {
 
-        fileManager.shutdown();
-        cache.clear();
+        synchronized (indexes) {
+
+            if (indexes.containsKey(anXpathExpression)) {
+
+                return;
+            }
+
+            XPathIndex index = new XPathIndexImpl(anXpathExpression);
+            File indexFile = getIndexFile(anXpathExpression);
+            boolean loaded = false;
+
+            if (indexFile.exists()) {
+
+                try {
+
+                    index.load(indexFile, storeStamp);
+                    loaded = true;
+
+                } catch (IOException e) {
+
+                    // The index file is corrupt, belongs to another index or
+                    // is outdated. The index is rebuilt.
+                }
+
+                indexFile.delete();
+            }
+
+            if (!loaded) {
+
+                buildIndex(index);
+            }
+
+            indexes.put(anXpathExpression, index);
+        }
+    }
+
+    /**
+     * Builds the specified index by reading all persisted objects.
+     *
+     * @param anIndex
+     *        an empty index
+     */
+    private void buildIndex(XPathIndex anIndex) {
+
+        XmlDocumentReader reader = new PersistedDocumentReader();
+
+        for (File folder : new ArrayList<>(fileManager.getFolders())) {
+
+            File[] files = folder.listFiles();
+
+            if (files == null) {
+
+                continue;
+            }
+
+            for (File file : files) {
+
+                try {
+
+                    String uniqueIdentifier = fileManager.getUniqueIdentifier(file);
+
+                    if (uniqueIdentifier == null) {
+
+                        continue;
+                    }
+
+                    Document document = reader.readFrom(file);
+                    anIndex.update(uniqueIdentifier, document);
+
+                } catch (SAXException | IOException e) {
+
+                    // The file cannot be read or is malformed. By definition
+                    // the file doesn't contain any indexed values and the
+                    // exception is ignored.
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the index file for the specified XPath expression.
+     *
+     * @param anXpathExpression
+     *        an XPath expression
+     *
+     * @return an index file
+     */
+    private File getIndexFile(String anXpathExpression) {
+
+        String filename =
+            TextHelper.concatenateStrings(baseDirectory, FILE_SEPARATOR, INDEX_FILE_PREFIX,
+                                          Integer.toHexString(anXpathExpression.hashCode()), INDEX_FILE_SUFFIX);
+        return new File(filename);
     }
 
     /**
@@ -476,6 +1228,41 @@ public class PersistenceContainerImpl<T> implements PersistenceContainer<T> {
             throw new IllegalArgumentException(message);
         }
 
+        // Queries which can be answered by a secondary index are answered
+        // first. Only the remaining queries are applied to the candidates.
+
+        Set<String> candidates = null;
+        Collection<XPathQuery> remainingQueries = new ArrayList<>();
+
+        for (XPathQuery query : someQueries) {
+
+            XPathIndex index = indexes.get(query.getXpathExpression());
+
+            if ((index != null) && index.supports(query)) {
+
+                Set<String> found = index.find(query);
+
+                if (candidates == null) {
+
+                    candidates = found;
+
+                } else {
+
+                    candidates.retainAll(found);
+                }
+
+            } else {
+
+                remainingQueries.add(query);
+            }
+        }
+
+        if (candidates != null) {
+
+            return filterCandidates(candidates, remainingQueries);
+        }
+
+
         Collection<File> foundFiles = fileManager.findFiles(someQueries);
 
 
@@ -516,6 +1303,143 @@ public class PersistenceContainerImpl<T> implements PersistenceContainer<T> {
         return results;
     }
 
+    /**
+     * Applies the specified queries on the persisted objects which are
+     * identified by the specified unique identifiers.
+     *
+     * @param someUniqueIdentifiers
+     *        the unique identifiers of candidates
+     * @param someQueries
+     *        queries which could not be answered by a secondary index
+     *
+     * @return a list of IDs of objects which match the specified criteria
+     */
+    private Collection<ID> filterCandidates(Set<String> someUniqueIdentifiers, Collection<XPathQuery> someQueries) {
+
+        Collection<ID> results = new ArrayList<>();
+        XPathFilter filter = null;
+
+        if (!someQueries.isEmpty()) {
+
+            filter = new XPathFilter(someQueries.toArray(new XPathQuery[someQueries.size()]));
+        }
+
+        for (String uniqueIdentifier : someUniqueIdentifiers) {
+
+            if (filter != null) {
+
+                File file = fileManager.getFile(uniqueIdentifier);
+
+                if ((file == null) || !filter.accept(file)) {
+
+                    continue;
+                }
+            }
+
+            results.add(new StringID(uniqueIdentifier));
+        }
+
+        return results;
+    }
+
+    /**
+     * Serializes the specified object and updates all secondary indexes.
+     *
+     * @param anID
+     *        the ID of the specified object
+     * @param aFile
+     *        the file which will contain the serialized object
+     * @param anObject
+     *        the object which is to be persisted
+     *
+     * @throws PersistenceException
+     *         the exception is thrown if serializing the object was not
+     *         possible
+     */
+    private void serialize(ID anID, File aFile, T anObject) throws PersistenceException {
+
+        Document document = null;
+
+        if (serializer instanceof DocumentSerializer) {
+
+            document = toDocument(anObject);
+        }
+
+        try {
+
+            write(anID, aFile, anObject, document);
+
+        } catch (IOException e) {
+
+            throw createUnsuccessfulSerializationException(e, anObject, aFile);
+        }
+    }
+
+    /**
+     * Writes the specified object and updates all secondary indexes.
+     *
+     * @param anID
+     *        the ID of the specified object
+     * @param aFile
+     *        the file which will contain the serialized object
+     * @param anObject
+     *        the object which is to be persisted
+     * @param aDocument
+     *        the document of the specified object (see {@link #toDocument}) or
+     *        <code>null</code> if the serializer is no document serializer
+     *
+     * @throws IOException
+     *         the exception is thrown if writing the file was not possible
+     */
+    private void write(ID anID, File aFile, T anObject, Document aDocument) throws IOException {
+
+        markModified();
+
+        Document document = aDocument;
+
+        if (serializer instanceof DocumentSerializer) {
+
+            ((DocumentSerializer) serializer).writeDocument(aFile, document);
+
+        } else {
+
+            serializer.serialize(aFile, anObject);
+        }
+
+        for (XPathIndex index : indexes.values()) {
+
+            // The serializer doesn't provide a document, thus the object is
+            // transformed separately.
+
+            if (document == null) {
+
+                document = toDocument(anObject);
+            }
+
+            index.update(anID.toString(), document);
+        }
+    }
+
+    /**
+     * Transforms the specified object into an xml document. If the serializer
+     * is no document serializer the object is transformed with the rules of
+     * the xml serializer.
+     *
+     * @param anObject
+     *        an object
+     *
+     * @return an xml document
+     */
+    private Document toDocument(T anObject) {
+
+        if (serializer instanceof DocumentSerializer) {
+
+            return ((DocumentSerializer) serializer).toDocument(anObject);
+        }
+
+        return new XmlSerializerImpl().toDocument(anObject);
+    }
+
     /**
      * Checks the specified parameters.
      *
@@ -0,0 +1,163 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.persistence;
+
+
+/**
+ * A thread which periodically writes all pending commits of a persistence
+ * container (see write behind mode of {@link PersistenceContainerImpl}).
+ *
+ * @author Kristian Kutin
+ */
+class WriteBehindThread extends Thread {
+
+    /**
+     * A counter which is used to name the threads.
+     */
+    private static int threadCounter;
+
+    /**
+     * The persistence container whose commits are written.
+     */
+    private final PersistenceContainerImpl<?> container;
+
+    /**
+     * The time in milliseconds between two flushes.
+     */
+    private final long flushInterval;
+
+    /**
+     * A flag which indicates that the thread is to be stopped.
+     */
+    private volatile boolean stopped;
+
+    /**
+     * A monitor which is used to wake up the thread. The thread is not
+     * interrupted because an interrupt would close the journal's file channel.
+     */
+    private final Object signal;
+
+    /**
+     * Constructs a thread.
+     *
+     * @param aContainer
+     *        the persistence container whose commits are written
+     * @param aFlushInterval
+     *        the time in milliseconds between two flushes
+     */
+    WriteBehindThread(PersistenceContainerImpl<?> aContainer, long aFlushInterval) {
+
+        super(newThreadName());
+
+        container = aContainer;
+        flushInterval = aFlushInterval;
+        stopped = false;
+        signal = new Object();
+
+        setDaemon(true);
+    }
+
+    /**
+     * Returns a new thread name.
+     *
+     * @return a thread name
+     */
+    private static synchronized String newThreadName() {
+
+        threadCounter++;
+        return "write-behind-" + threadCounter;
+    }
+
+    /**
+     * Writes all pending commits periodically until the thread is stopped.
+     */
+    @Override
+    public void run() {
+
+        while (!stopped) {
+
+            synchronized (signal) {
+
+                if (!stopped) {
+
+                    try {
+
+                        signal.wait(flushInterval);
+
+                    } catch (InterruptedException e) {
+
+                        // Another flush is performed before the thread
+                        // terminates.
+
+                        stopped = true;
+                    }
+                }
+            }
+
+            try {
+
+                container.flush();
+
+            } catch (PersistenceException e) {
+
+                // The pending commits remain pending and are written with the
+                // next flush. Already journaled commits are recovered on the
+                // next startup if the application terminates in the meantime.
+            }
+        }
+    }
+
+    /**
+     * Stops this thread and waits until the last flush is finished.
+     */
+    public void stopThread() {
+
+        synchronized (signal) {
+
+            stopped = true;
+            signal.notifyAll();
+        }
+
+        try {
+
+            join();
+
+        } catch (InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,314 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.persistence.binary;
+
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import static jmul.persistence.binary.BinaryFormat.ELEMENT_END;
+import static jmul.persistence.binary.BinaryFormat.ELEMENT_START;
+import static jmul.persistence.binary.BinaryFormat.MAGIC_NUMBER;
+import static jmul.persistence.binary.BinaryFormat.NEW_STRING;
+import static jmul.persistence.binary.BinaryFormat.TEXT;
+
+import jmul.string.TextHelper;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+
+/**
+ * This class reads an xml document from its compact binary representation
+ * (see {@link BinaryFormat}). The complete document is built in memory.
+ *
+ * @author Kristian Kutin
+ */
+public class BinaryDocumentReader {
+
+    /**
+     * A document builder factory.
+     */
+    private final DocumentBuilderFactory factory;
+
+    /**
+     * The default constructor.
+     */
+    public BinaryDocumentReader() {
+
+        super();
+
+        factory = DocumentBuilderFactory.newInstance();
+    }
+
+    /**
+     * Checks if the specified file starts with the magic number of the binary
+     * representation.
+     *
+     * @param aFile
+     *        a file
+     *
+     * @return <code>true</code> if the specified file contains a binary
+     *         representation, else <code>false</code>
+     *
+     * @throws IOException
+     *         the exception is thrown if an error occurs while reading from
+     *         the file
+     */
+    public static boolean isBinaryFile(File aFile) throws IOException {
+
+        try (DataInputStream in = new DataInputStream(new FileInputStream(aFile))) {
+
+            return (aFile.length() >= 4L) && (in.readInt() == MAGIC_NUMBER);
+        }
+    }
+
+    /**
+     * Reads a document from the specified file.
+     *
+     * @param aFile
+     *        the input file
+     *
+     * @return a document
+     *
+     * @throws IOException
+     *         the exception is thrown if an error occurs while reading from
+     *         the file or if the file contains no valid binary representation
+     */
+    public Document readFrom(File aFile) throws IOException {
+
+        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(aFile))) {
+
+            return readFrom(inputStream);
+        }
+    }
+
+    /**
+     * Reads a document from the specified input stream. The stream is not
+     * closed.
+     *
+     * @param anInputStream
+     *        an input stream
+     *
+     * @return a document
+     *
+     * @throws IOException
+     *         the exception is thrown if an error occurs while reading from
+     *         the stream or if the stream contains no valid binary
+     *         representation
+     */
+    public Document readFrom(InputStream anInputStream) throws IOException {
+
+        DataInputStream in = new DataInputStream(anInputStream);
+
+        if (in.readInt() != MAGIC_NUMBER) {
+
+            String message = "The input contains no binary document (invalid magic number)!";
+            throw new IOException(message);
+        }
+
+        Document document;
+
+        try {
+
+            // A document builder factory is not guaranteed to be thread safe.
+
+            synchronized (factory) {
+
+                document = factory.newDocumentBuilder().newDocument();
+            }
+
+        } catch (ParserConfigurationException e) {
+
+            String message = "Couldn't instantiate a document builder!";
+            throw new IOException(message, e);
+        }
+
+        List<String> stringTable = new ArrayList<>();
+
+        if (in.readUnsignedByte() != ELEMENT_START) {
+
+            String message = "The binary document contains no root element!";
+            throw new IOException(message);
+        }
+
+        document.appendChild(readElement(in, stringTable, document));
+
+        return document;
+    }
+
+    /**
+     * Reads an element and all its child nodes. The node type has already been
+     * read.
+     *
+     * @param anInputStream
+     *        an input stream
+     * @param aStringTable
+     *        the string table
+     * @param aDocument
+     *        the document which creates the nodes
+     *
+     * @return an element
+     *
+     * @throws IOException
+     *         the exception is thrown if an error occurs while reading from
+     *         the stream
+     */
+    private static Element readElement(DataInputStream anInputStream, List<String> aStringTable,
+                                       Document aDocument) throws IOException {
+
+        Element element = aDocument.createElement(readString(anInputStream, aStringTable));
+
+        int attributes = readNumber(anInputStream);
+
+        for (int a = 0; a < attributes; a++) {
+
+            String name = readString(anInputStream, aStringTable);
+            String value = readString(anInputStream, aStringTable);
+            element.setAttribute(name, value);
+        }
+
+        while (true) {
+
+            int nodeType = anInputStream.readUnsignedByte();
+            Node child;
+
+            switch (nodeType) {
+            case ELEMENT_START:
+                child = readElement(anInputStream, aStringTable, aDocument);
+                break;
+            case TEXT:
+                child = aDocument.createTextNode(readString(anInputStream, aStringTable));
+                break;
+            case ELEMENT_END:
+                return element;
+            default:
+                String message = TextHelper.concatenateStrings("Unknown node type (", nodeType, ")!");
+                throw new IOException(message);
+            }
+
+            element.appendChild(child);
+        }
+    }
+
+    /**
+     * Reads a string. A position within the string table is resolved.
+     *
+     * @param anInputStream
+     *        an input stream
+     * @param aStringTable
+     *        the string table
+     *
+     * @return a string
+     *
+     * @throws IOException
+     *         the exception is thrown if an error occurs while reading from
+     *         the stream
+     */
+    private static String readString(DataInputStream anInputStream, List<String> aStringTable) throws IOException {
+
+        int position = readNumber(anInputStream);
+
+        if (position != NEW_STRING) {
+
+            if (position > aStringTable.size()) {
+
+                String message = TextHelper.concatenateStrings("Invalid string reference (", position, ")!");
+                throw new IOException(message);
+            }
+
+            return aStringTable.get(position - 1);
+        }
+
+        int length = readNumber(anInputStream);
+        byte[] bytes = new byte[length];
+        anInputStream.readFully(bytes);
+
+        String string = new String(bytes, StandardCharsets.UTF_8);
+        aStringTable.add(string);
+
+        return string;
+    }
+
+    /**
+     * Reads a variable length integer.
+     *
+     * @param anInputStream
+     *        an input stream
+     *
+     * @return a non-negative number
+     *
+     * @throws IOException
+     *         the exception is thrown if an error occurs while reading from
+     *         the stream
+     */
+    private static int readNumber(DataInputStream anInputStream) throws IOException {
+
+        int number = 0;
+
+        for (int shift = 0; shift < 32; shift += 7) {
+
+            int b = anInputStream.readUnsignedByte();
+            number |= (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0) {
+
+                if (number < 0) {
+
+                    break;
+                }
+
+                return number;
+            }
+        }
+
+        String message = "Invalid number (too many bytes or negative)!";
+        throw new IOException(message);
+    }
+
+}
@@ -0,0 +1,235 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.persistence.binary;
+
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static jmul.persistence.binary.BinaryFormat.ELEMENT_END;
+import static jmul.persistence.binary.BinaryFormat.ELEMENT_START;
+import static jmul.persistence.binary.BinaryFormat.MAGIC_NUMBER;
+import static jmul.persistence.binary.BinaryFormat.NEW_STRING;
+import static jmul.persistence.binary.BinaryFormat.TEXT;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+
+/**
+ * This class writes an xml document in a compact binary representation (see
+ * {@link BinaryFormat}). The document is streamed, i.e. no textual
+ * representation of the document is created. The document itself has to be
+ * built completely beforehand.
+ *
+ * @author Kristian Kutin
+ */
+public class BinaryDocumentWriter {
+
+    /**
+     * The default constructor.
+     */
+    public BinaryDocumentWriter() {
+
+        super();
+    }
+
+    /**
+     * Writes the specified document to the specified file.
+     *
+     * @param aFile
+     *        the output file
+     * @param aDocument
+     *        the document which is to be written
+     *
+     * @throws IOException
+     *         the exception is thrown if an error occurs while writing to the
+     *         file
+     */
+    public void writeTo(File aFile, Document aDocument) throws IOException {
+
+        try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(aFile))) {
+
+            writeTo(outputStream, aDocument);
+        }
+    }
+
+    /**
+     * Writes the specified document to the specified output stream. The stream
+     * is flushed but not closed.
+     *
+     * @param anOutputStream
+     *        an output stream
+     * @param aDocument
+     *        the document which is to be written
+     *
+     * @throws IOException
+     *         the exception is thrown if an error occurs while writing to the
+     *         stream
+     */
+    public void writeTo(OutputStream anOutputStream, Document aDocument) throws IOException {
+
+        DataOutputStream out = new DataOutputStream(anOutputStream);
+        Map<String, Integer> stringTable = new HashMap<>();
+
+        out.writeInt(MAGIC_NUMBER);
+        writeElement(out, stringTable, aDocument.getDocumentElement());
+        out.flush();
+    }
+
+    /**
+     * Writes the specified element and all its child nodes.
+     *
+     * @param anOutputStream
+     *        an output stream
+     * @param aStringTable
+     *        the string table
+     * @param anElement
+     *        an element
+     *
+     * @throws IOException
+     *         the exception is thrown if an error occurs while writing to the
+     *         stream
+     */
+    private static void writeElement(DataOutputStream anOutputStream, Map<String, Integer> aStringTable,
+                                     Element anElement) throws IOException {
+
+        anOutputStream.writeByte(ELEMENT_START);
+        writeString(anOutputStream, aStringTable, anElement.getNodeName());
+
+        NamedNodeMap attributes = anElement.getAttributes();
+        writeNumber(anOutputStream, attributes.getLength());
+
+        for (int a = 0; a < attributes.getLength(); a++) {
+
+            Node attribute = attributes.item(a);
+            writeString(anOutputStream, aStringTable, attribute.getNodeName());
+            writeString(anOutputStream, aStringTable, attribute.getNodeValue());
+        }
+
+        for (Node child = anElement.getFirstChild(); child != null; child = child.getNextSibling()) {
+
+            switch (child.getNodeType()) {
+
+            case Node.ELEMENT_NODE:
+                writeElement(anOutputStream, aStringTable, (Element) child);
+                break;
+            case Node.TEXT_NODE:
+            case Node.CDATA_SECTION_NODE:
+                anOutputStream.writeByte(TEXT);
+                writeString(anOutputStream, aStringTable, child.getNodeValue());
+                break;
+            default:
+                // Comments and processing instructions carry no object
+                // informations and are skipped.
+                break;
+            }
+        }
+
+        anOutputStream.writeByte(ELEMENT_END);
+    }
+
+    /**
+     * Writes the specified string. A string which was already written is
+     * replaced by its position in the string table.
+     *
+     * @param anOutputStream
+     *        an output stream
+     * @param aStringTable
+     *        the string table
+     * @param aString
+     *        a string
+     *
+     * @throws IOException
+     *         the exception is thrown if an error occurs while writing to the
+     *         stream
+     */
+    private static void writeString(DataOutputStream anOutputStream, Map<String, Integer> aStringTable,
+                                    String aString) throws IOException {
+
+        Integer position = aStringTable.get(aString);
+
+        if (position != null) {
+
+            writeNumber(anOutputStream, position);
+            return;
+        }
+
+        aStringTable.put(aString, aStringTable.size() + 1);
+
+        byte[] bytes = aString.getBytes(StandardCharsets.UTF_8);
+
+        writeNumber(anOutputStream, NEW_STRING);
+        writeNumber(anOutputStream, bytes.length);
+        anOutputStream.write(bytes);
+    }
+
+    /**
+     * Writes the specified non-negative number as variable length integer.
+     *
+     * @param anOutputStream
+     *        an output stream
+     * @param aNumber
+     *        a non-negative number
+     *
+     * @throws IOException
+     *         the exception is thrown if an error occurs while writing to the
+     *         stream
+     */
+    private static void writeNumber(DataOutputStream anOutputStream, int aNumber) throws IOException {
+
+        int number = aNumber;
+
+        while ((number & ~0x7F) != 0) {
+
+            anOutputStream.writeByte((number & 0x7F) | 0x80);
+            number >>>= 7;
+        }
+
+        anOutputStream.writeByte(number);
+    }
+
+}
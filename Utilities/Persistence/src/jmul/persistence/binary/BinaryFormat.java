@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.persistence.binary;
+
+
+/**
+ * This utility class contains constants which describe the compact binary
+ * representation of an xml document.<br>
+ * <br>
+ * A file starts with {@link #MAGIC_NUMBER}. The nodes of the document follow in
+ * document order. Every node starts with a node type:
+ * <ul>
+ *   <li>{@link #ELEMENT_START}: the element name, the number of attributes and
+ *   the name and value of every attribute follow</li>
+ *   <li>{@link #TEXT}: the text follows</li>
+ *   <li>{@link #ELEMENT_END}: closes the last element which was started</li>
+ * </ul>
+ * All strings are stored in a string table. The first occurrence of a string
+ * is written as <code>0</code> followed by the string's length and UTF-8
+ * bytes. Every further occurrence is written as the string's position in the
+ * string table (starting with <code>1</code>). Numbers are written as variable
+ * length integers (7 bits per byte).
+ *
+ * @author Kristian Kutin
+ */
+public final class BinaryFormat {
+
+    /**
+     * The first four bytes of a binary file (i.e. <code>JMB1</code>).
+     */
+    public static final int MAGIC_NUMBER = 0x4A4D4231;
+
+    /**
+     * The node type of an element.
+     */
+    static final int ELEMENT_START = 1;
+
+    /**
+     * The node type of a text node.
+     */
+    static final int TEXT = 2;
+
+    /**
+     * The end of an element.
+     */
+    static final int ELEMENT_END = 3;
+
+    /**
+     * The marker of a string which isn't contained in the string table yet.
+     */
+    static final int NEW_STRING = 0;
+
+    /**
+     * The default constructor.
+     */
+    private BinaryFormat() {
+
+        throw new UnsupportedOperationException();
+    }
+
+}
@@ -0,0 +1,168 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.persistence.binary;
+
+
+import java.io.File;
+import java.io.IOException;
+
+import jmul.persistence.xml.DocumentSerializer;
+
+import jmul.transformation.TransformationFactory;
+import jmul.transformation.TransformationParameters;
+import jmul.transformation.TransformationPath;
+import jmul.transformation.TransformationResources;
+import jmul.transformation.xml.TransformationHelper;
+
+import org.w3c.dom.Document;
+
+
+/**
+ * An implementation of a serializer which writes objects in a compact binary
+ * representation (see {@link BinaryFormat}). The object is transformed with the
+ * same transformation rules as the xml serializer, thus every object which can
+ * be serialized as xml can be serialized in the binary representation.<br>
+ * <br>
+ * <i>The transformation rules still build a DOM document of the whole object
+ * graph, i.e. the cost of building the document remains. Only formatting the
+ * document as text is saved and the files are smaller.</i>
+ *
+ * @author Kristian Kutin
+ */
+public class BinarySerializerImpl implements DocumentSerializer {
+
+    /**
+     * The default transformation path for this serializer entity.
+     */
+    private static final TransformationPath DEFAULT_TRANSFORMATION_PATH;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        DEFAULT_TRANSFORMATION_PATH = new TransformationPath("Object", "XML");
+    }
+
+    /**
+     * A binary document writer.
+     */
+    private final BinaryDocumentWriter writer;
+
+    /**
+     * The default constructor.
+     */
+    public BinarySerializerImpl() {
+
+        super();
+
+        writer = new BinaryDocumentWriter();
+    }
+
+    /**
+     * Serialize the specified object in a binary file.
+     *
+     * @param aFilename
+     *        the name of the output file
+     * @param anObject
+     *        the object which is to be serialized
+     *
+     * @throws IOException
+     *         the exception is thrown if an error occurs while writing to the
+     *         file
+     */
+    @Override
+    public void serialize(String aFilename, Object anObject) throws IOException {
+
+        serialize(new File(aFilename), anObject);
+    }
+
+    /**
+     * Serialize the specified object in a binary file.
+     *
+     * @param aFile
+     *        the output file
+     * @param anObject
+     *        the object which is to be serialized
+     *
+     * @throws IOException
+     *         the exception is thrown if an error occurs while writing to the
+     *         file
+     */
+    @Override
+    public void serialize(File aFile, Object anObject) throws IOException {
+
+        writeDocument(aFile, toDocument(anObject));
+    }
+
+    /**
+     * Transforms the specified object into an xml document without writing
+     * the document.
+     *
+     * @param anObject
+     *        the object which is to be transformed
+     *
+     * @return an xml document
+     */
+    @Override
+    public Document toDocument(Object anObject) {
+
+        TransformationParameters parameters =
+            TransformationHelper.newTransformationParameters(DEFAULT_TRANSFORMATION_PATH, anObject);
+
+        TransformationFactory factory = TransformationResources.getTransformationFactory();
+        return (Document) factory.transform(parameters);
+    }
+
+    /**
+     * Writes the specified xml document (see {@link #toDocument}) in its binary
+     * representation to the specified file.
+     *
+     * @param aFile
+     *        the output file
+     * @param aDocument
+     *        the xml document which is to be written
+     *
+     * @throws IOException
+     *         the exception is thrown if an error occurs while writing to the
+     *         file
+     */
+    @Override
+    public void writeDocument(File aFile, Document aDocument) throws IOException {
+
+        writer.writeTo(aFile, aDocument);
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.persistence.binary;
+
+
+import java.io.File;
+import java.io.IOException;
+
+import jmul.xml.reader.XmlDocumentReader;
+import jmul.xml.reader.XmlDocumentReaderImpl;
+
+import org.w3c.dom.Document;
+
+import org.xml.sax.SAXException;
+
+
+/**
+ * An implementation of a document reader which reads persisted objects
+ * regardless of their format (i.e. xml files and files with a binary
+ * representation, see {@link BinaryFormat}).
+ *
+ * @author Kristian Kutin
+ */
+public class PersistedDocumentReader implements XmlDocumentReader {
+
+    /**
+     * A reader for xml files.
+     */
+    private final XmlDocumentReader xmlReader;
+
+    /**
+     * A reader for binary files.
+     */
+    private final BinaryDocumentReader binaryReader;
+
+    /**
+     * The default constructor.
+     */
+    public PersistedDocumentReader() {
+
+        super();
+
+        xmlReader = new XmlDocumentReaderImpl();
+        binaryReader = new BinaryDocumentReader();
+    }
+
+    /**
+     * Reads a document from the specified file.
+     *
+     * @param aFilename
+     *        the name of the input file
+     *
+     * @return a document
+     *
+     * @throws SAXException
+     *         the exception is thrown if an xml file cannot be parsed
+     * @throws IOException
+     *         the exception is thrown if an error occurs while reading from
+     *         the file
+     */
+    @Override
+    public Document readFrom(String aFilename) throws SAXException, IOException {
+
+        return readFrom(new File(aFilename));
+    }
+
+    /**
+     * Reads a document from the specified file.
+     *
+     * @param aFile
+     *        the input file
+     *
+     * @return a document
+     *
+     * @throws SAXException
+     *         the exception is thrown if an xml file cannot be parsed
+     * @throws IOException
+     *         the exception is thrown if an error occurs while reading from
+     *         the file
+     */
+    @Override
+    public Document readFrom(File aFile) throws SAXException, IOException {
+
+        if (BinaryDocumentReader.isBinaryFile(aFile)) {
+
+            return binaryReader.readFrom(aFile);
+        }
+
+        return xmlReader.readFrom(aFile);
+    }
+
+    /**
+     * Reads a document from an xml file within an archive.
+     *
+     * @param anArchiveName
+     *        the name of the archive
+     * @param aFilename
+     *        the name of the file within the archive
+     *
+     * @return a document
+     *
+     * @throws SAXException
+     *         the exception is thrown if the xml file cannot be parsed
+     * @throws IOException
+     *         the exception is thrown if an error occurs while reading from
+     *         the archive
+     */
+    @Override
+    public Document readFrom(String anArchiveName, String aFilename) throws SAXException, IOException {
+
+        return xmlReader.readFrom(anArchiveName, aFilename);
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.persistence.cache;
+
+
+import jmul.misc.id.ID;
+
+
+/**
+ * An entry of a concurrent object cache (see
+ * {@link jmul.persistence.cache.ConcurrentObjectCacheImpl}). The entry
+ * listens to the expiration of its own object. Thus a late notification
+ * cannot remove a newer entry with the same ID.
+ *
+ * @param <T>
+ *        the type of the cached object
+ *
+ * @author Kristian Kutin
+ */
+class CacheEntry<T> implements ExpirationListener {
+
+    /**
+     * The cache which contains this entry.
+     */
+    private final ConcurrentObjectCacheImpl<T> cache;
+
+    /**
+     * The cached object.
+     */
+    private final T object;
+
+    /**
+     * The declared type of the cached object.
+     */
+    private final Class<?> declaredType;
+
+    /**
+     * The monitor which watches the expiration of this entry.
+     */
+    private volatile ExpirationMonitor monitor;
+
+    /**
+     * Constructs a cache entry.
+     *
+     * @param aCache
+     *        the cache which contains this entry
+     * @param anObject
+     *        the cached object
+     * @param aDeclaredType
+     *        the declared type of the cached object
+     */
+    CacheEntry(ConcurrentObjectCacheImpl<T> aCache, T anObject, Class<?> aDeclaredType) {
+
+        cache = aCache;
+        object = anObject;
+        declaredType = aDeclaredType;
+    }
+
+    /**
+     * Returns the cached object.
+     *
+     * @return an object
+     */
+    T getObject() {
+
+        return object;
+    }
+
+    /**
+     * Returns the declared type of the cached object.
+     *
+     * @return a declared type
+     */
+    Class<?> getDeclaredType() {
+
+        return declaredType;
+    }
+
+    /**
+     * Returns the monitor which watches the expiration of this entry.
+     *
+     * @return an expiration monitor
+     */
+    ExpirationMonitor getMonitor() {
+
+        return monitor;
+    }
+
+    /**
+     * Sets the monitor which watches the expiration of this entry.
+     *
+     * @param aMonitor
+     *        an expiration monitor
+     */
+    void setMonitor(ExpirationMonitor aMonitor) {
+
+        monitor = aMonitor;
+    }
+
+    /**
+     * With this method the listener is informed about an expiration.
+     *
+     * @param id
+     *        the id of the object which has expired
+     */
+    @Override
+    public void expirationNotification(ID id) {
+
+        cache.expireEntry(id, this);
+    }
+
+}
@@ -0,0 +1,755 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.persistence.cache;
+
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import jmul.misc.id.ID;
+
+
+/**
+ * An implementation of an object cache which is optimized for concurrent read
+ * access.<br>
+ * <br>
+ * <i>Implementation details:<br>
+ * <ul>
+ *   <li>All entries are kept in concurrent maps. Queries and cache hits don't
+ *     acquire a lock which is shared by the whole cache.</li>
+ *   <li>If several threads request the same object which is not cached yet
+ *     (see {@link #getObject(ID, ObjectLoader)}) then the object is loaded
+ *     only once. All other threads wait for the result.</li>
+ *   <li>The expiration of all cached objects is driven by a single expiration
+ *     scheduler (see {@link jmul.persistence.cache.ExpirationScheduler}).</li>
+ *   <li>Optionally the number of cached objects can be limited. If the limit
+ *     is exceeded an eviction policy (see
+ *     {@link jmul.persistence.cache.EvictionPolicy}) decides which object is
+ *     removed. All calls to the policy are synchronized on the policy, i.e.
+ *     cache hits of a limited cache acquire the policy's lock.</li>
+ * </ul>
+ * </i>
+ *
+ * @param <T>
+ *        the type of the cached objects
+ *
+ * @author Kristian Kutin
+ */
+public class ConcurrentObjectCacheImpl<T> implements ObjectCache<T> {
+
+    /**
+     * The scheduler which drives the expiration of all cached objects.
+     */
+    private final ExpirationScheduler scheduler;
+
+    /**
+     * The maximum number of cached objects.
+     */
+    private final int maximumSize;
+
+    /**
+     * The eviction policy or <code>null</code> if the number of cached objects
+     * is not limited.
+     */
+    private final EvictionPolicy evictionPolicy;
+
+    /**
+     * All cache entries according to their ids.
+     */
+    private final ConcurrentMap<ID, CacheEntry<T>> id2Entry;
+
+    /**
+     * All ids according to the objects they belong to.
+     */
+    private final ConcurrentMap<T, ID> object2ID;
+
+    /**
+     * All objects which are currently loaded.
+     */
+    private final ConcurrentMap<ID, FutureTask<T>> pendingLoads;
+
+    /**
+     * The default constructor. The number of cached objects is not limited.
+     */
+    public ConcurrentObjectCacheImpl() {
+
+        this(new TimerWheelImpl());
+    }
+
+    /**
+     * Constructs an object cache with a limited size.
+     *
+     * @param aMaximumSize
+     *        the maximum number of cached objects
+     * @param anEvictionPolicy
+     *        a policy which decides which object is removed if the limit is
+     *        exceeded
+     */
+    public ConcurrentObjectCacheImpl(int aMaximumSize, EvictionPolicy anEvictionPolicy) {
+
+        this(new TimerWheelImpl(), aMaximumSize, checkEvictionPolicy(anEvictionPolicy));
+    }
+
+    /**
+     * Constructs an object cache. The number of cached objects is not limited.
+     *
+     * @param aScheduler
+     *        the scheduler which drives the expiration of cached objects
+     */
+    public ConcurrentObjectCacheImpl(ExpirationScheduler aScheduler) {
+
+        this(aScheduler, ObjectCacheImpl.UNLIMITED, null);
+    }
+
+    /**
+     * Constructs an object cache.
+     *
+     * @param aScheduler
+     *        the scheduler which drives the expiration of cached objects
+     * @param aMaximumSize
+     *        the maximum number of cached objects or
+     *        {@link ObjectCacheImpl#UNLIMITED}
+     * @param anEvictionPolicy
+     *        a policy which decides which object is removed if the limit is
+     *        exceeded or <code>null</code> if the size is unlimited
+     */
+    public ConcurrentObjectCacheImpl(ExpirationScheduler aScheduler, int aMaximumSize,
+                                     EvictionPolicy anEvictionPolicy) {
+
+        if (aScheduler == null) {
+
+            String message = "No expiration scheduler has been specified (null)!";
+            throw new IllegalArgumentException(message);
+        }
+
+        if ((anEvictionPolicy != null) && (aMaximumSize <= 0)) {
+
+            String message = "The maximum size must be greater than zero (" + aMaximumSize + ")!";
+            throw new IllegalArgumentException(message);
+        }
+
+        scheduler = aScheduler;
+        evictionPolicy = anEvictionPolicy;
+        maximumSize = (anEvictionPolicy == null) ? ObjectCacheImpl.UNLIMITED : aMaximumSize;
+
+        id2Entry = new ConcurrentHashMap<>();
+        object2ID = new ConcurrentHashMap<>();
+        pendingLoads = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Checks the specified parameter.
+     *
+     * @param anEvictionPolicy
+     *        an eviction policy
+     *
+     * @return the specified eviction policy
+     */
+    private static EvictionPolicy checkEvictionPolicy(EvictionPolicy anEvictionPolicy) {
+
+        if (anEvictionPolicy == null) {
+
+            String message = "No eviction policy has been specified (null)!";
+            throw new IllegalArgumentException(message);
+        }
+
+        return anEvictionPolicy;
+    }
+
+    /**
+     * The method checks if this object container knows the specified object.
+     *
+     * @param anObject
+     *        an object
+     *
+     * @return <code>true</code> if this object container knows the specified
+     *         object, else <code>false</code>
+     */
+    @Override
+    public boolean existsObject(T anObject) {
+
+        return object2ID.containsKey(anObject);
+    }
+
+    /**
+     * The method checks if this object container knows the specified object. To
+     * avoid ambiguities the delcared type is provided.
+     *
+     * @param anObject
+     *        an object
+     * @param aDeclaredType
+     *        the declared type of the object
+     *
+     * @return <code>true</code> if this object container knows the specified
+     *         object, else <code>false</code>
+     */
+    @Override
+    @SuppressWarnings("rawtypes") // The raw parameter type is declared by ObjectCache.
+    public boolean existsObject(T anObject, Class aDeclaredType) {
+
+        return getID(anObject, aDeclaredType) != null;
+    }
+
+    /**
+     * The method checks if the object container knows the specified ID.
+     *
+     * @param anID
+     *        an ID
+     *
+     * @return <code>true</code> if the object container knows the specified ID,
+     *         else <code>false</code>
+     */
+    @Override
+    public boolean existsID(ID anID) {
+
+        return id2Entry.containsKey(anID);
+    }
+
+    /**
+     * The method adds an object to this object container and the
+     * specified object is assigned the specified ID.
+     *
+     * @param anID
+     *        the ID of the specified object
+     * @param anObject
+     *        an object
+     *
+     * @return the ID which was assigned to the specified object
+     */
+    @Override
+    public ID addObject(ID anID, T anObject) {
+
+        checkObject(anObject);
+
+        return addObject(anID, anObject, anObject.getClass());
+    }
+
+    /**
+     * The method adds an object to this object container and the
+     * specified object is assigned the specified ID.
+     *
+     * @param anID
+     *        the ID of the specified object
+     * @param anObject
+     *        an object
+     * @param aDeclaredType
+     *        the declared type of the object
+     *
+     * @return the ID which was assigned to the specified object
+     */
+    @Override
+    @SuppressWarnings("rawtypes") // The raw parameter type is declared by ObjectCache.
+    public ID addObject(ID anID, T anObject, Class aDeclaredType) {
+
+        if (putEntry(anID, anObject, aDeclaredType) != null) {
+
+            String message = "The specified object was already added to this object container!";
+            throw new IllegalArgumentException(message);
+        }
+
+        return anID;
+    }
+
+    /**
+     * Adds a new entry to this cache if no entry with the specified ID exists.
+     *
+     * @param anID
+     *        the ID of the specified object
+     * @param anObject
+     *        an object
+     * @param aDeclaredType
+     *        the declared type of the object
+     *
+     * @return the existing entry or <code>null</code> if the new entry was
+     *         added
+     */
+    private CacheEntry<T> putEntry(ID anID, T anObject, Class<?> aDeclaredType) {
+
+        if (anID == null) {
+
+            String message = "No valid ID has been specified (null)!";
+            throw new IllegalArgumentException(message);
+        }
+
+        checkObject(anObject);
+
+        if (aDeclaredType == null) {
+
+            String message = "No declared type has been specified (null)!";
+            throw new IllegalArgumentException(message);
+        }
+
+        if (!aDeclaredType.isInstance(anObject)) {
+
+            String message =
+                "The specified object is not an instance of the declared type (" + aDeclaredType.getName() + ")!";
+            throw new IllegalArgumentException(message);
+        }
+
+
+        CacheEntry<T> entry = new CacheEntry<>(this, anObject, aDeclaredType);
+        CacheEntry<T> existingEntry = id2Entry.putIfAbsent(anID, entry);
+
+        if (existingEntry != null) {
+
+            return existingEntry;
+        }
+
+        updateObjectID(anID, anObject);
+        entry.setMonitor(scheduler.schedule(anID, entry));
+
+        if (id2Entry.get(anID) != entry) {
+
+            // The entry was removed concurrently before the monitor was
+            // assigned.
+            scheduler.cancel(entry.getMonitor());
+        }
+
+        recordInsertion(anID, entry);
+
+        return null;
+    }
+
+    /**
+     * Informs the eviction policy about the specified new entry and removes
+     * other objects as long as the cache exceeds its maximum size.
+     *
+     * @param anID
+     *        the ID of the new entry
+     * @param anEntry
+     *        the new entry
+     */
+    private void recordInsertion(ID anID, CacheEntry<T> anEntry) {
+
+        if (evictionPolicy == null) {
+
+            return;
+        }
+
+        synchronized (evictionPolicy) {
+
+            // The new entry is not known to the policy yet, i.e. it is not
+            // evicted right away.
+
+            while (id2Entry.size() > maximumSize) {
+
+                ID victim = evictionPolicy.selectVictim();
+
+                if (victim == null) {
+
+                    break;
+                }
+
+                // A victim which was removed concurrently is forgotten too.
+                removeObject(victim);
+                recordRemoval(victim);
+            }
+
+            // An entry which was removed concurrently has already been reported
+            // to the policy.
+
+            if (id2Entry.get(anID) == anEntry) {
+
+                evictionPolicy.recordInsertion(anID);
+            }
+        }
+    }
+
+    /**
+     * Informs the eviction policy that the object with the specified ID was
+     * removed. If a new entry with the same ID was added in the meantime then
+     * the policy keeps the ID.
+     *
+     * @param anID
+     *        an ID
+     */
+    private void recordRemoval(ID anID) {
+
+        if (evictionPolicy == null) {
+
+            return;
+        }
+
+        synchronized (evictionPolicy) {
+
+            if (!id2Entry.containsKey(anID)) {
+
+                evictionPolicy.recordRemoval(anID);
+            }
+        }
+    }
+
+    /**
+     * Checks the specified parameter.
+     *
+     * @param anObject
+     *        an object
+     */
+    private static void checkObject(Object anObject) {
+
+        if (anObject == null) {
+
+            String message = "No valid object has been specified (null)!";
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    /**
+     * Every object is assigned an ID. The method returns the object which is
+     * associated with the specified ID.
+     *
+     * @param anID
+     *        an ID
+     *
+     * @return the object which is associated with the specified id or
+     *         <code>null</code> if no such object exists
+     */
+    @Override
+    public T getObject(ID anID) {
+
+        CacheEntry<T> entry = id2Entry.get(anID);
+
+        if (entry == null) {
+
+            return null;
+        }
+
+        recordAccess(anID);
+
+        return entry.getObject();
+    }
+
+    /**
+     * Informs the eviction policy that the object with the specified ID was
+     * accessed.
+     *
+     * @param anID
+     *        an ID
+     */
+    private void recordAccess(ID anID) {
+
+        if (evictionPolicy == null) {
+
+            return;
+        }
+
+        synchronized (evictionPolicy) {
+
+            if (id2Entry.containsKey(anID)) {
+
+                evictionPolicy.recordAccess(anID);
+            }
+        }
+    }
+
+    /**
+     * Returns the object which is associated with the specified ID. If the
+     * object is not cached yet then it is loaded with the specified loader and
+     * added to this cache. Concurrent requests for the same ID invoke the
+     * loader only once.
+     *
+     * @param anID
+     *        an ID
+     * @param aLoader
+     *        a loader which is used if the object is not cached yet
+     *
+     * @return the object which is associated with the specified ID or
+     *         <code>null</code> if the loader doesn't know such an object
+     *
+     * @throws ObjectLoadingException
+     *         the exception is thrown if loading the object failed
+     */
+    @Override
+    public T getObject(ID anID, ObjectLoader<T> aLoader) throws ObjectLoadingException {
+
+        CacheEntry<T> entry = id2Entry.get(anID);
+
+        if (entry != null) {
+
+            recordAccess(anID);
+
+            return entry.getObject();
+        }
+
+
+        FutureTask<T> newTask = new FutureTask<>(new LoadingTask<>(this, anID, aLoader));
+        FutureTask<T> task = pendingLoads.putIfAbsent(anID, newTask);
+
+        if (task == null) {
+
+            task = newTask;
+            task.run();
+        }
+
+        try {
+
+            return task.get();
+
+        } catch (ExecutionException e) {
+
+            String message = "Loading the object with the ID " + anID + " was not successful!";
+            throw new ObjectLoadingException(message, e.getCause());
+
+        } catch (InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+
+            String message = "Loading the object with the ID " + anID + " was interrupted!";
+            throw new ObjectLoadingException(message, e);
+
+        } finally {
+
+            if (task == newTask) {
+
+                pendingLoads.remove(anID, newTask);
+            }
+        }
+    }
+
+    /**
+     * Loads the object which is associated with the specified ID and adds it to
+     * this cache. If another thread added the object in the meantime then the
+     * cached object is returned.
+     *
+     * @param anID
+     *        an ID
+     * @param aLoader
+     *        a loader
+     *
+     * @return the cached object or <code>null</code> if the loader doesn't
+     *         know such an object
+     *
+     * @throws Exception
+     *         the exception is thrown if loading the object failed
+     */
+    T loadObject(ID anID, ObjectLoader<T> aLoader) throws Exception {
+
+        CacheEntry<T> entry = id2Entry.get(anID);
+
+        if (entry != null) {
+
+            return entry.getObject();
+        }
+
+        T loadedObject = aLoader.loadObject(anID);
+
+        if (loadedObject == null) {
+
+            return null;
+        }
+
+        CacheEntry<T> existingEntry = putEntry(anID, loadedObject, loadedObject.getClass());
+
+        if (existingEntry != null) {
+
+            return existingEntry.getObject();
+        }
+
+        return loadedObject;
+    }
+
+    /**
+     * Every object is assigned an ID. The method returns the declared type of the
+     * object which is associated with the specified ID.
+     *
+     * @param anID
+     *        an ID
+     *
+     * @return the declared type of the object which is associated with the
+     *         specified ID or <code>null</code> if no such object exists
+     */
+    @Override
+    public Class<?> getDeclaredType(ID anID) {
+
+        CacheEntry<T> entry = id2Entry.get(anID);
+
+        if (entry == null) {
+
+            return null;
+        }
+
+        return entry.getDeclaredType();
+    }
+
+    /**
+     * The method returns the ID for the specified object.
+     *
+     * @param anObject
+     *        an object
+     * @param aDeclaredType
+     *        the declared type of the object
+     *
+     * @return the ID which was assigned to the specified object or
+     *         <code>null</code> if the object container doesn't know the
+     *         specified object with the specified declared type
+     */
+    @Override
+    @SuppressWarnings("rawtypes") // The raw parameter type is declared by ObjectCache.
+    public ID getID(T anObject, Class aDeclaredType) {
+
+        ID id = getID(anObject);
+
+        if (id == null) {
+
+            return null;
+        }
+
+        CacheEntry<T> entry = id2Entry.get(id);
+
+        if ((entry == null) || !entry.getDeclaredType().equals(aDeclaredType)) {
+
+            return null;
+        }
+
+        return id;
+    }
+
+    /**
+     * The method returns the id of the specified object
+     *
+     * @param anObject
+     *        an object
+     *
+     * @return the ID which was assigned to the specified object or
+     *         <code>null</code> if the object container doesn't know the
+     *         specified object
+     */
+    @Override
+    public ID getID(T anObject) {
+
+        return object2ID.get(anObject);
+    }
+
+    /**
+     * Removes the specified entry if it is still associated with the specified
+     * ID.
+     *
+     * @param anID
+     *        an ID
+     * @param anEntry
+     *        a cache entry
+     */
+    void expireEntry(ID anID, CacheEntry<T> anEntry) {
+
+        if (id2Entry.remove(anID, anEntry)) {
+
+            updateObjectID(anID, anEntry.getObject());
+            recordRemoval(anID);
+        }
+    }
+
+    /**
+     * Updates the ID of the specified object according to the entry which is
+     * currently associated with the specified ID. Entries are added and
+     * removed without a lock, but every change is followed by an update and
+     * all updates are serialized, i.e. the last update sees the latest entry
+     * and a removed entry never leaves a stale ID behind.
+     *
+     * @param anID
+     *        an ID
+     * @param anObject
+     *        the object which was added with the specified ID or whose entry
+     *        was removed
+     */
+    private void updateObjectID(ID anID, T anObject) {
+
+        synchronized (object2ID) {
+
+            CacheEntry<T> entry = id2Entry.get(anID);
+
+            if ((entry != null) && entry.getObject().equals(anObject)) {
+
+                object2ID.put(anObject, anID);
+
+            } else {
+
+                object2ID.remove(anObject, anID);
+            }
+        }
+    }
+
+    /**
+     * The method cleans the cache (i.e. all cached objects are removed and
+     * their expiration monitors are cancelled).
+     */
+    @Override
+    public void clear() {
+
+        for (ID id : id2Entry.keySet()) {
+
+            removeObject(id);
+        }
+    }
+
+    /**
+     * Removes the object as specified by the ID from the object cache.
+     *
+     * @param anID
+     *        an ID
+     */
+    @Override
+    public void removeObject(ID anID) {
+
+        CacheEntry<T> entry = id2Entry.remove(anID);
+
+        if (entry == null) {
+
+            return;
+        }
+
+        updateObjectID(anID, entry.getObject());
+        recordRemoval(anID);
+
+        ExpirationMonitor monitor = entry.getMonitor();
+
+        if (monitor != null) {
+
+            scheduler.cancel(monitor);
+        }
+    }
+
+    /**
+     * Returns the number of cached objects.
+     *
+     * @return the number of cached objects
+     */
+    public int size() {
+
+        return id2Entry.size();
+    }
+
+}
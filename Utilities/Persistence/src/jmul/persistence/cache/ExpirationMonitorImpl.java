@@ -47,7 +47,12 @@ import jmul.misc.id.ID;
  * An implementation of an expiration monitor.
  *
  * @author Kristian Kutin
+ *
+ * @deprecated Every monitor requires its own thread. Use an expiration
+ *             scheduler (see {@link jmul.persistence.cache.TimerWheelImpl})
+ *             instead.
  */
+@Deprecated
 public class ExpirationMonitorImpl implements ExpirationMonitor {
 
     /**
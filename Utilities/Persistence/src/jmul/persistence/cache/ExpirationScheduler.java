@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.persistence.cache;
+
+
+import jmul.misc.id.ID;
+
+
+/**
+ * This interface describes an entity which drives the expiration of many
+ * monitored objects (see {@link jmul.persistence.cache.ExpirationMonitor})
+ * with a shared thread instead of one thread per monitored object.
+ *
+ * @author Kristian Kutin
+ */
+public interface ExpirationScheduler {
+
+    /**
+     * Creates a new expiration monitor for the specified object and schedules
+     * its expiration. The specified listener is informed when the expiration is
+     * due.
+     *
+     * @param anID
+     *        the id of the monitored object
+     * @param aListener
+     *        an expiration listener
+     *
+     * @return a new expiration monitor
+     */
+    ExpirationMonitor schedule(ID anID, ExpirationListener aListener);
+
+    /**
+     * Cancels the specified expiration monitor. The listeners of the monitor
+     * are not informed.
+     *
+     * @param aMonitor
+     *        an expiration monitor
+     */
+    void cancel(ExpirationMonitor aMonitor);
+
+    /**
+     * Returns the number of currently scheduled expiration monitors.
+     *
+     * @return the number of scheduled monitors
+     */
+    int size();
+
+}
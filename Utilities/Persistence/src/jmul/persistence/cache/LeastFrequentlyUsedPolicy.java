@@ -0,0 +1,191 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.persistence.cache;
+
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import jmul.misc.id.ID;
+
+
+/**
+ * An implementation of an eviction policy which removes the least frequently
+ * used object first. If several objects have the same access count then the
+ * one which reached this count first is removed.
+ *
+ * @author Kristian Kutin
+ */
+public class LeastFrequentlyUsedPolicy implements EvictionPolicy {
+
+    /**
+     * The access counts according to the IDs.
+     */
+    private final Map<ID, Integer> id2Frequency;
+
+    /**
+     * All IDs grouped by their access count.
+     */
+    private final TreeMap<Integer, Set<ID>> frequency2IDs;
+
+    /**
+     * The default constructor.
+     */
+    public LeastFrequentlyUsedPolicy() {
+
+        id2Frequency = new HashMap<>();
+        frequency2IDs = new TreeMap<>();
+    }
+
+    /**
+     * Informs the policy that an object with the specified ID was added to the
+     * cache.
+     *
+     * @param anID
+     *        the id of the added object
+     */
+    @Override
+    public void recordInsertion(ID anID) {
+
+        recordRemoval(anID);
+
+        id2Frequency.put(anID, 1);
+        addToGroup(1, anID);
+    }
+
+    /**
+     * Informs the policy that an object with the specified ID was accessed.
+     *
+     * @param anID
+     *        the id of the accessed object
+     */
+    @Override
+    public void recordAccess(ID anID) {
+
+        Integer frequency = id2Frequency.get(anID);
+
+        if (frequency == null) {
+
+            return;
+        }
+
+        removeFromGroup(frequency, anID);
+
+        int newFrequency = frequency + 1;
+        id2Frequency.put(anID, newFrequency);
+        addToGroup(newFrequency, anID);
+    }
+
+    /**
+     * Informs the policy that an object with the specified ID was removed from
+     * the cache.
+     *
+     * @param anID
+     *        the id of the removed object
+     */
+    @Override
+    public void recordRemoval(ID anID) {
+
+        Integer frequency = id2Frequency.remove(anID);
+
+        if (frequency != null) {
+
+            removeFromGroup(frequency, anID);
+        }
+    }
+
+    /**
+     * Determines which object should be removed next.
+     *
+     * @return the id of the object which should be removed next or
+     *         <code>null</code> if no object is known to this policy
+     */
+    @Override
+    public ID selectVictim() {
+
+        if (frequency2IDs.isEmpty()) {
+
+            return null;
+        }
+
+        Set<ID> group = frequency2IDs.firstEntry().getValue();
+        return group.iterator().next();
+    }
+
+    /**
+     * Adds the specified ID to the group with the specified access count.
+     *
+     * @param aFrequency
+     *        an access count
+     * @param anID
+     *        an ID
+     */
+    private void addToGroup(int aFrequency, ID anID) {
+
+        Set<ID> group = frequency2IDs.get(aFrequency);
+
+        if (group == null) {
+
+            group = new LinkedHashSet<>();
+            frequency2IDs.put(aFrequency, group);
+        }
+
+        group.add(anID);
+    }
+
+    /**
+     * Removes the specified ID from the group with the specified access count.
+     * Empty groups are discarded.
+     *
+     * @param aFrequency
+     *        an access count
+     * @param anID
+     *        an ID
+     */
+    private void removeFromGroup(int aFrequency, ID anID) {
+
+        Set<ID> group = frequency2IDs.get(aFrequency);
+        group.remove(anID);
+
+        if (group.isEmpty()) {
+
+            frequency2IDs.remove(aFrequency);
+        }
+    }
+
+}
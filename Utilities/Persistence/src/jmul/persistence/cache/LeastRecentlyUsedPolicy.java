@@ -0,0 +1,127 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.persistence.cache;
+
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import jmul.misc.id.ID;
+
+
+/**
+ * An implementation of an eviction policy which removes the least recently used
+ * object first. All operations take constant time.
+ *
+ * @author Kristian Kutin
+ */
+public class LeastRecentlyUsedPolicy implements EvictionPolicy {
+
+    /**
+     * All known IDs. The first entry is the least recently used one.
+     */
+    private final Set<ID> accessOrder;
+
+    /**
+     * The default constructor.
+     */
+    public LeastRecentlyUsedPolicy() {
+
+        accessOrder = new LinkedHashSet<>();
+    }
+
+    /**
+     * Informs the policy that an object with the specified ID was added to the
+     * cache.
+     *
+     * @param anID
+     *        the id of the added object
+     */
+    @Override
+    public void recordInsertion(ID anID) {
+
+        accessOrder.remove(anID);
+        accessOrder.add(anID);
+    }
+
+    /**
+     * Informs the policy that an object with the specified ID was accessed.
+     *
+     * @param anID
+     *        the id of the accessed object
+     */
+    @Override
+    public void recordAccess(ID anID) {
+
+        if (accessOrder.remove(anID)) {
+
+            accessOrder.add(anID);
+        }
+    }
+
+    /**
+     * Informs the policy that an object with the specified ID was removed from
+     * the cache.
+     *
+     * @param anID
+     *        the id of the removed object
+     */
+    @Override
+    public void recordRemoval(ID anID) {
+
+        accessOrder.remove(anID);
+    }
+
+    /**
+     * Determines which object should be removed next.
+     *
+     * @return the id of the object which should be removed next or
+     *         <code>null</code> if no object is known to this policy
+     */
+    @Override
+    public ID selectVictim() {
+
+        Iterator<ID> iterator = accessOrder.iterator();
+
+        if (iterator.hasNext()) {
+
+            return iterator.next();
+        }
+
+        return null;
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.persistence.cache;
+
+
+import java.util.concurrent.Callable;
+
+import jmul.misc.id.ID;
+
+
+/**
+ * A task which loads an object into a concurrent object cache (see
+ * {@link jmul.persistence.cache.ConcurrentObjectCacheImpl}).
+ *
+ * @param <T>
+ *        the type of the loaded object
+ *
+ * @author Kristian Kutin
+ */
+class LoadingTask<T> implements Callable<T> {
+
+    /**
+     * The cache which receives the loaded object.
+     */
+    private final ConcurrentObjectCacheImpl<T> cache;
+
+    /**
+     * The id of the loaded object.
+     */
+    private final ID id;
+
+    /**
+     * The loader.
+     */
+    private final ObjectLoader<T> loader;
+
+    /**
+     * Constructs a loading task.
+     *
+     * @param aCache
+     *        the cache which receives the loaded object
+     * @param anID
+     *        the id of the loaded object
+     * @param aLoader
+     *        a loader
+     */
+    LoadingTask(ConcurrentObjectCacheImpl<T> aCache, ID anID, ObjectLoader<T> aLoader) {
+
+        cache = aCache;
+        id = anID;
+        loader = aLoader;
+    }
+
+    /**
+     * Loads the object and adds it to the cache.
+     *
+     * @return the cached object
+     *
+     * @throws Exception
+     *         the exception is thrown if loading the object failed
+     */
+    @Override
+    public T call() throws Exception {
+
+        return cache.loadObject(id, loader);
+    }
+
+}
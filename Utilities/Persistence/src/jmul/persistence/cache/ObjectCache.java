@@ -39,6 +39,7 @@ import jmul.misc.cache.contracts.ExplicitIDAppender;
 import jmul.misc.cache.contracts.IDQueries;
 import jmul.misc.cache.contracts.ObjectDeletion;
 import jmul.misc.cache.contracts.ObjectQueries;
+import jmul.misc.id.ID;
 
 
 /**
@@ -52,4 +53,23 @@ import jmul.misc.cache.contracts.ObjectQueries;
  */
 public interface ObjectCache<T> extends ObjectQueries<T>, IDQueries<T>, ExplicitIDAppender<T>, ObjectDeletion,
                                         Clearable {
+
+    /**
+     * Returns the object which is associated with the specified ID. If the
+     * object is not cached yet then it is loaded with the specified loader and
+     * added to this cache.
+     *
+     * @param anID
+     *        an ID
+     * @param aLoader
+     *        a loader which is used if the object is not cached yet
+     *
+     * @return the object which is associated with the specified ID or
+     *         <code>null</code> if the loader doesn't know such an object
+     *
+     * @throws ObjectLoadingException
+     *         the exception is thrown if loading the object failed
+     */
+    T getObject(ID anID, ObjectLoader<T> aLoader) throws ObjectLoadingException;
+
 }
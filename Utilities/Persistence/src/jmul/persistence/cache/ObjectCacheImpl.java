@@ -34,8 +34,7 @@
 package jmul.persistence.cache;
 
 
-import java.text.DecimalFormat;
-
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -43,22 +42,40 @@ import jmul.misc.id.ID;
 
 
 /**
- * An implementation of an object cache.
+ * An implementation of an object cache.<br>
+ * <br>
+ * <i>Implementation details:<br>
+ * The expiration of all cached objects is driven by a single expiration
+ * scheduler (see {@link jmul.persistence.cache.ExpirationScheduler}). Optionally
+ * the number of cached objects can be limited. If the limit is reached an
+ * eviction policy (see {@link jmul.persistence.cache.EvictionPolicy}) decides
+ * which object is removed.</i>
  *
  * @author Kristian Kutin
  */
 public class ObjectCacheImpl<T> implements ExpirationListener, ObjectCache<T> {
 
     /**
-     * The name prefix for an expiration monitor.
+     * A value which indicates that the number of cached objects is not
+     * limited.
      */
-    private static final String EXPIRATION_MONITOR_NAME_PREFIX = "";
+    public static final int UNLIMITED = -1;
 
     /**
-     * If a new expiration monitor is started this ID will be assigned to it. After assignment this member's value
-     * will be increased by 1.
+     * The scheduler which drives the expiration of all cached objects.
      */
-    private static int nextExpirationMonitorId = 1;
+    private final ExpirationScheduler scheduler;
+
+    /**
+     * The maximum number of cached objects.
+     */
+    private final int maximumSize;
+
+    /**
+     * The eviction policy or <code>null</code> if the number of cached objects
+     * is not limited.
+     */
+    private final EvictionPolicy evictionPolicy;
 
     /**
      * References to all monitors in case the cache needs to be cleaned.
@@ -76,16 +93,81 @@ public class ObjectCacheImpl<T> implements ExpirationListener, ObjectCache<T> {
     private Map<T, ID> object2ID;
 
     /**
-     * The default constructor.
+     * The default constructor. The number of cached objects is not limited.
      */
     public ObjectCacheImpl() {
 
+        this(new TimerWheelImpl(), UNLIMITED, null);
+    }
+
+    /**
+     * Constructs an object cache with a limited size.
+     *
+     * @param aMaximumSize
+     *        the maximum number of cached objects
+     * @param anEvictionPolicy
+     *        a policy which decides which object is removed if the limit is
+     *        reached
+     */
+    public ObjectCacheImpl(int aMaximumSize, EvictionPolicy anEvictionPolicy) {
+
+        this(new TimerWheelImpl(), aMaximumSize, checkEvictionPolicy(anEvictionPolicy));
+    }
+
+    /**
+     * Constructs an object cache.
+     *
+     * @param aScheduler
+     *        the scheduler which drives the expiration of cached objects
+     * @param aMaximumSize
+     *        the maximum number of cached objects or {@link #UNLIMITED}
+     * @param anEvictionPolicy
+     *        a policy which decides which object is removed if the limit is
+     *        reached or <code>null</code> if the size is unlimited
+     */
+    public ObjectCacheImpl(ExpirationScheduler aScheduler, int aMaximumSize, EvictionPolicy anEvictionPolicy) {
+
+        if (aScheduler == null) {
+
+            String message = "No expiration scheduler has been specified (null)!";
+            throw new IllegalArgumentException(message);
+        }
+
+        if ((anEvictionPolicy != null) && (aMaximumSize <= 0)) {
+
+            String message = "The maximum size must be greater than zero (" + aMaximumSize + ")!";
+            throw new IllegalArgumentException(message);
+        }
+
+        scheduler = aScheduler;
+        evictionPolicy = anEvictionPolicy;
+        maximumSize = (anEvictionPolicy == null) ? UNLIMITED : aMaximumSize;
+
         monitors = new HashMap<>();
 
         id2Object = new HashMap<>();
         object2ID = new HashMap<>();
     }
 
+    /**
+     * Checks the specified parameter.
+     *
+     * @param anEvictionPolicy
+     *        an eviction policy
+     *
+     * @return the specified eviction policy
+     */
+    private static EvictionPolicy checkEvictionPolicy(EvictionPolicy anEvictionPolicy) {
+
+        if (anEvictionPolicy == null) {
+
+            String message = "No eviction policy has been specified (null)!";
+            throw new IllegalArgumentException(message);
+        }
+
+        return anEvictionPolicy;
+    }
+
     /**
      * The method checks if this object container knows the specified object.
      *
@@ -164,52 +246,88 @@ public class ObjectCacheImpl<T> implements ExpirationListener, ObjectCache<T> {
     @Override
     public ID addObject(ID anID, T anObject) {
 
-        if (!existsID(anID)) {
+        synchronized (this) {
 
-            synchronized (this) {
+            if (id2Object.containsKey(anID)) {
 
-                // Add new entries for the specified object.
-                id2Object.put(anID, anObject);
-                object2ID.put(anObject, anID);
+                String message = "The specified object was already added to this object container!";
+                throw new IllegalArgumentException(message);
+            }
 
-                // Initialize a new monitor.
-                ExpirationMonitor monitor = new ExpirationMonitorImpl(anID);
-                monitor.addExpirationListener(this);
-                monitors.put(anID, monitor);
+            // Make room for the new entry if the cache is full.
+            evictObjects();
 
-                String digits = String.valueOf(nextExpirationMonitorId);
-                String patternString = digits.replaceAll("[1-9]", "0");
-                DecimalFormat pattern = new DecimalFormat(patternString);
+            // Add new entries for the specified object.
+            id2Object.put(anID, anObject);
+            object2ID.put(anObject, anID);
 
-                Thread thread = new Thread(monitor);
-                int newID = getNextExpirationMonitorID();
-                String newThreadName =
-                    EXPIRATION_MONITOR_NAME_PREFIX + pattern.format(newID) + "-" + anObject.getClass().getName() + "@" +
-                    anObject.hashCode();
-                thread.setName(newThreadName);
+            // Schedule the expiration.
+            ScheduledExpiration expiration = new ScheduledExpiration(this);
+            ExpirationMonitor monitor = scheduler.schedule(anID, expiration);
+            expiration.setMonitor(monitor);
+            monitors.put(anID, monitor);
 
-                thread.start();
+            if (evictionPolicy != null) {
+
+                evictionPolicy.recordInsertion(anID);
             }
+        }
+
+        return anID;
+    }
 
-            return anID;
+    /**
+     * Removes objects as long as the cache has reached its maximum size. The
+     * caller has to hold the lock of this cache.
+     */
+    private void evictObjects() {
+
+        if (evictionPolicy == null) {
+
+            return;
         }
 
+        while (id2Object.size() >= maximumSize) {
+
+            ID victim = evictionPolicy.selectVictim();
+
+            if (victim == null) {
+
+                break;
+            }
 
-        String message = "The specified object was already added to this object container!";
-        throw new IllegalArgumentException(message);
+            removeEntry(victim);
+        }
     }
 
     /**
-     * Returns the next ID for an expiration monitor.
+     * Removes all entries which belong to the specified ID and cancels the
+     * associated expiration monitor. The caller has to hold the lock of this
+     * cache.
      *
-     * @return an ID
+     * @param anID
+     *        an ID
      */
-    private static int getNextExpirationMonitorID() {
+    private void removeEntry(ID anID) {
+
+        T object = id2Object.remove(anID);
+
+        if (object != null) {
+
+            object2ID.remove(object);
+        }
 
-        int newID = nextExpirationMonitorId;
-        nextExpirationMonitorId++;
+        ExpirationMonitor monitor = monitors.remove(anID);
 
-        return newID;
+        if (monitor != null) {
+
+            scheduler.cancel(monitor);
+        }
+
+        if (evictionPolicy != null) {
+
+            evictionPolicy.recordRemoval(anID);
+        }
     }
 
     /**
@@ -251,11 +369,80 @@ public class ObjectCacheImpl<T> implements ExpirationListener, ObjectCache<T> {
         synchronized (this) {
 
             result = id2Object.get(anID);
+
+            if ((result != null) && (evictionPolicy != null)) {
+
+                evictionPolicy.recordAccess(anID);
+            }
         }
 
         return result;
     }
 
+    /**
+     * Returns the object which is associated with the specified ID. If the
+     * object is not cached yet then it is loaded with the specified loader and
+     * added to this cache.<br>
+     * <br>
+     * <i>The loader is invoked without holding the lock of this cache. If
+     * several threads load the same object concurrently then the object which
+     * is added first wins.</i>
+     *
+     * @param anID
+     *        an ID
+     * @param aLoader
+     *        a loader which is used if the object is not cached yet
+     *
+     * @return the object which is associated with the specified ID or
+     *         <code>null</code> if the loader doesn't know such an object
+     *
+     * @throws ObjectLoadingException
+     *         the exception is thrown if loading the object failed
+     */
+    @Override
+    public T getObject(ID anID, ObjectLoader<T> aLoader) throws ObjectLoadingException {
+
+        T result = getObject(anID);
+
+        if (result != null) {
+
+            return result;
+        }
+
+
+        T loadedObject;
+
+        try {
+
+            loadedObject = aLoader.loadObject(anID);
+
+        } catch (Exception e) {
+
+            String message = "Loading the object with the ID " + anID + " was not successful!";
+            throw new ObjectLoadingException(message, e);
+        }
+
+        if (loadedObject == null) {
+
+            return null;
+        }
+
+
+        synchronized (this) {
+
+            result = id2Object.get(anID);
+
+            if (result != null) {
+
+                return result;
+            }
+
+            addObject(anID, loadedObject);
+        }
+
+        return loadedObject;
+    }
+
     /**
      * Every object is assigned an ID. The method returns the declared type of the
      * object which is associated with the specified ID.
@@ -314,7 +501,34 @@ public class ObjectCacheImpl<T> implements ExpirationListener, ObjectCache<T> {
     }
 
     /**
-     * With this method the listener is informed about an expiration.
+     * Removes the object with the specified ID if the specified listener
+     * belongs to the current entry. A notification of a monitor which has been
+     * replaced in the meantime (i.e. the object was removed and added again)
+     * is ignored.
+     *
+     * @param anID
+     *        the id of the object which has expired
+     * @param anExpiration
+     *        the listener which was scheduled for the entry
+     */
+    void expireEntry(ID anID, ScheduledExpiration anExpiration) {
+
+        synchronized (this) {
+
+            ExpirationMonitor monitor = monitors.get(anID);
+
+            if ((monitor != null) && (monitor == anExpiration.getMonitor())) {
+
+                expirationNotification(anID);
+            }
+        }
+    }
+
+    /**
+     * With this method the listener is informed about an expiration. The
+     * object with the specified ID is removed regardless of which monitor is
+     * due (the monitors which are scheduled by this cache report to
+     * {@link #expireEntry}).
      *
      * @param id
      *        the id of the object which has expired
@@ -324,25 +538,34 @@ public class ObjectCacheImpl<T> implements ExpirationListener, ObjectCache<T> {
 
         synchronized (this) {
 
-            T object = id2Object.get(id);
-            id2Object.remove(id);
-            object2ID.remove(object);
+            T object = id2Object.remove(id);
+
+            if (object != null) {
+
+                object2ID.remove(object);
+            }
 
             monitors.remove(id);
+
+            if (evictionPolicy != null) {
+
+                evictionPolicy.recordRemoval(id);
+            }
         }
     }
 
     /**
-     * The method cleans the cache.
+     * The method cleans the cache (i.e. all cached objects are removed and
+     * their expiration monitors are cancelled).
      */
     @Override
     public void clear() {
 
         synchronized (this) {
 
-            for (ExpirationMonitor monitor : monitors.values()) {
+            for (ID id : new ArrayList<>(id2Object.keySet())) {
 
-                monitor.stop();
+                removeEntry(id);
             }
         }
     }
@@ -358,10 +581,20 @@ public class ObjectCacheImpl<T> implements ExpirationListener, ObjectCache<T> {
 
         synchronized (this) {
 
-            T object = id2Object.get(anID);
+            removeEntry(anID);
+        }
+    }
+
+    /**
+     * Returns the number of cached objects.
+     *
+     * @return the number of cached objects
+     */
+    public int size() {
+
+        synchronized (this) {
 
-            id2Object.remove(anID);
-            object2ID.remove(object);
+            return id2Object.size();
         }
     }
 
@@ -0,0 +1,65 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.persistence.cache;
+
+
+import jmul.misc.id.ID;
+
+
+/**
+ * This interface describes an entity which loads an object which is not
+ * cached yet (e.g. from a file).
+ *
+ * @param <T>
+ *        the type of the loaded objects
+ *
+ * @author Kristian Kutin
+ */
+public interface ObjectLoader<T> {
+
+    /**
+     * Loads the object which is associated with the specified ID.
+     *
+     * @param anID
+     *        an ID
+     *
+     * @return the loaded object or <code>null</code> if no such object exists
+     *
+     * @throws Exception
+     *         the exception is thrown if loading the object failed
+     */
+    T loadObject(ID anID) throws Exception;
+
+}
@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.persistence.cache;
+
+
+import static jmul.checks.ParameterCheckHelper.checkExceptionCause;
+import static jmul.checks.ParameterCheckHelper.checkExceptionMessage;
+
+
+/**
+ * This exception is thrown if an object couldn't be loaded into a cache (see
+ * {@link jmul.persistence.cache.ObjectLoader}).
+ *
+ * @author Kristian Kutin
+ */
+public class ObjectLoadingException extends Exception {
+
+    /**
+     * The serial UID as required by java's serialization mechanism.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs an exception.
+     *
+     * @param aCause
+     *        the cause for this exception
+     */
+    public ObjectLoadingException(Throwable aCause) {
+
+        super(checkExceptionCause(aCause));
+    }
+
+    /**
+     * Constructs an exception.
+     *
+     * @param aMessage
+     *        an exception message
+     * @param aCause
+     *        the cause for this exception
+     */
+    public ObjectLoadingException(String aMessage, Throwable aCause) {
+
+        super(checkExceptionMessage(aMessage), checkExceptionCause(aCause));
+    }
+
+}
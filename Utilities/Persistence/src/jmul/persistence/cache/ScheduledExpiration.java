@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.persistence.cache;
+
+
+import jmul.misc.id.ID;
+
+
+/**
+ * A listener which relays the expiration of a single cache entry to an object
+ * cache (see {@link jmul.persistence.cache.ObjectCacheImpl}). The cache only
+ * removes the entry if the monitor of this listener is still the entry's
+ * monitor. Thus a
+ * late notification cannot remove a newer entry with the same ID.
+ *
+ * @author Kristian Kutin
+ */
+class ScheduledExpiration implements ExpirationListener {
+
+    /**
+     * The cache which contains the entry.
+     */
+    private final ObjectCacheImpl<?> cache;
+
+    /**
+     * The monitor which watches the expiration of the entry.
+     */
+    private volatile ExpirationMonitor monitor;
+
+    /**
+     * Constructs a listener.
+     *
+     * @param aCache
+     *        the cache which contains the entry
+     */
+    ScheduledExpiration(ObjectCacheImpl<?> aCache) {
+
+        cache = aCache;
+    }
+
+    /**
+     * Returns the monitor which watches the expiration of the entry.
+     *
+     * @return an expiration monitor
+     */
+    ExpirationMonitor getMonitor() {
+
+        return monitor;
+    }
+
+    /**
+     * Sets the monitor which watches the expiration of the entry.
+     *
+     * @param aMonitor
+     *        an expiration monitor
+     */
+    void setMonitor(ExpirationMonitor aMonitor) {
+
+        monitor = aMonitor;
+    }
+
+    /**
+     * With this method the listener is informed about an expiration.
+     *
+     * @param id
+     *        the id of the object which has expired
+     */
+    @Override
+    public void expirationNotification(ID id) {
+
+        cache.expireEntry(id, this);
+    }
+
+}
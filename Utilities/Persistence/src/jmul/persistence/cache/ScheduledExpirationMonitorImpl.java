@@ -0,0 +1,239 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.persistence.cache;
+
+
+import java.util.Collection;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jmul.misc.id.ID;
+
+
+/**
+ * An implementation of an expiration monitor which doesn't run in its own
+ * thread. The monitor is driven by a timer wheel (see
+ * {@link jmul.persistence.cache.TimerWheelImpl}) which is shared by many
+ * monitors.<br>
+ * <br>
+ * <i>Delaying the expiration only updates the expiration time. The timer wheel
+ * moves the monitor to the right slot when it comes across the monitor.</i>
+ *
+ * @author Kristian Kutin
+ */
+public class ScheduledExpirationMonitorImpl implements ExpirationMonitor {
+
+    /**
+     * The id the monitored object.
+     */
+    private final ID id;
+
+    /**
+     * The timer wheel which drives this monitor.
+     */
+    private final TimerWheelImpl timerWheel;
+
+    /**
+     * The expiration interval.
+     */
+    private final long expirationInterval;
+
+    /**
+     * The time at which the specified object can be considered as expired.
+     */
+    private volatile long expirationTime;
+
+    /**
+     * The slot of the timer wheel which currently contains this monitor. The
+     * member is guarded by the timer wheel.
+     */
+    private int slot;
+
+    /**
+     * A flag which indicates that the monitor has expired or was cancelled.
+     */
+    private boolean finished;
+
+    /**
+     * All known listeners.
+     */
+    private final Collection<ExpirationListener> listeners;
+
+    /**
+     * Constructs an expiration monitor.
+     *
+     * @param anID
+     *        the id of the monitored object
+     * @param aTimerWheel
+     *        the timer wheel which drives this monitor
+     * @param anExpirationInterval
+     *        the expiration interval (in milliseconds)
+     */
+    ScheduledExpirationMonitorImpl(ID anID, TimerWheelImpl aTimerWheel, long anExpirationInterval) {
+
+        id = anID;
+        timerWheel = aTimerWheel;
+        expirationInterval = anExpirationInterval;
+
+        listeners = new CopyOnWriteArrayList<>();
+
+        expirationTime = System.currentTimeMillis() + expirationInterval;
+    }
+
+    /**
+     * The method returns the id of the object for which the expiration is
+     * monitored.
+     *
+     * @return the id of the monitored object
+     */
+    @Override
+    public ID getMonitoredObjectID() {
+
+        return id;
+    }
+
+    /**
+     * The method is used to inform the expiration monitor about entities which
+     * need to be informed when the expiration is due.
+     *
+     * @param aListener
+     *        an expiration listener
+     */
+    @Override
+    public void addExpirationListener(ExpirationListener aListener) {
+
+        if (!listeners.contains(aListener)) {
+
+            listeners.add(aListener);
+        }
+    }
+
+    /**
+     * The method is used to delay the expiration. The timer wheel is not
+     * touched.
+     */
+    @Override
+    public void delayExpiration() {
+
+        expirationTime = System.currentTimeMillis() + expirationInterval;
+    }
+
+    /**
+     * Returns the time at which the monitored object can be considered as
+     * expired.
+     *
+     * @return an expiration time
+     */
+    long getExpirationTime() {
+
+        return expirationTime;
+    }
+
+    /**
+     * Returns the slot of the timer wheel which contains this monitor.
+     *
+     * @return a slot index
+     */
+    int getSlot() {
+
+        return slot;
+    }
+
+    /**
+     * Sets the slot of the timer wheel which contains this monitor.
+     *
+     * @param aSlot
+     *        a slot index
+     */
+    void setSlot(int aSlot) {
+
+        slot = aSlot;
+    }
+
+    /**
+     * Marks this monitor as finished.
+     *
+     * @return <code>true</code> if the monitor was not finished before, else
+     *         <code>false</code>
+     */
+    boolean finish() {
+
+        synchronized (this) {
+
+            if (finished) {
+
+                return false;
+            }
+
+            finished = true;
+            return true;
+        }
+    }
+
+    /**
+     * The method is invoked by the timer wheel when the expiration is due and
+     * informs all listeners about the expiration.
+     */
+    @Override
+    public void run() {
+
+        if (finish()) {
+
+            informListeners();
+        }
+    }
+
+    /**
+     * The method informs all listeners about the expiration.
+     */
+    private void informListeners() {
+
+        for (ExpirationListener listener : listeners) {
+
+            listener.expirationNotification(getMonitoredObjectID());
+        }
+    }
+
+    /**
+     * The method stops the monitor (i.e. the monitored object will expire with
+     * the next tick of the timer wheel).
+     */
+    @Override
+    public void stop() {
+
+        expirationTime = System.currentTimeMillis();
+        timerWheel.expireEarly(this);
+    }
+
+}
@@ -0,0 +1,436 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.persistence.cache;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+import static jmul.math.Constants.SECOND;
+
+import jmul.misc.id.ID;
+
+
+/**
+ * An implementation of an expiration scheduler which is based on a hashed
+ * timer wheel. A single thread advances the wheel by one slot per tick and
+ * informs the listeners of all monitors which have expired.<br>
+ * <br>
+ * <i>Implementation details:<br>
+ * <ul>
+ *   <li>Scheduling and cancelling a monitor take constant time.</li>
+ *   <li>Delaying an expiration (see {@link ExpirationMonitor#delayExpiration})
+ *     only updates the expiration time of the monitor. When the wheel reaches
+ *     the slot of a monitor which isn't due yet, the monitor is moved to the
+ *     slot which matches its new expiration time.</li>
+ *   <li>The thread is started when the first monitor is scheduled and ends
+ *     when no monitors are left.</li>
+ *   <li>Listeners are informed outside of the wheel's lock.</li>
+ * </ul>
+ * </i>
+ *
+ * @author Kristian Kutin
+ */
+public class TimerWheelImpl implements ExpirationScheduler, Runnable {
+
+    /**
+     * A property key.
+     */
+    private static final String SLEEP_TIME = "sleepTime";
+
+    /**
+     * A property key.
+     */
+    private static final String EXPIRATION_INTERVAL = "expirationInterval";
+
+    /**
+     * The name prefix for the thread of a timer wheel.
+     */
+    private static final String TIMER_WHEEL_NAME_PREFIX = "timer-wheel-";
+
+    /**
+     * If a new timer wheel thread is started this ID will be assigned to it.
+     * After assignment this member's value will be increased by 1.
+     */
+    private static int nextTimerWheelId = 1;
+
+    /**
+     * The duration of a single tick (in milliseconds).
+     */
+    private final long tickDuration;
+
+    /**
+     * The expiration interval (in milliseconds).
+     */
+    private final long expirationInterval;
+
+    /**
+     * The slots of this timer wheel.
+     */
+    private final List<Set<ScheduledExpirationMonitorImpl>> slots;
+
+    /**
+     * The time at which this timer wheel was created.
+     */
+    private final long startTime;
+
+    /**
+     * The next tick which has to be processed.
+     */
+    private long nextTick;
+
+    /**
+     * The number of scheduled monitors.
+     */
+    private int scheduledMonitors;
+
+    /**
+     * A flag which indicates if the thread of this timer wheel is running.
+     */
+    private boolean running;
+
+    /**
+     * The default constructor. The tick duration and the expiration interval
+     * are read from the configuration of expiration monitors.
+     */
+    public TimerWheelImpl() {
+
+        this(getConfiguredSleepTime(), getConfiguredExpirationInterval());
+    }
+
+    /**
+     * Constructs a timer wheel.
+     *
+     * @param aTickDuration
+     *        the duration of a single tick (in milliseconds)
+     * @param anExpirationInterval
+     *        the expiration interval (in milliseconds)
+     */
+    public TimerWheelImpl(long aTickDuration, long anExpirationInterval) {
+
+        if (aTickDuration <= 0) {
+
+            String message = "The tick duration must be greater than zero (" + aTickDuration + ")!";
+            throw new IllegalArgumentException(message);
+        }
+
+        if (anExpirationInterval < 0) {
+
+            String message = "The expiration interval must not be negative (" + anExpirationInterval + ")!";
+            throw new IllegalArgumentException(message);
+        }
+
+        tickDuration = aTickDuration;
+        expirationInterval = anExpirationInterval;
+
+        int slotCount = (int) Math.min(Integer.MAX_VALUE / 2, expirationInterval / tickDuration) + 2;
+        slots = new ArrayList<>(slotCount);
+
+        for (int a = 0; a < slotCount; a++) {
+
+            slots.add(new LinkedHashSet<ScheduledExpirationMonitorImpl>());
+        }
+
+        startTime = System.currentTimeMillis();
+        nextTick = 0;
+        scheduledMonitors = 0;
+        running = false;
+    }
+
+    /**
+     * Reads the sleep time of expiration monitors from the configuration.
+     *
+     * @return a sleep time (in milliseconds)
+     */
+    private static long getConfiguredSleepTime() {
+
+        ResourceBundle bundle = ResourceBundle.getBundle(ExpirationMonitor.class.getName());
+        return Long.parseLong(bundle.getString(SLEEP_TIME));
+    }
+
+    /**
+     * Reads the expiration interval of expiration monitors from the
+     * configuration.
+     *
+     * @return an expiration interval (in milliseconds)
+     */
+    private static long getConfiguredExpirationInterval() {
+
+        ResourceBundle bundle = ResourceBundle.getBundle(ExpirationMonitor.class.getName());
+        return SECOND * Long.parseLong(bundle.getString(EXPIRATION_INTERVAL));
+    }
+
+    /**
+     * Returns the next ID for a timer wheel thread.
+     *
+     * @return an ID
+     */
+    private static synchronized int getNextTimerWheelID() {
+
+        int newID = nextTimerWheelId;
+        nextTimerWheelId++;
+
+        return newID;
+    }
+
+    /**
+     * Determines the tick which contains the specified point in time.
+     *
+     * @param aTime
+     *        a point in time (in milliseconds)
+     *
+     * @return a tick
+     */
+    private long toTick(long aTime) {
+
+        return (aTime - startTime) / tickDuration;
+    }
+
+    /**
+     * Puts the specified monitor into the slot which matches its expiration
+     * time. The caller has to hold the lock of this timer wheel.
+     *
+     * @param aMonitor
+     *        an expiration monitor
+     */
+    private void insert(ScheduledExpirationMonitorImpl aMonitor) {
+
+        long tick = Math.max(toTick(aMonitor.getExpirationTime()), nextTick);
+        int slot = (int) (tick % slots.size());
+
+        aMonitor.setSlot(slot);
+        slots.get(slot).add(aMonitor);
+    }
+
+    /**
+     * Creates a new expiration monitor for the specified object and schedules
+     * its expiration. The specified listener is informed when the expiration is
+     * due.
+     *
+     * @param anID
+     *        the id of the monitored object
+     * @param aListener
+     *        an expiration listener
+     *
+     * @return a new expiration monitor
+     */
+    @Override
+    public ExpirationMonitor schedule(ID anID, ExpirationListener aListener) {
+
+        ScheduledExpirationMonitorImpl monitor = new ScheduledExpirationMonitorImpl(anID, this, expirationInterval);
+        monitor.addExpirationListener(aListener);
+
+        synchronized (this) {
+
+            if (!running && (scheduledMonitors == 0)) {
+
+                // The wheel was idle. Skip all ticks which have passed since.
+                nextTick = Math.max(nextTick, toTick(System.currentTimeMillis()));
+            }
+
+            insert(monitor);
+            scheduledMonitors++;
+
+            if (!running) {
+
+                running = true;
+
+                Thread thread = new Thread(this);
+                thread.setName(TIMER_WHEEL_NAME_PREFIX + getNextTimerWheelID());
+                thread.setDaemon(true);
+                thread.start();
+            }
+        }
+
+        return monitor;
+    }
+
+    /**
+     * Cancels the specified expiration monitor. The listeners of the monitor
+     * are not informed.
+     *
+     * @param aMonitor
+     *        an expiration monitor
+     */
+    @Override
+    public void cancel(ExpirationMonitor aMonitor) {
+
+        ScheduledExpirationMonitorImpl monitor = (ScheduledExpirationMonitorImpl) aMonitor;
+        monitor.finish();
+
+        synchronized (this) {
+
+            if (slots.get(monitor.getSlot()).remove(monitor)) {
+
+                scheduledMonitors--;
+            }
+        }
+    }
+
+    /**
+     * Moves the specified monitor to the slot of the next tick.
+     *
+     * @param aMonitor
+     *        an expiration monitor
+     */
+    void expireEarly(ScheduledExpirationMonitorImpl aMonitor) {
+
+        synchronized (this) {
+
+            if (slots.get(aMonitor.getSlot()).remove(aMonitor)) {
+
+                insert(aMonitor);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of currently scheduled expiration monitors.
+     *
+     * @return the number of scheduled monitors
+     */
+    @Override
+    public int size() {
+
+        synchronized (this) {
+
+            return scheduledMonitors;
+        }
+    }
+
+    /**
+     * Processes the slot of the next tick. Monitors which have expired are
+     * removed and returned, all other monitors are moved to the slot which
+     * matches their expiration time. The caller has to hold the lock of this
+     * timer wheel.
+     *
+     * @param aCurrentTime
+     *        the current time (in milliseconds)
+     *
+     * @return all expired monitors
+     */
+    private Collection<ScheduledExpirationMonitorImpl> processTick(long aCurrentTime) {
+
+        Set<ScheduledExpirationMonitorImpl> slot = slots.get((int) (nextTick % slots.size()));
+        Collection<ScheduledExpirationMonitorImpl> pending = new ArrayList<>(slot);
+        slot.clear();
+
+        nextTick++;
+
+        Collection<ScheduledExpirationMonitorImpl> expired = new ArrayList<>();
+
+        for (ScheduledExpirationMonitorImpl monitor : pending) {
+
+            if (aCurrentTime > monitor.getExpirationTime()) {
+
+                expired.add(monitor);
+                scheduledMonitors--;
+
+            } else {
+
+                insert(monitor);
+            }
+        }
+
+        return expired;
+    }
+
+    /**
+     * The method implements the thread logic.
+     */
+    @Override
+    public void run() {
+
+        while (true) {
+
+            long currentTime = System.currentTimeMillis();
+            long dueTime;
+
+            synchronized (this) {
+
+                dueTime = startTime + (nextTick + 1) * tickDuration;
+            }
+
+            if (currentTime < dueTime) {
+
+                try {
+
+                    Thread.sleep(dueTime - currentTime);
+
+                } catch (InterruptedException e) {
+
+                    Thread.currentThread().interrupt();
+
+                    synchronized (this) {
+
+                        running = false;
+                    }
+
+                    break;
+                }
+
+                continue;
+            }
+
+
+            Collection<ScheduledExpirationMonitorImpl> expired;
+
+            synchronized (this) {
+
+                expired = processTick(currentTime);
+            }
+
+            for (ScheduledExpirationMonitorImpl monitor : expired) {
+
+                monitor.run();
+            }
+
+
+            synchronized (this) {
+
+                if (scheduledMonitors == 0) {
+
+                    running = false;
+                    break;
+                }
+            }
+        }
+    }
+
+}
@@ -39,12 +39,12 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
 
 import jmul.concurrent.threads.ThreadEvent;
 import jmul.concurrent.threads.ThreadExecutionStatus;
-import jmul.concurrent.threads.ThreadFinishedEvent;
-import jmul.concurrent.threads.ThreadHelper;
 import jmul.concurrent.threads.ThreadListener;
 import jmul.concurrent.threads.ThreadPool;
 
@@ -81,11 +81,6 @@ public class FileLookup implements ThreadListener {
      */
     private static final String THREAD_POOL_TYPE_KEY = "threadPoolType";
 
-    /**
-     * A sleep time.
-     */
-    private static final long SLEEP_TIME = 30L;
-
     /**
      * Manages the threads which will independently look for the specified
      * file.
@@ -104,9 +99,9 @@ public class FileLookup implements ThreadListener {
     private Collection<File> results;
 
     /**
-     * A count of active scans.
+     * A handle which is completed as soon as the first file has been found.
      */
-    private int activeScans;
+    private final CompletableFuture<Void> firstResult;
 
     /**
      * The default constructor.<br>
@@ -124,7 +119,7 @@ public class FileLookup implements ThreadListener {
         super();
 
         results = new ArrayList<>();
-        activeScans = 0;
+        firstResult = new CompletableFuture<>();
     }
 
     /**
@@ -211,25 +206,17 @@ public class FileLookup implements ThreadListener {
     public boolean existsFile(Collection<File> someSearchFolders, String aFilename) {
 
         ThreadExecutionStatus status = new ThreadExecutionStatus();
+        List<CompletableFuture<Void>> scans = new ArrayList<>();
 
         for (File folder : someSearchFolders) {
 
             DirectoryScannerThread thread = new DirectoryScannerThread(status, folder, aFilename);
             thread.addListener(this);
 
-            synchronized (this) {
-
-                activeScans++;
-            }
-
-            getThreadPool().addThread(thread);
+            scans.add(getThreadPool().submitThread(thread));
         }
 
-
-        while ((activeScans > 0) && (results.isEmpty())) {
-
-            ThreadHelper.sleep(SLEEP_TIME);
-        }
+        CompletableFuture.anyOf(firstResult, allOf(scans)).join();
 
 
         boolean result;
@@ -256,25 +243,17 @@ public class FileLookup implements ThreadListener {
     public File getFile(Collection<File> someSearchFolders, String aFilename) {
 
         ThreadExecutionStatus status = new ThreadExecutionStatus();
+        List<CompletableFuture<Void>> scans = new ArrayList<>();
 
         for (File folder : someSearchFolders) {
 
             DirectoryScannerThread thread = new DirectoryScannerThread(status, folder, aFilename);
             thread.addListener(this);
 
-            synchronized (this) {
-
-                activeScans++;
-            }
-
-            getThreadPool().addThread(thread);
+            scans.add(getThreadPool().submitThread(thread));
         }
 
-
-        while (activeScans > 0) {
-
-            ThreadHelper.sleep(SLEEP_TIME);
-        }
+        allOf(scans).join();
 
 
         int matches;
@@ -322,6 +301,8 @@ public class FileLookup implements ThreadListener {
                 results.add(notification.getFile());
             }
 
+            firstResult.complete(null);
+
         } else if (anEvent instanceof XPathResultNotification) {
 
             XPathResultNotification notification = (XPathResultNotification) anEvent;
@@ -333,14 +314,23 @@ public class FileLookup implements ThreadListener {
                     results.add(file);
                 }
             }
+        }
+    }
 
-        } else if (anEvent instanceof ThreadFinishedEvent) {
+    /**
+     * Returns a handle which is completed when all specified scans have
+     * finished.
+     *
+     * @param someScans
+     *        handles of individual scans
+     *
+     * @return a completion handle
+     */
+    private static CompletableFuture<Void> allOf(List<CompletableFuture<Void>> someScans) {
 
-            synchronized (this) {
+        CompletableFuture<?>[] array = someScans.toArray(new CompletableFuture<?>[someScans.size()]);
 
-                activeScans--;
-            }
-        }
+        return CompletableFuture.allOf(array);
     }
 
     /**
@@ -372,25 +362,17 @@ public class FileLookup implements ThreadListener {
     public Collection<File> findFiles(Collection<File> someSearchFolders, XPathQuery... someQueries) {
 
         ThreadExecutionStatus status = new ThreadExecutionStatus();
+        List<CompletableFuture<Void>> scans = new ArrayList<>();
 
         for (File folder : someSearchFolders) {
 
             XPathEvaluatorThread thread = new XPathEvaluatorThread(status, folder, someQueries);
             thread.addListener(this);
 
-            synchronized (this) {
-
-                activeScans++;
-            }
-
-            getThreadPool().addThread(thread);
+            scans.add(getThreadPool().submitThread(thread));
         }
 
-
-        while (activeScans > 0) {
-
-            ThreadHelper.sleep(SLEEP_TIME);
-        }
+        allOf(scans).join();
 
 
         Collection<File> unmodifuableResults;
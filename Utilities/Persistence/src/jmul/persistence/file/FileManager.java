@@ -80,6 +80,15 @@ public interface FileManager {
      */
     File newFile(String aUniqueIdentifier);
 
+    /**
+     * The method deletes the file which is associated with the specified
+     * unique identifier. If no such file exists then nothing happens.
+     *
+     * @param aUniqueIdentifier
+     *        a unique identifier which is associated with a file
+     */
+    void deleteFile(String aUniqueIdentifier);
+
     /**
      * The method returns the name of the file which is associated with the
      * specified identifier.
@@ -43,7 +43,10 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import jmul.io.FileDeletionHelper;
 import jmul.io.FileHelper;
 
 import jmul.string.TextHelper;
@@ -59,6 +62,15 @@ import jmul.xml.query.XPathQuery;
  * thus be delegated to several threads where each thread will search the
  * assigned subfolder.<br>
  * <br>
+ * The file manager keeps an index which associates unique identifiers with
+ * the subfolders that contain the corresponding files. The index is built when
+ * the base directory is scanned and is updated when files are added or
+ * deleted. Thus looking up a single file doesn't require a directory scan. If
+ * an identifier is missing from the index or the index entry turns out to be
+ * stale (e.g. a file was created or deleted by someone else) then only the
+ * file of this identifier is looked up in the subfolders and the index entry
+ * is corrected.<br>
+ * <br>
  * Useful informations:<br>
  * <ul>
  *   <li><a href="http://stackoverflow.com/questions/3190232/java-file-i-o-throughput-decline">StackOverflow</a></li>
@@ -152,6 +164,18 @@ public class FileManagerImpl implements FileManager {
      */
     private int maxFolderIndex;
 
+    /**
+     * An index which associates unique identifiers with the subfolders that
+     * contain the corresponding files.
+     */
+    private final Map<String, File> identifier2Subfolder;
+
+    /**
+     * All unique identifiers for which a file was requested (see
+     * {@link #newFile}) but which don't exist on disk yet.
+     */
+    private Set<String> pendingIdentifiers;
+
     /**
      * Constructs a file manager.
      *
@@ -185,6 +209,9 @@ public class FileManagerImpl implements FileManager {
         subfolders = null;
         subfolderVacancies = new HashMap<>();
 
+        identifier2Subfolder = new ConcurrentHashMap<>();
+        pendingIdentifiers = ConcurrentHashMap.newKeySet();
+
 
         ResourceBundle bundle = ResourceBundle.getBundle(getClass().getName());
 
@@ -214,9 +241,12 @@ public class FileManagerImpl implements FileManager {
 
         maxFolderIndex = 0;
 
+        identifier2Subfolder.clear();
+
         for (File subfolder : subfolders) {
 
             File[] files = subfolder.listFiles(FileHelper.getFileFilter(templateFileSuffix));
+            addToIndex(identifier2Subfolder, subfolder, files);
 
             int population = files.length;
             int vacancies = maxFiles - population;
@@ -229,10 +259,105 @@ public class FileManagerImpl implements FileManager {
             maxFolderIndex = Math.max(maxFolderIndex, indexExtractor.extractIndex(subfolder.getName()));
         }
 
-
         newSubfolder(); // Checks if a new subfolder needs to be created.
     }
 
+    /**
+     * Adds the specified files to the specified index.
+     *
+     * @param anIndex
+     *        an index which associates unique identifiers with subfolders
+     * @param aSubfolder
+     *        the subfolder which contains the specified files
+     * @param someFiles
+     *        all files within the subfolder
+     */
+    private void addToIndex(Map<String, File> anIndex, File aSubfolder, File[] someFiles) {
+
+        String suffix = TextHelper.concatenateStrings(".", templateFileSuffix);
+
+        for (File file : someFiles) {
+
+            String filename = file.getName();
+
+            if (filename.endsWith(suffix)) {
+
+                String identifier = filename.substring(0, filename.length() - suffix.length());
+                anIndex.put(identifier, aSubfolder);
+            }
+        }
+    }
+
+    /**
+     * Returns the subfolder which contains the file of the specified
+     * identifier. The index entry is verified first. If the identifier is
+     * missing from the index or the file doesn't exist (and is not pending)
+     * then the file is looked up (see {@link #lookupSubfolder}).
+     *
+     * @param aUniqueIdentifier
+     *        a unique identifier which is associated with a file
+     *
+     * @return the subfolder which contains the file or <code>null</code> if no
+     *         such file exists
+     */
+    private File findSubfolder(String aUniqueIdentifier) {
+
+        File subfolder = identifier2Subfolder.get(aUniqueIdentifier);
+
+        if ((subfolder != null) && new File(subfolder, newFileName(aUniqueIdentifier)).exists()) {
+
+            pendingIdentifiers.remove(aUniqueIdentifier);
+            return subfolder;
+        }
+
+
+        // The file may have been created or deleted by someone else.
+
+        return lookupSubfolder(aUniqueIdentifier);
+    }
+
+    /**
+     * Looks up the file of the specified identifier in the subfolders of the
+     * base directory and corrects the index entry accordingly. Identifiers for
+     * which files were requested but not yet written are kept.
+     *
+     * @param aUniqueIdentifier
+     *        a unique identifier which is missing from the index or whose index
+     *        entry is stale
+     *
+     * @return the subfolder which contains the file or <code>null</code> if no
+     *         such file exists
+     */
+    private File lookupSubfolder(String aUniqueIdentifier) {
+
+        synchronized (this) {
+
+            if (pendingIdentifiers.contains(aUniqueIdentifier)) {
+
+                return identifier2Subfolder.get(aUniqueIdentifier);
+            }
+
+            File[] foundDirectories = baseDirectory.listFiles(FileHelper.getDirectoryFilter());
+
+            if (foundDirectories != null) {
+
+                String filename = newFileName(aUniqueIdentifier);
+
+                for (File subfolder : foundDirectories) {
+
+                    if (new File(subfolder, filename).exists()) {
+
+                        identifier2Subfolder.put(aUniqueIdentifier, subfolder);
+                        return subfolder;
+                    }
+                }
+            }
+
+            identifier2Subfolder.remove(aUniqueIdentifier);
+            return null;
+        }
+    }
+
     /**
      * Creates a new subfolder name.
      *
@@ -289,8 +414,7 @@ public class FileManagerImpl implements FileManager {
     @Override
     public boolean existsFile(String aUniqueIdentifier) {
 
-        FileLookup lookup = new FileLookup();
-        return lookup.existsFile(subfolders, newFileName(aUniqueIdentifier));
+        return findSubfolder(aUniqueIdentifier) != null;
     }
 
     /**
@@ -305,28 +429,34 @@ public class FileManagerImpl implements FileManager {
     @Override
     public File newFile(String aUniqueIdentifier) {
 
-        File firstSubfolder = subfolderVacancies.keySet()
-                                                .iterator()
-                                                .next();
-        int vacancies = subfolderVacancies.get(firstSubfolder);
+        synchronized (this) {
 
-        String filename =
-            TextHelper.concatenateStrings(firstSubfolder.getAbsolutePath(), FILE_SEPARATOR,
-                                          newFileName(aUniqueIdentifier));
+            File firstSubfolder = subfolderVacancies.keySet()
+                                                    .iterator()
+                                                    .next();
+            int vacancies = subfolderVacancies.get(firstSubfolder);
 
-        vacancies--;
+            String filename =
+                TextHelper.concatenateStrings(firstSubfolder.getAbsolutePath(), FILE_SEPARATOR,
+                                              newFileName(aUniqueIdentifier));
 
-        if (vacancies <= 0) {
+            pendingIdentifiers.add(aUniqueIdentifier);
+            identifier2Subfolder.put(aUniqueIdentifier, firstSubfolder);
 
-            subfolderVacancies.remove(firstSubfolder);
-            newSubfolder();
+            vacancies--;
 
-        } else {
+            if (vacancies <= 0) {
 
-            subfolderVacancies.put(firstSubfolder, vacancies);
-        }
+                subfolderVacancies.remove(firstSubfolder);
+                newSubfolder();
+
+            } else {
 
-        return new File(filename);
+                subfolderVacancies.put(firstSubfolder, vacancies);
+            }
+
+            return new File(filename);
+        }
     }
 
     /**
@@ -341,8 +471,51 @@ public class FileManagerImpl implements FileManager {
     @Override
     public File getFile(String aUniqueIdentifier) {
 
-        FileLookup lookup = new FileLookup();
-        return lookup.getFile(subfolders, newFileName(aUniqueIdentifier));
+        File subfolder = findSubfolder(aUniqueIdentifier);
+
+        if (subfolder == null) {
+
+            return null;
+        }
+
+        return new File(subfolder, newFileName(aUniqueIdentifier));
+    }
+
+    /**
+     * The method deletes the file which is associated with the specified
+     * unique identifier. If no such file exists then nothing happens.
+     *
+     * @param aUniqueIdentifier
+     *        a unique identifier which is associated with a file
+     */
+    @Override
+    public void deleteFile(String aUniqueIdentifier) {
+
+        synchronized (this) {
+
+            File subfolder = identifier2Subfolder.get(aUniqueIdentifier);
+
+            if (subfolder == null) {
+
+                // The file may have been created by someone else.
+                subfolder = lookupSubfolder(aUniqueIdentifier);
+            }
+
+            identifier2Subfolder.remove(aUniqueIdentifier);
+            pendingIdentifiers.remove(aUniqueIdentifier);
+
+            if (subfolder == null) {
+
+                return;
+            }
+
+            File file = new File(subfolder, newFileName(aUniqueIdentifier));
+
+            if (file.exists()) {
+
+                FileDeletionHelper.delete(file);
+            }
+        }
     }
 
     /**
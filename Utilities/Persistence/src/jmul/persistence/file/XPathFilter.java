@@ -42,8 +42,9 @@ import org.w3c.dom.Document;
 
 import org.xml.sax.SAXException;
 
+import jmul.persistence.binary.PersistedDocumentReader;
+
 import jmul.xml.reader.XmlDocumentReader;
-import jmul.xml.reader.XmlDocumentReaderImpl;
 import jmul.xml.query.XPathQuery;
 
 
@@ -72,7 +73,7 @@ public class XPathFilter implements FileFilter {
      */
     public XPathFilter(XPathQuery... someQueries) {
 
-        reader = new XmlDocumentReaderImpl();
+        reader = new PersistedDocumentReader();
         queries = someQueries;
     }
 
@@ -0,0 +1,263 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.persistence.id;
+
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import jmul.misc.generators.GeneratorException;
+import jmul.misc.id.ID;
+import jmul.misc.id.IDGenerator;
+import jmul.misc.id.StringID;
+
+
+/**
+ * An implementation of an ID generator which creates the same string IDs as
+ * {@link StringIDGenerator} (e.g. <code>_a0_</code>, <code>_b0_</code>,
+ * etc.).<br>
+ * <br>
+ * Instead of persisting every single ID this generator reserves a block of IDs
+ * with a single write operation. IDs within a reserved block are handed out
+ * from memory without locking. The next ID is computed arithmetically (see
+ * {@link StringIDSequence}) instead of applying the rules of a markov
+ * algorithm.<br>
+ * <br>
+ * The file contains the first ID which wasn't reserved yet, thus the file can
+ * also be read by {@link StringIDGenerator}. IDs of a reserved block which were
+ * not handed out before the application terminates are skipped.
+ *
+ * @author Kristian Kutin
+ */
+public final class StringIDBlockGenerator implements IDGenerator {
+
+    /**
+     * The default number of IDs which are reserved at once.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 100;
+
+    /**
+     * The class member contains informations about the file which is used to
+     * store the next available id.
+     */
+    private final File file;
+
+    /**
+     * The number of IDs which are reserved at once.
+     */
+    private final int blockSize;
+
+    /**
+     * The position of the next available ID within the ID sequence.
+     */
+    private final AtomicLong nextRank;
+
+    /**
+     * The position of the first ID which is not reserved yet.
+     */
+    private volatile long reservedLimit;
+
+    /**
+     * Constructs the id generator. If the specified file exists the generator
+     * continues with the persisted ID, otherwise the generator starts with the
+     * ID <code>_a0_</code>.
+     *
+     * @param aFilename
+     *        the name of the file which is used to store the next available id
+     */
+    public StringIDBlockGenerator(String aFilename) {
+
+        this(aFilename, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Constructs the id generator. If the specified file exists the generator
+     * continues with the persisted ID, otherwise the generator starts with the
+     * ID <code>_a0_</code>.
+     *
+     * @param aFilename
+     *        the name of the file which is used to store the next available id
+     * @param aBlockSize
+     *        the number of IDs which are reserved at once
+     */
+    public StringIDBlockGenerator(String aFilename, int aBlockSize) {
+
+        if (aFilename == null) {
+
+            String message = "No valid file has been specified!";
+            throw new IllegalArgumentException(message);
+        }
+
+        if (aBlockSize < 1) {
+
+            String message = "The block size must be greater than zero (" + aBlockSize + ")!";
+            throw new IllegalArgumentException(message);
+        }
+
+
+        file = new File(aFilename);
+        blockSize = aBlockSize;
+
+
+        long rank = 0L;
+
+        if (file.exists()) {
+
+            try {
+
+                rank = loadNextRank();
+
+            } catch (IOException | IllegalArgumentException e) {
+
+                String message = "Unable to retrieve persisted IDs (couldn't read ID from file " + file + ")!";
+                throw new GeneratorException(message, e);
+            }
+        }
+
+        nextRank = new AtomicLong(rank);
+        reservedLimit = rank;
+    }
+
+    /**
+     * The next available ID is loaded from a file.
+     *
+     * @return the position of the next available ID
+     */
+    private long loadNextRank() throws IOException {
+
+        try (BufferedReader bufferedReader = new BufferedReader(new FileReader(file))) {
+
+            String line = bufferedReader.readLine();
+            return StringIDSequence.toRank(line);
+        }
+    }
+
+    /**
+     * The first ID which is not reserved is saved to a file. The file is
+     * replaced as a whole, thus an interrupted write operation doesn't leave a
+     * corrupt file.
+     *
+     * @param aRank
+     *        the position of the first ID which is not reserved
+     */
+    private void saveReservedLimit(long aRank) throws IOException {
+
+        File temporaryFile = new File(file.getPath() + ".tmp");
+
+        try (FileOutputStream outputStream = new FileOutputStream(temporaryFile);
+             BufferedWriter bufferedWriter = new BufferedWriter(new OutputStreamWriter(outputStream))) {
+
+            bufferedWriter.write(StringIDSequence.toID(aRank));
+            bufferedWriter.newLine();
+            bufferedWriter.flush();
+
+            outputStream.getFD().sync();
+        }
+
+        try {
+
+            Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                       StandardCopyOption.ATOMIC_MOVE);
+
+        } catch (AtomicMoveNotSupportedException e) {
+
+            Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reserves a new block of IDs which contains the specified position.
+     *
+     * @param aRank
+     *        the position of an ID which was handed out
+     */
+    private void reserve(long aRank) {
+
+        synchronized (this) {
+
+            // Another thread may have reserved a block which contains the
+            // specified position in the meantime.
+
+            if (aRank < reservedLimit) {
+
+                return;
+            }
+
+            long limit = aRank + blockSize;
+
+            try {
+
+                saveReservedLimit(limit);
+
+            } catch (IOException e) {
+
+                String message = "Unable to persist IDs (couldn't write next ID to file " + file + ")!";
+                throw new GeneratorException(message, e);
+            }
+
+            reservedLimit = limit;
+        }
+    }
+
+    /**
+     * The method creates an object which contains an id.
+     *
+     * @return an object containing an id
+     */
+    @Override
+    public ID generateID() {
+
+        long rank = nextRank.getAndIncrement();
+
+        if (rank >= reservedLimit) {
+
+            reserve(rank);
+        }
+
+        return new StringID(StringIDSequence.toID(rank));
+    }
+
+}
@@ -70,6 +70,9 @@ import jmul.misc.id.StringID;
  *   <li>Comparison of IDs depends on the length of ID strings.</li>
  * </ul>
  *
+ * See {@link StringIDBlockGenerator} for a generator which creates the same
+ * IDs without applying the rules and without persisting every single ID.
+ *
  * @author Kristian Kutin
  */
 public final class StringIDGenerator implements IDGenerator {
@@ -0,0 +1,344 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.persistence.id;
+
+
+import jmul.string.TextHelper;
+
+
+/**
+ * This class computes the IDs of the markov algorithms (see
+ * {@link StringIDGenerator}) arithmetically.<br>
+ * <br>
+ * Apart from intermediate states (i.e. IDs which contain a marker) the markov
+ * algorithms create following sequence:
+ * <ul>
+ *   <li><code>_a0_</code> to <code>_y0_</code></li>
+ *   <li>for every number N starting with 0: <code>_zN_</code>,
+ *   <code>_azN_</code> to <code>_zzN_</code></li>
+ * </ul>
+ * Thus every ID has a position (i.e. a rank) within the sequence and the ID
+ * at any position can be computed without applying any rules.
+ *
+ * @author Kristian Kutin
+ */
+final class StringIDSequence {
+
+    /**
+     * The number of IDs before the first ID with a number part.
+     */
+    private static final long PREFIX_LENGTH = 25L;
+
+    /**
+     * The number of IDs which share the same number part.
+     */
+    private static final long CYCLE_LENGTH = 27L;
+
+    /**
+     * The delimiter which encloses an ID.
+     */
+    private static final char DELIMITER = '_';
+
+    /**
+     * The marker which precedes a letter shift.
+     */
+    private static final char SHIFT_MARKER = '#';
+
+    /**
+     * The markers which move to the right (i.e. an increment is pending).
+     */
+    private static final String INCREMENT_MARKERS = "\u00a7Z";
+
+    /**
+     * The markers which move to the left (i.e. a carry is pending).
+     */
+    private static final String CARRY_MARKERS = "%U";
+
+    /**
+     * The default constructor.
+     */
+    private StringIDSequence() {
+
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the ID at the specified position within the sequence.
+     *
+     * @param aRank
+     *        a position within the sequence
+     *
+     * @return an ID
+     */
+    static String toID(long aRank) {
+
+        if (aRank < 0L) {
+
+            String message = TextHelper.concatenateStrings("Invalid rank (", aRank, ")!");
+            throw new IllegalArgumentException(message);
+        }
+
+        StringBuilder buffer = new StringBuilder();
+        buffer.append(DELIMITER);
+
+        if (aRank < PREFIX_LENGTH) {
+
+            buffer.append((char) ('a' + aRank));
+            buffer.append('0');
+
+        } else {
+
+            long remainder = aRank - PREFIX_LENGTH;
+            long number = remainder / CYCLE_LENGTH;
+            long letter = remainder % CYCLE_LENGTH;
+
+            if (letter > 0L) {
+
+                buffer.append((char) ('a' + letter - 1L));
+            }
+
+            buffer.append('z');
+            buffer.append(number);
+        }
+
+        buffer.append(DELIMITER);
+
+        return String.valueOf(buffer);
+    }
+
+    /**
+     * Returns the position of the specified ID within the sequence. If the ID
+     * is an intermediate state of a markov algorithm then the position of the
+     * ID which the markov algorithm will reach next is returned.
+     *
+     * @param anID
+     *        an ID
+     *
+     * @return a position within the sequence
+     */
+    static long toRank(String anID) {
+
+        if ((anID == null) || (anID.length() < 4) || (anID.charAt(anID.length() - 1) != DELIMITER)) {
+
+            throw newInvalidIDException(anID);
+        }
+
+        char first = anID.charAt(0);
+        String body = anID.substring(1, anID.length() - 1);
+
+        if (first == SHIFT_MARKER) {
+
+            // #zN_ is followed by _azN_
+
+            if (body.charAt(0) != 'z') {
+
+                throw newInvalidIDException(anID);
+            }
+
+            return toRank(1L, parseNumber(anID, body.substring(1)));
+
+        } else if (first != DELIMITER) {
+
+            throw newInvalidIDException(anID);
+        }
+
+
+        char letter = body.charAt(0);
+
+        if ((letter < 'a') || (letter > 'z')) {
+
+            throw newInvalidIDException(anID);
+        }
+
+        if (letter != 'z') {
+
+            if (body.length() == 2) {
+
+                // _a0_ to _y0_
+
+                if (body.charAt(1) != '0') {
+
+                    throw newInvalidIDException(anID);
+                }
+
+                return letter - 'a';
+            }
+
+            // _azN_ to _yzN_
+
+            if (body.charAt(1) != 'z') {
+
+                throw newInvalidIDException(anID);
+            }
+
+            return toRank(letter - 'a' + 1L, parseNumber(anID, body.substring(2)));
+        }
+
+
+        String digits = body.substring(1);
+
+        if (digits.startsWith("z")) {
+
+            // _zzN_
+
+            return toRank(CYCLE_LENGTH - 1L, parseNumber(anID, digits.substring(1)));
+        }
+
+        for (int a = 0; a < digits.length(); a++) {
+
+            char c = digits.charAt(a);
+
+            if (INCREMENT_MARKERS.indexOf(c) >= 0) {
+
+                // The number is incremented next (e.g. _z1§0_ is followed by
+                // _z11_).
+
+                String number = removeMarkers(digits);
+                return toRank(0L, parseNumber(anID, number) + 1L);
+            }
+
+            if (CARRY_MARKERS.indexOf(c) >= 0) {
+
+                // All digits right of the marker are already zero and the
+                // digits left of the marker are incremented next (e.g. _z1%0_
+                // is followed by _z20_).
+
+                String prefix = removeMarkers(digits.substring(0, a));
+                String suffix = removeMarkers(digits.substring(a + 1));
+
+                long number = prefix.isEmpty() ? 1L : parseNumber(anID, prefix) + 1L;
+
+                for (int b = 0; b < suffix.length(); b++) {
+
+                    number = Math.multiplyExact(number, 10L);
+                }
+
+                return toRank(0L, number);
+            }
+        }
+
+        // _zN_
+
+        return toRank(0L, parseNumber(anID, digits));
+    }
+
+    /**
+     * Returns the position of the specified ID within the sequence.
+     *
+     * @param aLetterIndex
+     *        the index of the letter (<code>0</code> for no letter,
+     *        <code>1</code> for <code>a</code>, etc.)
+     * @param aNumber
+     *        the number part of the ID
+     *
+     * @return a position within the sequence
+     */
+    private static long toRank(long aLetterIndex, long aNumber) {
+
+        return Math.addExact(PREFIX_LENGTH, Math.addExact(Math.multiplyExact(aNumber, CYCLE_LENGTH), aLetterIndex));
+    }
+
+    /**
+     * Removes all characters which are no digits. Depending on the source
+     * encoding the markers of a markov algorithm may consist of more than one
+     * character.
+     *
+     * @param aString
+     *        the number part of an intermediate state
+     *
+     * @return all digits
+     */
+    private static String removeMarkers(String aString) {
+
+        StringBuilder buffer = new StringBuilder();
+
+        for (int a = 0; a < aString.length(); a++) {
+
+            char c = aString.charAt(a);
+
+            if ((c >= '0') && (c <= '9')) {
+
+                buffer.append(c);
+            }
+        }
+
+        return String.valueOf(buffer);
+    }
+
+    /**
+     * Parses the number part of an ID.
+     *
+     * @param anID
+     *        the ID
+     * @param aNumber
+     *        the number part of the ID
+     *
+     * @return a number
+     */
+    private static long parseNumber(String anID, String aNumber) {
+
+        if (aNumber.isEmpty()) {
+
+            throw newInvalidIDException(anID);
+        }
+
+        for (int a = 0; a < aNumber.length(); a++) {
+
+            char c = aNumber.charAt(a);
+
+            if ((c < '0') || (c > '9')) {
+
+                throw newInvalidIDException(anID);
+            }
+        }
+
+        return Long.parseLong(aNumber);
+    }
+
+    /**
+     * Creates a new exception according to the specified ID.
+     *
+     * @param anID
+     *        an invalid ID
+     *
+     * @return an exception
+     */
+    private static IllegalArgumentException newInvalidIDException(String anID) {
+
+        String message = TextHelper.concatenateStrings("Invalid ID (", anID, ")!");
+        return new IllegalArgumentException(message);
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.persistence.index;
+
+
+import java.io.File;
+import java.io.IOException;
+
+import java.util.Set;
+
+import jmul.xml.query.XPathQuery;
+
+import org.w3c.dom.Document;
+
+
+/**
+ * This interface describes a secondary index. The index associates the values
+ * which an XPath expression returns for a persisted object with the unique
+ * identifier of the persisted object.
+ *
+ * @author Kristian Kutin
+ */
+public interface XPathIndex {
+
+    /**
+     * Returns the XPath expression of this index.
+     *
+     * @return an XPath expression
+     */
+    String getXpathExpression();
+
+    /**
+     * Checks if the specified query can be answered by this index.
+     *
+     * @param aQuery
+     *        a query
+     *
+     * @return <code>true</code> if this index can answer the query, else
+     *         <code>false</code>
+     */
+    boolean supports(XPathQuery aQuery);
+
+    /**
+     * Evaluates the XPath expression on the specified document and replaces all
+     * values which were previously associated with the specified identifier.
+     *
+     * @param aUniqueIdentifier
+     *        the unique identifier of a persisted object
+     * @param aDocument
+     *        the XML representation of the persisted object
+     */
+    void update(String aUniqueIdentifier, Document aDocument);
+
+    /**
+     * Removes all values which are associated with the specified identifier.
+     *
+     * @param aUniqueIdentifier
+     *        the unique identifier of a persisted object
+     */
+    void remove(String aUniqueIdentifier);
+
+    /**
+     * Returns the unique identifiers of all persisted objects which match the
+     * specified query.
+     *
+     * @param aQuery
+     *        a query which is supported by this index
+     *
+     * @return all matching unique identifiers
+     */
+    Set<String> find(XPathQuery aQuery);
+
+    /**
+     * Saves this index to the specified file.
+     *
+     * @param aFile
+     *        a file
+     * @param aStoreStamp
+     *        a stamp which identifies the current state of the indexed
+     *        persisted objects
+     *
+     * @throws IOException
+     *         is thrown if the file cannot be written
+     */
+    void save(File aFile, long aStoreStamp) throws IOException;
+
+    /**
+     * Replaces the content of this index with the content of the specified
+     * file.
+     *
+     * @param aFile
+     *        a file which was written by {@link #save}
+     * @param anExpectedStoreStamp
+     *        a stamp which identifies the current state of the indexed
+     *        persisted objects
+     *
+     * @throws IOException
+     *         is thrown if the file cannot be read, doesn't belong to this
+     *         index or was saved with another store stamp (i.e. is outdated)
+     */
+    void load(File aFile, long anExpectedStoreStamp) throws IOException;
+
+}
@@ -0,0 +1,526 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.persistence.index;
+
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+
+import jmul.string.TextHelper;
+
+import jmul.xml.query.XPathQuery;
+import jmul.xml.query.XPathRangeQuery;
+import jmul.xml.query.XPathValueComparator;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.NodeList;
+
+
+/**
+ * An implementation of a secondary index. The values are kept in a sorted map
+ * (see {@link jmul.xml.query.XPathValueComparator}), thus equality and range
+ * queries can be answered without accessing the persisted objects.
+ *
+ * @author Kristian Kutin
+ */
+public class XPathIndexImpl implements XPathIndex {
+
+    /**
+     * A marker at the beginning of an index file.
+     */
+    private static final int FILE_MARKER = 0x4A4D5849;
+
+    /**
+     * The XPath expression of this index.
+     */
+    private final String xpathExpression;
+
+    /**
+     * The compiled XPath expression.
+     */
+    private final XPathExpression compiledExpression;
+
+    /**
+     * All unique identifiers according to the values which were found.
+     */
+    private final NavigableMap<String, Set<String>> value2Identifiers;
+
+    /**
+     * All values according to the unique identifiers.
+     */
+    private final Map<String, Collection<String>> identifier2Values;
+
+    /**
+     * Constructs an index.
+     *
+     * @param anXpathExpression
+     *        an XPath expression
+     */
+    public XPathIndexImpl(String anXpathExpression) {
+
+        if (anXpathExpression == null) {
+
+            String message = "No valid XPath expression has been specified!";
+            throw new IllegalArgumentException(message);
+        }
+
+        xpathExpression = anXpathExpression;
+
+        try {
+
+            compiledExpression = XPathFactory.newInstance()
+                                             .newXPath()
+                                             .compile(anXpathExpression);
+
+        } catch (XPathExpressionException e) {
+
+            String message = TextHelper.concatenateStrings("Invalid XPath expression (", anXpathExpression, ")!");
+            throw new IllegalArgumentException(message, e);
+        }
+
+        value2Identifiers = new TreeMap<>(new XPathValueComparator());
+        identifier2Values = new HashMap<>();
+    }
+
+    /**
+     * Returns the XPath expression of this index.
+     *
+     * @return an XPath expression
+     */
+    @Override
+    public String getXpathExpression() {
+
+        return xpathExpression;
+    }
+
+    /**
+     * Checks if the specified query can be answered by this index.
+     *
+     * @param aQuery
+     *        a query
+     *
+     * @return <code>true</code> if this index can answer the query, else
+     *         <code>false</code>
+     */
+    @Override
+    public boolean supports(XPathQuery aQuery) {
+
+        return xpathExpression.equals(aQuery.getXpathExpression()) &&
+               ((aQuery instanceof XPathRangeQuery) || (aQuery.getExpectedValue() != null));
+    }
+
+    /**
+     * Evaluates the XPath expression on the specified document and replaces all
+     * values which were previously associated with the specified identifier.
+     *
+     * @param aUniqueIdentifier
+     *        the unique identifier of a persisted object
+     * @param aDocument
+     *        the XML representation of the persisted object
+     */
+    @Override
+    public void update(String aUniqueIdentifier, Document aDocument) {
+
+        synchronized (this) {
+
+            Collection<String> values = evaluate(aDocument);
+
+            remove(aUniqueIdentifier);
+            add(aUniqueIdentifier, values);
+        }
+    }
+
+    /**
+     * Evaluates the XPath expression on the specified document. The caller has
+     * to hold the lock of this index.
+     *
+     * @param aDocument
+     *        an XML document
+     *
+     * @return all values which the XPath expression returns
+     */
+    private Collection<String> evaluate(Document aDocument) {
+
+        Collection<String> values = new ArrayList<>();
+
+        try {
+
+            NodeList list = (NodeList) compiledExpression.evaluate(aDocument, XPathConstants.NODESET);
+
+            for (int a = 0; a < list.getLength(); a++) {
+
+                values.add(list.item(a).getTextContent());
+            }
+
+        } catch (XPathExpressionException e) {
+
+            // The document doesn't provide a value for this index. By
+            // definition no value is indexed and the exception is ignored.
+        }
+
+        return values;
+    }
+
+    /**
+     * Associates the specified values with the specified identifier. The caller
+     * has to hold the lock of this index.
+     *
+     * @param aUniqueIdentifier
+     *        a unique identifier
+     * @param someValues
+     *        all values of the persisted object
+     */
+    private void add(String aUniqueIdentifier, Collection<String> someValues) {
+
+        if (someValues.isEmpty()) {
+
+            return;
+        }
+
+        identifier2Values.put(aUniqueIdentifier, someValues);
+
+        for (String value : someValues) {
+
+            Set<String> identifiers = value2Identifiers.get(value);
+
+            if (identifiers == null) {
+
+                identifiers = new HashSet<>();
+                value2Identifiers.put(value, identifiers);
+            }
+
+            identifiers.add(aUniqueIdentifier);
+        }
+    }
+
+    /**
+     * Removes all values which are associated with the specified identifier.
+     *
+     * @param aUniqueIdentifier
+     *        the unique identifier of a persisted object
+     */
+    @Override
+    public void remove(String aUniqueIdentifier) {
+
+        synchronized (this) {
+
+            Collection<String> values = identifier2Values.remove(aUniqueIdentifier);
+
+            if (values == null) {
+
+                return;
+            }
+
+            for (String value : values) {
+
+                Set<String> identifiers = value2Identifiers.get(value);
+
+                if (identifiers != null) {
+
+                    identifiers.remove(aUniqueIdentifier);
+
+                    if (identifiers.isEmpty()) {
+
+                        value2Identifiers.remove(value);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the unique identifiers of all persisted objects which match the
+     * specified query.
+     *
+     * @param aQuery
+     *        a query which is supported by this index
+     *
+     * @return all matching unique identifiers
+     */
+    @Override
+    public Set<String> find(XPathQuery aQuery) {
+
+        if (!supports(aQuery)) {
+
+            String message =
+                TextHelper.concatenateStrings("The query (", aQuery, ") is not supported by this index (",
+                                              xpathExpression, ")!");
+            throw new IllegalArgumentException(message);
+        }
+
+        Set<String> results = new HashSet<>();
+
+        synchronized (this) {
+
+            if (aQuery instanceof XPathRangeQuery) {
+
+                XPathRangeQuery rangeQuery = (XPathRangeQuery) aQuery;
+                NavigableMap<String, Set<String>> range = value2Identifiers;
+
+                // An inverted range matches no value (a sub map would reject the bounds).
+
+                if ((rangeQuery.getLowerBound() != null) && (rangeQuery.getUpperBound() != null) &&
+                    (value2Identifiers.comparator().compare(rangeQuery.getLowerBound(),
+                                                            rangeQuery.getUpperBound()) > 0)) {
+
+                    return results;
+                }
+
+                if (rangeQuery.getLowerBound() != null) {
+
+                    range = range.tailMap(rangeQuery.getLowerBound(), true);
+                }
+
+                if (rangeQuery.getUpperBound() != null) {
+
+                    range = range.headMap(rangeQuery.getUpperBound(), true);
+                }
+
+                for (Set<String> identifiers : range.values()) {
+
+                    results.addAll(identifiers);
+                }
+
+            } else {
+
+                Set<String> identifiers = value2Identifiers.get(aQuery.getExpectedValue());
+
+                if (identifiers != null) {
+
+                    results.addAll(identifiers);
+                }
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Saves this index to the specified file.
+     *
+     * @param aFile
+     *        a file
+     * @param aStoreStamp
+     *        a stamp which identifies the current state of the indexed
+     *        persisted objects
+     *
+     * @throws IOException
+     *         is thrown if the file cannot be written
+     */
+    @Override
+    public void save(File aFile, long aStoreStamp) throws IOException {
+
+        synchronized (this) {
+
+            try (DataOutputStream out =
+                 new DataOutputStream(new BufferedOutputStream(new FileOutputStream(aFile)))) {
+
+                out.writeInt(FILE_MARKER);
+                writeString(out, xpathExpression);
+                out.writeLong(aStoreStamp);
+                out.writeInt(identifier2Values.size());
+
+                for (Map.Entry<String, Collection<String>> entry : identifier2Values.entrySet()) {
+
+                    writeString(out, entry.getKey());
+                    out.writeInt(entry.getValue().size());
+
+                    for (String value : entry.getValue()) {
+
+                        writeString(out, value);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the content of this index with the content of the specified
+     * file.
+     *
+     * @param aFile
+     *        a file which was written by {@link #save}
+     * @param anExpectedStoreStamp
+     *        a stamp which identifies the current state of the indexed
+     *        persisted objects
+     *
+     * @throws IOException
+     *         is thrown if the file cannot be read, doesn't belong to this
+     *         index or was saved with another store stamp (i.e. is outdated)
+     */
+    @Override
+    public void load(File aFile, long anExpectedStoreStamp) throws IOException {
+
+        synchronized (this) {
+
+            value2Identifiers.clear();
+            identifier2Values.clear();
+
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(aFile)))) {
+
+                if (in.readInt() != FILE_MARKER) {
+
+                    String message = TextHelper.concatenateStrings("The file ", aFile, " is no index file!");
+                    throw new IOException(message);
+                }
+
+                String foundExpression = readString(in);
+
+                if (!xpathExpression.equals(foundExpression)) {
+
+                    String message =
+                        TextHelper.concatenateStrings("The file ", aFile, " belongs to another index (",
+                                                      foundExpression, ")!");
+                    throw new IOException(message);
+                }
+
+                long foundStoreStamp = in.readLong();
+
+                if (foundStoreStamp != anExpectedStoreStamp) {
+
+                    String message =
+                        TextHelper.concatenateStrings("The file ", aFile, " is outdated (store stamp ",
+                                                      foundStoreStamp, " instead of ", anExpectedStoreStamp, ")!");
+                    throw new IOException(message);
+                }
+
+                int identifiers = in.readInt();
+
+                for (int a = 0; a < identifiers; a++) {
+
+                    String identifier = readString(in);
+                    int valueCount = in.readInt();
+                    Collection<String> values = new ArrayList<>(valueCount);
+
+                    for (int b = 0; b < valueCount; b++) {
+
+                        values.add(readString(in));
+                    }
+
+                    add(identifier, values);
+                }
+
+            } catch (IOException e) {
+
+                value2Identifiers.clear();
+                identifier2Values.clear();
+
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of indexed persisted objects.
+     *
+     * @return the number of indexed objects
+     */
+    public int size() {
+
+        synchronized (this) {
+
+            return identifier2Values.size();
+        }
+    }
+
+    /**
+     * Writes the specified string to the specified stream.
+     *
+     * @param anOutputStream
+     *        an output stream
+     * @param aString
+     *        a string
+     *
+     * @throws IOException
+     *         is thrown if the string cannot be written
+     */
+    private static void writeString(DataOutputStream anOutputStream, String aString) throws IOException {
+
+        byte[] bytes = aString.getBytes(StandardCharsets.UTF_8);
+
+        anOutputStream.writeInt(bytes.length);
+        anOutputStream.write(bytes);
+    }
+
+    /**
+     * Reads a string from the specified stream.
+     *
+     * @param anInputStream
+     *        an input stream
+     *
+     * @return a string
+     *
+     * @throws IOException
+     *         is thrown if the string cannot be read
+     */
+    private static String readString(DataInputStream anInputStream) throws IOException {
+
+        int length = anInputStream.readInt();
+
+        if (length < 0) {
+
+            String message = "The index file is corrupt (negative string length)!";
+            throw new IOException(message);
+        }
+
+        byte[] bytes = new byte[length];
+        anInputStream.readFully(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,433 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.persistence.journal;
+
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import java.nio.channels.ClosedChannelException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.CRC32;
+
+
+/**
+ * An append-only journal which records the state of committed objects before
+ * their files are written. Every entry is forced to the storage device before
+ * the commit completes (see {@link #sync(long)}), but concurrent commits share
+ * a single force. If the application terminates before the files were
+ * written, the entries can be replayed (see {@link #read}). After the files
+ * were written the journal is replaced by the entries which are still pending
+ * (see {@link #rewrite}).<br>
+ * <br>
+ * Every entry consists of the length and bytes of the unique identifier, the
+ * length and bytes of the data and a CRC32 checksum. An entry which was not
+ * written completely is detected by its checksum and ignored.
+ *
+ * @author Kristian Kutin
+ */
+public class CommitJournal {
+
+    /**
+     * The name of the journal file within the base directory of a persistence
+     * container.
+     */
+    public static final String FILENAME = "commit-journal";
+
+    /**
+     * The suffix of the temporary file which replaces the journal file.
+     */
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    /**
+     * The journal file.
+     */
+    private final File file;
+
+    /**
+     * The stream of the journal file.
+     */
+    private FileOutputStream fileStream;
+
+    /**
+     * A buffered stream of the journal file.
+     */
+    private DataOutputStream out;
+
+    /**
+     * The number of entries which were appended.
+     */
+    private long appendedEntries;
+
+    /**
+     * The number of appended entries which were forced to the storage device.
+     */
+    private long syncedEntries;
+
+    /**
+     * A monitor which makes sure that only one thread forces the journal to
+     * the storage device at a time. Threads which wait for this monitor are
+     * usually served by the force of the previous thread.
+     */
+    private final Object syncLock;
+
+    /**
+     * Opens the specified journal file. New entries are appended to the
+     * existing entries.
+     *
+     * @param aFile
+     *        a journal file
+     *
+     * @throws IOException
+     *         is thrown if the journal file cannot be opened
+     */
+    public CommitJournal(File aFile) throws IOException {
+
+        if (aFile == null) {
+
+            String message = "No journal file has been specified (null)!";
+            throw new IllegalArgumentException(message);
+        }
+
+        file = aFile;
+        fileStream = new FileOutputStream(aFile, true);
+        out = new DataOutputStream(new BufferedOutputStream(fileStream));
+
+        appendedEntries = 0L;
+        syncedEntries = 0L;
+        syncLock = new Object();
+    }
+
+    /**
+     * Returns the temporary file which replaces the specified journal file.
+     *
+     * @param aFile
+     *        a journal file
+     *
+     * @return a temporary file
+     */
+    public static File getTemporaryFile(File aFile) {
+
+        return new File(aFile.getPath() + TEMPORARY_SUFFIX);
+    }
+
+    /**
+     * Appends an entry to the journal. The entry is not durable before
+     * {@link #sync(long)} is called.
+     *
+     * @param anEntry
+     *        a journal entry
+     *
+     * @return the sequence number of the entry
+     *
+     * @throws IOException
+     *         is thrown if the entry cannot be written
+     */
+    public long append(JournalEntry anEntry) throws IOException {
+
+        synchronized (this) {
+
+            write(out, anEntry);
+            appendedEntries++;
+
+            return appendedEntries;
+        }
+    }
+
+    /**
+     * Writes the specified entry to the specified stream.
+     *
+     * @param anOutputStream
+     *        an output stream
+     * @param anEntry
+     *        a journal entry
+     *
+     * @throws IOException
+     *         is thrown if the entry cannot be written
+     */
+    private static void write(DataOutputStream anOutputStream, JournalEntry anEntry) throws IOException {
+
+        byte[] identifier = anEntry.getUniqueIdentifier().getBytes(StandardCharsets.UTF_8);
+        byte[] data = anEntry.getData();
+
+        CRC32 checksum = new CRC32();
+        checksum.update(identifier);
+        checksum.update(data);
+
+        anOutputStream.writeInt(identifier.length);
+        anOutputStream.write(identifier);
+        anOutputStream.writeInt(data.length);
+        anOutputStream.write(data);
+        anOutputStream.writeLong(checksum.getValue());
+    }
+
+    /**
+     * Forces all appended entries to the storage device.
+     *
+     * @throws IOException
+     *         is thrown if the entries cannot be written
+     */
+    public void sync() throws IOException {
+
+        long sequenceNumber;
+
+        synchronized (this) {
+
+            sequenceNumber = appendedEntries;
+        }
+
+        sync(sequenceNumber);
+    }
+
+    /**
+     * Forces all entries up to the specified sequence number to the storage
+     * device. If another thread forced the entries in the meantime the method
+     * returns immediately, i.e. concurrent commits share a single force.
+     *
+     * @param aSequenceNumber
+     *        the sequence number of an appended entry
+     *
+     * @throws IOException
+     *         is thrown if the entries cannot be written
+     */
+    public void sync(long aSequenceNumber) throws IOException {
+
+        synchronized (syncLock) {
+
+            while (true) {
+
+                FileOutputStream stream;
+                long sequenceNumber;
+
+                synchronized (this) {
+
+                    if (syncedEntries >= aSequenceNumber) {
+
+                        return;
+                    }
+
+                    out.flush();
+                    stream = fileStream;
+                    sequenceNumber = appendedEntries;
+                }
+
+                try {
+
+                    // Entries can be appended while the journal is forced.
+                    stream.getChannel().force(false);
+
+                } catch (ClosedChannelException e) {
+
+                    // The journal file was replaced in the meantime (see rewrite).
+                    continue;
+                }
+
+                synchronized (this) {
+
+                    if (stream == fileStream) {
+
+                        syncedEntries = Math.max(syncedEntries, sequenceNumber);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces all entries by the specified entries (i.e. all other entries
+     * have been applied to the files of the persisted objects). The entries
+     * are written to a temporary file which replaces the journal file, i.e.
+     * the journal is complete at any time.
+     *
+     * @param someEntries
+     *        the entries which have not been applied yet
+     *
+     * @throws IOException
+     *         is thrown if the journal cannot be replaced
+     */
+    public void rewrite(Collection<JournalEntry> someEntries) throws IOException {
+
+        synchronized (this) {
+
+            File temporaryFile = getTemporaryFile(file);
+
+            try (FileOutputStream temporaryStream = new FileOutputStream(temporaryFile);
+                 DataOutputStream temporaryOut = new DataOutputStream(new BufferedOutputStream(temporaryStream))) {
+
+                for (JournalEntry entry : someEntries) {
+
+                    write(temporaryOut, entry);
+                }
+
+                temporaryOut.flush();
+                temporaryStream.getChannel().force(false);
+            }
+
+            out.close();
+
+            try {
+
+                Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                           StandardCopyOption.ATOMIC_MOVE);
+
+                // All entries which are still pending are part of the new journal file.
+                syncedEntries = appendedEntries;
+
+            } finally {
+
+                fileStream = new FileOutputStream(file, true);
+                out = new DataOutputStream(new BufferedOutputStream(fileStream));
+            }
+        }
+    }
+
+    /**
+     * Removes all entries (i.e. all entries have been applied to the files of
+     * the persisted objects).
+     *
+     * @throws IOException
+     *         is thrown if the journal cannot be truncated
+     */
+    public void clear() throws IOException {
+
+        rewrite(new ArrayList<JournalEntry>());
+    }
+
+    /**
+     * Closes the journal. An empty journal file is deleted.
+     *
+     * @throws IOException
+     *         is thrown if the journal cannot be closed
+     */
+    public void close() throws IOException {
+
+        synchronized (this) {
+
+            out.close();
+
+            if (file.length() == 0L) {
+
+                file.delete();
+            }
+        }
+    }
+
+    /**
+     * Reads all complete entries of the specified journal file. Reading stops
+     * at the first incomplete or corrupt entry.
+     *
+     * @param aFile
+     *        a journal file
+     *
+     * @return all complete entries in the order in which they were appended
+     *
+     * @throws IOException
+     *         is thrown if the journal file cannot be read
+     */
+    public static List<JournalEntry> read(File aFile) throws IOException {
+
+        List<JournalEntry> entries = new ArrayList<>();
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(aFile)))) {
+
+            while (true) {
+
+                byte[] identifier = readBytes(in, aFile.length());
+                byte[] data = readBytes(in, aFile.length());
+                long expectedChecksum = in.readLong();
+
+                CRC32 checksum = new CRC32();
+                checksum.update(identifier);
+                checksum.update(data);
+
+                if (checksum.getValue() != expectedChecksum) {
+
+                    break;
+                }
+
+                entries.add(new JournalEntry(new String(identifier, StandardCharsets.UTF_8), data));
+            }
+
+        } catch (EOFException | CorruptEntryException e) {
+
+            // The last entry was not written completely. All previous entries
+            // are valid.
+        }
+
+        return entries;
+    }
+
+    /**
+     * Reads a length prefixed byte array.
+     *
+     * @param anInputStream
+     *        an input stream
+     * @param aFileLength
+     *        the length of the journal file
+     *
+     * @return a byte array
+     *
+     * @throws IOException
+     *         is thrown if the byte array cannot be read
+     */
+    private static byte[] readBytes(DataInputStream anInputStream, long aFileLength) throws IOException {
+
+        int length = anInputStream.readInt();
+
+        if ((length < 0) || (length > aFileLength)) {
+
+            throw new CorruptEntryException();
+        }
+
+        byte[] bytes = new byte[length];
+        anInputStream.readFully(bytes);
+
+        return bytes;
+    }
+
+}
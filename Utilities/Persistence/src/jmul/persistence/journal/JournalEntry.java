@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.persistence.journal;
+
+
+/**
+ * This class represents an entry of a commit journal, i.e. the state of a
+ * persisted object at the time of a commit.
+ *
+ * @author Kristian Kutin
+ */
+public class JournalEntry {
+
+    /**
+     * The unique identifier of the persisted object.
+     */
+    private final String uniqueIdentifier;
+
+    /**
+     * The state of the persisted object.
+     */
+    private final byte[] data;
+
+    /**
+     * Constructs a journal entry.
+     *
+     * @param aUniqueIdentifier
+     *        the unique identifier of the persisted object
+     * @param someData
+     *        the state of the persisted object
+     */
+    public JournalEntry(String aUniqueIdentifier, byte[] someData) {
+
+        if (aUniqueIdentifier == null) {
+
+            String message = "No unique identifier has been specified (null)!";
+            throw new IllegalArgumentException(message);
+        }
+
+        if (someData == null) {
+
+            String message = "No data has been specified (null)!";
+            throw new IllegalArgumentException(message);
+        }
+
+        uniqueIdentifier = aUniqueIdentifier;
+        data = someData;
+    }
+
+    /**
+     * Returns the unique identifier of the persisted object.
+     *
+     * @return a unique identifier
+     */
+    public String getUniqueIdentifier() {
+
+        return uniqueIdentifier;
+    }
+
+    /**
+     * Returns the state of the persisted object.
+     *
+     * @return the state of the persisted object
+     */
+    public byte[] getData() {
+
+        return data;
+    }
+
+}
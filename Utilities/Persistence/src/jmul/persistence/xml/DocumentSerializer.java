@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.persistence.xml;
+
+
+import java.io.File;
+import java.io.IOException;
+
+import jmul.io.serialization.Serializer;
+
+import org.w3c.dom.Document;
+
+
+/**
+ * This interface describes a serializer which transforms an object into an
+ * xml document before the document is written to a file. The intermediate
+ * document can be used to evaluate XPath expressions (e.g. for indexing).
+ *
+ * @author Kristian Kutin
+ */
+public interface DocumentSerializer extends Serializer {
+
+    /**
+     * Transforms the specified object into an xml document without writing
+     * the document.
+     *
+     * @param anObject
+     *        the object which is to be transformed
+     *
+     * @return an xml document
+     */
+    Document toDocument(Object anObject);
+
+    /**
+     * Writes the specified xml document (see {@link #toDocument}) to the
+     * specified file.
+     *
+     * @param aFile
+     *        the output file
+     * @param aDocument
+     *        the xml document which is to be written
+     *
+     * @throws IOException
+     *         the exception is thrown if an error occurs while writing to the
+     *         file
+     */
+    void writeDocument(File aFile, Document aDocument) throws IOException;
+
+}
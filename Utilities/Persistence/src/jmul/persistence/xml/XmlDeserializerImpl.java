@@ -132,8 +132,21 @@ public class XmlDeserializerImpl implements Deserializer {
             throw new TransformationException(message, e);
         }
 
+        return toObject(document);
+    }
+
+    /**
+     * Transforms the specified xml document into an object.
+     *
+     * @param aDocument
+     *        an xml document
+     *
+     * @return an object
+     */
+    public Object toObject(Document aDocument) {
+
         TransformationParameters parameters =
-            TransformationHelper.newTransformationParameters(DEFAULT_TRANSFORMATION_PATH, document);
+            TransformationHelper.newTransformationParameters(DEFAULT_TRANSFORMATION_PATH, aDocument);
 
         TransformationFactory factory = TransformationResources.getTransformationFactory();
         return factory.transform(parameters);
@@ -37,8 +37,6 @@ package jmul.persistence.xml;
 import java.io.File;
 import java.io.IOException;
 
-import jmul.io.serialization.Serializer;
-
 import jmul.transformation.TransformationFactory;
 import jmul.transformation.TransformationParameters;
 import jmul.transformation.TransformationPath;
@@ -56,7 +54,7 @@ import org.w3c.dom.Document;
  *
  * @author Kristian Kutin
  */
-public class XmlSerializerImpl implements Serializer {
+public class XmlSerializerImpl implements DocumentSerializer {
 
     /**
      * The default transformation path for this serializer entity.
@@ -119,13 +117,45 @@ public class XmlSerializerImpl implements Serializer {
     @Override
     public void serialize(File aFile, Object anObject) throws IOException {
 
+        writeDocument(aFile, toDocument(anObject));
+    }
+
+    /**
+     * Transforms the specified object into an xml document without writing
+     * the document.
+     *
+     * @param anObject
+     *        the object which is to be transformed
+     *
+     * @return an xml document
+     */
+    @Override
+    public Document toDocument(Object anObject) {
+
         TransformationParameters parameters =
             TransformationHelper.newTransformationParameters(DEFAULT_TRANSFORMATION_PATH, anObject);
 
         TransformationFactory factory = TransformationResources.getTransformationFactory();
-        Document document = (Document) factory.transform(parameters);
+        return (Document) factory.transform(parameters);
+    }
+
+    /**
+     * Writes the specified xml document (see {@link #toDocument}) to the
+     * specified file.
+     *
+     * @param aFile
+     *        the output file
+     * @param aDocument
+     *        the xml document which is to be written
+     *
+     * @throws IOException
+     *         the exception is thrown if an error occurs while writing to the
+     *         file
+     */
+    @Override
+    public void writeDocument(File aFile, Document aDocument) throws IOException {
 
-        writer.writeTo(aFile, document);
+        writer.writeTo(aFile, aDocument);
     }
 
 }
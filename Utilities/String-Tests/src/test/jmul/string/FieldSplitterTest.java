@@ -0,0 +1,221 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.string;
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import jmul.string.FieldSplitter;
+import jmul.string.QuoteNotClosedException;
+import jmul.string.TextHelper;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+
+/**
+ * This class contains tests for splitting text into fields.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class FieldSplitterTest {
+
+    /**
+     * Splits the specified string with {@link TextHelper#nextSeparatorIndex},
+     * which determines the expected result.
+     *
+     * @param aString
+     *        a string
+     * @param aSeparator
+     *        a separator
+     *
+     * @return all fields
+     */
+    private static List<String> expectedFields(String aString, String aSeparator) {
+
+        List<String> fields = new ArrayList<>();
+        String rest = aString;
+
+        while (true) {
+
+            int index = TextHelper.nextSeparatorIndex(rest, aSeparator);
+            if (index < 0) {
+
+                fields.add(rest);
+                return fields;
+            }
+
+            fields.add(rest.substring(0, index));
+            rest = rest.substring(index + aSeparator.length());
+        }
+    }
+
+    /**
+     * Tests splitting a line with quoted sections.
+     */
+    @Test
+    public void testQuotes() {
+
+        assertEquals(Arrays.asList("\"a;b\"", "c", "'d;\"e'"), TextHelper.splitLine("\"a;b\";c;'d;\"e'", ";"));
+        assertEquals(Arrays.asList("\"a\"\"b\"", ""), TextHelper.splitLine("\"a\"\"b\";", ";"));
+        assertEquals(Arrays.asList("x", "'y'", "z"), TextHelper.splitLine("x::'y'::z", "::"));
+    }
+
+    /**
+     * Tests splitting a quoted section which is appended in several parts.
+     */
+    @Test
+    public void testMultiLineField() {
+
+        FieldSplitter splitter = new FieldSplitter(";");
+        assertTrue(splitter.isEmpty());
+
+        splitter.append("a;\"b");
+        assertTrue(splitter.isQuoteOpen());
+        assertEquals(2, splitter.fieldCount());
+
+        splitter.append("c;d\";e");
+        assertFalse(splitter.isQuoteOpen());
+        assertEquals(3, splitter.fieldCount());
+
+        List<String> fields = new ArrayList<>();
+        assertEquals(Arrays.asList("a", "\"bc;d\"", "e"), splitter.finish(fields));
+        assertTrue(splitter.isEmpty());
+
+        splitter.append("f");
+        assertEquals(Arrays.asList("f"), splitter.finish(fields));
+    }
+
+    /**
+     * Tests a separator which is split between two appended parts.
+     */
+    @Test
+    public void testSplitSeparator() {
+
+        FieldSplitter splitter = new FieldSplitter(";;");
+
+        splitter.append("a;");
+        assertEquals(1, splitter.fieldCount());
+
+        splitter.append(";b");
+        assertEquals(2, splitter.fieldCount());
+
+        assertEquals(Arrays.asList("a", "b"), splitter.finish(new ArrayList<String>()));
+    }
+
+    /**
+     * Tests finishing a record with a quoted section which isn't closed.
+     */
+    @Test(expected = QuoteNotClosedException.class)
+    public void testQuoteNotClosed() {
+
+        TextHelper.splitLine("a;'b;c", ";");
+    }
+
+    /**
+     * Tests splitting random strings which are appended in random parts.
+     */
+    @Test
+    public void testRandomStrings() {
+
+        Random random = new Random(1234L);
+        String[] separators = { ";", ",", ";;", ";,;" };
+        char[] alphabet = { 'a', 'b', ';', ',', '"', '\'' };
+
+        for (int a = 0; a < 2000; a++) {
+
+            String separator = separators[random.nextInt(separators.length)];
+
+            StringBuilder buffer = new StringBuilder();
+            int length = random.nextInt(30);
+            for (int b = 0; b < length; b++) {
+
+                buffer.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+
+            String string = buffer.toString();
+
+            List<String> expected = null;
+            try {
+
+                expected = expectedFields(string, separator);
+
+            } catch (QuoteNotClosedException e) {
+
+                expected = null;
+            }
+
+            FieldSplitter splitter = new FieldSplitter(separator);
+            int start = 0;
+            while (start < length) {
+
+                int end = start + 1 + random.nextInt(length - start);
+                splitter.append(string.substring(start, end));
+                start = end;
+            }
+
+            String message = String.format("string=\"%s\";separator=\"%s\"", string, separator);
+            assertEquals(message, expected == null, splitter.isQuoteOpen());
+
+            try {
+
+                List<String> actual = splitter.finish(new ArrayList<String>());
+
+                if (expected == null) {
+
+                    fail(message);
+                }
+
+                assertEquals(message, expected, actual);
+
+            } catch (QuoteNotClosedException e) {
+
+                if (expected != null) {
+
+                    fail(message);
+                }
+            }
+        }
+    }
+
+}
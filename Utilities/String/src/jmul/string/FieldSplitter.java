@@ -0,0 +1,346 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.string;
+
+
+import java.util.List;
+
+import jmul.checks.ParameterCheckHelper;
+import jmul.checks.exceptions.EmptyStringParameterException;
+
+import jmul.metainfo.annotations.Modified;
+
+
+/**
+ * A field splitter splits text into fields according to a separator. Sections
+ * which are enclosed in quotes (i.e. " or ') may contain the separator. The
+ * quotes are preserved.<br>
+ * <br>
+ * The text of a record can be appended in several parts (e.g. line by line if
+ * a quoted section contains line separators). Every character is examined
+ * once. The result is the same as if the concatenated text had been split with
+ * {@link TextHelper#splitLine}. A splitter can be reused for several records
+ * but is not thread safe.
+ *
+ * @author Kristian Kutin
+ */
+public final class FieldSplitter {
+
+    /**
+     * A constant indicating that no quoted section is open.
+     */
+    private static final char NO_QUOTE = 0;
+
+    /**
+     * The field separator.
+     */
+    private final String separator;
+
+    /**
+     * The text of the current record.
+     */
+    private final StringBuilder text;
+
+    /**
+     * The fields of the current record which are complete.
+     */
+    private int completeFields;
+
+    /**
+     * The start index of the current field.
+     */
+    private int fieldStart;
+
+    /**
+     * The index of the next character which has not been examined yet.
+     */
+    private int position;
+
+    /**
+     * The quote character of the currently open quoted section or
+     * {@link #NO_QUOTE}.
+     */
+    private char quote;
+
+    /**
+     * The end indices of all complete fields.
+     */
+    private int[] fieldEnds;
+
+    /**
+     * Creates a new field splitter according to the specified parameters.
+     *
+     * @param aSeparator
+     *        a field separator (i.e. a non-empty string)
+     */
+    public FieldSplitter(String aSeparator) {
+
+        super();
+
+        ParameterCheckHelper.checkObjectParameter(aSeparator);
+        if (aSeparator.isEmpty()) {
+
+            throw new EmptyStringParameterException();
+        }
+
+        separator = aSeparator;
+        text = new StringBuilder();
+        fieldEnds = new int[16];
+
+        reset();
+    }
+
+    /**
+     * Discards the current record.
+     */
+    public void reset() {
+
+        text.setLength(0);
+        completeFields = 0;
+        fieldStart = 0;
+        position = 0;
+        quote = NO_QUOTE;
+    }
+
+    /**
+     * Appends text to the current record.
+     *
+     * @param aText
+     *        a text
+     */
+    public void append(CharSequence aText) {
+
+        text.append(aText);
+
+        // A separator may continue in text which is appended later.
+        scan(text.length() - separator.length() + 1);
+    }
+
+    /**
+     * Checks if nothing has been appended to the current record yet (or only
+     * empty text).
+     *
+     * @return <code>true</code> if the current record is empty, else
+     *         <code>false</code>
+     */
+    public boolean isEmpty() {
+
+        return text.length() == 0;
+    }
+
+    /**
+     * Checks if the text of the current record ends within a quoted section.
+     *
+     * @return <code>true</code> if a quoted section is open, else
+     *         <code>false</code>
+     */
+    public boolean isQuoteOpen() {
+
+        char tentativeQuote = quote;
+        int length = text.length();
+
+        // The remaining characters cannot contain a complete separator.
+        for (int a = position; a < length; a++) {
+
+            tentativeQuote = toggleQuote(tentativeQuote, text.charAt(a));
+        }
+
+        return tentativeQuote != NO_QUOTE;
+    }
+
+    /**
+     * Returns the number of fields of the current record.
+     *
+     * @return the number of fields
+     */
+    public int fieldCount() {
+
+        return completeFields + 1;
+    }
+
+    /**
+     * Completes the current record and adds all fields to the specified list.
+     * The splitter is reset afterwards.
+     *
+     * @param aResult
+     *        the list to which the fields are added (the list is cleared first)
+     *
+     * @return the specified list
+     *
+     * @throws QuoteNotClosedException
+     *         is thrown if a quoted section isn't closed
+     */
+    public List<String> finish(@Modified List<String> aResult) {
+
+        try {
+
+            scan(text.length());
+
+            if (quote != NO_QUOTE) {
+
+                String message =
+                    "A quoted section within this string isn't closed properly (\"" + text.substring(fieldStart) +
+                    "\")!";
+                throw new QuoteNotClosedException(message);
+            }
+
+            aResult.clear();
+
+            int start = 0;
+            for (int a = 0; a < completeFields; a++) {
+
+                int end = fieldEnds[a];
+                aResult.add(text.substring(start, end));
+                start = end + separator.length();
+            }
+
+            aResult.add(text.substring(fieldStart));
+
+            return aResult;
+
+        } finally {
+
+            reset();
+        }
+    }
+
+    /**
+     * Examines all characters up to the specified index.
+     *
+     * @param aLimit
+     *        the index after the last character which is examined
+     */
+    private void scan(int aLimit) {
+
+        int separatorLength = separator.length();
+
+        while (position < aLimit) {
+
+            char c = text.charAt(position);
+            char newQuote = toggleQuote(quote, c);
+
+            if (newQuote != quote) {
+
+                quote = newQuote;
+                position++;
+
+            } else if ((quote == NO_QUOTE) && startsWithSeparator(position)) {
+
+                addFieldEnd(position);
+                position += separatorLength;
+                fieldStart = position;
+
+            } else {
+
+                position++;
+            }
+        }
+    }
+
+    /**
+     * Checks if the separator starts at the specified index.
+     *
+     * @param anIndex
+     *        an index
+     *
+     * @return <code>true</code> if the separator starts at the specified
+     *         index, else <code>false</code>
+     */
+    private boolean startsWithSeparator(int anIndex) {
+
+        int separatorLength = separator.length();
+
+        if (anIndex + separatorLength > text.length()) {
+
+            return false;
+        }
+
+        for (int a = 0; a < separatorLength; a++) {
+
+            if (text.charAt(anIndex + a) != separator.charAt(a)) {
+
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Stores the end index of a complete field.
+     *
+     * @param anIndex
+     *        the end index of a field
+     */
+    private void addFieldEnd(int anIndex) {
+
+        if (completeFields == fieldEnds.length) {
+
+            int[] newFieldEnds = new int[fieldEnds.length * 2];
+            System.arraycopy(fieldEnds, 0, newFieldEnds, 0, completeFields);
+            fieldEnds = newFieldEnds;
+        }
+
+        fieldEnds[completeFields] = anIndex;
+        completeFields++;
+    }
+
+    /**
+     * Determines the quote state after the specified character.
+     *
+     * @param aQuote
+     *        the current quote state
+     * @param c
+     *        a character
+     *
+     * @return the new quote state
+     */
+    private static char toggleQuote(char aQuote, char c) {
+
+        if (aQuote == NO_QUOTE) {
+
+            if ((c == '"') || (c == '\'')) {
+
+                return c;
+            }
+
+        } else if (c == aQuote) {
+
+            return NO_QUOTE;
+        }
+
+        return aQuote;
+    }
+
+}
@@ -78,7 +78,7 @@ public final class TextHelper {
 
     /**
      * Splits the specified line into substrings according to the specified
-     * separator.
+     * separator. Separators within quoted sections (i.e. " or ') are ignored.
      *
      * @param aLine
      *        a string
@@ -89,36 +89,32 @@ public final class TextHelper {
      */
     public static List<String> splitLine(String aLine, String aSeparator) {
 
-        List<String> result = new ArrayList<>();
-
-        if (aLine.isEmpty()) {
-
-            result.add(aLine);
-            return result;
-        }
-
-        int index = nextSeparatorIndex(aLine, aSeparator);
-        int length = aLine.length();
-
-        String left;
-        String right;
-
-        if (index == NOT_FOUND) {
-
-            left = aLine;
-
-            result.add(left);
+        return splitLine(aLine, aSeparator, new ArrayList<String>());
+    }
 
-        } else {
+    /**
+     * Splits the specified line into substrings according to the specified
+     * separator. Separators within quoted sections (i.e. " or ') are ignored.
+     * The line is scanned once.
+     *
+     * @param aLine
+     *        a string
+     * @param aSeparator
+     *        a separator
+     * @param aResult
+     *        a list to which the substrings are added (the list is cleared
+     *        first and can be reused for several lines)
+     *
+     * @return the specified list
+     */
+    public static List<String> splitLine(CharSequence aLine, String aSeparator, @Modified List<String> aResult) {
 
-            left = aLine.substring(0, index);
-            right = aLine.substring(Math.min(length, index + aSeparator.length()));
+        ParameterCheckHelper.checkObjectParameter(aLine);
 
-            result.add(left);
-            result.addAll(splitLine(right, aSeparator));
-        }
+        FieldSplitter splitter = new FieldSplitter(aSeparator);
+        splitter.append(aLine);
 
-        return result;
+        return splitter.finish(aResult);
     }
 
     /**
@@ -134,42 +130,34 @@ public final class TextHelper {
      */
     public static int nextSeparatorIndex(String aString, String aSeparator) {
 
-        boolean isQuote = false;
-        String quote = null;
+        char quote = 0;
         int length = aString.length();
-        int separatorLength = aSeparator.length();
 
         int index = NOT_FOUND;
 
-        for (int a = 0; a < aString.length(); a++) {
+        for (int a = 0; a < length; a++) {
 
-            String s = aString.substring(a, Math.min(a + separatorLength, length));
+            char c = aString.charAt(a);
 
+            if ((quote == 0) && ((c == QUOTATION_MARK.charAt(0)) || (c == APOSTROPHE.charAt(0)))) {
 
-            if ((quote == null) && startsWithQuotes(s)) {
-
-                quote = getFirstCharacter(s);
-                isQuote = !isQuote;
+                quote = c;
                 continue;
 
-            } else if ((quote != null) && startsWithQuotes(s, quote)) {
+            } else if ((quote != 0) && (c == quote)) {
 
-                quote = null;
-                isQuote = !isQuote;
+                quote = 0;
                 continue;
             }
 
-            if (s.startsWith(aSeparator)) {
-
-                if (!isQuote) {
+            if ((quote == 0) && aString.startsWith(aSeparator, a)) {
 
-                    index = a;
-                    break;
-                }
+                index = a;
+                break;
             }
         }
 
-        if (isQuote) {
+        if (quote != 0) {
 
             String message = "A quoted section within this string isn't closed properly (\"" + aString + "\")!";
             throw new QuoteNotClosedException(message);
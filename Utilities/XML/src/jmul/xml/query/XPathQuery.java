@@ -95,6 +95,63 @@ public class XPathQuery {
         xpath = XPathFactory.newInstance().newXPath();
     }
 
+    /**
+     * Creates this object. The constructor is meant for queries which don't
+     * look for a single expected value (see {@link #matches}).
+     *
+     * @param anXpathExpression
+     *        an xpath expression
+     */
+    protected XPathQuery(String anXpathExpression) {
+
+        if (anXpathExpression == null) {
+
+            String message = "No valid XPath expression has been specified!";
+            throw new IllegalArgumentException(message);
+        }
+
+        xpathExpression = anXpathExpression;
+        expectedValue = null;
+
+        xpath = XPathFactory.newInstance().newXPath();
+    }
+
+    /**
+     * Returns the XPath expression of this query.
+     *
+     * @return an XPath expression
+     */
+    public String getXpathExpression() {
+
+        return xpathExpression;
+    }
+
+    /**
+     * Returns the value which is expected to be returned by the XPath
+     * expression.
+     *
+     * @return the expected value or <code>null</code> if this query doesn't
+     *         look for a single expected value
+     */
+    public String getExpectedValue() {
+
+        return expectedValue;
+    }
+
+    /**
+     * Checks if a value which was returned by the XPath expression matches this
+     * query.
+     *
+     * @param aFoundValue
+     *        a value which was returned by the XPath expression
+     *
+     * @return <code>true</code> if the value matches, else <code>false</code>
+     */
+    protected boolean matches(String aFoundValue) {
+
+        return aFoundValue.equals(expectedValue);
+    }
+
     /**
      * Checks if the query finds matching entries within the specified document.
      *
@@ -116,7 +173,7 @@ public class XPathQuery {
                 Node node = list.item(a);
                 String foundValue = node.getTextContent();
 
-                if (foundValue.equals(expectedValue)) {
+                if (matches(foundValue)) {
 
                     return true;
                 }
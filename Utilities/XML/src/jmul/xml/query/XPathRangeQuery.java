@@ -0,0 +1,159 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.xml.query;
+
+
+/**
+ * This class contains the details of a query which checks if the value returned
+ * by an XPath expression lies within a specified range. The bounds are
+ * inclusive. Values are compared according to
+ * {@link jmul.xml.query.XPathValueComparator}.
+ *
+ * @author Kristian Kutin
+ */
+public class XPathRangeQuery extends XPathQuery {
+
+    /**
+     * The lower bound or <code>null</code> if the range has no lower bound.
+     */
+    private final String lowerBound;
+
+    /**
+     * The upper bound or <code>null</code> if the range has no upper bound.
+     */
+    private final String upperBound;
+
+    /**
+     * Compares values.
+     */
+    private final XPathValueComparator comparator;
+
+    /**
+     * Creates this object.
+     *
+     * @param anXpathExpression
+     *        an xpath expression
+     * @param aLowerBound
+     *        the lower bound (inclusive) or <code>null</code> if the range has
+     *        no lower bound
+     * @param anUpperBound
+     *        the upper bound (inclusive) or <code>null</code> if the range has
+     *        no upper bound
+     */
+    public XPathRangeQuery(String anXpathExpression, String aLowerBound, String anUpperBound) {
+
+        super(anXpathExpression);
+
+        if ((aLowerBound == null) && (anUpperBound == null)) {
+
+            String message = "No bounds have been specified!";
+            throw new IllegalArgumentException(message);
+        }
+
+        lowerBound = aLowerBound;
+        upperBound = anUpperBound;
+
+        comparator = new XPathValueComparator();
+    }
+
+    /**
+     * Returns the lower bound.
+     *
+     * @return the lower bound or <code>null</code> if the range has no lower
+     *         bound
+     */
+    public String getLowerBound() {
+
+        return lowerBound;
+    }
+
+    /**
+     * Returns the upper bound.
+     *
+     * @return the upper bound or <code>null</code> if the range has no upper
+     *         bound
+     */
+    public String getUpperBound() {
+
+        return upperBound;
+    }
+
+    /**
+     * Checks if a value which was returned by the XPath expression lies within
+     * the range of this query.
+     *
+     * @param aFoundValue
+     *        a value which was returned by the XPath expression
+     *
+     * @return <code>true</code> if the value matches, else <code>false</code>
+     */
+    @Override
+    protected boolean matches(String aFoundValue) {
+
+        if ((lowerBound != null) && (comparator.compare(aFoundValue, lowerBound) < 0)) {
+
+            return false;
+        }
+
+        if ((upperBound != null) && (comparator.compare(aFoundValue, upperBound) > 0)) {
+
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns a string representation of this object.
+     *
+     * @return a string representation
+     */
+    @Override
+    public String toString() {
+
+        StringBuilder buffer = new StringBuilder();
+
+        buffer.append("xpath query =\"");
+        buffer.append(getXpathExpression());
+        buffer.append("\"; range=[");
+        buffer.append((lowerBound == null) ? "*" : "\"" + lowerBound + "\"");
+        buffer.append(", ");
+        buffer.append((upperBound == null) ? "*" : "\"" + upperBound + "\"");
+        buffer.append("]");
+
+        return String.valueOf(buffer);
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.xml.query;
+
+
+import java.math.BigDecimal;
+
+import java.util.Comparator;
+
+
+/**
+ * A comparator for values which are returned by XPath expressions.<br>
+ * <br>
+ * <i>Numeric values are compared by their numeric value and precede all other
+ * values. All other values are compared lexicographically. If two numeric
+ * values are numerically equal (e.g. <code>1</code> and <code>1.0</code>)
+ * then they are compared lexicographically. Thus the ordering is consistent
+ * with {@link String#equals}.</i>
+ *
+ * @author Kristian Kutin
+ */
+public class XPathValueComparator implements Comparator<String> {
+
+    /**
+     * The default constructor.
+     */
+    public XPathValueComparator() {
+
+        super();
+    }
+
+    /**
+     * Compares the two specified values.
+     *
+     * @param aValue
+     *        a value
+     * @param anotherValue
+     *        another value
+     *
+     * @return a negative number, zero or a positive number if the first value
+     *         is less than, equal to or greater than the second value
+     */
+    @Override
+    public int compare(String aValue, String anotherValue) {
+
+        boolean isNumber = isNumber(aValue);
+        boolean isOtherNumber = isNumber(anotherValue);
+
+        if (isNumber && isOtherNumber) {
+
+            int result = new BigDecimal(aValue).compareTo(new BigDecimal(anotherValue));
+
+            if (result != 0) {
+
+                return result;
+            }
+
+        } else if (isNumber) {
+
+            return -1;
+
+        } else if (isOtherNumber) {
+
+            return 1;
+        }
+
+        return aValue.compareTo(anotherValue);
+    }
+
+    /**
+     * Checks if the specified value is a decimal number (optional sign, digits
+     * with an optional decimal point and an optional exponent).
+     *
+     * @param aValue
+     *        a value
+     *
+     * @return <code>true</code> if the value is a number, else
+     *         <code>false</code>
+     */
+    static boolean isNumber(String aValue) {
+
+        int length = aValue.length();
+        int index = 0;
+
+        if ((index < length) && ((aValue.charAt(index) == '+') || (aValue.charAt(index) == '-'))) {
+
+            index++;
+        }
+
+        int digits = 0;
+
+        while ((index < length) && Character.isDigit(aValue.charAt(index))) {
+
+            index++;
+            digits++;
+        }
+
+        if ((index < length) && (aValue.charAt(index) == '.')) {
+
+            index++;
+
+            while ((index < length) && Character.isDigit(aValue.charAt(index))) {
+
+                index++;
+                digits++;
+            }
+        }
+
+        if (digits == 0) {
+
+            return false;
+        }
+
+        if ((index < length) && ((aValue.charAt(index) == 'e') || (aValue.charAt(index) == 'E'))) {
+
+            index++;
+
+            if ((index < length) && ((aValue.charAt(index) == '+') || (aValue.charAt(index) == '-'))) {
+
+                index++;
+            }
+
+            int exponentDigits = 0;
+
+            while ((index < length) && Character.isDigit(aValue.charAt(index))) {
+
+                index++;
+                exponentDigits++;
+            }
+
+            if (exponentDigits == 0) {
+
+                return false;
+            }
+        }
+
+        return index == length;
+    }
+
+}